@@ -0,0 +1,25 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.api;
+
+/** Defines how FIX session verifies CheckSum(10) of inbound messages */
+public enum ChecksumValidation {
+    /** CheckSum(10) is not verified */
+    NONE,
+    /** Message with invalid CheckSum(10) is considered garbled and ignored (as recommended by FIX specification). Sequence gap will cause resend of the message. */
+    IGNORE,
+    /** Invalid CheckSum(10) is treated as protocol error: session is disconnected */
+    DISCONNECT
+}
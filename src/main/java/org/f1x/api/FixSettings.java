@@ -14,6 +14,9 @@
 package org.f1x.api;
 
 import org.f1x.v1.SocketOptions;
+import org.f1x.v1.validation.ValidationDictionary;
+
+import java.util.concurrent.ThreadFactory;
 
 /** Defines FIX configuration parameter common for FIX Initiator and FIX Acceptor */
 public class FixSettings extends SocketOptions {
@@ -22,6 +25,26 @@ public class FixSettings extends SocketOptions {
     private int maxOutboundMessageSize = 2048;
     /** Max buffer size for inbound message (used by Socket read) */
     private int maxInboundMessageSize = 8192;
+    /** Max buffer size used to coalesce outbound messages sent as a batch (see {@link org.f1x.api.session.FixSession#send(org.f1x.api.message.MessageBuilder[], int)}) */
+    private int maxOutboundBatchSize = 65536;
+    /** Room reserved in front of message body by message builders for standard header (allows assembling outbound message without copying its body) */
+    private int outboundHeaderReserve = 256;
+
+    /** When <code>true</code> application threads do not contend for send lock: messages are formatted into a shared ring of outbound slots and sent by dedicated writer thread */
+    private boolean multiProducerSend;
+    /** Number of slots in outbound ring used in multi-producer send mode (must be power of 2) */
+    private int outboundRingSize = 1024;
+
+    /** Defines how threads of ring-based components wait for new data */
+    private WaitStrategyType waitStrategy = WaitStrategyType.BLOCKING;
+    /** Optional factory of threads used by ring-based components (can be used to pin threads to specific CPU cores) */
+    private ThreadFactory threadFactory;
+
+    /** Defines if CheckSum(10) of inbound messages is verified and what happens when it is invalid */
+    private ChecksumValidation inboundChecksumValidation = ChecksumValidation.NONE;
+
+    /** Optional dictionary used to validate inbound messages (Reject(3) is sent in response to invalid message) */
+    private ValidationDictionary validationDictionary;
 
     /** Defines how floating point numbers will be formatted in FIX messages. This parameter sets maximum number of digits after decimal point (e.g. 3). Truncated part will be rounded. */
     private int doubleFormatterPrecision;
@@ -65,7 +88,98 @@ public class FixSettings extends SocketOptions {
     }
 
 
-    /** Defines how floating point numbers will be formatted in FIX messages. This parameter sets maximum number of digits after decimal point (e.g. 3). Truncated part will be rounded. */
+    /** Max buffer size used to coalesce outbound messages sent as a batch */
+    public int getMaxOutboundBatchSize() {
+        return maxOutboundBatchSize;
+    }
+
+    public void setMaxOutboundBatchSize(int maxOutboundBatchSize) {
+        this.maxOutboundBatchSize = maxOutboundBatchSize;
+    }
+
+    /**
+     * Number of bytes reserved in front of message body by message builders created by the session (see {@link org.f1x.api.session.FixSession#createMessageBuilder()}).
+     * When standard header fits this room outbound message is assembled right inside builder's buffer, without copying its body.
+     * Zero disables in-place assembly.
+     */
+    public int getOutboundHeaderReserve() {
+        return outboundHeaderReserve;
+    }
+
+    public void setOutboundHeaderReserve(int outboundHeaderReserve) {
+        this.outboundHeaderReserve = outboundHeaderReserve;
+    }
+
+    /**
+     * When <code>true</code> application threads do not contend for send lock: each {@link org.f1x.api.session.FixSession#send(org.f1x.api.message.MessageBuilder)}
+     * formats message into a pre-allocated ring of outbound slots and returns. Dedicated writer thread assigns sequence numbers, persists messages and writes them into socket.
+     * Send errors are logged rather than thrown to the caller.
+     */
+    public boolean isMultiProducerSend() {
+        return multiProducerSend;
+    }
+
+    public void setMultiProducerSend(boolean multiProducerSend) {
+        this.multiProducerSend = multiProducerSend;
+    }
+
+    /** Number of slots in outbound ring used in multi-producer send mode (must be power of 2) */
+    public int getOutboundRingSize() {
+        return outboundRingSize;
+    }
+
+    public void setOutboundRingSize(int outboundRingSize) {
+        this.outboundRingSize = outboundRingSize;
+    }
+
+    /** Defines how threads of ring-based components (multi-producer send writer, buffered initiator ring processors) wait for new data */
+    public WaitStrategyType getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public void setWaitStrategy(WaitStrategyType waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Optional factory of threads used by ring-based components. This is a hook for thread affinity:
+     * busy-spinning threads perform best when pinned to isolated CPU cores by affinity-aware thread factory.
+     * @return thread factory or <code>null</code> to use default threads
+     */
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    /** Defines if CheckSum(10) of inbound messages is verified and what happens when it is invalid (not verified by default) */
+    public ChecksumValidation getInboundChecksumValidation() {
+        return inboundChecksumValidation;
+    }
+
+    public void setInboundChecksumValidation(ChecksumValidation inboundChecksumValidation) {
+        this.inboundChecksumValidation = inboundChecksumValidation;
+    }
+
+    /**
+     * Optional dictionary used to validate required tags, tags allowed for each message type and enumerated tag values of inbound messages.
+     * Invalid message is answered with Reject(3) that specifies SessionRejectReason(373) and is not passed to message handlers.
+     * @return compiled dictionary or <code>null</code> if validation is disabled (default)
+     */
+    public ValidationDictionary getValidationDictionary() {
+        return validationDictionary;
+    }
+
+    public void setValidationDictionary(ValidationDictionary validationDictionary) {
+        this.validationDictionary = validationDictionary;
+    }
+
+    /**
+     * Defines how floating point numbers will be formatted in FIX messages. This parameter sets maximum number of digits after decimal point (e.g. 3). Truncated part will be rounded.
+     * Use {@link org.f1x.util.format.DoubleFormatter#SHORTEST} to format numbers using the shortest representation that reads back to the same double (e.g. 1.2345 rather than 1.23450000000000004).
+     */
     public int getDoubleFormatterPrecision() {
         return doubleFormatterPrecision;
     }
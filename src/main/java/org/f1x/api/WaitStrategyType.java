@@ -0,0 +1,31 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.api;
+
+/**
+ * Defines how threads of ring-based components (outbound ring writer, ring buffer processors) wait for new data.
+ * Strategies at the end of the list trade CPU for latency.
+ */
+public enum WaitStrategyType {
+    /** Lock and condition variable. Lowest CPU usage, highest latency. */
+    BLOCKING,
+    /** Spins, then yields, then parks for short periods of time. Good compromise when CPU cores are shared. */
+    SLEEPING,
+    /** Spins, then yields. Uses entire CPU core when idle, but lets other threads run. */
+    YIELDING,
+    /** Spins in tight loop. Lowest latency, requires dedicated CPU core (see {@link FixSettings#getThreadFactory()} for affinity). */
+    BUSY_SPIN,
+    /** Spins, then yields, then falls back to blocking wait when ring stays idle for longer period of time. */
+    PHASED_BACKOFF
+}
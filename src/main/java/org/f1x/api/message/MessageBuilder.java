@@ -19,6 +19,7 @@ import org.f1x.api.message.types.ByteEnum;
 import org.f1x.api.message.types.IntEnum;
 import org.f1x.api.message.types.StringEnum;
 import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
 
 /**
  * Reusable constructor of FIX message.
@@ -57,6 +58,12 @@ public interface MessageBuilder {
 
     /** Appends given double value formatted with given precision rounded up or down */
     void add (int tag, double value, int precision, boolean roundUp);
+
+    /** Appends fixed-point decimal value <code>mantissa * 10^-scale</code> exactly (e.g. mantissa=12345 and scale=2 is formatted as "123.45") */
+    void addDecimal (int tag, long mantissa, int scale);
+
+    /** Appends fixed-point decimal value exactly */
+    void addDecimal (int tag, Decimal value);
     void add (int tag, byte value);
     void add (int tag, boolean value);
     void add (int tag, ByteEnum value);
@@ -92,6 +99,9 @@ public interface MessageBuilder {
     /** @return current length of message body (in bytes) */
     int getLength();
 
+    /** @return sum of all bytes of current message body modulo 256. Accumulated as fields are added, allows to compute CheckSum(10) without another pass over message body. */
+    int getByteSum();
+
     /** Clear current content before building content for a new message */
     void clear();
 
@@ -15,6 +15,7 @@
 package org.f1x.api.message;
 
 import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
 
 /** Not thread safe */
 public interface MessageParser {
@@ -35,6 +36,9 @@ public interface MessageParser {
     /** @return value of current tag interpreted as double number. Some loss of precision may occur when converting fixed-point number to floating point result. */
     double getDoubleValue();
 
+    /** Parses value of current tag into given fixed-point decimal (exact, no floating point conversion) */
+    void getDecimal(Decimal value);
+
     /** @return value of current tag as CharSequence. Note: caller must save result because returned object will be reused for other tags. (Flyweight pattern). */
     CharSequence getCharSequenceValue();
 
@@ -70,6 +74,39 @@ public interface MessageParser {
     /** Restarts parsing current message from the beginning */
     void reset();
 
+    /// Repeating groups. Typical usage:
+    ///
+    ///    if (parser.getTagNum() == FixTags.NoMDEntries) {
+    ///        parser.enterGroup(MD_ENTRIES);
+    ///        while (parser.nextGroupEntry()) {   // parser is positioned at delimiter tag (MDEntryType)
+    ///            do {
+    ///                switch (parser.getTagNum()) { ... }
+    ///            } while (parser.nextGroupField());
+    ///        }
+    ///    }
+
+    /**
+     * Enters repeating group. Current tag must be group counter (NoXXX).
+     * Since parser doesn't know which tags belong to the group, the last entry extends until the end of the message
+     * (use {@link #enterGroup(RepeatingGroup)} to detect the end of the group).
+     * @param countTag group counter tag (NoXXX)
+     * @param delimiterTag first tag of each group entry
+     * @return number of entries declared by group counter
+     */
+    int enterGroup(int countTag, int delimiterTag);
+
+    /** Enters repeating group described by dictionary metadata. Current tag must be group counter (NoXXX). @return number of entries declared by group counter */
+    int enterGroup(RepeatingGroup group);
+
+    /**
+     * Advances to the delimiter tag of the next group entry, skipping unprocessed fields of the previous entry.
+     * @return false if there are no more entries (parser leaves the group, next call to {@link #next()} returns first field after the group)
+     */
+    boolean nextGroupEntry();
+
+    /** Advances to the next field of current group entry. @return false if current entry has no more fields */
+    boolean nextGroupField();
+
 }
 
 
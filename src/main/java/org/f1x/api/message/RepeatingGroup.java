@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.api.message;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary metadata of a repeating group used by {@link MessageParser#enterGroup(RepeatingGroup)} to detect where the last group entry ends.
+ * Immutable, normally defined once per group.
+ */
+public final class RepeatingGroup {
+
+    private final int countTag;
+    private final int delimiterTag;
+    private final int [] memberTags; // sorted
+
+    /**
+     * @param countTag group counter tag (NoXXX)
+     * @param delimiterTag first tag of each group entry
+     * @param memberTags all tags that may appear inside group entry, including tags of nested groups
+     */
+    public RepeatingGroup(int countTag, int delimiterTag, int ... memberTags) {
+        this.countTag = countTag;
+        this.delimiterTag = delimiterTag;
+        this.memberTags = Arrays.copyOf(memberTags, memberTags.length + 1);
+        this.memberTags[memberTags.length] = delimiterTag;
+        Arrays.sort(this.memberTags);
+    }
+
+    public int getCountTag() {
+        return countTag;
+    }
+
+    public int getDelimiterTag() {
+        return delimiterTag;
+    }
+
+    /** @return true if given tag may appear inside group entry */
+    public boolean isMember(int tagNum) {
+        return Arrays.binarySearch(memberTags, tagNum) >= 0;
+    }
+}
@@ -46,8 +46,14 @@ public class Tools {
      *  eight bits of the calculated value to the CheckSum value
      */
     public static int calcCheckSum(final byte [] buffer, final int length) {
+        return calcCheckSum(buffer, 0, length);
+    }
+
+    /** Same as {@link #calcCheckSum(byte[], int)} for a message that starts at given offset */
+    public static int calcCheckSum(final byte [] buffer, final int offset, final int length) {
         int sum = 0;
-        for (int i = 0; i < length; i++) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
             sum += buffer[i];
         }
         return sum & 0xFF;
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.api.message.fields;
+
+// Generated by org.f1x.tools.DictionaryGenerator from QuickFIX dictionary
+public class MsgTypeCodes {
+	public static final int HEARTBEAT = '0';
+	public static final int TEST_REQUEST = '1';
+	public static final int RESEND_REQUEST = '2';
+	public static final int REJECT = '3';
+	public static final int SEQUENCE_RESET = '4';
+	public static final int LOGOUT = '5';
+	public static final int INDICATION_OF_INTEREST = '6';
+	public static final int ADVERTISEMENT = '7';
+	public static final int EXECUTION_REPORT = '8';
+	public static final int ORDER_CANCEL_REJECT = '9';
+	public static final int LOGON = 'A';
+	public static final int NEWS = 'B';
+	public static final int EMAIL = 'C';
+	public static final int ORDER_SINGLE = 'D';
+	public static final int ORDER_LIST = 'E';
+	public static final int ORDER_CANCEL_REQUEST = 'F';
+	public static final int ORDER_CANCEL_REPLACE_REQUEST = 'G';
+	public static final int ORDER_STATUS_REQUEST = 'H';
+	public static final int ALLOCATION_INSTRUCTION = 'J';
+	public static final int LIST_CANCEL_REQUEST = 'K';
+	public static final int LIST_EXECUTE = 'L';
+	public static final int LIST_STATUS_REQUEST = 'M';
+	public static final int LIST_STATUS = 'N';
+	public static final int ALLOCATION_INSTRUCTION_ACK = 'P';
+	public static final int DONT_KNOW_TRADE = 'Q';
+	public static final int QUOTE_REQUEST = 'R';
+	public static final int QUOTE = 'S';
+	public static final int SETTLEMENT_INSTRUCTIONS = 'T';
+	public static final int MARKET_DATA_REQUEST = 'V';
+	public static final int MARKET_DATA_SNAPSHOT_FULL_REFRESH = 'W';
+	public static final int MARKET_DATA_INCREMENTAL_REFRESH = 'X';
+	public static final int MARKET_DATA_REQUEST_REJECT = 'Y';
+	public static final int QUOTE_CANCEL = 'Z';
+	public static final int QUOTE_STATUS_REQUEST = 'a';
+	public static final int MASS_QUOTE_ACKNOWLEDGEMENT = 'b';
+	public static final int SECURITY_DEFINITION_REQUEST = 'c';
+	public static final int SECURITY_DEFINITION = 'd';
+	public static final int SECURITY_STATUS_REQUEST = 'e';
+	public static final int SECURITY_STATUS = 'f';
+	public static final int TRADING_SESSION_STATUS_REQUEST = 'g';
+	public static final int TRADING_SESSION_STATUS = 'h';
+	public static final int MASS_QUOTE = 'i';
+	public static final int BUSINESS_MESSAGE_REJECT = 'j';
+	public static final int BID_REQUEST = 'k';
+	public static final int BID_RESPONSE = 'l';
+	public static final int LIST_STRIKE_PRICE = 'm';
+	public static final int XML_MESSAGE = 'n';
+	public static final int REGISTRATION_INSTRUCTIONS = 'o';
+	public static final int REGISTRATION_INSTRUCTIONS_RESPONSE = 'p';
+	public static final int ORDER_MASS_CANCEL_REQUEST = 'q';
+	public static final int ORDER_MASS_CANCEL_REPORT = 'r';
+	public static final int NEW_ORDER_CROSS = 's';
+	public static final int CROSS_ORDER_CANCEL_REPLACE_REQUEST = 't';
+	public static final int CROSS_ORDER_CANCEL_REQUEST = 'u';
+	public static final int SECURITY_TYPE_REQUEST = 'v';
+	public static final int SECURITY_TYPES = 'w';
+	public static final int SECURITY_LIST_REQUEST = 'x';
+	public static final int SECURITY_LIST = 'y';
+	public static final int DERIVATIVE_SECURITY_LIST_REQUEST = 'z';
+	public static final int DERIVATIVE_SECURITY_LIST = ('A' << 8) | 'A';
+	public static final int NEW_ORDER_MULTILEG = ('A' << 8) | 'B';
+	public static final int MULTILEG_ORDER_CANCEL_REPLACE = ('A' << 8) | 'C';
+	public static final int TRADE_CAPTURE_REPORT_REQUEST = ('A' << 8) | 'D';
+	public static final int TRADE_CAPTURE_REPORT = ('A' << 8) | 'E';
+	public static final int ORDER_MASS_STATUS_REQUEST = ('A' << 8) | 'F';
+	public static final int QUOTE_REQUEST_REJECT = ('A' << 8) | 'G';
+	public static final int RFQ_REQUEST = ('A' << 8) | 'H';
+	public static final int QUOTE_STATUS_REPORT = ('A' << 8) | 'I';
+	public static final int QUOTE_RESPONSE = ('A' << 8) | 'J';
+	public static final int CONFIRMATION = ('A' << 8) | 'K';
+	public static final int POSITION_MAINTENANCE_REQUEST = ('A' << 8) | 'L';
+	public static final int POSITION_MAINTENANCE_REPORT = ('A' << 8) | 'M';
+	public static final int REQUEST_FOR_POSITIONS = ('A' << 8) | 'N';
+	public static final int REQUEST_FOR_POSITIONS_ACK = ('A' << 8) | 'O';
+	public static final int POSITION_REPORT = ('A' << 8) | 'P';
+	public static final int TRADE_CAPTURE_REPORT_REQUEST_ACK = ('A' << 8) | 'Q';
+	public static final int TRADE_CAPTURE_REPORT_ACK = ('A' << 8) | 'R';
+	public static final int ALLOCATION_REPORT = ('A' << 8) | 'S';
+	public static final int ALLOCATION_REPORT_ACK = ('A' << 8) | 'T';
+	public static final int CONFIRMATION_ACK = ('A' << 8) | 'U';
+	public static final int SETTLEMENT_INSTRUCTION_REQUEST = ('A' << 8) | 'V';
+	public static final int ASSIGNMENT_REPORT = ('A' << 8) | 'W';
+	public static final int COLLATERAL_REQUEST = ('A' << 8) | 'X';
+	public static final int COLLATERAL_ASSIGNMENT = ('A' << 8) | 'Y';
+	public static final int COLLATERAL_RESPONSE = ('A' << 8) | 'Z';
+	public static final int COLLATERAL_REPORT = ('B' << 8) | 'A';
+	public static final int COLLATERAL_INQUIRY = ('B' << 8) | 'B';
+	public static final int NETWORK_STATUS_REQUEST = ('B' << 8) | 'C';
+	public static final int NETWORK_STATUS_RESPONSE = ('B' << 8) | 'D';
+	public static final int USER_REQUEST = ('B' << 8) | 'E';
+	public static final int USER_RESPONSE = ('B' << 8) | 'F';
+	public static final int COLLATERAL_INQUIRY_ACK = ('B' << 8) | 'G';
+	public static final int CONFIRMATION_REQUEST = ('B' << 8) | 'H';
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.api.message.types;
+
+import org.f1x.api.message.fields.MsgType;
+
+/**
+ * Packs MsgType(35) values into int codes that can be used in switch statements instead of chains of CharSequence comparisons.
+ * Single character type is encoded as character code (e.g. 'D' for NewOrderSingle), two character type as <code>(first &lt;&lt; 8) | second</code>
+ * (e.g. <code>('A' &lt;&lt; 8) | 'E'</code> for TradeCaptureReport). Codes of standard message types are defined in {@link org.f1x.api.message.fields.MsgTypeCodes}.
+ * Custom message types up to two ASCII characters long are encoded the same way.
+ */
+public final class MsgTypeLookup {
+
+    /** Code returned for message types that do not fit into int code (empty, longer than two characters, or non-ASCII) */
+    public static final int UNDEFINED_CODE = -1;
+
+    private static final int MAX_CHAR = 0x7F;
+    private static final MsgType [][] xlatTable = new MsgType [MAX_CHAR + 1][];
+
+    static {
+        for (MsgType value : MsgType.values()) {
+            int code = getCode(value.getCode());
+            if (code == UNDEFINED_CODE)
+                throw new IllegalArgumentException("MsgType value cannot be packed into int: " + value);
+
+            MsgType [] row = xlatTable[code >> 8];
+            if (row == null)
+                row = xlatTable[code >> 8] = new MsgType [MAX_CHAR + 1];
+            row[code & 0xFF] = value;
+        }
+    }
+
+    private MsgTypeLookup() {}
+
+    /** @return int code of given message type or {@link #UNDEFINED_CODE} */
+    public static int getCode(CharSequence msgType) {
+        final int length = msgType.length();
+        if (length == 1)
+            return getCode(msgType.charAt(0));
+        if (length == 2)
+            return getCode(msgType.charAt(0), msgType.charAt(1));
+        return UNDEFINED_CODE;
+    }
+
+    /** @return int code of message type stored in given buffer or {@link #UNDEFINED_CODE} */
+    public static int getCode(byte [] buffer, int offset, int length) {
+        if (length == 1)
+            return getCode((char) buffer[offset]);
+        if (length == 2)
+            return getCode((char) buffer[offset], (char) buffer[offset + 1]);
+        return UNDEFINED_CODE;
+    }
+
+    private static int getCode(char c) {
+        return (c > 0 && c <= MAX_CHAR) ? c : UNDEFINED_CODE;
+    }
+
+    private static int getCode(char c0, char c1) {
+        return (c0 > 0 && c0 <= MAX_CHAR && c1 > 0 && c1 <= MAX_CHAR) ? (c0 << 8) | c1 : UNDEFINED_CODE;
+    }
+
+    /**
+     * @param code int code of message type
+     * @return standard message type identified by given code
+     * @throws IllegalArgumentException if code doesn't identify any of standard message types
+     */
+    public static MsgType get(int code) {
+        if (code > 0) {
+            final int hi = code >> 8;
+            final int lo = code & 0xFF;
+            if (hi <= MAX_CHAR && lo <= MAX_CHAR) {
+                MsgType [] row = xlatTable[hi];
+                if (row != null && row[lo] != null)
+                    return row[lo];
+            }
+        }
+        throw new IllegalArgumentException("Undefined MsgType code " + code + " (0x" + Integer.toHexString(code) + ')');
+    }
+
+}
@@ -29,6 +29,12 @@ public interface FixSession extends Runnable {
     MessageBuilder createMessageBuilder();
     void send (MessageBuilder mb) throws IOException;
 
+    /**
+     * Sends first <code>count</code> messages of given batch using consecutive sequence numbers.
+     * Messages are assembled into a single buffer and transmitted using as few socket writes as possible (each message is still persisted in message store individually).
+     */
+    void send (MessageBuilder [] batch, int count) throws IOException;
+
     /**
      * Terminate socket connection immediately (no LOGOUT message is sent if session is in process).
      * Session enters {@link org.f1x.api.session.SessionStatus#Disconnected} state.
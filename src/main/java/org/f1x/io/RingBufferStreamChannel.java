@@ -18,24 +18,35 @@ import org.f1x.io.disruptor.ByteRing;
 import java.io.IOException;
 
 
-/** Output channel into ByteRing. Each stored block is prefixed with its length */
+/**
+ * Output channel into ByteRing. Each stored block is prefixed with its length (unless channel works in raw mode). Multiple channels may share multi producer ByteRing.
+ * Raw mode is intended for consumers that do not care about block boundaries, such as socket writer in batch mode (see {@link org.f1x.io.disruptor.MessageProcessorPool}).
+ */
 public final class RingBufferStreamChannel implements OutputChannel {
     private static final int SIZE_OF_INT32 = 4;
     private final ByteRing ring;
+    private final int prefixSize;
 
     public RingBufferStreamChannel(ByteRing ring) {
+        this(ring, true);
+    }
+
+    /** @param lengthPrefix false to write raw bytes (without length prefix) */
+    public RingBufferStreamChannel(ByteRing ring, boolean lengthPrefix) {
         this.ring = ring;
+        this.prefixSize = lengthPrefix ? SIZE_OF_INT32 : 0;
     }
 
     @Override
     public void write(final byte[] buffer, final int offset, final int length) throws IOException {
-        final int allocSize = length + SIZE_OF_INT32;
+        final int allocSize = length + prefixSize;
         long high = ring.next(allocSize);
         long low = high - (allocSize - 1);
 
-        ring.writeInt(low, length); //TODO: Develop alternative version that does not write length (this will allow feeding multiple messages directly into Socket)
-        ring.write(low + SIZE_OF_INT32, buffer, offset, length);
-        ring.publish(high);
+        if (prefixSize != 0)
+            ring.writeInt(low, length);
+        ring.write(low + prefixSize, buffer, offset, length);
+        ring.publish(low, high);
     }
 
     @Override
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Input channel that reads from {@link SocketChannel} into direct byte buffer (avoids socket stream locking and temporary buffers of heap-based reads).
+ * In non-blocking mode <code>read()</code> returns zero when there is no data available, unless busy-spin is enabled.
+ * Not thread safe (single reader).
+ */
+public class SocketChannelInputChannel implements InputChannel {
+    private final SocketChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean busySpin;
+
+    /**
+     * @param bufferSize size of direct read buffer (single read never exceeds it)
+     * @param busySpin when <code>true</code> channel is switched into non-blocking mode and <code>read()</code> spins until some data arrives (trades CPU for latency)
+     */
+    public SocketChannelInputChannel(SocketChannel channel, int bufferSize, boolean busySpin) throws IOException {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.busySpin = busySpin;
+        if (busySpin)
+            channel.configureBlocking(false);
+    }
+
+    @Override
+    public int read(byte[] dst, int offset, int length) throws IOException {
+        buffer.clear();
+        if (length < buffer.capacity())
+            buffer.limit(length);
+
+        int bytesRead;
+        do {
+            bytesRead = channel.read(buffer);
+        } while (bytesRead == 0 && busySpin);
+
+        if (bytesRead > 0) {
+            buffer.flip();
+            buffer.get(dst, offset, bytesRead);
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.io;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Output channel that writes into {@link SocketChannel} from direct byte buffer. Each <code>write()</code> transmits the entire block
+ * (in non-blocking mode caller spins while socket send buffer is full). Callers must serialize writes.
+ * <p>
+ * Spin is bounded by write timeout: if socket send buffer stays full longer than that (counter-party stopped reading),
+ * the channel is closed and <code>write()</code> fails with {@link SocketTimeoutException}. Partially written message cannot be recovered anyway.
+ */
+public class SocketChannelOutputChannel implements OutputChannel {
+    private final SocketChannel channel;
+    private final ByteBuffer buffer;
+    private final long writeTimeout;
+
+    /**
+     * @param bufferSize size of direct write buffer (larger blocks are written in several chunks)
+     */
+    public SocketChannelOutputChannel(SocketChannel channel, int bufferSize) {
+        this(channel, bufferSize, 0);
+    }
+
+    /**
+     * @param bufferSize size of direct write buffer (larger blocks are written in several chunks)
+     * @param writeTimeout maximum time in milliseconds to wait for space in socket send buffer (zero means no limit)
+     */
+    public SocketChannelOutputChannel(SocketChannel channel, int bufferSize, long writeTimeout) {
+        if (writeTimeout < 0)
+            throw new IllegalArgumentException("writeTimeout < 0");
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.writeTimeout = writeTimeout;
+    }
+
+    @Override
+    public void write(byte[] src, int offset, int length) throws IOException {
+        while (length > 0) {
+            final int chunkSize = Math.min(length, buffer.capacity());
+            buffer.clear();
+            buffer.put(src, offset, chunkSize);
+            buffer.flip();
+            long deadline = 0;
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) > 0) {
+                    deadline = 0;
+                } else { // socket send buffer is full
+                    if (writeTimeout > 0) {
+                        final long now = System.currentTimeMillis();
+                        if (deadline == 0) {
+                            deadline = now + writeTimeout;
+                        } else if (now > deadline) {
+                            channel.close();
+                            throw new SocketTimeoutException("Socket write timed out (counter-party is not reading)");
+                        }
+                    }
+                    Thread.yield();
+                }
+            }
+            offset += chunkSize;
+            length -= chunkSize;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
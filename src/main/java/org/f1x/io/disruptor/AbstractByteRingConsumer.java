@@ -91,10 +91,8 @@ public abstract class AbstractByteRingConsumer implements EventProcessor {
         while (true) {
             final int blockSize = getNextBlockSize();
             final long nextSequenceToWait = consumed + blockSize;  // points to the last byte of to-be-consumed sequence
-            if (availableSequence < nextSequenceToWait) {
+            while (availableSequence < nextSequenceToWait) // multi-producer ring may report claimed sequence that is not published yet
                 availableSequence = sequenceBarrier.waitFor(nextSequenceToWait);
-                assert availableSequence >= nextSequenceToWait;
-            }
 
             process(consumed + 1, blockSize);
 
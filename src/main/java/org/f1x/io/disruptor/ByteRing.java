@@ -23,7 +23,7 @@ public final class ByteRing {
     private final byte [] entries;
     private final int indexMask;
 
-    private final SingleProducerSequencer sequencer;
+    private final Sequencer sequencer;
 
     /**
      * Create a new single producer ByteRing with the specified wait strategy.
@@ -34,7 +34,27 @@ public final class ByteRing {
      * @throws IllegalArgumentException if bufferSize is less than 1 and not a power of 2
      */
     public ByteRing (int bufferSize, WaitStrategy waitStrategy) {
-        sequencer = new SingleProducerSequencer(bufferSize, waitStrategy);
+        this(new SingleProducerSequencer(bufferSize, waitStrategy));
+    }
+
+    /**
+     * Create a new multi producer ByteRing with the specified wait strategy.
+     * Producers may share this ring without external locking as long as each of them claims and publishes whole blocks
+     * (see {@link #publish(long, long)}), for example using {@link org.f1x.io.RingBufferStreamChannel}.
+     * Note that multi producer sequencer tracks availability of each byte, which makes publishing proportional to block size.
+     *
+     * @see MultiProducerSequencer
+     * @param bufferSize number of elements to create within the ring buffer.
+     * @param waitStrategy used to determine how to wait for new elements to become available.
+     * @throws IllegalArgumentException if bufferSize is less than 1 and not a power of 2
+     */
+    public static ByteRing createMultiProducer (int bufferSize, WaitStrategy waitStrategy) {
+        return new ByteRing(new MultiProducerSequencer(bufferSize, waitStrategy));
+    }
+
+    private ByteRing (Sequencer sequencer) {
+        this.sequencer = sequencer;
+        final int bufferSize = sequencer.getBufferSize();
         this.bufferSize = bufferSize;
         this.entries = new byte[bufferSize];
         this.indexMask = bufferSize - 1;
@@ -75,6 +95,17 @@ public final class ByteRing {
         sequencer.publish(hi);
     }
 
+    /**
+     * Publish byte sequence claimed by {@link #next(int)}. Multi producer rings require this form.
+     *
+     * @param lo first sequence number to publish
+     * @param hi last sequence number to publish
+     */
+    public void publish(long lo, long hi)
+    {
+        sequencer.publish(lo, hi);
+    }
+
     /**
      * Get the current cursor value for the ring buffer.  The cursor value is
      * the last value that was published, or the highest available sequence
@@ -27,6 +27,7 @@ class MessageProcessor implements EventProcessor {
     private final SequenceBarrier sequenceBarrier;
     private final RingBufferBlockProcessor delegate;
     private final ExceptionHandler exceptionHandler;
+    private final boolean batch;
 
     /**
      * Construct a {@link com.lmax.disruptor.WorkProcessor}.
@@ -41,9 +42,22 @@ class MessageProcessor implements EventProcessor {
                             SequenceBarrier sequenceBarrier,
                             RingBufferBlockProcessor delegate,
                             ExceptionHandler exceptionHandler)
+    {
+        this(ring, sequenceBarrier, false, delegate, exceptionHandler);
+    }
+
+    /**
+     * @param batch when true ring contains raw bytes (without length prefix) and delegate receives all available bytes at once
+     */
+    public MessageProcessor(ByteRing ring,
+                            SequenceBarrier sequenceBarrier,
+                            boolean batch,
+                            RingBufferBlockProcessor delegate,
+                            ExceptionHandler exceptionHandler)
     {
         this.ring = ring;
         this.sequenceBarrier = sequenceBarrier;
+        this.batch = batch;
         this.delegate = delegate;
         this.exceptionHandler = exceptionHandler;
     }
@@ -84,33 +98,10 @@ class MessageProcessor implements EventProcessor {
 
         try
         {
-            long consumed = sequence.get();  // points to the last byte of already-consumed sequence
-            long availableSequence = Sequencer.INITIAL_CURSOR_VALUE;
-
-            while (true)
-            {
-                /// Step 1: Read message length
-                final long messageLengthSequence = consumed + SIZE_OF_INT32;
-                availableSequence = waitForData(availableSequence, messageLengthSequence);
-
-                final int messageSize = ring.readInt(consumed + 1);
-                consumed = messageLengthSequence;
-                //sequence.set(consumed); let's postpone till we consume message as well (4 bytes are not releasing much buffer space anyway)
-
-                /// Step 2: Read message itself
-                final long nextSequenceToWait = consumed + messageSize;
-                availableSequence = waitForData(availableSequence, nextSequenceToWait);
-
-                try {
-                    ring.processBlock(consumed+1, messageSize, delegate);
-                } catch (Throwable e) {
-                    exceptionHandler.handleEventException(e, consumed, null);
-                }
-
-                consumed = nextSequenceToWait;
-                sequence.set(consumed);
-            }
-
+            if (batch)
+                processBatches();
+            else
+                processMessages();
         } catch (InterruptedException | AlertException | TimeoutException e) {
             if ( running.get())
                 System.err.println ("Aborted " + this); //TODO: Log
@@ -123,11 +114,60 @@ class MessageProcessor implements EventProcessor {
         running.set(false);
     }
 
+    /** Hands the delegate one length-prefixed message at a time */
+    private void processMessages() throws AlertException, InterruptedException, TimeoutException {
+        long consumed = sequence.get();  // points to the last byte of already-consumed sequence
+        long availableSequence = Sequencer.INITIAL_CURSOR_VALUE;
+
+        while (true)
+        {
+            /// Step 1: Read message length
+            final long messageLengthSequence = consumed + SIZE_OF_INT32;
+            availableSequence = waitForData(availableSequence, messageLengthSequence);
+
+            final int messageSize = ring.readInt(consumed + 1);
+            consumed = messageLengthSequence;
+            //sequence.set(consumed); let's postpone till we consume message as well (4 bytes are not releasing much buffer space anyway)
+
+            /// Step 2: Read message itself
+            final long nextSequenceToWait = consumed + messageSize;
+            availableSequence = waitForData(availableSequence, nextSequenceToWait);
+
+            try {
+                ring.processBlock(consumed+1, messageSize, delegate);
+            } catch (Throwable e) {
+                exceptionHandler.handleEventException(e, consumed, null);
+            }
+
+            consumed = nextSequenceToWait;
+            sequence.set(consumed);
+        }
+    }
+
+    /** Hands the delegate entire contiguous range of available bytes (wrapped range is passed as a single block as well) */
+    private void processBatches() throws AlertException, InterruptedException, TimeoutException {
+        long consumed = sequence.get();  // points to the last byte of already-consumed sequence
+
+        while (true)
+        {
+            final long availableSequence = waitForData(Sequencer.INITIAL_CURSOR_VALUE, consumed + 1);
+            final int batchSize = (int) (availableSequence - consumed);
+
+            try {
+                ring.processBlock(consumed+1, batchSize, delegate);
+            } catch (Throwable e) {
+                exceptionHandler.handleEventException(e, consumed, null);
+            }
+
+            consumed = availableSequence;
+            sequence.set(consumed);
+        }
+    }
+
     private long waitForData(long availableSequence, long nextSequenceToWait) throws AlertException, InterruptedException, TimeoutException {
-        if (availableSequence < nextSequenceToWait) {
+        // Multi-producer ring may report claimed sequence that is not published yet
+        while (availableSequence < nextSequenceToWait)
             availableSequence = sequenceBarrier.waitFor(nextSequenceToWait);
-            assert availableSequence >= nextSequenceToWait;
-        }
         return availableSequence;
     }
 
@@ -43,6 +43,21 @@ public class MessageProcessorPool {
                                 final SequenceBarrier sequenceBarrier,
                                 final ExceptionHandler exceptionHandler,
                                 final RingBufferBlockProcessor... processors) {
+        this(ringBuffer, sequenceBarrier, false, exceptionHandler, processors);
+    }
+
+    /**
+     * Create a worker pool that optionally works in batch mode. In batch mode ring buffer contains raw bytes
+     * (see {@link org.f1x.io.RingBufferStreamChannel#RingBufferStreamChannel(ByteRing, boolean)}) and each processor receives
+     * all bytes available at the moment in a single call. This lets socket writer flush a burst of messages using one or two writes.
+     *
+     * @param batch            true to enable batch mode
+     */
+    public MessageProcessorPool(ByteRing ringBuffer,
+                                final SequenceBarrier sequenceBarrier,
+                                final boolean batch,
+                                final ExceptionHandler exceptionHandler,
+                                final RingBufferBlockProcessor... processors) {
         this.ringBuffer = ringBuffer;
         final int numWorkers = processors.length;
         messageProcessors = new MessageProcessor[numWorkers];
@@ -50,6 +65,7 @@ public class MessageProcessorPool {
         for (int i = 0; i < numWorkers; i++) {
             messageProcessors[i] = new MessageProcessor(ringBuffer,
                 sequenceBarrier,
+                batch,
                 processors[i],
                 exceptionHandler);
         }
@@ -92,6 +108,24 @@ public class MessageProcessorPool {
         return ringBuffer;
     }
 
+    /**
+     * Wait for the {@link RingBuffer} to drain of published events (workers keep running).
+     *
+     * @param timeout max time to wait in milliseconds
+     * @return false if timeout elapsed before workers caught up with ring buffer cursor
+     */
+    public boolean drain(long timeout) {
+        final Sequence[] workerSequences = getWorkerSequences();
+        final long deadline = System.currentTimeMillis() + timeout;
+
+        while (ringBuffer.getCursor() > Util.getMinimumSequence(workerSequences)) {
+            if (System.currentTimeMillis() > deadline)
+                return false;
+            Thread.yield();
+        }
+        return true;
+    }
+
     /**
      * Wait for the {@link RingBuffer} to drain of published events then halt the workers.
      */
@@ -109,6 +143,19 @@ public class MessageProcessorPool {
         started.set(false);
     }
 
+    /**
+     * Wait for the {@link RingBuffer} to drain of published events then halt the workers.
+     * Unlike {@link #drainAndHalt()} does not hang when workers are stuck (e.g. blocked in socket write).
+     *
+     * @param timeout max time to wait in milliseconds
+     * @return false if workers were halted before they caught up with ring buffer cursor
+     */
+    public boolean drainAndHalt(long timeout) {
+        final boolean drained = drain(timeout);
+        halt();
+        return drained;
+    }
+
     /**
      * Halt all workers immediately at the end of their current cycle.
      */
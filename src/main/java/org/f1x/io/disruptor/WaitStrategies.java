@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.io.disruptor;
+
+import com.lmax.disruptor.*;
+import org.f1x.api.WaitStrategyType;
+
+import java.util.concurrent.TimeUnit;
+
+/** Creates Disruptor wait strategies for {@link WaitStrategyType} setting */
+public final class WaitStrategies {
+
+    /** Phased backoff: spin period before yielding (microseconds) */
+    private static final long PHASED_BACKOFF_SPIN_TIMEOUT = 10;
+    /** Phased backoff: yield period before blocking (microseconds) */
+    private static final long PHASED_BACKOFF_YIELD_TIMEOUT = 1000;
+
+    private WaitStrategies() {
+    }
+
+    public static WaitStrategy create(WaitStrategyType type) {
+        switch (type) {
+            case BLOCKING:       return new BlockingWaitStrategy();
+            case SLEEPING:       return new SleepingWaitStrategy();
+            case YIELDING:       return new YieldingWaitStrategy();
+            case BUSY_SPIN:      return new BusySpinWaitStrategy();
+            case PHASED_BACKOFF: return PhasedBackoffWaitStrategy.withLock(PHASED_BACKOFF_SPIN_TIMEOUT, PHASED_BACKOFF_YIELD_TIMEOUT, TimeUnit.MICROSECONDS);
+            default:
+                throw new IllegalArgumentException("Unsupported wait strategy: " + type);
+        }
+    }
+}
@@ -1,19 +1,44 @@
 package org.f1x.store;
 
+import java.util.Arrays;
+
 /**
  * Message store backed by byte[] array. Limited to N last bytes.
+ * Store keeps seqNum-indexed positions of the latest messages: lookup of a message is O(1) and iterator walks forward through the buffer.
  */
 public final class InMemoryMessageStore implements MessageStore {
     private static final int SIZE_OF_INT = 4;
+    private static final int MIN_INDEX_SIZE = 16;
+    private static final int AVERAGE_RECORD_SIZE = 64;
 
     private final CircularBuffer buffer;
     private int lastSeqNum;
 
+    // Index: sequence number and position of [SEQ] part of the record, keyed by (seqNum & indexMask)
+    private final int [] indexSeqNums;
+    private final long [] indexPositions;
+    private final int indexMask;
+    private int epoch; // incremented by clean() to reset iterators
+
     //TODO: Initialize from message log
     //TODO: Don't bother storing admin messages?
 
     public InMemoryMessageStore(int bufferSize) {
+        this(bufferSize, Math.max(MIN_INDEX_SIZE, bufferSize / AVERAGE_RECORD_SIZE));
+    }
+
+    /**
+     * @param bufferSize size of the buffer (must be a power of 2)
+     * @param indexSize number of latest sequence numbers that can be located in O(1) (must be a power of 2). Older messages are located by scanning the buffer.
+     */
+    public InMemoryMessageStore(int bufferSize, int indexSize) {
+        if (indexSize < 1 || Integer.bitCount(indexSize) != 1)
+            throw new IllegalArgumentException("indexSize must be a power of 2");
+
         buffer = new CircularBuffer (bufferSize);
+        indexSeqNums = new int [indexSize];
+        indexPositions = new long [indexSize];
+        indexMask = indexSize - 1;
     }
 
 
@@ -22,6 +47,8 @@ public final class InMemoryMessageStore implements MessageStore {
         synchronized (buffer) {
             buffer.clear();
             lastSeqNum = 0;
+            Arrays.fill(indexSeqNums, 0);
+            epoch++;
         }
     }
 
@@ -34,34 +61,35 @@ public final class InMemoryMessageStore implements MessageStore {
             // Store message using [LEN][Message][SEQ][LEN] format
             buffer.writeInt(length);
             buffer.writeByteArray(message, offset, length);
+            final long position = buffer.tail;
             buffer.writeInt(seqNum);
             buffer.writeInt(length);
+
+            final int slot = seqNum & indexMask;
+            indexSeqNums[slot] = seqNum;
+            indexPositions[slot] = position;
         }
     }
 
     @Override
     public int get(int targetSeqNum, byte[] result) {
         synchronized (buffer) {
-            if (targetSeqNum <= lastSeqNum) {
-                long position = buffer.tail - 2*SIZE_OF_INT;
-                final long limit = Math.max(0, buffer.tail - buffer.bufferSize);
-                while (position > limit) {
-                    // Reading [LEN][Message][SEQ][LEN] backwards
-                    int seqNum = buffer.readInt(position);
-                    int msgLen = buffer.readInt(position + SIZE_OF_INT);
-                    position -= msgLen;
-                    if (position > limit) {
-
-                        if (seqNum == targetSeqNum) { // found it!
-                            buffer.readByteArray(position, result, 0, Math.min(msgLen, result.length));
-                            result[msgLen] = 0;
-                            return seqNum;
-                        } if (seqNum < targetSeqNum) {
-                            break;
-                        }
-                        position -= 3*SIZE_OF_INT;
-                    }
-                }
+            if (targetSeqNum > 0 && targetSeqNum <= lastSeqNum) {
+                final int slot = targetSeqNum & indexMask;
+                final int indexedSeqNum = indexSeqNums[slot];
+
+                long position = -1;
+                if (indexedSeqNum == targetSeqNum) {
+                    if (isIntact(indexPositions[slot]))
+                        position = indexPositions[slot];
+                } else if (indexedSeqNum > targetSeqNum) { // index slot was reused by newer message
+                    position = scanCeiling(targetSeqNum);
+                    if (position >= 0 && buffer.readInt(position) != targetSeqNum)
+                        position = -1;
+                } // else: message with this sequence number was never stored
+
+                if (position >= 0)
+                    return readMessage(position, result);
             }
         }
         return -1; // not found
@@ -70,6 +98,8 @@ public final class InMemoryMessageStore implements MessageStore {
     private class MessageStoreIter implements MessageStoreIterator {
         private int nextSeqNum;
         private final int toSeqNum;
+        private long position = -1; // position of [SEQ] part of the last returned record
+        private int iteratorEpoch;
 
         private MessageStoreIter(int fromSeqNum, int toSeqNum) {
             if (nextSeqNum > toSeqNum)
@@ -88,35 +118,29 @@ public final class InMemoryMessageStore implements MessageStore {
                 if (nextSeqNum > lastSeqNum)
                     return -1;
 
-                long position = buffer.tail - 2*SIZE_OF_INT;
-                final long limit = Math.max(0, buffer.tail - buffer.bufferSize);
-                int lastScannedSeqNum = -1;
-                while (position > limit) {
-                    // reading [LEN][Message][SEQ][LEN] backwards
-                    int seqNum = buffer.readInt(position);
-                    int msgLen = buffer.readInt(position + SIZE_OF_INT);
-                    position -= msgLen;
-                    if (position > limit) { // do we have full message?
-                        if (seqNum == nextSeqNum) { // found it!
-                            buffer.readByteArray(position, result, 0, Math.min(msgLen, result.length));
-                            result[msgLen] = 0;
-                            nextSeqNum ++;
-                            return seqNum;
-                        } if (seqNum < nextSeqNum) { //overshot
-                            break;
-                        }
-                        lastScannedSeqNum = seqNum;
-                        position -= 3*SIZE_OF_INT;
-                    }
+                long nextPosition;
+                if (position >= 0 && iteratorEpoch == epoch && isIntact(position)) {
+                    // walk forward: [SEQ][LEN] of current record is followed by [LEN][Message][SEQ] of the next one
+                    final long nextRecord = position + 2*SIZE_OF_INT;
+                    nextPosition = nextRecord + SIZE_OF_INT + buffer.readInt(nextRecord);
+                } else {
+                    nextPosition = ceiling(nextSeqNum); // first call or buffer was overwritten since previous call
                 }
 
-                if (lastScannedSeqNum > 0 && lastScannedSeqNum <= toSeqNum) {
-                    nextSeqNum = lastScannedSeqNum;
-                    return next(result);
+                if (nextPosition < 0)
+                    return -1;
+
+                final int seqNum = buffer.readInt(nextPosition);
+                if (seqNum > toSeqNum) {
+                    nextSeqNum = seqNum;
+                    return -1;
                 }
 
+                position = nextPosition;
+                iteratorEpoch = epoch;
+                nextSeqNum = seqNum + 1;
+                return readMessage(position, result);
             }
-            return -1; // not found
         }
     }
 
@@ -125,6 +149,48 @@ public final class InMemoryMessageStore implements MessageStore {
         return new MessageStoreIter (fromSeqNum, toSeqNum);
     }
 
+    /** @return position of [SEQ] part of the oldest record that has sequence number greater or equal to given one, or -1 */
+    private long ceiling(int seqNum) {
+        final int slot = seqNum & indexMask;
+        if (indexSeqNums[slot] == seqNum && isIntact(indexPositions[slot]))
+            return indexPositions[slot];
+        return scanCeiling(seqNum);
+    }
+
+    /** Same as {@link #ceiling(int)} but scans buffer backwards */
+    private long scanCeiling(int seqNum) {
+        long result = -1;
+        long position = buffer.tail - 2*SIZE_OF_INT;
+        final long limit = Math.max(0, buffer.tail - buffer.bufferSize);
+        while (position > limit) {
+            // Reading [LEN][Message][SEQ][LEN] backwards
+            final int recordSeqNum = buffer.readInt(position);
+            final int msgLen = buffer.readInt(position + SIZE_OF_INT);
+            if (position - msgLen <= limit || recordSeqNum < seqNum)
+                break;
+
+            result = position;
+            position -= msgLen + 3*SIZE_OF_INT;
+        }
+        return result;
+    }
+
+    /** @param position position of [SEQ] part of the record
+     *  @return true if message content was not overwritten yet */
+    private boolean isIntact(long position) {
+        final long limit = Math.max(0, buffer.tail - buffer.bufferSize);
+        return position > limit && position < buffer.tail && position - buffer.readInt(position + SIZE_OF_INT) > limit;
+    }
+
+    /** @param position position of [SEQ] part of the record
+     *  @return sequence number of the message */
+    private int readMessage(long position, byte [] result) {
+        final int msgLen = buffer.readInt(position + SIZE_OF_INT);
+        buffer.readByteArray(position - msgLen, result, 0, Math.min(msgLen, result.length));
+        result[msgLen] = 0;
+        return buffer.readInt(position);
+    }
+
 
     /// Implementation
 
@@ -0,0 +1,421 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.store;
+
+import org.gflogger.GFLog;
+import org.gflogger.GFLogFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Persistent message store backed by memory mapped segment files. Content survives process restarts, which allows
+ * to fulfill RESEND requests that span several days. Use separate directory for each FIX session.
+ * <p>
+ * Each segment keeps messages from a range of sequence numbers together with direct seqNum-to-offset index:
+ * {@link #get(int, byte[])} is O(1) and iterator walks forward through segment data.
+ * New segment is started when current one runs out of data or index space. Store keeps at most <code>maxSegments</code>
+ * latest segments: older segment files are deleted.
+ * Storing a message with sequence number that is not greater than the last stored one (e.g. after restart with non-persistent session state)
+ * truncates the store: messages with the same or greater sequence numbers are discarded.
+ * <p>
+ * Thread safe.
+ *
+ * <pre>
+ * Segment file layout:
+ * Offset               |     Description
+ * ==============================================================
+ * 0                    |     MAGIC
+ * 4                    |     index size (max number of messages in segment)
+ * 8                    |     first seq num
+ * 12                   |     last seq num (first seq num - 1 when segment is empty)
+ * 16                   |     end of data (offset where next message will be stored)
+ * 20                   |     index: offset of message #(first seq num + i), or zero if there is no such message
+ * 20 + 4*index size    |     data: [LEN][Message] records
+ * </pre>
+ */
+public final class MemoryMappedMessageStore implements MessageStore, Closeable {
+
+    private static final GFLog LOGGER = GFLogFactory.getLog(MemoryMappedMessageStore.class);
+
+    private static final String SEGMENT_FILE_SUFFIX = ".seg";
+
+    private final File directory;
+    private final int indexSize;
+    private final int dataSize;
+    private final int maxSegments;
+
+    private final List<Segment> segments = new ArrayList<>(); // ordered by sequence numbers
+    private int lastSeqNum;
+
+    /**
+     * @param directory directory where segment files are kept (created if necessary). Existing segments are loaded.
+     * @param indexSize max number of messages in single segment
+     * @param dataSize max size of message data in single segment (in bytes)
+     * @param maxSegments number of segments to keep
+     */
+    public MemoryMappedMessageStore(File directory, int indexSize, int dataSize, int maxSegments) throws IOException {
+        if (indexSize < 1 || dataSize < 1 || maxSegments < 1)
+            throw new IllegalArgumentException("Store dimensions must be positive");
+
+        this.directory = directory;
+        this.indexSize = indexSize;
+        this.dataSize = dataSize;
+        this.maxSegments = maxSegments;
+
+        if ( ! directory.exists() && ! directory.mkdirs())
+            throw new IOException("Cannot create message store directory " + directory);
+        if ( ! directory.isDirectory())
+            throw new FileNotFoundException(directory + " is not directory");
+
+        load();
+    }
+
+    @Override
+    public synchronized void put(int seqNum, byte[] message, int offset, int length) {
+        if (seqNum <= lastSeqNum)
+            truncate(seqNum);
+
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || ! segment.canFit(seqNum, length))
+            segment = roll(seqNum, length);
+
+        segment.put(seqNum, message, offset, length);
+        lastSeqNum = seqNum;
+    }
+
+    @Override
+    public synchronized void clean() {
+        for (Segment segment : segments)
+            segment.delete();
+        segments.clear();
+        lastSeqNum = 0;
+    }
+
+    @Override
+    public synchronized int get(int seqNum, byte[] buffer) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            if (seqNum >= segment.firstSeqNum)
+                return segment.get(seqNum, buffer);
+        }
+        return -1; // not found
+    }
+
+    @Override
+    public MessageStoreIterator iterator(int fromSeqNum, int toSeqNum) {
+        return new MessageStoreIter(fromSeqNum, toSeqNum);
+    }
+
+    /** Flushes content of all segments to disk and unmaps them. Store should not be used after this call. */
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments)
+            segment.close();
+        segments.clear();
+    }
+
+    private class MessageStoreIter implements MessageStoreIterator {
+        private int nextSeqNum;
+        private final int toSeqNum;
+
+        private MessageStoreIter(int fromSeqNum, int toSeqNum) {
+            this.nextSeqNum = fromSeqNum;
+            this.toSeqNum = toSeqNum;
+        }
+
+        @Override
+        public int next(byte[] buffer) {
+            synchronized (MemoryMappedMessageStore.this) {
+                for (int i = 0; i < segments.size() && nextSeqNum <= toSeqNum; i++) {
+                    final Segment segment = segments.get(i);
+                    if (nextSeqNum > segment.lastSeqNum)
+                        continue;
+
+                    if (nextSeqNum < segment.firstSeqNum)
+                        nextSeqNum = segment.firstSeqNum; // gap or pruned messages
+
+                    final int last = Math.min(toSeqNum, segment.lastSeqNum);
+                    while (nextSeqNum <= last) {
+                        int seqNum = segment.get(nextSeqNum++, buffer);
+                        if (seqNum > 0)
+                            return seqNum;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+
+    /// Implementation
+
+    /** Discards messages that have given or greater sequence number */
+    private void truncate(int seqNum) {
+        LOGGER.warn().append("Message #").append(seqNum).append(" is not greater than last stored #").append(lastSeqNum).append(": discarding messages starting from #").append(seqNum).commit();
+
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            final Segment segment = segments.get(i);
+            if (segment.firstSeqNum < seqNum) {
+                segment.truncate(seqNum);
+                break;
+            }
+            segments.remove(i).delete();
+        }
+        lastSeqNum = seqNum - 1;
+    }
+
+    private Segment roll(int firstSeqNum, int length) {
+        if (Segment.RECORD_HEADER_SIZE + length > dataSize)
+            throw new IllegalArgumentException("Message #" + firstSeqNum + " exceeds segment data size: " + length);
+
+        final File file = new File(directory, String.format("%010d", firstSeqNum) + SEGMENT_FILE_SUFFIX);
+        final Segment result;
+        try {
+            result = Segment.create(file, indexSize, dataSize, firstSeqNum);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create message store segment " + file, e);
+        }
+        segments.add(result);
+
+        while (segments.size() > maxSegments)
+            segments.remove(0).delete();
+
+        return result;
+    }
+
+    private void load() throws IOException {
+        final File [] files = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(SEGMENT_FILE_SUFFIX);
+            }
+        });
+        if (files == null)
+            throw new IOException("Cannot list message store directory " + directory);
+
+        Arrays.sort(files); // names are zero-padded first sequence numbers
+        for (File file : files) {
+            final Segment segment = Segment.open(file);
+            if (segment == null) {
+                LOGGER.warn().append("Ignoring invalid message store segment ").append(file.getAbsolutePath()).commit();
+                continue;
+            }
+            if (segment.lastSeqNum < segment.firstSeqNum) {
+                segment.delete(); // empty
+                continue;
+            }
+            segments.add(segment);
+            lastSeqNum = segment.lastSeqNum;
+        }
+
+        while (segments.size() > maxSegments)
+            segments.remove(0).delete();
+    }
+
+    private static final class Segment {
+        private static final int MAGIC = 0xF1F5E600;
+        private static final int SIZE_OF_INT = 4;
+        static final int RECORD_HEADER_SIZE = SIZE_OF_INT;
+
+        private static final int MAGIC_OFFSET = 0;
+        private static final int INDEX_SIZE_OFFSET = 4;
+        private static final int FIRST_SEQ_NUM_OFFSET = 8;
+        private static final int LAST_SEQ_NUM_OFFSET = 12;
+        private static final int DATA_END_OFFSET = 16;
+        private static final int INDEX_OFFSET = 20;
+
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final int indexSize;
+        private final int firstSeqNum;
+        private int lastSeqNum;
+        private int dataEnd;
+
+        private Segment(File file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+            this.indexSize = buffer.getInt(INDEX_SIZE_OFFSET);
+            this.firstSeqNum = buffer.getInt(FIRST_SEQ_NUM_OFFSET);
+            this.lastSeqNum = buffer.getInt(LAST_SEQ_NUM_OFFSET);
+            this.dataEnd = buffer.getInt(DATA_END_OFFSET);
+        }
+
+        static Segment create(File file, int indexSize, int dataSize, int firstSeqNum) throws IOException {
+            final MappedByteBuffer buffer = map(file, INDEX_OFFSET + SIZE_OF_INT * indexSize + dataSize);
+            for (int i = 0; i < indexSize; i++)
+                buffer.putInt(INDEX_OFFSET + SIZE_OF_INT * i, 0); // file may be left from previous sequence
+
+            buffer.putInt(INDEX_SIZE_OFFSET, indexSize);
+            buffer.putInt(FIRST_SEQ_NUM_OFFSET, firstSeqNum);
+            buffer.putInt(LAST_SEQ_NUM_OFFSET, firstSeqNum - 1);
+            buffer.putInt(DATA_END_OFFSET, INDEX_OFFSET + SIZE_OF_INT * indexSize);
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            return new Segment(file, buffer);
+        }
+
+        /** @return null if given file does not contain valid segment */
+        static Segment open(File file) throws IOException {
+            final long fileSize = file.length();
+            if (fileSize < INDEX_OFFSET || fileSize > Integer.MAX_VALUE)
+                return null;
+
+            final MappedByteBuffer buffer = map(file, (int) fileSize);
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC)
+                return null;
+
+            final int indexSize = buffer.getInt(INDEX_SIZE_OFFSET);
+            final int dataEnd = buffer.getInt(DATA_END_OFFSET);
+            if (indexSize < 1 || dataEnd < INDEX_OFFSET + SIZE_OF_INT * indexSize || dataEnd > fileSize)
+                return null;
+
+            return new Segment(file, buffer);
+        }
+
+        boolean canFit(int seqNum, int length) {
+            return seqNum - firstSeqNum < indexSize && dataEnd + RECORD_HEADER_SIZE + length <= buffer.capacity();
+        }
+
+        void put(int seqNum, byte[] message, int offset, int length) {
+            assert canFit(seqNum, length);
+            final int recordOffset = dataEnd;
+
+            buffer.putInt(recordOffset, length);
+            buffer.position(recordOffset + RECORD_HEADER_SIZE);
+            buffer.put(message, offset, length);
+            buffer.putInt(INDEX_OFFSET + SIZE_OF_INT * (seqNum - firstSeqNum), recordOffset);
+
+            dataEnd = recordOffset + RECORD_HEADER_SIZE + length;
+            lastSeqNum = seqNum;
+
+            // header is updated last: message becomes visible after restart only when it is complete
+            buffer.putInt(DATA_END_OFFSET, dataEnd);
+            buffer.putInt(LAST_SEQ_NUM_OFFSET, seqNum);
+        }
+
+        /** Discards messages that have given or greater sequence number (must be greater than first seq num of this segment) */
+        void truncate(int seqNum) {
+            assert seqNum > firstSeqNum;
+            if (seqNum > lastSeqNum)
+                return;
+
+            final int oldLastSeqNum = lastSeqNum;
+            lastSeqNum = seqNum - 1;
+            buffer.putInt(LAST_SEQ_NUM_OFFSET, lastSeqNum); // header is updated first: truncated messages are not visible after restart
+
+            int newDataEnd = dataEnd;
+            for (int i = seqNum; i <= oldLastSeqNum; i++) {
+                final int indexOffset = INDEX_OFFSET + SIZE_OF_INT * (i - firstSeqNum);
+                final int recordOffset = buffer.getInt(indexOffset);
+                if (recordOffset != 0) {
+                    newDataEnd = Math.min(newDataEnd, recordOffset); // records are stored in sequence number order
+                    buffer.putInt(indexOffset, 0);
+                }
+            }
+            dataEnd = newDataEnd;
+            buffer.putInt(DATA_END_OFFSET, dataEnd);
+        }
+
+        int get(int seqNum, byte[] result) {
+            if (seqNum < firstSeqNum || seqNum > lastSeqNum)
+                return -1;
+
+            final int recordOffset = buffer.getInt(INDEX_OFFSET + SIZE_OF_INT * (seqNum - firstSeqNum));
+            if (recordOffset == 0)
+                return -1; // gap
+
+            final int length = buffer.getInt(recordOffset);
+            if (length > result.length)
+                throw new ArrayIndexOutOfBoundsException("Message #" + seqNum + " does not fit into buffer: " + length);
+
+            buffer.position(recordOffset + RECORD_HEADER_SIZE);
+            buffer.get(result, 0, length);
+            if (length < result.length)
+                result[length] = 0;
+            return seqNum;
+        }
+
+        void close() {
+            buffer.force();
+            unmap(buffer);
+        }
+
+        void delete() {
+            unmap(buffer); // some platforms do not allow to delete mapped files: such files are reused on next roll
+            if ( ! file.delete())
+                LOGGER.warn().append("Cannot delete message store segment ").append(file.getAbsolutePath()).commit();
+        }
+
+        private static MappedByteBuffer map(File file, int size) throws IOException {
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } finally {
+                if (channel != null)
+                    channel.close();
+            }
+        }
+    }
+
+    /// Unmapping
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        // JDK does not provide public API to unmap a buffer: use sun.misc.Unsafe.invokeCleaner() (Java 9+) via reflection when it is available
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        } catch (Exception e) {
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /** Releases mapped memory and file handle right away instead of waiting for GC. Buffer must not be accessed after this call. */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else { // Java 7 and 8
+                final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                final Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null)
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Exception e) {
+            LOGGER.warn().append("Cannot unmap message store segment (will be released by GC): ").append(e).commit();
+        }
+    }
+}
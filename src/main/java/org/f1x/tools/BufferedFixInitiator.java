@@ -14,89 +14,193 @@
 
 package org.f1x.tools;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.ExceptionHandler;
 import org.f1x.SessionIDBean;
 import org.f1x.api.FixInitiatorSettings;
 import org.f1x.api.FixVersion;
 import org.f1x.api.session.SessionID;
+import org.f1x.api.session.SessionStatus;
 import org.f1x.io.OutputChannel;
 import org.f1x.io.RingBufferStreamChannel;
 import org.f1x.io.disruptor.ByteRing;
 import org.f1x.io.disruptor.MessageProcessorPool;
-import org.f1x.io.disruptor.RingBufferBlockProcessor;
+import org.f1x.io.disruptor.WaitStrategies;
 import org.f1x.io.socket.RingBuffer2StreamProcessor;
 import org.f1x.v1.FixSessionInitiator;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 /**
  * Extension of FixInitiator that uses ring buffer for asynchronous send.
+ * <p>
+ * Ring buffer and its processor pool are created once and reused across reconnects.
+ * Each outbound message is persisted in message store by the time it is queued into the ring. When connection is lost
+ * ring contents that did not make it into socket are discarded before the next connection is attached: counter-party will detect
+ * sequence gap after next LOGON and request missing messages, which are re-sent from message store.
+ * Graceful LOGOUT waits for queued messages to reach the socket.
  */
 public class BufferedFixInitiator extends FixSessionInitiator {
+
+    /** Max time to wait for queued messages to reach the socket (or to be discarded when connection is lost) */
+    private static final long DRAIN_TIMEOUT = 1000;
+
     private final Executor executor;
     private final ByteRing ring;
-    private MessageProcessorPool processorPool;
+    private final MessageProcessorPool processorPool;
+    private final SocketOutputStream socketOutputStream = new SocketOutputStream();
+    private final RingBufferStreamChannel ringChannel;
 
     private final ExceptionHandler exceptionHandler = new ExceptionHandler () {
         @Override
         public void handleEventException(Throwable e, long l, Object o) {
-            disconnect("Error " + e.getMessage());
+            onSendError(e);
         }
 
         @Override
         public void handleOnStartException(Throwable e) {
-            disconnect("Error " + e.getMessage());
+            onSendError(e);
         }
 
         @Override
         public void handleOnShutdownException(Throwable e) {
-            disconnect("Error " + e.getMessage());
+            onSendError(e);
         }
     };
 
     public BufferedFixInitiator(String host, int port, FixVersion fixVersion, SessionID sessionID, int queueSize, FixInitiatorSettings settings) {
         super(host, port, fixVersion, sessionID, settings);
 
-        ring = new ByteRing (queueSize, new BlockingWaitStrategy()); //TODO: Use BusySpinWaitStrategy?
-        executor = Executors.newCachedThreadPool();
+        ring = new ByteRing (queueSize, WaitStrategies.create(settings.getWaitStrategy()));
+        executor = (settings.getThreadFactory() != null) ? Executors.newCachedThreadPool(settings.getThreadFactory()) : Executors.newCachedThreadPool();
+
+        //TODO: RingBufferBlockProcessor logger = BufferLogger.createLogger(new File("d:\\fixlog.bin"), 8192, exceptionHandler);
+
+        // batch mode: socket writer flushes all queued messages at once
+        processorPool = new MessageProcessorPool (ring, ring.newBarrier(), true, exceptionHandler, new RingBuffer2StreamProcessor(socketOutputStream, exceptionHandler)); //,logger
+        ring.addGatingSequences(processorPool.getWorkerSequences());
+        ringChannel = new RingBufferStreamChannel(ring, false);
+    }
+
+    @Override
+    protected void init() {
+        super.init();
+        processorPool.start(executor);
     }
 
+    @Override
+    protected void destroy() {
+        if ( ! processorPool.drainAndHalt(DRAIN_TIMEOUT))
+            LOGGER.warn().append(this).append("Timed out waiting for outbound queue to drain").commit();
+        super.destroy();
+    }
 
     @Override
     protected OutputChannel getOutputChannel(Socket socket) throws IOException {
-        if (processorPool != null)
-            throw new IllegalStateException("Previous processor pool still uses Ring Buffer");
+        // Ring may still contain messages queued for previous connection. They carry old MsgSeqNums and must not reach new socket:
+        // writer discards them while disconnected. Counter-party will request them after LOGON.
+        socketOutputStream.disconnect();
+        if ( ! processorPool.drain(DRAIN_TIMEOUT))
+            throw new IOException("Timed out discarding outbound messages of previous connection");
+
+        socketOutputStream.connect(socket.getOutputStream());
+        return ringChannel;
+    }
 
+    @Override
+    public void disconnect(CharSequence cause) {
+        if (getSessionStatus() == SessionStatus.InitiatedLogout) {
+            if ( ! processorPool.drain(DRAIN_TIMEOUT))
+                LOGGER.warn().append(this).append("Timed out waiting for outbound queue to drain").commit();
+        }
 
-        //ring.reset();
+        socketOutputStream.disconnect(); // anything still queued will be re-sent from message store on request
+        super.disconnect(cause);
+    }
 
-        //TODO: Not the best thing to create all that each time we reconnect?
-        RingBufferBlockProcessor socketSender = new RingBuffer2StreamProcessor(socket.getOutputStream(), exceptionHandler);
+    private void onSendError(Throwable e) {
+        final boolean currentConnection;
+        if (e instanceof ConnectionSendException) {
+            currentConnection = socketOutputStream.disconnect(((ConnectionSendException) e).generation); // ignore errors of previous connections
+            e = e.getCause();
+        } else {
+            currentConnection = socketOutputStream.disconnect();
+        }
 
-        //TODO: RingBufferBlockProcessor logger = BufferLogger.createLogger(new File("d:\\fixlog.bin"), 8192, exceptionHandler);
+        if (currentConnection)
+            super.disconnect("Error " + e.getMessage());
+    }
 
-        processorPool = new MessageProcessorPool (ring, ring.newBarrier(), exceptionHandler, socketSender); //,logger
+    /** Socket output stream of the current connection. Writes are discarded while disconnected. Accessed by ring processor thread. */
+    private static final class SocketOutputStream extends OutputStream {
+        private volatile Connection connection; // null while disconnected
+        private int generation; // guarded by this
 
-        ring.addGatingSequences(processorPool.getWorkerSequences());
-        processorPool.start(executor);
+        synchronized void connect(OutputStream os) {
+            connection = new Connection(os, ++generation);
+        }
+
+        /** @return false if stream was already disconnected */
+        synchronized boolean disconnect() {
+            boolean wasConnected = (connection != null);
+            connection = null;
+            return wasConnected;
+        }
+
+        /** @return false if connection of given generation is no longer current */
+        synchronized boolean disconnect(int generation) {
+            if (connection == null || connection.generation != generation)
+                return false;
+            connection = null;
+            return true;
+        }
 
-        return new RingBufferStreamChannel(ring);
+        @Override
+        public void write(int b) throws IOException {
+            final Connection connection = this.connection;
+            if (connection != null) {
+                try {
+                    connection.os.write(b);
+                } catch (IOException e) {
+                    throw new ConnectionSendException(connection.generation, e);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            final Connection connection = this.connection;
+            if (connection != null) {
+                try {
+                    connection.os.write(b, off, len);
+                } catch (IOException e) {
+                    throw new ConnectionSendException(connection.generation, e);
+                }
+            }
+        }
     }
 
-    @Override
-    public void disconnect(CharSequence cause) {
-        super.disconnect(cause);
+    private static final class Connection {
+        final OutputStream os;
+        final int generation;
 
-        if (processorPool != null) {
-            processorPool.halt(); //TODO: special mode in which we do processor.drainAndHalt() ?
-            processorPool = null;
+        Connection(OutputStream os, int generation) {
+            this.os = os;
+            this.generation = generation;
         }
+    }
 
-        //TODO: Handle data that is still in the buffer
+    /** Identifies connection that failed to send data */
+    private static final class ConnectionSendException extends IOException {
+        final int generation;
+
+        ConnectionSendException(int generation, IOException cause) {
+            super(cause);
+            this.generation = generation;
+        }
     }
 
     public static void main (String [] args) throws InterruptedException, IOException {
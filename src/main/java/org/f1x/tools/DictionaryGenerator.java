@@ -16,6 +16,7 @@ package org.f1x.tools;
 
 import org.f1x.api.message.types.ByteEnum;
 import org.f1x.api.message.types.IntEnum;
+import org.f1x.api.message.types.MsgTypeLookup;
 import org.f1x.api.message.types.StringEnum;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -30,12 +31,45 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
-
-/** Generates enum types from QuickFIX Dictionary. Arguments: C:\projects\toys\6pmfix\resources\quickfix\FIX44.xml C:\projects\toys\6pmfix\src */
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Generates enum types from QuickFIX Dictionary. Arguments: C:\projects\toys\6pmfix\resources\quickfix\FIX44.xml C:\projects\toys\6pmfix\src
+ * Optional list of message names that follows (e.g. NewOrderSingle ExecutionReport) generates flyweight decoders and encoders of these messages.
+ */
 public class DictionaryGenerator {
 
+    private static final String LICENSE_HEADER =
+        "/*\n" +
+        " * Licensed under the Apache License, Version 2.0 (the \"License\");\n" +
+        " * you may not use this file except in compliance with the License.\n" +
+        " * You may obtain a copy of the License at\n" +
+        " *\n" +
+        " * http://www.apache.org/licenses/LICENSE-2.0\n" +
+        " *\n" +
+        " * Unless required by applicable law or agreed to in writing, software\n" +
+        " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+        " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+        " * See the License for the specific language governing permissions and\n" +
+        " * limitations under the License.\n" +
+        " */\n\n";
+
+    private static final String FIELDS_PACKAGE = "org.f1x.api.message.fields";
+    private static final String CODEC_PACKAGE = "org.f1x.v1.codec";
+    private static final int MAX_INT_ENUM_SPAN = 1024; // see IntEnumLookup
+
     private final StringBuilder textBuffer = new StringBuilder (128);
     private final File outputDir;
+    private final Map<String, FieldDef> fields = new HashMap<>();
+    private final Map<String, Element> components = new HashMap<>();
+    private final Map<String, Element> messages = new HashMap<>();
 
     public DictionaryGenerator(String output) throws IOException {
         outputDir = new File (output);
@@ -43,14 +77,24 @@ public class DictionaryGenerator {
             throw new IOException("Destination directory doesn't exist: '"+ outputDir.getName() + '\'');
     }
 
-    private void process (File file) throws ParserConfigurationException, IOException, SAXException {
+    private void process (File file, String ... messageNames) throws ParserConfigurationException, IOException, SAXException {
         DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
         DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
         Document doc = dBuilder.parse(file);
 
-        Writer constantsFile = generateJavaSource("class", "org.f1x.api.message.fields", "FixTags");
+        Writer constantsFile = generateJavaSource("class", FIELDS_PACKAGE, "FixTags");
         process (doc, constantsFile);
         closeJavaSource(constantsFile);
+
+        if (messageNames.length > 0) {
+            Element root = doc.getDocumentElement();
+            String codecPackage = CODEC_PACKAGE + ".fix" + root.getAttribute("major") + root.getAttribute("minor");
+
+            collectNamedElements(doc, "components", "component", components);
+            collectNamedElements(doc, "messages", "message", messages);
+            for (String messageName : messageNames)
+                generateCodecs(messageName, codecPackage);
+        }
     }
 
     private void process(Document doc, Writer constantsFile) throws IOException {
@@ -76,6 +120,7 @@ public class DictionaryGenerator {
         int number = Integer.parseInt(fieldNode.getAttribute("number"));
 
         appendFieldDefinition (name, number, constantsFile);
+        fields.put(name, new FieldDef(fieldNode, getEnumCodeType(type, fieldNode.getElementsByTagName("value"))));
 
         switch (type) {
             case "CHAR": generateNumericEnum(name, fieldNode); break;
@@ -89,6 +134,33 @@ public class DictionaryGenerator {
 //            case "MULTIPLEVALUESTRING": break;
         }
 
+        if (name.equals("MsgType"))
+            generateMsgTypeCodes(fieldNode);
+    }
+
+    /** Generates int constants for MsgType(35) values packed by {@link MsgTypeLookup#getCode(CharSequence)}, suitable for switch statements */
+    private void generateMsgTypeCodes(Element fieldNode) throws IOException {
+        Writer codesWriter = generateJavaSource("class", FIELDS_PACKAGE, "MsgTypeCodes");
+        NodeList valueList = fieldNode.getElementsByTagName("value");
+        final int cnt = valueList.getLength();
+        for (int i = 0; i < cnt; i++) {
+            Element valueElem = (Element) valueList.item(i);
+            String enumValue = valueElem.getAttribute("enum");
+            if (MsgTypeLookup.getCode(enumValue) == MsgTypeLookup.UNDEFINED_CODE)
+                throw new IllegalArgumentException("MsgType value cannot be packed into int: \"" + enumValue + '"');
+
+            textBuffer.setLength(0);
+            textBuffer.append("\tpublic static final int ");
+            textBuffer.append(valueElem.getAttribute("description"));
+            textBuffer.append(" = ");
+            if (enumValue.length() == 1)
+                textBuffer.append('\'').append(enumValue).append('\'');
+            else
+                textBuffer.append("('").append(enumValue.charAt(0)).append("' << 8) | '").append(enumValue.charAt(1)).append('\'');
+            textBuffer.append(";\n");
+            codesWriter.write(textBuffer.toString());
+        }
+        closeJavaSource(codesWriter);
     }
 
     private void generateStringEnum(String name, Element fieldNode) throws IOException {
@@ -109,6 +181,20 @@ public class DictionaryGenerator {
         }
     }
 
+    /** @return type of enum code generated for given field ("byte", "int", "String"), or null if enum is not generated */
+    private static String getEnumCodeType(String type, NodeList fieldList) {
+        if (fieldList.getLength() > 0) {
+            switch (type) {
+                case "CHAR":
+                case "INT":
+                    return isAllValuesFitInByte(fieldList) ? "byte" : "int";
+                case "STRING":
+                    return "String";
+            }
+        }
+        return null;
+    }
+
     private static boolean isAllValuesFitInByte(NodeList fieldList) {
         final int cnt = fieldList.getLength();
         try {
@@ -240,19 +326,9 @@ public class DictionaryGenerator {
     }
 
     private Writer generateJavaSource (String typeName, String packageName, String simpleClassName, String implementsInterface) throws IOException {
-        File dir = new File (outputDir, packageName.replace('.', File.separatorChar));
-        if ( ! dir.exists())
-            if ( ! dir.mkdirs())
-                throw new IOException("Can't create destination directory \'" + dir.getAbsolutePath() + '\'');
-
-        File sourceFile = new File (dir, simpleClassName + ".java");
-        FileWriter writer = new FileWriter (sourceFile, false);
+        Writer writer = openJavaSource(packageName, simpleClassName);
         textBuffer.setLength(0);
 
-        textBuffer.append("package ");
-        textBuffer.append(packageName);
-        textBuffer.append(";\n\n");
-
         textBuffer.append("// Generated by ");
         textBuffer.append(this.getClass().getName());
         textBuffer.append(" from QuickFIX dictionary\n");
@@ -272,6 +348,26 @@ public class DictionaryGenerator {
         return writer;
     }
 
+    /** Creates source file and writes license header and package declaration */
+    private Writer openJavaSource (String packageName, String simpleClassName) throws IOException {
+        File dir = new File (outputDir, packageName.replace('.', File.separatorChar));
+        if ( ! dir.exists())
+            if ( ! dir.mkdirs())
+                throw new IOException("Can't create destination directory \'" + dir.getAbsolutePath() + '\'');
+
+        File sourceFile = new File (dir, simpleClassName + ".java");
+        FileWriter writer = new FileWriter (sourceFile, false);
+        textBuffer.setLength(0);
+
+        textBuffer.append(LICENSE_HEADER);
+        textBuffer.append("package ");
+        textBuffer.append(packageName);
+        textBuffer.append(";\n\n");
+
+        writer.write(textBuffer.toString());
+        return writer;
+    }
+
     private void closeJavaSource(Writer writer) throws IOException {
         textBuffer.setLength(0);
         textBuffer.append("\n}");
@@ -281,12 +377,447 @@ public class DictionaryGenerator {
     }
 
 
+    /// Flyweight codecs
+
+    private static final class FieldDef {
+        final String name;
+        final int number;
+        final String type;
+        final String enumCodeType; // null if field doesn't have enum
+        final Element element;
+
+        FieldDef(Element element, String enumCodeType) {
+            this.name = element.getAttribute("name");
+            this.number = Integer.parseInt(element.getAttribute("number"));
+            this.type = element.getAttribute("type");
+            this.enumCodeType = enumCodeType;
+            this.element = element;
+        }
+    }
+
+    private static final class GroupDef {
+        final FieldDef counter;
+        final List<Object> members = new ArrayList<>(); // FieldDef or GroupDef
+
+        GroupDef(FieldDef counter) {
+            this.counter = counter;
+        }
+    }
+
+    private static void collectNamedElements(Document doc, String sectionName, String elementName, Map<String, Element> result) {
+        NodeList sections = doc.getElementsByTagName(sectionName);
+        for (int i = 0; i < sections.getLength(); i++) {
+            NodeList children = sections.item(i).getChildNodes();
+            for (int j = 0; j < children.getLength(); j++) {
+                Node child = children.item(j);
+                if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals(elementName))
+                    result.put(((Element) child).getAttribute("name"), (Element) child);
+            }
+        }
+    }
+
+    /** Collects fields and groups of given message, component or group element. Components are inlined. */
+    private void collectMembers(Element container, List<Object> result, Set<Integer> seenTags) {
+        NodeList children = container.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() != Node.ELEMENT_NODE)
+                continue;
+
+            Element element = (Element) child;
+            String name = element.getAttribute("name");
+            switch (element.getNodeName()) {
+                case "field":
+                    FieldDef field = getField(name);
+                    if (seenTags.add(field.number))
+                        result.add(field);
+                    break;
+                case "group":
+                    GroupDef group = new GroupDef(getField(name));
+                    collectMembers(element, group.members, new HashSet<Integer>());
+                    if (group.members.isEmpty())
+                        throw new IllegalArgumentException("Empty repeating group " + name);
+                    if (seenTags.add(group.counter.number))
+                        result.add(group);
+                    break;
+                case "component":
+                    Element component = components.get(name);
+                    if (component == null)
+                        throw new IllegalArgumentException("Unknown component " + name);
+                    collectMembers(component, result, seenTags);
+                    break;
+                default:
+                    System.err.println("Unexpected element: " + element.getNodeName());
+            }
+        }
+    }
+
+    private FieldDef getField(String name) {
+        FieldDef field = fields.get(name);
+        if (field == null)
+            throw new IllegalArgumentException("Unknown field " + name);
+        return field;
+    }
+
+    private static String getDelimiterTag(GroupDef group) {
+        Object first = group.members.get(0);
+        return (first instanceof FieldDef) ? ((FieldDef) first).name : ((GroupDef) first).counter.name;
+    }
+
+    /** Collects all tags that may appear inside group entry, including tags of nested groups */
+    private static void collectMemberTags(GroupDef group, List<String> result) {
+        for (Object member : group.members) {
+            if (member instanceof FieldDef) {
+                result.add(((FieldDef) member).name);
+            } else {
+                GroupDef nested = (GroupDef) member;
+                result.add(nested.counter.name);
+                collectMemberTags(nested, result);
+            }
+        }
+    }
+
+    private void generateCodecs(String messageName, String codecPackage) throws IOException {
+        Element message = messages.get(messageName);
+        if (message == null)
+            throw new IllegalArgumentException("Unknown message " + messageName);
+
+        List<Object> members = new ArrayList<>();
+        collectMembers(message, members, new HashSet<Integer>());
+
+        String msgType = message.getAttribute("msgtype");
+        generateDecoder(codecPackage, messageName, msgType, members);
+        generateEncoder(codecPackage, messageName, msgType, members);
+    }
+
+    private void generateDecoder(String codecPackage, String messageName, String msgType, List<Object> members) throws IOException {
+        final String className = messageName + "Decoder";
+        final Set<String> imports = new TreeSet<>();
+        final Map<String, FieldDef> lookups = new TreeMap<>();
+        imports.add(FIELDS_PACKAGE + ".FixTags");
+        imports.add("org.f1x.v1.IndexedMessageParser");
+        imports.add(CODEC_PACKAGE + ".MessageDecoder");
+
+        StringBuilder body = new StringBuilder(4096);
+        body.append("\n\tpublic ").append(className).append(" wrap(IndexedMessageParser parser) {\n");
+        body.append("\t\twrapMessage(parser);\n");
+        body.append("\t\treturn this;\n");
+        body.append("\t}\n");
+        appendDecoderMembers(members, "\t", body, imports, lookups);
+
+        Writer writer = openJavaSource(codecPackage, className);
+        StringBuilder text = new StringBuilder(body.length() + 4096);
+        appendImports(imports, text);
+        appendClassDeclaration(className, "MessageDecoder", "decoder", messageName, msgType, text);
+        for (FieldDef field : lookups.values()) {
+            String lookupClass = field.enumCodeType.equals("byte") ? "ByteEnumLookup" : "IntEnumLookup";
+            text.append("\tprivate static final ").append(lookupClass).append('<').append(field.name).append("> ");
+            text.append(toConstantName(field.name)).append(" = new ").append(lookupClass).append("<>(").append(field.name).append(".class);\n");
+        }
+        text.append(body);
+        text.append("}\n");
+        writer.write(text.toString());
+        writer.close();
+    }
+
+    private void appendDecoderMembers(List<Object> members, String indent, StringBuilder out, Set<String> imports, Map<String, FieldDef> lookups) {
+        StringBuilder nestedClasses = new StringBuilder();
+        for (Object member : members) {
+            if (member instanceof FieldDef) {
+                appendDecoderField((FieldDef) member, indent, out, imports, lookups);
+                continue;
+            }
+
+            GroupDef group = (GroupDef) member;
+            String groupClass = group.counter.name + "Decoder";
+            String groupField = toFieldName(group.counter.name);
+            imports.add("org.f1x.api.message.RepeatingGroup");
+            imports.add(CODEC_PACKAGE + ".FlyweightDecoder");
+            imports.add(CODEC_PACKAGE + ".GroupDecoder");
+
+            out.append('\n').append(indent).append("private final ").append(groupClass).append(' ').append(groupField).append(" = new ").append(groupClass).append("();\n");
+            out.append(indent).append("/** @return decoder of ").append(group.counter.name).append('(').append(group.counter.number).append(") repeating group positioned before the first entry */\n");
+            out.append(indent).append("public ").append(groupClass).append(" get").append(group.counter.name).append("() { return ").append(groupField).append(".wrap(this); }\n");
+
+            nestedClasses.append('\n').append(indent).append("public static final class ").append(groupClass).append(" extends GroupDecoder {\n");
+            appendRepeatingGroupConstant(group, indent + '\t', nestedClasses);
+            nestedClasses.append('\n').append(indent).append('\t').append(groupClass).append("() {\n");
+            nestedClasses.append(indent).append("\t\tsuper(GROUP);\n");
+            nestedClasses.append(indent).append("\t}\n");
+            nestedClasses.append('\n').append(indent).append('\t').append(groupClass).append(" wrap(FlyweightDecoder parent) {\n");
+            nestedClasses.append(indent).append("\t\twrapGroup(parent);\n");
+            nestedClasses.append(indent).append("\t\treturn this;\n");
+            nestedClasses.append(indent).append("\t}\n");
+            appendDecoderMembers(group.members, indent + '\t', nestedClasses, imports, lookups);
+            nestedClasses.append(indent).append("}\n");
+        }
+        out.append(nestedClasses);
+    }
+
+    private static void appendRepeatingGroupConstant(GroupDef group, String indent, StringBuilder out) {
+        List<String> memberTags = new ArrayList<>();
+        collectMemberTags(group, memberTags);
+        String delimiterTag = getDelimiterTag(group);
+        memberTags.remove(delimiterTag);
+
+        out.append(indent).append("private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.").append(group.counter.name);
+        out.append(", FixTags.").append(delimiterTag);
+        for (String tag : memberTags)
+            out.append(", FixTags.").append(tag);
+        out.append(");\n");
+    }
+
+    private static void appendDecoderField(FieldDef field, String indent, StringBuilder out, Set<String> imports, Map<String, FieldDef> lookups) {
+        final String tag = "FixTags." + field.name;
+        out.append('\n').append(indent).append("public boolean has").append(field.name).append("() { return has(").append(tag).append("); }\n");
+
+        if (hasEnumLookup(field)) {
+            imports.add(FIELDS_PACKAGE + '.' + field.name);
+            boolean isByteEnum = field.enumCodeType.equals("byte");
+            imports.add("org.f1x.api.message.types." + (isByteEnum ? "ByteEnumLookup" : "IntEnumLookup"));
+            lookups.put(field.name, field);
+            appendGetter(indent, field.name, field.name, toConstantName(field.name) + ".get(" + (isByteEnum ? "getByte(" : "getInt(") + tag + "))", out);
+            return;
+        }
+
+        switch (field.type) {
+            case "CHAR":
+                appendGetter(indent, "byte", field.name, "getByte(" + tag + ')', out);
+                break;
+            case "INT":
+            case "LENGTH":
+            case "SEQNUM":
+            case "NUMINGROUP":
+                appendGetter(indent, "int", field.name, "getInt(" + tag + ')', out);
+                break;
+            case "BOOLEAN":
+                appendGetter(indent, "boolean", field.name, "getBoolean(" + tag + ')', out);
+                break;
+            case "FLOAT":
+            case "QTY":
+            case "PRICE":
+            case "PRICEOFFSET":
+            case "AMT":
+            case "PERCENTAGE":
+                imports.add("org.f1x.util.Decimal");
+                appendGetter(indent, "double", field.name, "getDouble(" + tag + ')', out);
+                out.append(indent).append("public void get").append(field.name).append("(Decimal value) { getDecimal(").append(tag).append(", value); }\n");
+                break;
+            case "UTCTIMESTAMP":
+                appendGetter(indent, "long", field.name, "getUTCTimestamp(" + tag + ')', out);
+                break;
+            case "UTCTIMEONLY":
+                appendGetter(indent, "int", field.name, "getUTCTimeOnly(" + tag + ')', out);
+                break;
+            case "UTCDATEONLY":
+                appendGetter(indent, "long", field.name, "getUTCDateOnly(" + tag + ')', out);
+                break;
+            case "LOCALMKTDATE":
+                appendGetter(indent, "long", field.name, "getLocalMktDate(" + tag + ')', out);
+                break;
+            case "DATA":
+                imports.add("org.f1x.util.ByteArrayReference");
+                out.append(indent).append("public void get").append(field.name).append("(ByteArrayReference value) { getByteSequence(").append(tag).append(", value); }\n");
+                break;
+            default:
+                appendGetter(indent, "CharSequence", field.name, "getCharSequence(" + tag + ')', out);
+        }
+    }
+
+    private static void appendGetter(String indent, String returnType, String name, String expression, StringBuilder out) {
+        out.append(indent).append("public ").append(returnType).append(" get").append(name).append("() { return ").append(expression).append("; }\n");
+    }
+
+    /** @return true if decoder translates field value into enum constant (ByteEnumLookup/IntEnumLookup) */
+    private static boolean hasEnumLookup(FieldDef field) {
+        if (field.enumCodeType == null || field.enumCodeType.equals("String"))
+            return false;
+        if (field.enumCodeType.equals("byte"))
+            return true;
+
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (Object value : getEnumValues(field)) {
+            int code = (Integer) value;
+            min = Math.min(min, code);
+            max = Math.max(max, code);
+        }
+        return max - min <= MAX_INT_ENUM_SPAN;
+    }
+
+    private void generateEncoder(String codecPackage, String messageName, String msgType, List<Object> members) throws IOException {
+        final String className = messageName + "Encoder";
+        final Set<String> imports = new TreeSet<>();
+        imports.add(FIELDS_PACKAGE + ".FixTags");
+        imports.add("org.f1x.api.message.MessageBuilder");
+        imports.add(CODEC_PACKAGE + ".FlyweightEncoder");
+
+        StringBuilder body = new StringBuilder(4096);
+        body.append("\n\t/** Clears given builder and starts new ").append(messageName).append(" message */\n");
+        body.append("\tpublic ").append(className).append(" wrap(MessageBuilder builder) {\n");
+        body.append("\t\tbuilder.clear();\n");
+        String msgTypeConstant = getMsgTypeConstant(msgType);
+        if (msgTypeConstant != null) {
+            imports.add(FIELDS_PACKAGE + ".MsgType");
+            body.append("\t\tbuilder.setMessageType(MsgType.").append(msgTypeConstant).append(");\n");
+        } else {
+            body.append("\t\tbuilder.setMessageType(\"").append(msgType).append("\");\n");
+        }
+        body.append("\t\tthis.builder = builder;\n");
+        body.append("\t\treturn this;\n");
+        body.append("\t}\n");
+        appendEncoderMembers(className, members, "\t", body, imports);
+
+        Writer writer = openJavaSource(codecPackage, className);
+        StringBuilder text = new StringBuilder(body.length() + 1024);
+        appendImports(imports, text);
+        appendClassDeclaration(className, "FlyweightEncoder", "encoder", messageName, msgType, text);
+        text.append(body);
+        text.append("}\n");
+        writer.write(text.toString());
+        writer.close();
+    }
+
+    private void appendEncoderMembers(String className, List<Object> members, String indent, StringBuilder out, Set<String> imports) {
+        StringBuilder nestedClasses = new StringBuilder();
+        for (Object member : members) {
+            if (member instanceof FieldDef) {
+                appendEncoderField(className, (FieldDef) member, indent, out, imports);
+                continue;
+            }
+
+            GroupDef group = (GroupDef) member;
+            String groupClass = group.counter.name + "Encoder";
+            String groupField = toFieldName(group.counter.name);
+
+            out.append('\n').append(indent).append("private final ").append(groupClass).append(' ').append(groupField).append(" = new ").append(groupClass).append("();\n");
+            out.append(indent).append("/** Appends ").append(group.counter.name).append('(').append(group.counter.number).append(") group counter. Each group entry must start with ").append(getDelimiterTag(group)).append(". */\n");
+            out.append(indent).append("public ").append(groupClass).append(" set").append(group.counter.name).append("(int count) { builder.add(FixTags.").append(group.counter.name).append(", count); return ").append(groupField).append(".wrap(builder); }\n");
+
+            nestedClasses.append('\n').append(indent).append("public static final class ").append(groupClass).append(" extends FlyweightEncoder {\n");
+            nestedClasses.append('\n').append(indent).append('\t').append(groupClass).append(" wrap(MessageBuilder builder) {\n");
+            nestedClasses.append(indent).append("\t\tthis.builder = builder;\n");
+            nestedClasses.append(indent).append("\t\treturn this;\n");
+            nestedClasses.append(indent).append("\t}\n");
+            appendEncoderMembers(groupClass, group.members, indent + '\t', nestedClasses, imports);
+            nestedClasses.append(indent).append("}\n");
+        }
+        out.append(nestedClasses);
+    }
+
+    private static void appendEncoderField(String className, FieldDef field, String indent, StringBuilder out, Set<String> imports) {
+        final String tag = "FixTags." + field.name;
+        out.append('\n');
+        if (field.enumCodeType != null) {
+            imports.add(FIELDS_PACKAGE + '.' + field.name);
+            appendSetter(className, indent, field.name, field.name + " value", "add(" + tag + ", value)", out);
+        }
+
+        switch (field.type) {
+            case "CHAR":
+                appendSetter(className, indent, field.name, "byte value", "add(" + tag + ", value)", out);
+                break;
+            case "INT":
+            case "LENGTH":
+            case "SEQNUM":
+            case "NUMINGROUP":
+                appendSetter(className, indent, field.name, "int value", "add(" + tag + ", value)", out);
+                break;
+            case "BOOLEAN":
+                appendSetter(className, indent, field.name, "boolean value", "add(" + tag + ", value)", out);
+                break;
+            case "FLOAT":
+            case "QTY":
+            case "PRICE":
+            case "PRICEOFFSET":
+            case "AMT":
+            case "PERCENTAGE":
+                appendSetter(className, indent, field.name, "double value", "add(" + tag + ", value)", out);
+                appendSetter(className, indent, field.name, "long mantissa, int scale", "addDecimal(" + tag + ", mantissa, scale)", out);
+                break;
+            case "UTCTIMESTAMP":
+                appendSetter(className, indent, field.name, "long timestamp", "addUTCTimestamp(" + tag + ", timestamp)", out);
+                break;
+            case "UTCTIMEONLY":
+                appendSetter(className, indent, field.name, "long timestamp", "addUTCTimeOnly(" + tag + ", timestamp)", out);
+                break;
+            case "UTCDATEONLY":
+                appendSetter(className, indent, field.name, "long timestamp", "addUTCDateOnly(" + tag + ", timestamp)", out);
+                break;
+            case "LOCALMKTDATE":
+                appendSetter(className, indent, field.name, "long timestamp", "addLocalMktDate(" + tag + ", timestamp)", out);
+                break;
+            case "DATA":
+                appendSetter(className, indent, field.name, "byte[] buffer, int offset, int length", "addRaw(" + tag + ", buffer, offset, length)", out);
+                break;
+            default:
+                appendSetter(className, indent, field.name, "CharSequence value", "add(" + tag + ", value)", out);
+        }
+    }
+
+    private static void appendSetter(String className, String indent, String name, String parameters, String call, StringBuilder out) {
+        out.append(indent).append("public ").append(className).append(" set").append(name).append('(').append(parameters).append(") { builder.").append(call).append("; return this; }\n");
+    }
+
+    private static void appendImports(Set<String> imports, StringBuilder out) {
+        for (String className : imports)
+            out.append("import ").append(className).append(";\n");
+        out.append('\n');
+    }
+
+    private void appendClassDeclaration(String className, String baseClass, String kind, String messageName, String msgType, StringBuilder out) {
+        out.append("// Generated by ").append(getClass().getName()).append(" from QuickFIX dictionary\n");
+        out.append("/** Flyweight ").append(kind).append(" of ").append(messageName).append('(').append(msgType).append(") message */\n");
+        out.append("public final class ").append(className).append(" extends ").append(baseClass).append(" {\n");
+    }
+
+    /** @return name of MsgType enum constant for given message type code */
+    private String getMsgTypeConstant(String msgType) {
+        NodeList values = getField("MsgType").element.getElementsByTagName("value");
+        for (int i = 0; i < values.getLength(); i++) {
+            Element value = (Element) values.item(i);
+            if (value.getAttribute("enum").equals(msgType))
+                return value.getAttribute("description");
+        }
+        return null;
+    }
+
+    private static List<Object> getEnumValues(FieldDef field) {
+        NodeList values = field.element.getElementsByTagName("value");
+        List<Object> result = new ArrayList<>(values.getLength());
+        for (int i = 0; i < values.getLength(); i++)
+            result.add(Integer.valueOf(((Element) values.item(i)).getAttribute("enum")));
+        return result;
+    }
+
+    /** OrdType -> ORD_TYPE */
+    private static String toConstantName(String name) {
+        StringBuilder result = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(ch)) {
+                char prev = name.charAt(i - 1);
+                boolean nextIsLower = i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1));
+                if ( ! Character.isUpperCase(prev) || nextIsLower)
+                    result.append('_');
+            }
+            result.append(Character.toUpperCase(ch));
+        }
+        return result.toString();
+    }
+
+    /** NoPartyIDs -> noPartyIDs */
+    private static String toFieldName(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
     public static void main (String [] args) throws Exception {
-        // syntax: dictionary.xml output-dir
+        // syntax: dictionary.xml output-dir [message-name ...]
         String dictionary = args[0];
         String outputDir = args[1];
+        String [] messageNames = new String [args.length - 2];
+        System.arraycopy(args, 2, messageNames, 0, messageNames.length);
 
         DictionaryGenerator gen = new DictionaryGenerator(outputDir);
-        gen.process(new File (dictionary));
+        gen.process(new File (dictionary), messageNames);
     }
 }
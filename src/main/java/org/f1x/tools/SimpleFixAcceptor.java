@@ -18,7 +18,6 @@ import org.f1x.api.FixAcceptorSettings;
 import org.f1x.api.FixVersion;
 import org.f1x.api.message.MessageBuilder;
 import org.f1x.api.message.MessageParser;
-import org.f1x.api.message.Tools;
 import org.f1x.api.message.fields.*;
 import org.f1x.api.message.types.ByteEnumLookup;
 import org.f1x.api.session.SessionID;
@@ -69,15 +68,18 @@ public class SimpleFixAcceptor extends SingleSessionAcceptor {
         }
 
         @Override
-        protected void processInboundAppMessage(CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
-            if (Tools.equals(MsgType.ORDER_SINGLE, msgType)) {
-                try {
-                    processInboundOrderSingle(parser);
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            } else
-                super.processInboundAppMessage(msgType, msgSeqNum, possDup, parser);
+        protected void processInboundAppMessage(int msgTypeCode, CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
+            switch (msgTypeCode) {
+                case MsgTypeCodes.ORDER_SINGLE:
+                    try {
+                        processInboundOrderSingle(parser);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                    break;
+                default:
+                    super.processInboundAppMessage(msgTypeCode, msgType, msgSeqNum, possDup, parser);
+            }
         }
 
         private void scheduleStats(final int intervalInMillis) {
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util;
+
+import org.f1x.util.format.DecimalFormatter;
+
+/**
+ * Mutable fixed-point decimal number: <code>mantissa * 10^-scale</code> (for example, 1.2345 is represented as mantissa=12345 and scale=4).
+ * Allows to read and write FIX prices and quantities exactly, without floating point conversions. Instances are meant to be reused (Flyweight pattern).
+ */
+public final class Decimal {
+
+    private static final long [] POWERS_OF_TEN = new long [19];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = 10 * POWERS_OF_TEN[i - 1];
+    }
+
+    /** Maximum number of digits after decimal point */
+    public static final int MAX_SCALE = POWERS_OF_TEN.length - 1;
+
+    private long mantissa;
+    private int scale;
+
+    public Decimal() {
+    }
+
+    public Decimal(long mantissa, int scale) {
+        set(mantissa, scale);
+    }
+
+    public void set(long mantissa, int scale) {
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("scale(" + scale + ") is out of [0, " + MAX_SCALE + "] range");
+        this.mantissa = mantissa;
+        this.scale = scale;
+    }
+
+    public long getMantissa() {
+        return mantissa;
+    }
+
+    /** @return number of digits after decimal point */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return mantissa of this number expressed with given scale (for example, 1.25 with scale 4 is 12500)
+     * @throws ArithmeticException if number cannot be expressed with given scale exactly
+     */
+    public long getScaledMantissa(int targetScale) {
+        if (targetScale < 0 || targetScale > MAX_SCALE)
+            throw new IllegalArgumentException("scale(" + targetScale + ") is out of [0, " + MAX_SCALE + "] range");
+
+        if (targetScale >= scale) {
+            final long multiplier = POWERS_OF_TEN[targetScale - scale];
+            final long result = mantissa * multiplier;
+            if (result / multiplier != mantissa)
+                throw new ArithmeticException("Overflow");
+            return result;
+        } else {
+            final long divisor = POWERS_OF_TEN[scale - targetScale];
+            if (mantissa % divisor != 0)
+                throw new ArithmeticException("Precision loss");
+            return mantissa / divisor;
+        }
+    }
+
+    /** @return closest double value (may be inexact) */
+    public double toDouble() {
+        return ((double) mantissa) / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public String toString() {
+        byte [] buffer = new byte [DecimalFormatter.MAX_LENGTH];
+        return new String(buffer, 0, DecimalFormatter.format(mantissa, scale, buffer, 0));
+    }
+
+}
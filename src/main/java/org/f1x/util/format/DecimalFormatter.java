@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.format;
+
+/**
+ * Formats fixed-point decimal numbers (<code>mantissa * 10^-scale</code>) exactly. Output always has <code>scale</code> digits after decimal point,
+ * for example mantissa=150 and scale=2 is formatted as "1.50".
+ */
+public final class DecimalFormatter {
+
+    /** Maximum length of formatted value: sign, 19 digits, leading zero and decimal point */
+    public static final int MAX_LENGTH = 22;
+
+    private DecimalFormatter() {}
+
+    /**
+     * @param scale number of digits after decimal point [0..18]
+     * @return offset of the first byte after formatted value
+     */
+    public static int format(long mantissa, int scale, byte [] buffer, int offset) {
+        if (scale == 0)
+            return LongFormatter.format(mantissa, buffer, offset);
+
+        if (scale < 0 || scale > 18)
+            throw new IllegalArgumentException("scale");
+
+        // work with non-positive number to support Long.MIN_VALUE
+        long value = mantissa;
+        if (value < 0)
+            buffer[offset++] = '-';
+        else
+            value = -value;
+
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10)
+            digits++;
+
+        final int end = offset + Math.max(digits, scale + 1) + 1;
+        int pos = end;
+        for (int i = 0; i < scale; i++) {
+            buffer[--pos] = (byte) ('0' - (value % 10));
+            value /= 10;
+        }
+        buffer[--pos] = '.';
+        do {
+            buffer[--pos] = (byte) ('0' - (value % 10));
+            value /= 10;
+        } while (pos > offset);
+
+        return end;
+    }
+
+}
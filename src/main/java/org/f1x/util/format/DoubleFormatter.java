@@ -26,6 +26,8 @@ public final class DoubleFormatter {
 
     public static final int MAX_WIDTH = 21;
     public static final int MAX_PRECISION = 15;
+    /** Special precision value: default format uses the shortest representation that reads back to the same double (see {@link ShortestDoubleFormatter}). Max length is not applied in this mode. */
+    public static final int SHORTEST = -1;
     private static final long MAX = Long.MAX_VALUE / 10;
 
     private final byte [] buffer = new byte [MAX_WIDTH];
@@ -39,11 +41,11 @@ public final class DoubleFormatter {
     }
 
     /**
-     * @param precision maximum number of digits after decimal point (e.g. 3). Truncated part will be rounded.
+     * @param precision maximum number of digits after decimal point (e.g. 3) or {@link #SHORTEST}. Truncated part will be rounded.
      * @param maxLength maximum length a whole string should take (e.g. 16).
      */
     public DoubleFormatter (int precision, int maxLength) {
-        if (precision < 0 || precision > MAX_PRECISION)
+        if (precision != SHORTEST && (precision < 0 || precision > MAX_PRECISION))
             throw new IllegalArgumentException("Precision");
         if (maxLength < 0 || maxLength > MAX_WIDTH)
             throw new IllegalArgumentException("Length");
@@ -52,8 +54,15 @@ public final class DoubleFormatter {
         this.factor = Math.round(Math.pow(10, precision+1));
     }
 
+    /** @return default precision (number of digits after decimal point, or {@link #SHORTEST}) */
+    public int getPrecision() {
+        return precision;
+    }
+
     /** Formats given number into output byte buffer */
     public int format (double number, byte [] output, int offset) {
+        if (precision == SHORTEST)
+            return ShortestDoubleFormatter.format(number, output, offset);
         return format(number, precision, true, maxLength, factor, output, offset);
     }
 
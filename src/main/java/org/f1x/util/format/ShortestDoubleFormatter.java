@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.format;
+
+import java.math.BigInteger;
+
+/**
+ * Formats double using the shortest decimal representation that reads back to the same double (for example, 0.1 is formatted as "0.1", not "0.1000000000000000055").
+ * Among shortest representations the one closest to the exact binary value is chosen.
+ * <p>
+ * Implementation of "Schubfach" algorithm by Raffaello Giulietti ("The Schubfach way to render doubles", 2020). Does not allocate memory.
+ * FIX does not allow exponent notation, so result is always written in plain notation (very small or very large numbers may take up to {@link #MAX_LENGTH} bytes).
+ */
+public final class ShortestDoubleFormatter {
+
+    /** Maximum length of formatted value ("-0.", 323 zeros and a digit for -Double.MIN_VALUE) */
+    public static final int MAX_LENGTH = 327;
+
+    private static final int P = 53;                    // precision of double
+    private static final int Q_MIN = -1074;             // minimum binary exponent
+    private static final long C_MIN = 1L << (P - 1);    // minimum normal significand
+    private static final int C_TINY = 3;                // subnormal significands below this value need one more digit of precision
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final long T_MASK = (1L << (P - 1)) - 1;
+
+    /** 126-bit approximations of powers of ten: g1(k) * 2^63 + g0(k) = floor(10^-k * 2^(125 - flog2pow10(-k))) + 1 */
+    private static final long [] G = new long [2 * (K_MAX - K_MIN + 1)];
+    static {
+        final BigInteger mask63 = BigInteger.valueOf(MASK_63);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            final int e = -k;
+            final int r = 125 - flog2pow10(e);
+            BigInteger g;
+            if (e >= 0) {
+                g = BigInteger.TEN.pow(e);
+                g = (r >= 0) ? g.shiftLeft(r) : g.shiftRight(-r);
+            } else {
+                g = BigInteger.ONE.shiftLeft(r).divide(BigInteger.TEN.pow(-e));
+            }
+            g = g.add(BigInteger.ONE);
+            final int index = 2 * (k - K_MIN);
+            G[index] = g.shiftRight(63).longValue();
+            G[index + 1] = g.and(mask63).longValue();
+        }
+    }
+
+    private ShortestDoubleFormatter() {}
+
+    /**
+     * @return offset of the first byte after formatted number
+     * @throws IllegalArgumentException if number is NaN or infinite
+     */
+    public static int format(double number, byte [] buffer, int offset) {
+        final long bits = Double.doubleToRawLongBits(number);
+        final long t = bits & T_MASK;
+        final int bq = (int) (bits >>> (P - 1)) & 0x7FF;
+        if (bq == 0x7FF)
+            throw new IllegalArgumentException("Not a finite number: " + number);
+
+        if (bq == 0 && t == 0) {
+            buffer[offset++] = '0'; // positive or negative zero
+            return offset;
+        }
+
+        if (bits < 0)
+            buffer[offset++] = '-';
+
+        if (bq != 0) {
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            if (0 < mq && mq < P) { // fast path for integers
+                final long f = c >> mq;
+                if (f << mq == c)
+                    return LongFormatter.format(f, buffer, offset);
+            }
+            return format(-mq, c, 0, buffer, offset);
+        }
+        // subnormal
+        return (t < C_TINY) ? format(Q_MIN, 10 * t, -1, buffer, offset) : format(Q_MIN, t, 0, buffer, offset);
+    }
+
+    /** Finds shortest decimal f * 10^e within rounding interval of c * 2^q and formats it */
+    private static int format(int q, long c, int dk, byte [] buffer, int offset) {
+        final int out = (int) c & 1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else { // interval is asymmetric at the power of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+
+        final int index = 2 * (k - K_MIN);
+        final long g1 = G[index];
+        final long g0 = G[index + 1];
+
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 10) { // unlike Double.toString() one digit results are allowed (original algorithm requires s >= 100)
+            // try one digit less: s' * 10 and (s' + 1) * 10
+            final long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin)
+                return formatPlain(upin ? sp10 : tp10, k + dk, buffer, offset);
+        }
+
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win)
+            return formatPlain(uin ? s : t, k + dk, buffer, offset);
+
+        // both s and t are in the interval: pick the closest one (even one if tie)
+        final long cmp = vb - ((s + t) << 1);
+        return formatPlain((cmp < 0 || cmp == 0 && (s & 1) == 0) ? s : t, k + dk, buffer, offset);
+    }
+
+    /** Writes f * 10^e without exponent */
+    private static int formatPlain(long f, int e, byte [] buffer, int offset) {
+        while (f % 10 == 0) { // f is never zero here
+            f /= 10;
+            e++;
+        }
+
+        if (e >= 0) {
+            offset = LongFormatter.format(f, buffer, offset);
+            for (int i = 0; i < e; i++)
+                buffer[offset++] = '0';
+            return offset;
+        }
+
+        int digits = 1;
+        for (long v = f / 10; v != 0; v /= 10)
+            digits++;
+
+        final int fractionDigits = -e;
+        final int integerDigits = digits - fractionDigits;
+        final int end;
+        if (integerDigits > 0) {
+            end = offset + digits + 1;
+        } else {
+            buffer[offset++] = '0';
+            buffer[offset++] = '.';
+            for (int i = integerDigits; i < 0; i++)
+                buffer[offset++] = '0';
+            end = offset + digits;
+        }
+
+        int pos = end;
+        for (int i = 0; i < digits; i++) {
+            if (i == fractionDigits)
+                buffer[--pos] = '.';
+            buffer[--pos] = IntFormatter.Digits[(int) (f % 10)];
+            f /= 10;
+        }
+        return end;
+    }
+
+    /** Rounds to odd: computes g * cp / 2^127 where g = g1 * 2^63 + g0 */
+    private static long rop(long g1, long g0, long cp) {
+        final long x1 = multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /** @return high 64 bits of 128-bit product (same as Math.multiplyHigh() available since Java 9) */
+    private static long multiplyHigh(long x, long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /** @return floor(log10(2^e)) */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661971961083L >> 41);
+    }
+
+    /** @return floor(log10(3/4 * 2^e)) */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661971961083L + -274743187321L >> 41);
+    }
+
+    /** @return floor(log2(10^e)) */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913124641741L >> 38);
+    }
+
+}
@@ -14,22 +14,36 @@
 
 package org.f1x.util.format;
 
-import java.util.Calendar;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Formats timestamp using UTCTimestamp (yyyyMMdd-HH:mm:ss.SSS) and UTCDateOnly (yyyyMMdd) formats.
- * For example, "19981231-23:59:59.999" and "19981231".
+ * For example, "19981231-23:59:59.999" and "19981231". FIX 5.0 microsecond and nanosecond precision (yyyyMMdd-HH:mm:ss.SSSSSS[SSS]) is also supported.
+ * <p>
+ * Formatter does not use Calendar: date is computed arithmetically and "yyyyMMdd-HH:mm:ss" prefix is cached until the end of current second
+ * (date part is recomputed once per day). Formatting of a timestamp that falls into the cached second is just a few digit writes.
  * NOTE: This class is NOT thread safe.
  */
 public class TimestampFormatter {
     public static final String DATE_TIME_FORMAT = "yyyyMMdd-HH:mm:ss.SSS";
     public static final String DATE_ONLY_FORMAT = "yyyyMMdd";
     public static final int DATE_TIME_LENGTH = 21;
+    public static final int DATE_TIME_MICROS_LENGTH = 24;
+    public static final int DATE_TIME_NANOS_LENGTH = 27;
     public static final int DATE_ONLY_LENGTH = 8;
-    private static final  long SECONDS_IN_DAY = TimeUnit.DAYS.toSeconds(1);
-    private final Calendar calendar;
+    private static final long MILLIS_IN_DAY = TimeUnit.DAYS.toMillis(1);
+    private static final int PREFIX_LENGTH = 17; // "yyyyMMdd-HH:mm:ss"
+
+    private final TimeZone timeZone;
+    private final byte [] prefix = new byte [PREFIX_LENGTH];
+
+    // [dayStart, dayEnd) is the range of timestamps that have the same date as cached in prefix (empty when time zone offset changes during the day)
+    private long dayStart = 1;
+    private long dayEnd = 0;
+    // [secondStart, secondEnd) is the range of timestamps that have the same prefix
+    private long secondStart = 1;
+    private long secondEnd = 0;
 
     public static TimestampFormatter createUTCTimestampFormatter() {
         return new TimestampFormatter(TimeZone.getTimeZone("UTC"));
@@ -40,50 +54,120 @@ public class TimestampFormatter {
     }
 
     private TimestampFormatter(TimeZone tz) {
-        calendar = Calendar.getInstance(tz);
+        timeZone = tz;
+        prefix[8] = '-';
+        prefix[11] = ':';
+        prefix[14] = ':';
     }
 
     /**
      * @param timestamp the difference, measured in milliseconds, between the given moment of time and midnight, January 1, 1970 UTC.
-     * @param buffer buffer for formatted timestamp (Output will look like "01:23:45"). Must accommodate 8 bytes of formatted value.
+     * @param buffer buffer for formatted timestamp (Output will look like "19981231-23:59:59.999"). Must accommodate 21 bytes of formatted value.
      * @param offset offset in the buffer
      * @return  offset + length of resulting string (21 bytes)
      */
     public int formatDateTime(final long timestamp, final byte[] buffer, int offset) {
-        calendar.setTimeInMillis(timestamp);
-
-        offset = IntFormatter.format4digits(calendar.get(Calendar.YEAR), buffer, offset);
-        offset = IntFormatter.format2digits(calendar.get(Calendar.MONTH)+1, buffer, offset);
-        offset = IntFormatter.format2digits(calendar.get(Calendar.DAY_OF_MONTH), buffer, offset);
-        buffer[offset++] = '-';
-
-
-        final int secondsInDay = (int) ((timestamp / 1000) % SECONDS_IN_DAY);
-        offset = IntFormatter.format2digits(secondsInDay / 3600, buffer, offset); // hours
-        buffer [offset++] = ':';
-        offset = IntFormatter.format2digits((secondsInDay / 60) % 60, buffer, offset); // minutes
-        buffer [offset++] = ':';
-        offset = IntFormatter.format2digits(secondsInDay % 60, buffer, offset); // seconds
+        if (timestamp < secondStart || timestamp >= secondEnd)
+            updatePrefix(timestamp);
 
+        System.arraycopy(prefix, 0, buffer, offset, PREFIX_LENGTH);
+        offset += PREFIX_LENGTH;
         buffer [offset++] = '.';
-        offset = IntFormatter.format3digits((int) (timestamp % 1000), buffer, offset); // milliseconds
+        return IntFormatter.format3digits((int) (timestamp - secondStart), buffer, offset); // milliseconds
+    }
 
-        return offset;
+    /**
+     * @param timestamp the difference, measured in microseconds, between the given moment of time and midnight, January 1, 1970 UTC.
+     * @param buffer buffer for formatted timestamp (Output will look like "19981231-23:59:59.999999"). Must accommodate 24 bytes of formatted value.
+     * @param offset offset in the buffer
+     * @return  offset + length of resulting string (24 bytes)
+     */
+    public int formatDateTimeMicros(final long timestamp, final byte[] buffer, int offset) {
+        offset = formatDateTime(floorDiv(timestamp, 1000), buffer, offset);
+        return IntFormatter.format3digits((int) floorMod(timestamp, 1000), buffer, offset);
+    }
+
+    /**
+     * @param timestamp the difference, measured in nanoseconds, between the given moment of time and midnight, January 1, 1970 UTC.
+     * @param buffer buffer for formatted timestamp (Output will look like "19981231-23:59:59.999999999"). Must accommodate 27 bytes of formatted value.
+     * @param offset offset in the buffer
+     * @return  offset + length of resulting string (27 bytes)
+     */
+    public int formatDateTimeNanos(final long timestamp, final byte[] buffer, int offset) {
+        offset = formatDateTime(floorDiv(timestamp, 1000000), buffer, offset);
+        final int nanosOfMilli = (int) floorMod(timestamp, 1000000);
+        offset = IntFormatter.format3digits(nanosOfMilli / 1000, buffer, offset);
+        return IntFormatter.format3digits(nanosOfMilli % 1000, buffer, offset);
     }
 
     /**
      * @param timestamp the difference, measured in milliseconds, between the given moment of time and midnight, January 1, 1970 UTC.
-     * @param buffer buffer for formatted timestamp (Output will look like "01:23:45"). Must accommodate 8 bytes of formatted value.
+     * @param buffer buffer for formatted date (Output will look like "19981231"). Must accommodate 8 bytes of formatted value.
      * @param offset offset in the buffer
-     * @return  offset + length of resulting string (21 bytes)
+     * @return  offset + length of resulting string (8 bytes)
      */
     public int formatDateOnly (final long timestamp, final byte [] buffer, int offset) {
-        calendar.setTimeInMillis(timestamp);
+        if (timestamp < dayStart || timestamp >= dayEnd)
+            updateDay(timestamp);
 
-        offset = IntFormatter.format4digits(calendar.get(Calendar.YEAR), buffer, offset);
-        offset = IntFormatter.format2digits(calendar.get(Calendar.MONTH)+1, buffer, offset);
-        offset = IntFormatter.format2digits(calendar.get(Calendar.DAY_OF_MONTH), buffer, offset);
+        System.arraycopy(prefix, 0, buffer, offset, DATE_ONLY_LENGTH);
+        return offset + DATE_ONLY_LENGTH;
+    }
+
+    private void updatePrefix(long timestamp) {
+        if (timestamp < dayStart || timestamp >= dayEnd)
+            updateDay(timestamp);
+
+        final int millisOfDay = (int) (timestamp - dayStart);
+        final int secondsOfDay = millisOfDay / 1000;
+        IntFormatter.format2digits(secondsOfDay / 3600, prefix, 9); // hours
+        IntFormatter.format2digits((secondsOfDay / 60) % 60, prefix, 12); // minutes
+        IntFormatter.format2digits(secondsOfDay % 60, prefix, 15); // seconds
+
+        secondStart = timestamp - millisOfDay % 1000;
+        secondEnd = (dayEnd > dayStart) ? secondStart + 1000 : secondStart; // seconds of the day with changing zone offset are not cached
+    }
+
+    /** Computes date of given timestamp and stores it in the prefix */
+    private void updateDay(long timestamp) {
+        final int zoneOffset = timeZone.getOffset(timestamp);
+        final long localDay = floorDiv(timestamp + zoneOffset, MILLIS_IN_DAY);
+        dayStart = localDay * MILLIS_IN_DAY - zoneOffset;
+        dayEnd = dayStart + MILLIS_IN_DAY;
+        if (timeZone.getOffset(dayStart) != zoneOffset || timeZone.getOffset(dayEnd - 1) != zoneOffset)
+            dayEnd = dayStart; // zone offset changes during this day (e.g. daylight saving): do not cache
+
+        formatCivilDate(localDay, prefix, 0);
+
+        secondStart = 1; // cached second may belong to another day (formatDateOnly changes date in the prefix)
+        secondEnd = 0;
+    }
+
+    /** Writes yyyyMMdd of given day since epoch. Uses "civil_from_days" algorithm by Howard Hinnant (proleptic Gregorian calendar). */
+    static int formatCivilDate(long epochDay, byte [] buffer, int offset) {
+        final long z = epochDay + 719468; // shift epoch to 0000-03-01
+        final long era = floorDiv(z, 146097);
+        final int dayOfEra = (int) (z - era * 146097);                                                     // [0, 146096]
+        final int yearOfEra = (dayOfEra - dayOfEra/1460 + dayOfEra/36524 - dayOfEra/146096) / 365;        // [0, 399]
+        final int dayOfYear = dayOfEra - (365*yearOfEra + yearOfEra/4 - yearOfEra/100);                    // [0, 365] starting from March 1
+        final int mp = (5*dayOfYear + 2)/153;                                                              // [0, 11] starting from March
+        final int day = dayOfYear - (153*mp + 2)/5 + 1;                                                    // [1, 31]
+        final int month = (mp < 10) ? mp + 3 : mp - 9;                                                     // [1, 12]
+        final int year = (int) (yearOfEra + era * 400) + ((month <= 2) ? 1 : 0);
+
+        offset = IntFormatter.format4digits(year, buffer, offset);
+        offset = IntFormatter.format2digits(month, buffer, offset);
+        return IntFormatter.format2digits(day, buffer, offset);
+    }
+
+    private static long floorDiv(long x, long y) {
+        long r = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0))
+            r--;
+        return r;
+    }
 
-        return offset;
+    private static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.parse;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+
+/**
+ * Locates given byte in byte array eight bytes at a time (SIMD within a register): each step reads a long word
+ * and checks all its bytes with a few arithmetic operations instead of eight branches.
+ * Falls back to byte-at-a-time scanning if <code>sun.misc.Unsafe</code> is not available.
+ * <p>
+ * Unsafe (and the "internal proprietary API" compiler warnings it causes) is used deliberately: little-endian
+ * <code>ByteBuffer.wrap(buffer).getLong()</code> view was measured ~25% slower and, unless JIT escape analysis
+ * succeeds, allocates the wrapper on every call (hot parser and checksum paths must not allocate).
+ * Unsafe reads are not bounds checked, therefore both methods validate given range before scanning.
+ */
+public final class ByteScanner {
+
+    private static final Unsafe UNSAFE;
+    private static final long BYTE_ARRAY_BASE_OFFSET;
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long EVEN_BYTES = 0x00FF00FF00FF00FFL;
+    private static final int MAX_WORDS_PER_LANE_SUM = 128; // 128 * 2 * 255 fits into 16-bit lane
+
+    static {
+        Unsafe unsafe;
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = (Unsafe) field.get(null);
+        } catch (Throwable e) {
+            unsafe = null;
+        }
+        UNSAFE = unsafe;
+        BYTE_ARRAY_BASE_OFFSET = (unsafe != null) ? unsafe.arrayBaseOffset(byte[].class) : 0;
+    }
+
+    private ByteScanner() {
+        throw new AssertionError("Not for you");
+    }
+
+    /** @return index of the first occurrence of given value in buffer[fromIndex, toIndex), or -1 if there is no such byte */
+    public static int indexOf(byte value, byte [] buffer, int fromIndex, int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        int i = fromIndex;
+        if (UNSAFE != null) {
+            final long pattern = ONES * (value & 0xFF);
+            final int wordLimit = toIndex - 8;
+            while (i <= wordLimit) {
+                long word = UNSAFE.getLong(buffer, BYTE_ARRAY_BASE_OFFSET + i);
+                if ( ! LITTLE_ENDIAN)
+                    word = Long.reverseBytes(word);
+
+                final long x = word ^ pattern; // matching bytes become zero
+                final long found = (x - ONES) & ~x & HIGH_BITS; // lowest set high bit marks the first zero byte
+                if (found != 0)
+                    return i + (Long.numberOfTrailingZeros(found) >>> 3);
+                i += 8;
+            }
+        }
+        while (i < toIndex) {
+            if (buffer[i] == value)
+                return i;
+            i++;
+        }
+        return -1;
+    }
+
+    /** @return sum of bytes in buffer[fromIndex, toIndex) modulo 256 (same as FIX CheckSum(10)). Sums eight bytes at a time using four 16-bit lanes of a long word. */
+    public static int sum(byte [] buffer, int fromIndex, int toIndex) {
+        checkRange(buffer, fromIndex, toIndex);
+        int i = fromIndex;
+        int result = 0;
+        if (UNSAFE != null) {
+            final int wordLimit = toIndex - 8;
+            while (i <= wordLimit) {
+                long lanes = 0;
+                int words = 0;
+                do {
+                    final long word = UNSAFE.getLong(buffer, BYTE_ARRAY_BASE_OFFSET + i);
+                    lanes += (word & EVEN_BYTES) + ((word >>> 8) & EVEN_BYTES);
+                    i += 8;
+                } while (i <= wordLimit && ++words < MAX_WORDS_PER_LANE_SUM);
+                result += (int) ((lanes & 0xFFFF) + ((lanes >>> 16) & 0xFFFF) + ((lanes >>> 32) & 0xFFFF) + (lanes >>> 48));
+            }
+        }
+        while (i < toIndex)
+            result += buffer[i++];
+        return result & 0xFF;
+    }
+
+    private static void checkRange(byte [] buffer, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > buffer.length)
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is outside of array of length " + buffer.length);
+    }
+}
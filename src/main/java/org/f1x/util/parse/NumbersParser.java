@@ -15,6 +15,7 @@
 package org.f1x.util.parse;
 
 import org.f1x.api.FixParserException;
+import org.f1x.util.Decimal;
 
 public class NumbersParser {
     public static int parseInt(byte [] buffer, int offset, int length) {
@@ -66,6 +67,42 @@ public class NumbersParser {
         return isNegative ? -result : result;
     }
 
+    /** Parses fixed-point number (e.g. "-123.450") into given decimal without loss of precision. Scale of the result equals to the number of digits after decimal point. */
+    public static void parseDecimal(byte [] buffer, int offset, int length, Decimal result) {
+        if (length == 0)
+            throw new FixParserException("Number cannot be empty");
+
+        final int end = offset + length;
+        final boolean isNegative = (buffer[offset] == '-');
+        int i = (isNegative || buffer[offset] == '+') ? offset + 1 : offset;
+
+        long mantissa = 0;
+        int pointIndex = -1;
+        int digits = 0;
+        for (; i < end; i++) {
+            final byte ch = buffer[i];
+            if (ch >= '0' && ch <= '9') {
+                final int digit = ch - '0';
+                if (mantissa > (Long.MAX_VALUE - digit) / 10)
+                    throw new FixParserException("Number is too large for decimal");
+                mantissa = 10*mantissa + digit;
+                digits++;
+            } else if (ch == '.' && pointIndex < 0) {
+                pointIndex = i;
+            } else {
+                throw new FixParserException("Number contains unexpected character at position [" + i + "]: '" + (char) ch + "'");
+            }
+        }
+        if (digits == 0)
+            throw new FixParserException("Number has no digits");
+
+        final int scale = (pointIndex < 0) ? 0 : end - pointIndex - 1;
+        if (scale > Decimal.MAX_SCALE)
+            throw new FixParserException("Number has too many digits after decimal point");
+
+        result.set(isNegative ? -mantissa : mantissa, scale);
+    }
+
     /** Parses double value. Adaptation of algorithm published by Jean-Marie Dautell */
      public static double parseDouble(final byte [] buffer, final int offset, final int length) {
          if (length == 0)
@@ -16,19 +16,30 @@ package org.f1x.util.parse;
 
 import org.f1x.api.FixParserException;
 
-import java.util.Calendar;
 import java.util.TimeZone;
 
 /**
  * Parses timestamp using UTCTimestamp (yyyyMMdd-HH:mm:ss or yyyyMMdd-HH:mm:ss.SSS) and UTCDateOnly (yyyyMMdd) formats.
- * For example, "19981231-23:59:59.999" and "19981231".
+ * For example, "19981231-23:59:59.999" and "19981231". FIX 5.0 microsecond and nanosecond precision (yyyyMMdd-HH:mm:ss.SSSSSS[SSS]) is also supported.
+ * <p>
+ * Parser does not use Calendar: start of the day is computed arithmetically and cached, so that consecutive timestamps of the same date
+ * only need time of day to be parsed.
  * NOTE: This class is NOT thread safe.
  */
 public final class TimestampParser {
-    private final Calendar calendar;
+    private static final int MILLIS_IN_DAY = 24 * 60 * 60 * 1000;
+    private static final int DATE_LENGTH = 8;
+    private static final int SECONDS_LENGTH = 17; // "yyyyMMdd-HH:mm:ss"
+
+    private final TimeZone timeZone;
+    private final boolean isUTC;
+
+    private long cachedDate = -1; // "yyyyMMdd" bytes packed into long
+    private long cachedDayStart;  // local midnight of cachedDate (milliseconds since epoch)
 
     private TimestampParser(TimeZone timeZone) {
-        this.calendar = Calendar.getInstance(timeZone);
+        this.timeZone = timeZone;
+        this.isUTC = "UTC".equals(timeZone.getID());
     }
 
 
@@ -41,35 +52,34 @@ public final class TimestampParser {
     }
 
 
+    /** @return milliseconds since epoch (sub-millisecond digits of FIX 5.0 timestamps are truncated) */
     public long getUTCTimestampValue (byte [] buffer, int offset, int length) {
-        //TODO: Validate ':' characters
-
         //yyyyMMdd-HH:mm:ss.SSS
         //012345678901234567890
-        calendar.set (Calendar.YEAR,  NumbersParser.parsePositiveInt(buffer, offset, 4));
-        calendar.set (Calendar.MONTH, NumbersParser.parsePositiveInt(buffer, offset+4, 2) - 1);
-        calendar.set (Calendar.DAY_OF_MONTH, NumbersParser.parsePositiveInt(buffer, offset+6, 2));
-        calendar.set (Calendar.HOUR_OF_DAY, NumbersParser.parsePositiveInt(buffer, offset+9, 2));
-        calendar.set (Calendar.MINUTE, NumbersParser.parsePositiveInt(buffer, offset+12, 2));
-        calendar.set (Calendar.SECOND, NumbersParser.parsePositiveInt(buffer, offset+15, 2));
-        if (length > 17)
-            calendar.set (Calendar.MILLISECOND, NumbersParser.parsePositiveInt(buffer, offset+18, 3));
-        else
-            calendar.set (Calendar.MILLISECOND, 0);
-        return calendar.getTimeInMillis();
+        final long localTime = getDayStart(buffer, offset, length) + 1000L * parseSecondOfDay(buffer, offset, length);
+        final long timestamp = (length > SECONDS_LENGTH) ? localTime + parseFraction(buffer, offset, length, 3) : localTime;
+        return toUTC(timestamp);
+    }
+
+    /** @return microseconds since epoch (nanosecond digits are truncated) */
+    public long getUTCTimestampMicros (byte [] buffer, int offset, int length) {
+        final long localTime = getDayStart(buffer, offset, length) + 1000L * parseSecondOfDay(buffer, offset, length);
+        final long micros = (length > SECONDS_LENGTH) ? parseFraction(buffer, offset, length, 6) : 0;
+        return toUTC(localTime) * 1000 + micros;
+    }
+
+    /** @return nanoseconds since epoch (covers years 1678 - 2261) */
+    public long getUTCTimestampNanos (byte [] buffer, int offset, int length) {
+        final long localTime = getDayStart(buffer, offset, length) + 1000L * parseSecondOfDay(buffer, offset, length);
+        final long nanos = (length > SECONDS_LENGTH) ? parseFraction(buffer, offset, length, 9) : 0;
+        return toUTC(localTime) * 1000000 + nanos;
     }
 
     public long getUTCDateOnly(byte [] buffer, int offset, int length) {
-        //TODO: Validate ':' characters
-
-        calendar.set (Calendar.YEAR,  NumbersParser.parsePositiveInt(buffer, offset, 4));
-        calendar.set (Calendar.MONTH, NumbersParser.parsePositiveInt(buffer, offset+4, 2) - 1);
-        calendar.set (Calendar.DAY_OF_MONTH, NumbersParser.parsePositiveInt(buffer, offset+6, 2));
-        calendar.set (Calendar.HOUR_OF_DAY, 0);
-        calendar.set (Calendar.MINUTE, 0);
-        calendar.set (Calendar.SECOND, 0);
-        calendar.set (Calendar.MILLISECOND, 0);
-        return calendar.getTimeInMillis();
+        if (length != DATE_LENGTH)
+            throw new FixParserException("UTCDateOnly should contain 8 digits");
+
+        return toUTC(getDayStart(buffer, offset, length));
     }
 
 
@@ -84,4 +94,87 @@ public final class TimestampParser {
                 NumbersParser.parsePositiveInt(buffer, offset+6, 2);        // day
 
     }
+
+    /** @return start of the day (local midnight expressed as if local time zone was UTC) */
+    private long getDayStart(byte [] buffer, int offset, int length) {
+        if (length < DATE_LENGTH)
+            throw new FixParserException("Timestamp is too short");
+
+        long date = 0;
+        for (int i = 0; i < DATE_LENGTH; i++)
+            date = (date << 8) | (buffer[offset + i] & 0xFF);
+
+        if (date != cachedDate) {
+            final int year = NumbersParser.parsePositiveInt(buffer, offset, 4);
+            final int month = NumbersParser.parsePositiveInt(buffer, offset+4, 2);
+            final int day = NumbersParser.parsePositiveInt(buffer, offset+6, 2);
+            if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month))
+                throw new FixParserException("Invalid date");
+
+            cachedDayStart = daysFromCivil(year, month, day) * MILLIS_IN_DAY;
+            cachedDate = date;
+        }
+        return cachedDayStart;
+    }
+
+    /** Parses and validates "-HH:mm:ss" part */
+    private static int parseSecondOfDay(byte [] buffer, int offset, int length) {
+        if (length != SECONDS_LENGTH && length != SECONDS_LENGTH + 4 && length != SECONDS_LENGTH + 7 && length != SECONDS_LENGTH + 10)
+            throw new FixParserException("Invalid UTCTimestamp length");
+
+        // all separators are verified by single branch
+        if (((buffer[offset+8] ^ '-') | (buffer[offset+11] ^ ':') | (buffer[offset+14] ^ ':')) != 0)
+            throw new FixParserException("Invalid UTCTimestamp separator");
+
+        final int hours = NumbersParser.parsePositiveInt(buffer, offset+9, 2);
+        final int minutes = NumbersParser.parsePositiveInt(buffer, offset+12, 2);
+        final int seconds = NumbersParser.parsePositiveInt(buffer, offset+15, 2);
+        if (hours > 23 || minutes > 59 || seconds > 60) // 60 is a leap second
+            throw new FixParserException("Invalid time of day");
+
+        return (hours * 60 + minutes) * 60 + seconds;
+    }
+
+    /** Parses ".SSS[SSS[SSS]]" part and scales it to given number of digits (extra digits are validated and truncated) */
+    private static int parseFraction(byte [] buffer, int offset, int length, int digits) {
+        if (buffer[offset + SECONDS_LENGTH] != '.')
+            throw new FixParserException("Invalid UTCTimestamp separator");
+
+        final int fractionStart = offset + SECONDS_LENGTH + 1;
+        final int fractionLength = length - SECONDS_LENGTH - 1;
+        int result = 0;
+        for (int i = 0; i < fractionLength; i++) {
+            final byte b = buffer[fractionStart + i];
+            if (b < '0' || b > '9')
+                throw new FixParserException("Expecting digit");
+            if (i < digits)
+                result = 10 * result + (b - '0');
+        }
+        for (int i = fractionLength; i < digits; i++)
+            result *= 10;
+        return result;
+    }
+
+    private long toUTC(long localTime) {
+        if (isUTC)
+            return localTime;
+        return localTime - timeZone.getOffset(localTime - timeZone.getRawOffset());
+    }
+
+    static int daysInMonth(int year, int month) {
+        if (month == 2)
+            return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    /** @return number of days since 1970-01-01 for given date of proleptic Gregorian calendar ("days_from_civil" algorithm by Howard Hinnant) */
+    static long daysFromCivil(int year, int month, int day) {
+        if (month <= 2)
+            year--;
+        final int era = (year >= 0 ? year : year - 399) / 400;
+        final int yearOfEra = year - era * 400;                                                // [0, 399]
+        final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;        // [0, 365] starting from March 1
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;   // [0, 146096]
+        return era * 146097L + dayOfEra - 719468;
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.timer;
+
+import org.f1x.util.TimeSource;
+import org.gflogger.GFLog;
+import org.gflogger.GFLogFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Hashed wheel timer. Unlike <code>java.util.Timer</code> (binary heap, new <code>TimerTask</code> for each schedule)
+ * schedule and cancel are O(1) and tasks can be re-scheduled any number of times without allocation.
+ * Timer resolution is limited by tick duration: tasks never run early, but may run up to one tick late.
+ * Timer thread is driven by {@link TimeSource}.
+ */
+public final class HashedWheelTimer implements Runnable {
+
+    private static final GFLog LOGGER = GFLogFactory.getLog(HashedWheelTimer.class);
+
+    /** Re-usable timer task. Each instance can be scheduled at most once at a time. */
+    public static final class Task {
+        private final Runnable action;
+
+        private HashedWheelTimer timer;
+        private long period;
+        private long remainingRounds;
+        private int bucket = -1;
+        private boolean expired; // removed from the wheel, waiting for execution outside of timer lock
+        private Task prev, next, nextExpired;
+
+        public Task(Runnable action) {
+            this.action = action;
+        }
+
+        /** Cancels this task if it is scheduled. Does not interrupt task that is already running. */
+        public void cancel() {
+            final HashedWheelTimer t = timer;
+            if (t != null)
+                t.cancel(this);
+        }
+
+        /** @return true if this task is waiting for execution */
+        public boolean isScheduled() {
+            final HashedWheelTimer t = timer;
+            if (t != null) {
+                synchronized (t) {
+                    return bucket >= 0;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final TimeSource timeSource;
+    private final long tickDuration;
+    private final Task [] wheel;
+    private final int mask;
+    private long currentTick; // last processed tick
+
+    private volatile boolean active;
+    private Thread thread;
+
+    /**
+     * @param tickDuration timer resolution in milliseconds
+     * @param wheelSize number of buckets in the wheel (must be a power of 2). Tasks that are scheduled more than wheelSize ticks ahead need more than one wheel revolution.
+     */
+    public HashedWheelTimer(TimeSource timeSource, long tickDuration, int wheelSize) {
+        if (tickDuration <= 0)
+            throw new IllegalArgumentException("tickDuration must be positive");
+        if (wheelSize < 1 || Integer.bitCount(wheelSize) != 1)
+            throw new IllegalArgumentException("wheelSize must be a power of 2");
+
+        this.timeSource = timeSource;
+        this.tickDuration = tickDuration;
+        this.wheel = new Task[wheelSize];
+        this.mask = wheelSize - 1;
+        this.currentTick = timeSource.currentTimeMillis() / tickDuration;
+    }
+
+    /** Schedules given task for single execution after given delay (in milliseconds). Re-schedules the task if it is already scheduled. */
+    public void schedule(Task task, long delay) {
+        schedule(task, delay, 0);
+    }
+
+    /**
+     * Schedules given task for repeated fixed-delay execution. Re-schedules the task if it is already scheduled.
+     * @param delay delay in milliseconds before first execution
+     * @param period time in milliseconds between successive executions (zero means single execution)
+     */
+    public synchronized void schedule(Task task, long delay, long period) {
+        if (task.timer != null && task.timer != this)
+            throw new IllegalStateException("Task belongs to another timer");
+        if (period < 0)
+            throw new IllegalArgumentException("period");
+
+        if (task.bucket >= 0)
+            unlink(task);
+
+        task.expired = false;
+        task.timer = this;
+        task.period = period;
+        insert(task, timeSource.currentTimeMillis() + Math.max(0, delay));
+    }
+
+    synchronized void cancel(Task task) {
+        if (task.bucket >= 0)
+            unlink(task);
+        task.expired = false;
+    }
+
+    /** @return true if given expired task was not cancelled or re-scheduled since it was removed from the wheel */
+    private synchronized boolean claimExpired(Task task) {
+        final boolean result = task.expired;
+        task.expired = false;
+        return result;
+    }
+
+    /** @param threadFactory factory of timer thread, or null to use default daemon thread */
+    public synchronized void start(ThreadFactory threadFactory) {
+        if (thread != null)
+            throw new IllegalStateException("Timer is already started");
+
+        active = true;
+        if (threadFactory != null) {
+            thread = threadFactory.newThread(this);
+        } else {
+            thread = new Thread(this, "Timer");
+            thread.setDaemon(true);
+        }
+        thread.start();
+    }
+
+    /** Stops timer thread. Scheduled tasks are not executed. */
+    public void stop() throws InterruptedException {
+        final Thread t;
+        synchronized (this) {
+            active = false;
+            t = thread;
+            thread = null;
+        }
+        if (t != null) {
+            t.interrupt();
+            t.join();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (active) {
+            final long now = timeSource.currentTimeMillis();
+            expireTasks(now);
+            try {
+                timeSource.sleep(tickDuration - now % tickDuration);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    /** Executes tasks that expire at or before given time */
+    void expireTasks(long now) {
+        Task expired = null;
+        synchronized (this) {
+            final long targetTick = now / tickDuration;
+            while (currentTick < targetTick) {
+                final int bucket = (int) (++currentTick & mask);
+                Task task = wheel[bucket];
+                while (task != null) {
+                    final Task next = task.next;
+                    if (task.remainingRounds <= 0) {
+                        unlink(task);
+                        task.expired = true;
+                        task.nextExpired = expired;
+                        expired = task;
+                    } else {
+                        task.remainingRounds--;
+                    }
+                    task = next;
+                }
+            }
+
+            for (Task task = expired; task != null; task = task.nextExpired) {
+                if (task.period > 0)
+                    insert(task, now + task.period);
+            }
+        }
+
+        while (expired != null) {
+            final Task task = expired;
+            expired = task.nextExpired;
+            task.nextExpired = null;
+            if ( ! claimExpired(task))
+                continue; // cancelled after it was removed from the wheel
+            try {
+                task.action.run();
+            } catch (Throwable e) {
+                LOGGER.warn().append("Error in timer task: ").append(e).commit();
+            }
+        }
+    }
+
+    private void insert(Task task, long deadline) {
+        final long deadlineTick = Math.max((deadline + tickDuration - 1) / tickDuration, currentTick + 1);
+        final int bucket = (int) (deadlineTick & mask);
+
+        task.remainingRounds = (deadlineTick - currentTick - 1) / wheel.length;
+        task.bucket = bucket;
+        task.prev = null;
+        task.next = wheel[bucket];
+        if (task.next != null)
+            task.next.prev = task;
+        wheel[bucket] = task;
+    }
+
+    private void unlink(Task task) {
+        if (task.prev != null)
+            task.prev.next = task.next;
+        else
+            wheel[task.bucket] = task.next;
+        if (task.next != null)
+            task.next.prev = task.prev;
+
+        task.prev = task.next = null;
+        task.bucket = -1;
+    }
+
+}
@@ -19,8 +19,10 @@ import org.gflogger.GFLogFactory;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
 
 public abstract class AbstractSessionAcceptor implements Runnable {
 
@@ -58,7 +60,19 @@ public abstract class AbstractSessionAcceptor implements Runnable {
     }
 
     protected synchronized void initialize() throws IOException {
-        serverSocket = new ServerSocket(port, incomingConnectionQueueSize, InetAddress.getByName(host));
+        serverSocket = openServerSocket(false);
+    }
+
+    /**
+     * @param useChannel when <code>true</code> server socket is bound using {@link ServerSocketChannel}, so that accepted sockets carry {@link java.nio.channels.SocketChannel}
+     */
+    protected ServerSocket openServerSocket(boolean useChannel) throws IOException {
+        if (useChannel) {
+            ServerSocket socket = ServerSocketChannel.open().socket();
+            socket.bind(new InetSocketAddress(InetAddress.getByName(host), port), incomingConnectionQueueSize);
+            return socket;
+        }
+        return new ServerSocket(port, incomingConnectionQueueSize, InetAddress.getByName(host));
     }
 
     protected void service() {
@@ -22,10 +22,14 @@ import org.f1x.api.message.types.ByteEnum;
 import org.f1x.api.message.types.IntEnum;
 import org.f1x.api.message.types.StringEnum;
 import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
 import org.f1x.util.format.*;
 
 /**
  * Simple implementation of MessageBuilder that collects all fields in fixed size byte array.
+ * <p>
+ * Builder may reserve room for standard header in front of the body (and room for the trailer behind it).
+ * This allows {@link RawMessageAssembler} to assemble complete message in place, without copying the body.
  */
 public final class ByteBufferMessageBuilder implements MessageBuilder, AppendableValue {
 
@@ -40,21 +44,44 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
 
     private CharSequence msgType;
     private final byte [] buffer;
+    private final int bodyStart; // size of the room reserved for message header
     private int offset;
+    private int byteSum; // sum of bytes before summedOffset
+    private int summedOffset;
 
     public ByteBufferMessageBuilder (int maxLength, int doubleFormatterPrecision) {
-        buffer = new byte[maxLength];
+        this(maxLength, 0, doubleFormatterPrecision);
+    }
+
+    /**
+     * @param maxLength maximum length of message body
+     * @param headerReserve number of bytes reserved in front of the body for standard header (zero disables in-place assembly)
+     */
+    public ByteBufferMessageBuilder (int maxLength, int headerReserve, int doubleFormatterPrecision) {
+        if (headerReserve < 0)
+            throw new IllegalArgumentException("headerReserve");
+        buffer = new byte[headerReserve + maxLength + ((headerReserve > 0) ? FixCommunicator.CHECKSUM_LENGTH : 0)];
+        bodyStart = headerReserve;
         doubleFormatter = new DoubleFormatter(doubleFormatterPrecision);
+        clear();
     }
 
     public ByteBufferMessageBuilder (byte[] buff, int doubleFormatterPrecision) {
         buffer = buff;
+        bodyStart = 0;
         doubleFormatter = new DoubleFormatter(doubleFormatterPrecision);
     }
 
+    /** @return default precision of double values (see {@link org.f1x.api.FixSettings#getDoubleFormatterPrecision()}) */
+    int getDoubleFormatterPrecision() {
+        return doubleFormatter.getPrecision();
+    }
+
     @Override
     public void clear() {
-        offset = 0;
+        offset = bodyStart;
+        byteSum = 0;
+        summedOffset = bodyStart;
     }
 
     @Override
@@ -82,6 +109,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = CharSequenceFormatter.format(value, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -92,6 +120,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = CharSequenceFormatter.format(value, start, end, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -100,6 +129,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = LongFormatter.format(value, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -108,6 +138,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = IntFormatter.format(value, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -116,6 +147,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = doubleFormatter.format(value, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -124,6 +156,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = doubleFormatter.format(value, precision, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -132,6 +165,21 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = doubleFormatter.format(value, precision, roundUp, DoubleFormatter.MAX_WIDTH, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
+    }
+
+    @Override
+    public void addDecimal(int tagNo, long mantissa, int scale) {
+        offset = IntFormatter.format(tagNo, buffer, offset);
+        buffer[offset++] = '=';
+        offset = DecimalFormatter.format(mantissa, scale, buffer, offset);
+        buffer[offset++] = SOH;
+        updateByteSum();
+    }
+
+    @Override
+    public void addDecimal(int tagNo, Decimal value) {
+        addDecimal(tagNo, value.getMantissa(), value.getScale());
     }
 
     @Override
@@ -140,6 +188,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         buffer[offset++] = value;
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -148,6 +197,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         buffer[offset++] = (value) ? BYTE_Y : BYTE_N;
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -156,6 +206,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = gmtTimestampFormat.formatDateTime(timestamp, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -164,6 +215,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = gmtTimestampFormat.formatDateOnly(timestamp, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -172,6 +224,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = localTimestampFormat.formatDateOnly(timestamp, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -183,6 +236,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         offset = IntFormatter.format2digits(mmdd / 100, buffer, offset); // month
         offset = IntFormatter.format2digits(mmdd % 100, buffer, offset); // day
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -191,6 +245,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset = TimeOfDayFormatter.format(timestamp, buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -202,6 +257,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         System.arraycopy(sourceBuffer, sourceOffset, buffer, offset, sourceLength);
         offset += sourceLength;
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -212,6 +268,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
         buffer[offset++] = '=';
         offset += bytes.copyTo(buffer, offset);
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     @Override
@@ -239,17 +296,53 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
 
     @Override
     public int output(byte[] buffer, int offset) {
-        if (this.offset > buffer.length - offset)
+        final int length = this.offset - bodyStart;
+        if (length > buffer.length - offset)
             throw new IndexOutOfBoundsException("Output FIX message exceeds maximum size");
-        System.arraycopy(this.buffer, 0, buffer, offset, this.offset);
-        return offset+this.offset;
+        System.arraycopy(this.buffer, bodyStart, buffer, offset, length);
+        return offset + length;
     }
 
     @Override
     public int getLength() {
+        return offset - bodyStart;
+    }
+
+    /** @return internal buffer that holds message body (used for in-place assembly) */
+    byte [] getBuffer() {
+        return buffer;
+    }
+
+    /** @return offset of message body in {@link #getBuffer()}, equals to the size of room reserved for message header */
+    int getBodyStart() {
+        return bodyStart;
+    }
+
+    /** @return offset of the first byte after message body in {@link #getBuffer()} */
+    int getBodyEnd() {
         return offset;
     }
 
+    @Override
+    public int getByteSum() {
+        updateByteSum();
+        return byteSum & 0xFF;
+    }
+
+    /** Accounts for bytes of already added field value that were overwritten in place (see {@link MessageTemplate}) */
+    void adjustByteSum(int delta) {
+        byteSum += delta;
+    }
+
+    /** Adds bytes of the last completed field to the running sum (while they are still in CPU cache) */
+    private void updateByteSum() {
+        int sum = byteSum;
+        for (int i = summedOffset; i < offset; i++)
+            sum += buffer[i];
+        byteSum = sum;
+        summedOffset = offset;
+    }
+
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // AppendableValue
@@ -309,6 +402,7 @@ public final class ByteBufferMessageBuilder implements MessageBuilder, Appendabl
     @Override
     public void end() {
         buffer[offset++] = SOH;
+        updateByteSum();
     }
 
     private static void checkValue(int tagNo, CharSequence value) {
@@ -16,20 +16,24 @@ package org.f1x.v1;
 
 import org.f1x.api.FixParserException;
 import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.RepeatingGroup;
 import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
+import org.f1x.util.parse.ByteScanner;
 import org.f1x.util.parse.NumbersParser;
 import org.f1x.util.parse.TimeOfDayParser;
 import org.f1x.util.parse.TimestampParser;
 
-public class DefaultMessageParser implements MessageParser {
+public class DefaultMessageParser implements MessageParser, GroupCursor.PushbackParser {
 
     //private static final GFLog LOGGER = GFLogFactory.getLog(DefaultMessageParser.class);
 
-    private static final char SOH = 1; // field separator
+    private static final byte SOH = 1; // field separator
 
     private final TimestampParser utcTimestampParser = TimestampParser.createUTCTimestampParser();
     private final TimestampParser localTimestampParser = TimestampParser.createLocalTimestampParser();
     private final ByteArrayReference charSequenceBuffer = new ByteArrayReference();
+    private final GroupCursor groupCursor = new GroupCursor(this);
 
     private byte[] buffer;
     private int start;
@@ -37,6 +41,7 @@ public class DefaultMessageParser implements MessageParser {
     private int limit;
     private int tagNum;
     private int valueOffset, valueLength;
+    private boolean pushedBack;
 
 
     public final void set (byte [] buffer, int offset, int length) {
@@ -48,6 +53,10 @@ public class DefaultMessageParser implements MessageParser {
 
     @Override
     public final boolean next() {
+        if (pushedBack) {
+            pushedBack = false;
+            return true;
+        }
         try {
             final boolean result = _next();
             if (result) {
@@ -63,32 +72,39 @@ public class DefaultMessageParser implements MessageParser {
     }
 
     private boolean _next () {
-        boolean isParsingTagNum = true;
-        tagNum = 0;
-        while (offset < limit) {
-            byte ch = buffer[offset++];
-            if (isParsingTagNum) {
-                if (ch >= '0' && ch <= '9') {
-                    tagNum = 10*tagNum + (ch - '0');
-                } else
-                if (ch == '=') {
-                    if (tagNum == 0)
-                        throw new FixParserException("Unexpected '=' character instead of a tag number digit");
-                    isParsingTagNum = false;
-                    valueOffset = offset;
-                    valueLength = 0;
-                } else {
-                    throw new FixParserException("Unexpected character (0x" + Integer.toHexString(ch) + " where a tag number digit or '=' is expected");
-                }
-
+        // tag number (short, parsed byte by byte)
+        int tagNum = 0;
+        while (true) {
+            if (offset >= limit) {
+                this.tagNum = tagNum;
+                return false;
+            }
+            final byte ch = buffer[offset++];
+            final int digit = ch - '0';
+            if (digit >= 0 && digit <= 9) {
+                tagNum = 10*tagNum + digit;
+            } else
+            if (ch == '=') {
+                if (tagNum == 0)
+                    throw new FixParserException("Unexpected '=' character instead of a tag number digit");
+                break;
             } else {
-                if (ch == SOH)
-                    return true;
-
-                valueLength++;
+                throw new FixParserException("Unexpected character (0x" + Integer.toHexString(ch) + " where a tag number digit or '=' is expected");
             }
         }
-        return false;
+        this.tagNum = tagNum;
+
+        // value (may be long, scanned word at a time)
+        valueOffset = offset;
+        final int soh = ByteScanner.indexOf(SOH, buffer, offset, limit);
+        if (soh < 0) {
+            valueLength = limit - offset;
+            offset = limit;
+            return false;
+        }
+        valueLength = soh - offset;
+        offset = soh + 1;
+        return true;
     }
 
 
@@ -120,6 +136,11 @@ public class DefaultMessageParser implements MessageParser {
         return NumbersParser.parseDouble(buffer, valueOffset, valueLength);
     }
 
+    @Override
+    public void getDecimal(Decimal value) {
+        NumbersParser.parseDecimal(buffer, valueOffset, valueLength, value);
+    }
+
     @Override
     public CharSequence getCharSequenceValue() {
         charSequenceBuffer.set(buffer, valueOffset, valueLength);
@@ -196,6 +217,33 @@ public class DefaultMessageParser implements MessageParser {
     public final void reset() {
         tagNum = valueOffset = valueLength = 0;
         offset = start;
+        pushedBack = false;
+        groupCursor.reset();
+    }
+
+    @Override
+    public void pushback() {
+        pushedBack = true;
+    }
+
+    @Override
+    public int enterGroup(int countTag, int delimiterTag) {
+        return groupCursor.enterGroup(countTag, delimiterTag, null);
+    }
+
+    @Override
+    public int enterGroup(RepeatingGroup group) {
+        return groupCursor.enterGroup(group.getCountTag(), group.getDelimiterTag(), group);
+    }
+
+    @Override
+    public boolean nextGroupEntry() {
+        return groupCursor.nextGroupEntry();
+    }
+
+    @Override
+    public boolean nextGroupField() {
+        return groupCursor.nextGroupField();
     }
 
     int getOffset() {
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.session.SessionManager;
+import org.gflogger.GFLog;
+import org.gflogger.GFLogFactory;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-session acceptor that hands accepted connections over to a small number of {@link FixSessionEventLoop}s
+ * (instead of dedicating a thread to each session like {@link MultiSessionAcceptor} does).
+ * Connections are distributed between event loops in round-robin fashion.
+ * Event loops are not owned by this acceptor: they may also serve initiators and should be closed separately.
+ */
+public class EventLoopSessionAcceptor extends AbstractSessionAcceptor {
+
+    private static final GFLog LOGGER = GFLogFactory.getLog(EventLoopSessionAcceptor.class);
+
+    private final SessionManager manager;
+    private final FixSessionEventLoop[] eventLoops;
+    private final int logonBufferSize;
+    private final int logonTimeout;
+    private final int maxActiveSessions;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Runnable onConnectionClose = new Runnable() {
+        @Override
+        public void run() {
+            activeSessions.decrementAndGet();
+        }
+    };
+
+    private int nextEventLoop; // used by acceptor thread only
+
+    /**
+     * @param logonTimeout in milliseconds
+     */
+    public EventLoopSessionAcceptor(String host, int port, int logonBufferSize, int logonTimeout, int maxActiveSessions, SessionManager manager, FixSessionEventLoop... eventLoops) {
+        super(host, port, maxActiveSessions);
+        if (logonTimeout < 1)
+            throw new IllegalArgumentException("logonTimeout < 1");
+        if (eventLoops.length == 0)
+            throw new IllegalArgumentException("No event loops");
+
+        this.manager = Objects.requireNonNull(manager, "manager == null");
+        this.eventLoops = eventLoops;
+        this.logonBufferSize = logonBufferSize;
+        this.logonTimeout = logonTimeout;
+        this.maxActiveSessions = maxActiveSessions;
+    }
+
+    public SessionManager getSessionManager() {
+        return manager;
+    }
+
+    @Override
+    protected synchronized void initialize() throws IOException {
+        serverSocket = openServerSocket(true); // sockets accepted by this server socket have channels
+    }
+
+    @Override
+    protected void processConnection(Socket socket) {
+        if (activeSessions.incrementAndGet() > maxActiveSessions) {
+            activeSessions.decrementAndGet();
+            LOGGER.warn().append("Event Loop Session Acceptor reached maximum number of active sessions.").commit();
+            closeSocket(socket);
+            return;
+        }
+
+        final SocketChannel channel = socket.getChannel();
+        final FixSessionEventLoop eventLoop = eventLoops[nextEventLoop];
+        nextEventLoop = (nextEventLoop + 1) % eventLoops.length;
+        try {
+            eventLoop.register(channel, manager, logonBufferSize, logonTimeout, onConnectionClose);
+        } catch (Exception e) {
+            activeSessions.decrementAndGet();
+            LOGGER.warn().append("Error processing inbound connection: ").append(e.getMessage()).append(e).commit();
+            closeSocket(socket);
+        }
+    }
+
+    @Override
+    protected void shutdown() {
+        super.shutdown();
+        manager.close();
+    }
+
+}
@@ -14,6 +14,8 @@
 
 package org.f1x.v1;
 
+import com.lmax.disruptor.EventHandler;
+import org.f1x.api.ChecksumValidation;
 import org.f1x.api.FixParserException;
 import org.f1x.api.FixSettings;
 import org.f1x.api.FixVersion;
@@ -22,11 +24,14 @@ import org.f1x.api.message.MessageParser;
 import org.f1x.api.message.fields.EncryptMethod;
 import org.f1x.api.message.fields.FixTags;
 import org.f1x.api.message.fields.MsgType;
+import org.f1x.api.message.fields.MsgTypeCodes;
 import org.f1x.api.message.fields.SessionRejectReason;
+import org.f1x.api.message.types.MsgTypeLookup;
 import org.f1x.api.session.*;
 import org.f1x.io.InputChannel;
 import org.f1x.io.LoggingOutputChannel;
 import org.f1x.io.OutputChannel;
+import org.f1x.io.disruptor.WaitStrategies;
 import org.f1x.log.MessageLog;
 import org.f1x.log.MessageLogFactory;
 import org.f1x.log.file.LogUtils;
@@ -38,8 +43,10 @@ import org.f1x.util.ByteArrayReference;
 import org.f1x.util.RealTimeSource;
 import org.f1x.util.TimeSource;
 import org.f1x.util.timer.GlobalTimer;
+import org.f1x.util.timer.HashedWheelTimer;
 import org.f1x.v1.schedule.SessionSchedule;
 import org.f1x.v1.state.MemorySessionState;
+import org.f1x.v1.validation.MessageValidator;
 import org.gflogger.GFLog;
 import org.gflogger.GFLogEntry;
 import org.gflogger.GFLogFactory;
@@ -47,6 +54,7 @@ import org.gflogger.Loggable;
 
 import java.io.IOException;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -89,13 +97,16 @@ public abstract class FixCommunicator implements FixSession, Loggable {
     protected volatile boolean closeInProgress = false;
 
     // used by receiver thread only
-    private final DefaultMessageParser parser = new DefaultMessageParser();
+    private final DefaultMessageParser headerParser = new DefaultMessageParser();
+    private final IndexedMessageParser parser = new IndexedMessageParser();
     private final byte [] inboundMessageBuffer;
+    private int inboundMessageBufferOffset; // non-blocking mode only
     private final ByteArrayReference msgType = new ByteArrayReference();
     private final byte [] beginString;
 
     // Used by inbound message processing thread only
     private final ByteArrayReference temporaryByteArrayReference = new ByteArrayReference();
+    private final MessageValidator validator; // optional
 
     // Used by senders
     private final MessageBuilder sessionMessageBuilder;
@@ -104,9 +115,14 @@ public abstract class FixCommunicator implements FixSession, Loggable {
     protected final TimeSource timeSource;
     private final AtomicReference<TimerTask> sessionMonitoringTask = new AtomicReference<>();
     private final AtomicReference<TimerTask> sessionEndTask = new AtomicReference<>();
+    private volatile HashedWheelTimer timer;
+    private HashedWheelTimer.Task sessionMonitoringTimerTask;
+    private HashedWheelTimer.Task sessionEndTimerTask;
 
     private final Object sendLock = new Object();
 
+    private final OutboundMessageRing outboundRing; // multi-producer send mode only
+
 
     public FixCommunicator (FixVersion fixVersion, FixSettings settings) {
         this(fixVersion, settings, RealTimeSource.INSTANCE);
@@ -124,17 +140,19 @@ public abstract class FixCommunicator implements FixSession, Loggable {
 
         this.beginString = AsciiUtils.getBytes(fixVersion.getBeginString());
 
-        sessionMessageBuilder = new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getDoubleFormatterPrecision());
-        messageBuilderForResend = new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getDoubleFormatterPrecision());
-        messageAssembler = new RawMessageAssembler(fixVersion, settings.getMaxOutboundMessageSize(), settings.isSendRequiresConnect());
+        sessionMessageBuilder = new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getOutboundHeaderReserve(), settings.getDoubleFormatterPrecision());
+        messageBuilderForResend = new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getOutboundHeaderReserve(), settings.getDoubleFormatterPrecision());
+        messageAssembler = new RawMessageAssembler(fixVersion, settings.getMaxOutboundMessageSize(), settings.getMaxOutboundBatchSize(), settings.isSendRequiresConnect());
         inboundMessageBuffer = new byte [settings.getMaxInboundMessageSize()];
         messageBufferForResend = new byte[settings.getMaxOutboundMessageSize()];
+        this.validator = (settings.getValidationDictionary() != null) ? new MessageValidator(settings.getValidationDictionary()) : null;
         this.timeSource = timeSource;
+        this.outboundRing = settings.isMultiProducerSend() ? new OutboundMessageRing(settings.getOutboundRingSize(), settings.getMaxOutboundMessageSize(), WaitStrategies.create(settings.getWaitStrategy()), new OutboundRingWriter()) : null;
     }
 
     @Override
     public MessageBuilder createMessageBuilder() {
-        return new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getDoubleFormatterPrecision());
+        return new ByteBufferMessageBuilder(settings.getMaxOutboundMessageSize(), settings.getOutboundHeaderReserve(), settings.getDoubleFormatterPrecision());
     }
 
     @Override
@@ -175,6 +193,18 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             LOGGER.info().append("Session ").append(this).append(" will have 'run-forever' schedule").commit();
     }
 
+    /**
+     * Use given timer (usually shared by many sessions) for heartbeat monitoring and session end instead of {@link GlobalTimer}.
+     * Should be called before session is started.
+     */
+    public void setTimer(HashedWheelTimer timer) {
+        this.timer = timer;
+        if (timer != null) {
+            sessionMonitoringTimerTask = new HashedWheelTimer.Task(new SessionMonitoringTask(this));
+            sessionEndTimerTask = new HashedWheelTimer.Task(new SessionEndTask(this));
+        }
+    }
+
     //@Deprecated // TODO: Switch to use CAS version
     protected void setSessionStatus(SessionStatus newStatus) {
         final SessionStatus oldStatus = this.status.get();
@@ -225,7 +255,10 @@ public abstract class FixCommunicator implements FixSession, Loggable {
         this.messageLog = (messageLogFactory != null) ? messageLogFactory.create(getSessionID()) : null;
 
         this.in = in;
-        this.out = (messageLog != null) ? new LoggingOutputChannel(messageLog, out) : out;
+        synchronized (sendLock) {
+            messageAssembler.discard(); // leftovers from previous connection are in message store
+            this.out = (messageLog != null) ? new LoggingOutputChannel(messageLog, out) : out;
+        }
     }
 
     protected void init() {
@@ -238,9 +271,14 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             if (!(messageStore instanceof SafeMessageStore) && !(messageStore instanceof EmptyMessageStore))
                 messageStore = new SafeMessageStore(messageStore);
         }
+
+        if (outboundRing != null)
+            outboundRing.start("FIX Sender " + getSessionID(), settings.getThreadFactory());
     }
 
     protected void destroy(){
+        if (outboundRing != null)
+            outboundRing.halt();
     }
 
     /** Process inbound messages until session ends */
@@ -276,20 +314,78 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             }
             LOGGER.error().append(this).append("Finishing FIX session").commit();
             normalExit = true;
-        } catch (InvalidFixMessageException e) {
-            errorProcessingMessage("Protocol Error", e, false);
-        } catch (ConnectionProblemException e) {
-            errorProcessingMessage("Connection Problem", e, false);
-        } catch (SocketException e) {
-            errorProcessingMessage("Socket Error (Other side disconnected?)", e, false);
         } catch (Exception e) {
-            errorProcessingMessage("General error", e, true);
+            errorProcessingMessages(e);
         }
 
         assertSessionStatus(SessionStatus.Disconnected);
         return normalExit;
     }
 
+    /**
+     * Non-blocking counterpart of {@link #processInboundMessages(byte[], int)}. Must be called once when session is connected to non-blocking input channel.
+     * Subsequent inbound data should be consumed by {@link #processAvailableInboundMessages()}.
+     * @param logonBuffer buffer containing session LOGON message and may be some other messages or a part of them (can be null)
+     * @param length actual number of bytes that should be consumed from logonBuffer
+     * @return false if session was disconnected
+     */
+    protected final boolean startInboundMessages(byte[] logonBuffer, int length) {
+        LOGGER.info().append(this).append("Processing FIX Session (non-blocking)").commit();
+        inboundMessageBufferOffset = 0;
+        if (logonBuffer != null) {
+            try {
+                System.arraycopy(logonBuffer, 0, inboundMessageBuffer, 0, length);
+                inboundMessageBufferOffset = processInboundMessages(length);
+            } catch (Exception e) {
+                errorProcessingMessages(e);
+                return false;
+            }
+        }
+        return getSessionStatus() != SessionStatus.Disconnected;
+    }
+
+    /**
+     * Performs single read from non-blocking input channel and processes all complete messages.
+     * Incomplete trailing message is kept until the next call. Does not block if there is no data to read.
+     * @return false if session was disconnected
+     */
+    protected final boolean processAvailableInboundMessages() {
+        final InputChannel in = this.in;
+        if (in == null)
+            return false;
+
+        try {
+            final int offset = inboundMessageBufferOffset;
+            final int bytesRead = in.read(inboundMessageBuffer, offset, inboundMessageBuffer.length - offset);
+            if (bytesRead < 0) {
+                if (closeInProgress) {
+                    disconnect("No socket data");
+                    return false;
+                }
+                throw ConnectionProblemException.NO_SOCKET_DATA;
+            }
+            if (bytesRead > 0)
+                inboundMessageBufferOffset = processInboundMessages(offset + bytesRead);
+        } catch (Exception e) {
+            errorProcessingMessages(e);
+            return false;
+        }
+        return getSessionStatus() != SessionStatus.Disconnected;
+    }
+
+    private void errorProcessingMessages(Exception e) {
+        if (e instanceof InvalidFixMessageException)
+            errorProcessingMessage("Protocol Error", e, false);
+        else if (e instanceof ConnectionProblemException)
+            errorProcessingMessage("Connection Problem", e, false);
+        else if (e instanceof SocketException)
+            errorProcessingMessage("Socket Error (Other side disconnected?)", e, false);
+        else if (e instanceof SocketTimeoutException)
+            errorProcessingMessage("Socket Timeout", e, false);
+        else
+            errorProcessingMessage("General error", e, true);
+    }
+
     protected void errorProcessingMessage(String errorText, Exception e, boolean logStackTrace) {
         //if (active) {
             if (logStackTrace)
@@ -307,12 +403,12 @@ public abstract class FixCommunicator implements FixSession, Loggable {
         int readMessageLength;
         while ((readMessageLength = bytesRead - messageStart) >= MIN_FIX_MESSAGE_LENGTH) {
 
-            parser.set(inboundMessageBuffer, messageStart, readMessageLength);
+            headerParser.set(inboundMessageBuffer, messageStart, readMessageLength);
 
             // All FIX messages begin with 3 required tags: BeginString, BodyLength, and MsgType.
-            FixCommunicatorHelper.parseBeginString(parser, beginString);
-            final int bodyLength = FixCommunicatorHelper.parseBodyLength(parser);
-            final int msgTypeStart = parser.getOffset();
+            FixCommunicatorHelper.parseBeginString(headerParser, beginString);
+            final int bodyLength = FixCommunicatorHelper.parseBodyLength(headerParser);
+            final int msgTypeStart = headerParser.getOffset();
 
             final int lengthOfBeginStringAndBodyLength = msgTypeStart - messageStart;
             final int messageLength = lengthOfBeginStringAndBodyLength + bodyLength + CHECKSUM_LENGTH; // BodyLength is the number of characters in the message following the BodyLength field up to, and including, the delimiter immediately preceding the CheckSum tag ("10=123|")
@@ -321,21 +417,31 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             if (readMessageLength < messageLength)
                 break; // retry after we read full message in the buffer
 
-            parser.set(inboundMessageBuffer, msgTypeStart, bodyLength);
+            final ChecksumValidation checksumValidation = settings.getInboundChecksumValidation();
+            if (checksumValidation != ChecksumValidation.NONE && ! FixCommunicatorHelper.isValidChecksum(inboundMessageBuffer, messageStart, messageLength)) {
+                if (checksumValidation == ChecksumValidation.DISCONNECT)
+                    throw InvalidFixMessageException.BAD_CHECKSUM;
+
+                LOGGER.warn().append(this).append("Ignoring garbled message (invalid CheckSum(10))").commit();
+                if (messageLog != null)
+                    messageLog.log(true, inboundMessageBuffer, messageStart, messageLength);
+                messageStart += messageLength;
+                continue;
+            }
 
-            if ( ! parser.next())
+            // tokenize entire message once: header fields are looked up by index, handlers iterate the same index
+            parser.set(inboundMessageBuffer, messageStart, messageLength);
+
+            if (parser.find(FixTags.MsgType) < 0)
                 throw InvalidFixMessageException.MISSING_MSG_TYPE;
 
-            parser.getByteSequence(msgType);
+            parser.getByteSequence(FixTags.MsgType, msgType);
 
             if (messageLog != null)
                 messageLog.log(true, inboundMessageBuffer, messageStart, messageLength);
 
             final int msgSeqNum = FixCommunicatorHelper.findMsgSeqNum(parser);
 
-            // set parser limit to consume single message
-            parser.set(inboundMessageBuffer, messageStart, messageLength);
-
             processInboundMessage(parser, msgType, msgSeqNum);
 
             messageStart += messageLength; // go to next message
@@ -393,10 +499,22 @@ public abstract class FixCommunicator implements FixSession, Loggable {
     }
 
     /**
-     * Sends a message using next sequence number. This message is persisted in message store
+     * Sends a message using next sequence number. This message is persisted in message store.
+     * In multi-producer send mode message is queued for writer thread (see {@link FixSettings#isMultiProducerSend()}).
+     * Errors that writer thread encounters later are reported to {@link #errorSendingMessage(Exception)}.
      */
     @Override
     public void send(MessageBuilder messageBuilder) throws IOException {
+        if (outboundRing != null) {
+            checkConnectedForQueuedSend();
+            outboundRing.publish(messageBuilder, timeSource.currentTimeMillis());
+        } else {
+            sendNow(messageBuilder);
+        }
+    }
+
+    /** Sends a message using next sequence number in the calling thread */
+    private void sendNow(MessageBuilder messageBuilder) throws IOException {
         long now = timeSource.currentTimeMillis();
         synchronized (sendLock) {
             int msgSeqNum = sessionState.consumeNextSenderSeqNum();
@@ -405,6 +523,47 @@ public abstract class FixCommunicator implements FixSession, Loggable {
         sessionState.setLastSentMessageTimestamp(now);
     }
 
+    /**
+     * Sends a batch of messages using consecutive sequence numbers (in multi-producer send mode messages of concurrent producers may interleave). Each message is persisted in message store.
+     */
+    @Override
+    public void send(MessageBuilder [] batch, int count) throws IOException {
+        long now = timeSource.currentTimeMillis();
+        if (outboundRing != null) {
+            checkConnectedForQueuedSend();
+            for (int i = 0; i < count; i++)
+                outboundRing.publish(batch[i], now); // writer thread coalesces whatever is available
+            return;
+        }
+
+        synchronized (sendLock) {
+            final OutputChannel out = this.out;
+            try {
+                for (int i = 0; i < count; i++) {
+                    int msgSeqNum = sessionState.consumeNextSenderSeqNum();
+                    messageAssembler.append(getSessionID(), msgSeqNum, batch[i], messageStore, now, out);
+                }
+            } finally {
+                messageAssembler.flush(out);  // messages that made it into message store must reach the wire
+            }
+        }
+        sessionState.setLastSentMessageTimestamp(now);
+    }
+
+    /** Multi-producer send mode: fail in the calling thread (like direct send does) rather than in writer thread */
+    private void checkConnectedForQueuedSend() {
+        if (out == null && settings.isSendRequiresConnect())
+            throw new IllegalStateException("Not connected");
+    }
+
+    /**
+     * Called by writer thread in multi-producer send mode when queued message cannot be sent ({@link #send(MessageBuilder)} has already returned to the caller).
+     * Messages that made it into message store can be re-sent on counter-party request. Override to monitor asynchronous send errors.
+     */
+    protected void errorSendingMessage(Exception e) {
+        LOGGER.warn().append(this).append("Error sending outbound message: ").append(e).commit();
+    }
+
     /**
      * Resend a message with given sequence number. The message is not persisted in message store.
      */
@@ -439,7 +598,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
                     messageStore.clean();
                 }
 
-                send(sessionMessageBuilder);
+                sendNow(sessionMessageBuilder);
             }
         }
     }
@@ -454,7 +613,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
                     sessionMessageBuilder.setMessageType(MsgType.LOGOUT);
                     if (cause != null)
                         sessionMessageBuilder.add(FixTags.Text, cause);
-                    send(sessionMessageBuilder);
+                    sendNow(sessionMessageBuilder);
                 }
             } catch (IOException e) {
                 LOGGER.warn().append(this).append("Error logging out from FIX session: ").append(e).commit();
@@ -475,7 +634,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             sessionMessageBuilder.setMessageType(MsgType.HEARTBEAT);
             if (testReqId!= null)
                 sessionMessageBuilder.add(FixTags.TestReqID, testReqId);
-            send(sessionMessageBuilder);
+            sendNow(sessionMessageBuilder);
         }
     }
 
@@ -491,7 +650,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             sessionMessageBuilder.clear();
             sessionMessageBuilder.setMessageType(MsgType.TEST_REQUEST);
             sessionMessageBuilder.add(FixTags.TestReqID, testReqId);
-            send(sessionMessageBuilder);
+            sendNow(sessionMessageBuilder);
         }
     }
 
@@ -502,18 +661,36 @@ public abstract class FixCommunicator implements FixSession, Loggable {
      * @param text optional explanation message
      */
     protected void sendReject(int rejectedMsgSeqNum, SessionRejectReason rejectReason, CharSequence text) throws IOException {
+        sendReject(rejectedMsgSeqNum, rejectReason, 0, null, text);
+    }
+
+    /**
+     * @param rejectedMsgSeqNum MsgSeqNum(34) of rejected message
+     * This method sends FIX Reject(3).
+     * @param rejectReason optional reject reason
+     * @param refTagID optional tag number of the field that caused rejection (zero if not applicable)
+     * @param refMsgType optional MsgType(35) of rejected message
+     * @param text optional explanation message
+     */
+    protected void sendReject(int rejectedMsgSeqNum, SessionRejectReason rejectReason, int refTagID, CharSequence refMsgType, CharSequence text) throws IOException {
         assertSessionStatus(SessionStatus.ApplicationConnected);
         synchronized (sessionMessageBuilder) {
             sessionMessageBuilder.clear();
             sessionMessageBuilder.setMessageType(MsgType.REJECT);
             sessionMessageBuilder.add(FixTags.RefSeqNum, rejectedMsgSeqNum);
 
+            if (refTagID > 0)
+                sessionMessageBuilder.add(FixTags.RefTagID, refTagID);
+
+            if (refMsgType != null)
+                sessionMessageBuilder.add(FixTags.RefMsgType, refMsgType);
+
             if (rejectReason != null)
                 sessionMessageBuilder.add(FixTags.SessionRejectReason, rejectReason);
 
             if (text != null)
                 sessionMessageBuilder.add(FixTags.Text, text);
-            send(sessionMessageBuilder);
+            sendNow(sessionMessageBuilder);
         }
     }
 
@@ -533,7 +710,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
 
             sessionMessageBuilder.add(FixTags.BeginSeqNo, beginSeqNo);
             sessionMessageBuilder.add(FixTags.EndSeqNo, endSeqNo-1);
-            send(sessionMessageBuilder);
+            sendNow(sessionMessageBuilder);
         }
 
     }
@@ -576,7 +753,7 @@ public abstract class FixCommunicator implements FixSession, Loggable {
 
             synchronized (sendLock) {
                 sessionState.setNextSenderSeqNum(newSeqNo - 1);
-                send(sessionMessageBuilder); // In reset mode MsgSeqNum should be ignored
+                sendNow(sessionMessageBuilder); // In reset mode MsgSeqNum should be ignored
             }
         }
     }
@@ -587,23 +764,24 @@ public abstract class FixCommunicator implements FixSession, Loggable {
         long now = timeSource.currentTimeMillis();
         sessionState.setLastReceivedMessageTimestamp(now); //? maybe extract from message SendingTime(52) field?
 
+        final int msgTypeCode = MsgTypeLookup.getCode(msgType);
         SessionStatus currentStatus = getSessionStatus();
         switch (currentStatus) {
             case ApplicationConnected:
             case InitiatedLogout:
-                processInSessionMessage(msgSeqNumX, msgType, parser);
+                processInSessionMessage(msgSeqNumX, msgTypeCode, msgType, parser);
                 break;
             case SocketConnected:
-                if (FixCommunicatorHelper.isLogon(msgType))
+                if (msgTypeCode == MsgTypeCodes.LOGON)
                     processInboundLogon(msgSeqNumX, parser);
                 else
                     throw InvalidFixMessageException.EXPECTING_LOGON_MESSAGE;
 
                 break;
             case InitiatedLogon:
-                if(FixCommunicatorHelper.isLogon(msgType))
+                if (msgTypeCode == MsgTypeCodes.LOGON)
                     processInboundLogon(msgSeqNumX, parser);
-                else if(FixCommunicatorHelper.isLogout(msgType))
+                else if (msgTypeCode == MsgTypeCodes.LOGOUT)
                     processInboundLogout(msgSeqNumX, parser);
                 else
                     throw InvalidFixMessageException.EXPECTING_LOGON_MESSAGE;
@@ -614,39 +792,55 @@ public abstract class FixCommunicator implements FixSession, Loggable {
 
     }
 
-    private void processInSessionMessage(int msgSeqNumX, CharSequence msgType, MessageParser parser) throws IOException, InvalidFixMessageException, ConnectionProblemException {
-        boolean processed = true;
-        if (msgType.length() == 1) { // All session-level messages have MsgType expressed using single char
-            switch (msgType.charAt(0)) {
-                case AdminMessageTypes.LOGON:
-                    processInboundLogon(msgSeqNumX, parser); break;
-                case AdminMessageTypes.LOGOUT:
-                    processInboundLogout(msgSeqNumX, parser); break;
-                case AdminMessageTypes.HEARTBEAT:
-                    processInboundHeartbeat(msgSeqNumX, parser);
-                    break;
-                case AdminMessageTypes.TEST:
-                    processInboundTestRequest(msgSeqNumX, parser); break;
-                case AdminMessageTypes.RESEND:
-                    processInboundResendRequest(msgSeqNumX, parser); break;
-                case AdminMessageTypes.REJECT:
-                    processInboundReject(msgSeqNumX, parser); break;
-                case AdminMessageTypes.RESET:
-                    processInboundSequenceReset(msgSeqNumX, parser); break;
-                default:
-                    processed = false;
-            }
+    private void processInSessionMessage(int msgSeqNumX, int msgTypeCode, CharSequence msgType, MessageParser parser) throws IOException, InvalidFixMessageException, ConnectionProblemException {
+        if (validator != null && getSessionStatus() == SessionStatus.ApplicationConnected && ! validator.validate(msgType, parser)) {
+            rejectInvalidMessage(msgSeqNumX, msgType);
+            return;
+        }
+
+        switch (msgTypeCode) {
+            case MsgTypeCodes.LOGON:
+                processInboundLogon(msgSeqNumX, parser); break;
+            case MsgTypeCodes.LOGOUT:
+                processInboundLogout(msgSeqNumX, parser); break;
+            case MsgTypeCodes.HEARTBEAT:
+                processInboundHeartbeat(msgSeqNumX, parser);
+                break;
+            case MsgTypeCodes.TEST_REQUEST:
+                processInboundTestRequest(msgSeqNumX, parser); break;
+            case MsgTypeCodes.RESEND_REQUEST:
+                processInboundResendRequest(msgSeqNumX, parser); break;
+            case MsgTypeCodes.REJECT:
+                processInboundReject(msgSeqNumX, parser); break;
+            case MsgTypeCodes.SEQUENCE_RESET:
+                processInboundSequenceReset(msgSeqNumX, parser); break;
+            default:
+                _processInboundAppMessage(msgTypeCode, msgType, msgSeqNumX, parser);
+        }
+    }
+
+    /** Responds with Reject(3) to inbound message that failed dictionary validation. Rejected message still consumes its sequence number. */
+    private void rejectInvalidMessage(int msgSeqNumX, CharSequence msgType) throws IOException, InvalidFixMessageException {
+        final int refSeqNum;
+        if (msgSeqNumX > 0) {
+            int expectedTargetSeqNum = sessionState.getNextTargetSeqNum();
+            if ( ! checkTargetMsgSeqNum(msgSeqNumX, expectedTargetSeqNum))
+                sendResendRequest(expectedTargetSeqNum, msgSeqNumX - 1);
+
+            sessionState.setNextTargetSeqNum(msgSeqNumX + 1);
+            refSeqNum = msgSeqNumX;
         } else {
-            processed = false;
+            refSeqNum = -msgSeqNumX;
         }
-        if ( ! processed)
-            _processInboundAppMessage(msgType, msgSeqNumX, parser);
+
+        LOGGER.warn().append(this).append("Rejecting inbound message (35=").append(msgType).append(") #").append(refSeqNum).append(": ").append(validator.getRejectText()).append(" (").append(validator.getRefTagID()).append(')').commit();
+        sendReject(refSeqNum, validator.getRejectReason(), validator.getRefTagID(), msgType, validator.getRejectText());
     }
 
     /**
      * @param msgSeqNumX message sequence number (negative for messages that have PossDupFlag=Y).
      */
-    private void _processInboundAppMessage(CharSequence msgType, int msgSeqNumX, MessageParser parser) throws IOException, InvalidFixMessageException {
+    private void _processInboundAppMessage(int msgTypeCode, CharSequence msgType, int msgSeqNumX, MessageParser parser) throws IOException, InvalidFixMessageException {
         LOGGER.debug().append(this).append("Processing inbound message with type: ").append(msgType).commit();
 
         final boolean possDup;
@@ -662,7 +856,26 @@ public abstract class FixCommunicator implements FixSession, Loggable {
             possDup = true;
         }
 
-        processInboundAppMessage(msgType, msgSeqNumX, possDup, parser);
+        processInboundAppMessage(msgTypeCode, msgType, msgSeqNumX, possDup, parser);
+    }
+
+    /**
+     * Override this method to dispatch application messages using switch on int code rather than comparing message types, for example:
+     * <pre>
+     * switch (msgTypeCode) {
+     *     case MsgTypeCodes.ORDER_SINGLE: ...
+     *     case MsgTypeCodes.ORDER_CANCEL_REQUEST: ...
+     * }
+     * </pre>
+     * By default delegates to {@link #processInboundAppMessage(CharSequence, int, boolean, MessageParser)}.
+     *
+     * @param msgTypeCode type of the message packed into int (see {@link MsgTypeLookup}), or {@link MsgTypeLookup#UNDEFINED_CODE} for types longer than two characters.
+     * @param msgType type of the message [tag MsgType(35)].
+     * @param msgSeqNum message sequence number [tag MsgSeqNum(34)].
+     * @param possDup <code>true</code> if this message is marked as a duplicate using tag PossDupFlag(43)
+     */
+    protected void processInboundAppMessage(int msgTypeCode, CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
+        processInboundAppMessage(msgType, msgSeqNum, possDup, parser);
     }
 
     /**
@@ -977,7 +1190,17 @@ public abstract class FixCommunicator implements FixSession, Loggable {
      * @return true if a message with this msgType requires the resending otherwise false
      */
     protected boolean isResendRequired(CharSequence msgType){
-        return ! AdminMessageTypes.isAdmin(msgType) || msgType.charAt(0) == AdminMessageTypes.REJECT; // do not resend Admin message unless it is a REJECT(3)
+        switch (MsgTypeLookup.getCode(msgType)) {
+            case MsgTypeCodes.HEARTBEAT:
+            case MsgTypeCodes.TEST_REQUEST:
+            case MsgTypeCodes.RESEND_REQUEST:
+            case MsgTypeCodes.SEQUENCE_RESET:
+            case MsgTypeCodes.LOGOUT:
+            case MsgTypeCodes.LOGON:
+                return false; // do not resend Admin message unless it is a REJECT(3)
+            default:
+                return true;
+        }
     }
 
     private void processInboundSequenceReset(int msgSeqNumX, MessageParser parser) throws IOException, InvalidFixMessageException {
@@ -1066,36 +1289,50 @@ public abstract class FixCommunicator implements FixSession, Loggable {
 
     /** Schedules a timer to finish current FIX session according to FIX Session Schedule */
     protected void scheduleSessionEnd(long timeout) {
-        SessionEndTask timer = new SessionEndTask(this);
-        GlobalTimer.getInstance().schedule(timer, timeout);
+        final HashedWheelTimer timer = this.timer;
+        if (timer != null) {
+            timer.schedule(sessionEndTimerTask, timeout);
+        } else {
+            SessionEndTask task = new SessionEndTask(this);
+            GlobalTimer.getInstance().schedule(task, timeout);
 
-        sessionEndTask.set(timer);
+            sessionEndTask.set(task);
+        }
     }
 
     /** Cancels a timer that was defined to finish current FIX session (if defined) */
     protected void unscheduleSessionEnd() {
-        TimerTask timer = sessionEndTask.getAndSet(null);
-        if (timer != null)
-            timer.cancel();
+        if (sessionEndTimerTask != null)
+            sessionEndTimerTask.cancel();
+
+        TimerTask task = sessionEndTask.getAndSet(null);
+        if (task != null)
+            task.cancel();
     }
 
     protected synchronized void scheduleSessionMonitoring() {
         int checkIntervalMs = settings.getHeartbeatCheckIntervalMs();
         if (checkIntervalMs > 0) {
-            if (sessionMonitoringTask.get() == null) {
-                SessionMonitoringTask timer = new SessionMonitoringTask(this);
-                GlobalTimer.getInstance().schedule(timer, checkIntervalMs, checkIntervalMs);
-                sessionMonitoringTask.set(timer);
-            } else {
+            final HashedWheelTimer timer = this.timer;
+            if (sessionMonitoringTask.get() != null || (sessionMonitoringTimerTask != null && sessionMonitoringTimerTask.isScheduled())) {
                 LOGGER.warn().append(this).append("Monitoring task already defined").commit();
+            } else if (timer != null) {
+                timer.schedule(sessionMonitoringTimerTask, checkIntervalMs, checkIntervalMs);
+            } else {
+                SessionMonitoringTask task = new SessionMonitoringTask(this);
+                GlobalTimer.getInstance().schedule(task, checkIntervalMs, checkIntervalMs);
+                sessionMonitoringTask.set(task);
             }
         }
     }
 
     protected synchronized void unscheduleSessionMonitoring() {
-        TimerTask timer = sessionMonitoringTask.getAndSet(null);
-        if (timer != null)
-            timer.cancel();
+        if (sessionMonitoringTimerTask != null)
+            sessionMonitoringTimerTask.cancel();
+
+        TimerTask task = sessionMonitoringTask.getAndSet(null);
+        if (task != null)
+            task.cancel();
     }
 
     SessionState getSessionState() {
@@ -1125,4 +1362,31 @@ public abstract class FixCommunicator implements FixSession, Loggable {
     public void appendTo(GFLogEntry entry) {
         LogUtils.log(getSessionID(), entry);
     }
+
+    /** Drains outbound ring in multi-producer send mode */
+    private final class OutboundRingWriter implements EventHandler<OutboundMessageRing.Slot> {
+        @Override
+        public void onEvent(OutboundMessageRing.Slot slot, long sequence, boolean endOfBatch) {
+            synchronized (sendLock) {
+                final OutputChannel out = FixCommunicator.this.out;
+                try {
+                    if (slot.length >= 0) {
+                        int msgSeqNum = sessionState.consumeNextSenderSeqNum();
+                        if (out == null && settings.isSendRequiresConnect()) {
+                            // connection was lost after message was queued: keep it for resend request that will follow next LOGON
+                            messageAssembler.store(getSessionID(), msgSeqNum, slot.msgType, slot.body, 0, slot.length, slot.byteSum, messageStore, slot.sendingTime);
+                            LOGGER.warn().append(FixCommunicator.this).append("Outbound message #").append(msgSeqNum).append(" is stored but not sent (Not connected)").commit();
+                        } else {
+                            messageAssembler.append(getSessionID(), msgSeqNum, slot.msgType, slot.body, 0, slot.length, slot.byteSum, messageStore, slot.sendingTime, out);
+                            sessionState.setLastSentMessageTimestamp(slot.sendingTime);
+                        }
+                    }
+                    if (endOfBatch)
+                        messageAssembler.flush(out);
+                } catch (Exception e) {
+                    errorSendingMessage(e);
+                }
+            }
+        }
+    }
 }
@@ -16,11 +16,14 @@ package org.f1x.v1;
 
 import org.f1x.api.message.MessageParser;
 import org.f1x.api.message.fields.FixTags;
+import org.f1x.util.parse.ByteScanner;
 
 import java.io.IOException;
 
 class FixCommunicatorHelper {
 
+    private static final byte SOH = 1;
+
     static void parseBeginString(MessageParser parser, byte [] beginString) throws InvalidFixMessageException {
         if ( ! parser.next())
             throw InvalidFixMessageException.EMPTY_MESSAGE;
@@ -50,12 +53,21 @@ class FixCommunicatorHelper {
             throw InvalidFixMessageException.MESSAGE_TOO_LARGE;
     }
 
-    static boolean isLogon(CharSequence msgType) {
-        return msgType.length() == 1 && msgType.charAt(0) == AdminMessageTypes.LOGON;
-    }
-
-    static boolean isLogout(CharSequence msgType) {
-        return msgType.length() == 1 && msgType.charAt(0) == AdminMessageTypes.LOGOUT;
+    /** @return true if message ends with CheckSum(10) field ("10=123|") that matches message content */
+    static boolean isValidChecksum(byte [] buffer, int messageStart, int messageLength) {
+        final int checksumStart = messageStart + messageLength - FixCommunicator.CHECKSUM_LENGTH;
+        if (checksumStart < messageStart ||
+            buffer[checksumStart] != '1' || buffer[checksumStart + 1] != '0' || buffer[checksumStart + 2] != '=' || buffer[checksumStart + 6] != SOH)
+            return false;
+
+        int expected = 0;
+        for (int i = checksumStart + 3; i < checksumStart + 6; i++) {
+            final int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            expected = 10*expected + digit;
+        }
+        return ByteScanner.sum(buffer, messageStart, checksumStart) == expected;
     }
 
     /**
@@ -90,5 +102,19 @@ class FixCommunicatorHelper {
         return msgSeqNum;
     }
 
+    /** Same as {@link #findMsgSeqNum(MessageParser)} but uses index of already tokenized message instead of scanning it */
+    static int findMsgSeqNum(IndexedMessageParser parser) throws InvalidFixMessageException {
+        if (parser.find(FixTags.MsgSeqNum) < 0)
+            throw InvalidFixMessageException.NO_MSG_SEQ_NUM;
+
+        int msgSeqNum = parser.getInt(FixTags.MsgSeqNum);
+        if(msgSeqNum < 1)
+            throw InvalidFixMessageException.MSG_SEQ_NUM_MUST_BE_POSITIVE;
+
+        if (parser.find(FixTags.PossDupFlag) >= 0 && parser.getBoolean(FixTags.PossDupFlag))
+            msgSeqNum = -msgSeqNum; // negative result marks duplicate
+        return msgSeqNum;
+    }
+
 
 }
@@ -71,6 +71,39 @@ public class FixSessionAcceptor extends FixSocketCommunicator {
         }
     }
 
+    /**
+     * Non-blocking alternative of {@link #run(byte[], int)} used by {@link FixSessionEventLoop}.
+     * Starts FIX session over connected non-blocking channel and consumes given LOGON buffer.
+     * Remaining inbound traffic is consumed by {@link #processAvailableInboundMessages()}.
+     * Caller must always invoke {@link #stopNonBlocking()} once session is over.
+     * @return false if session was not started or got disconnected immediately
+     */
+    boolean startNonBlocking(byte[] logonBuffer, int length) {
+        checkLogonBuffer(logonBuffer, length);
+        if (!running.compareAndSet(false, true))
+            throw new IllegalStateException("Already running");
+
+        init();
+        assertSessionStatus(SessionStatus.SocketConnected);
+
+        if ( ! startSession()) {
+            disconnect("Session is down");
+            return false;
+        }
+        return startInboundMessages(logonBuffer, length);
+    }
+
+    /** Releases resources of the session started by {@link #startNonBlocking(byte[], int)} */
+    void stopNonBlocking() {
+        try {
+            endSession();
+            destroy();
+        } finally {
+            closeInProgress = false;
+            running.set(false);
+        }
+    }
+
     protected void work(byte[] logonBuffer, int length) {
         assertSessionStatus(SessionStatus.SocketConnected);
 
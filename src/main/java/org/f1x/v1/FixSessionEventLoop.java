@@ -0,0 +1,488 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.FixInitiatorSettings;
+import org.f1x.api.session.SessionManager;
+import org.f1x.api.session.SessionStatus;
+import org.f1x.io.parsers.SimpleMessageScanner;
+import org.f1x.util.RealTimeSource;
+import org.f1x.util.TimeSource;
+import org.gflogger.GFLog;
+import org.gflogger.GFLogFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Selector-based event loop that multiplexes inbound traffic of many FIX sessions over a single I/O thread.
+ * Sessions are connected to non-blocking socket channels and reuse regular inbound message processing of {@link FixCommunicator}.
+ * Outbound messages are still written directly by the thread that calls {@link FixCommunicator#send}.
+ *
+ * <p>Session-level replies (Heartbeat, answers to TestRequest, message ranges requested by ResendRequest) are written by the event loop thread.
+ * Writes into non-blocking channel spin while socket send buffer is full, so a counter-party that stops reading would stall all sessions of the loop.
+ * This spin is bounded by {@link SocketOptions#getSocketWriteTimeout()}: when it expires the slow session is disconnected and the loop continues.
+ * Keep this timeout small for loops that serve many sessions.</p>
+ *
+ * <p>Each event loop is driven by one thread: <code>new Thread(eventLoop).start()</code>.
+ * Use several event loops (e.g. one per CPU core, threads created by affinity-aware ThreadFactory) to spread large number of sessions.</p>
+ *
+ * @see EventLoopSessionAcceptor
+ */
+public class FixSessionEventLoop implements Runnable {
+
+    protected static final GFLog LOGGER = GFLogFactory.getLog(FixSessionEventLoop.class);
+
+    /** Default period (in milliseconds) of housekeeping checks: logon timeouts, reconnects, disconnected sessions */
+    public static final long DEFAULT_CHECK_INTERVAL = 100;
+
+    private final Selector selector;
+    private final long checkInterval;
+    private final TimeSource timeSource;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean active = true;
+
+    private final Queue<EventHandler> pendingHandlers = new ConcurrentLinkedQueue<>();
+
+    // used by event loop thread only
+    private final List<EventHandler> handlers = new ArrayList<>();
+    private boolean checkRequired; // some handler dropped its connection and should be checked without waiting for check interval
+
+    public FixSessionEventLoop() throws IOException {
+        this(DEFAULT_CHECK_INTERVAL, RealTimeSource.INSTANCE);
+    }
+
+    /**
+     * @param checkInterval period of housekeeping checks in milliseconds (logon timeouts, reconnects, disconnected sessions)
+     */
+    public FixSessionEventLoop(long checkInterval, TimeSource timeSource) throws IOException {
+        if (checkInterval < 1)
+            throw new IllegalArgumentException("checkInterval < 1");
+
+        this.selector = Selector.open();
+        this.checkInterval = checkInterval;
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Hands over inbound connection to this event loop. LOGON message is awaited on the event loop thread,
+     * after that FIX acceptor is locked in given session manager and serves the connection until disconnect.
+     *
+     * @param logonTimeout in milliseconds
+     * @param onClose optional callback invoked on event loop thread when connection is closed
+     */
+    public void register(SocketChannel channel, SessionManager manager, int logonBufferSize, int logonTimeout, Runnable onClose) {
+        register(new AcceptedConnection(channel, manager, logonBufferSize, logonTimeout, onClose));
+    }
+
+    /**
+     * Makes this event loop responsible for given FIX initiator: connection, LOGON, inbound messages, and reconnects.
+     * Initiator should not be run by any other thread. Use {@link FixSessionInitiator#close()} to terminate it.
+     */
+    public void register(FixSessionInitiator initiator) {
+        register(new InitiatorConnection(initiator));
+    }
+
+    private void register(EventHandler handler) {
+        if ( ! active)
+            throw new IllegalStateException("Event loop is closed");
+
+        pendingHandlers.add(handler);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        if ( ! running.compareAndSet(false, true))
+            throw new IllegalStateException("Event loop is already running");
+
+        LOGGER.info().append("FIX event loop started").commit();
+        try {
+            long nextCheckTime = 0;
+            while (active) {
+                addPendingHandlers();
+
+                selector.select(checkInterval);
+                processSelectedKeys();
+
+                final long now = timeSource.currentTimeMillis();
+                if (checkRequired || now >= nextCheckTime) {
+                    checkRequired = false;
+                    checkHandlers(now);
+                    nextCheckTime = now + checkInterval;
+                }
+            }
+        } catch (Throwable e) {
+            LOGGER.error().append("Terminating FIX event loop due to error").append(e).commit();
+        } finally {
+            shutdown();
+            running.set(false);
+        }
+    }
+
+    /** Stops event loop. All sessions served by this loop will be disconnected. */
+    public void close() {
+        active = false;
+        selector.wakeup();
+    }
+
+    private void addPendingHandlers() {
+        EventHandler handler;
+        while ((handler = pendingHandlers.poll()) != null) {
+            try {
+                handler.open(timeSource.currentTimeMillis());
+                handlers.add(handler);
+            } catch (Throwable e) {
+                LOGGER.warn().append("Error registering connection in event loop: ").append(e).commit();
+                handler.close();
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            keys.remove();
+
+            final EventHandler handler = (EventHandler) key.attachment();
+            try {
+                if (key.isValid() && key.isConnectable())
+                    handler.onConnectable();
+                if (key.isValid() && key.isReadable())
+                    handler.onReadable();
+            } catch (Throwable e) {
+                LOGGER.warn().append("Error processing connection: ").append(e).commit();
+                handler.reset();
+            }
+        }
+    }
+
+    private void checkHandlers(long now) {
+        for (int i = handlers.size() - 1; i >= 0; i--) {
+            final EventHandler handler = handlers.get(i);
+            boolean keep;
+            try {
+                keep = handler.check(now);
+            } catch (Throwable e) {
+                LOGGER.warn().append("Error checking connection: ").append(e).commit();
+                keep = false;
+            }
+
+            if ( ! keep) {
+                handler.close();
+                handlers.remove(i);
+            }
+        }
+    }
+
+    private void shutdown() {
+        addPendingHandlers();
+        for (EventHandler handler : handlers)
+            handler.close();
+        handlers.clear();
+
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.warn().append("Error closing selector: ").append(e).commit();
+        }
+        LOGGER.info().append("FIX event loop stopped").commit();
+    }
+
+    private static void closeChannel(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn().append("Error closing socket channel: ").append(e).commit();
+        }
+    }
+
+
+    /** All methods are called by event loop thread */
+    private static abstract class EventHandler {
+
+        /** Called once handler is added to event loop */
+        abstract void open(long now) throws IOException;
+
+        void onConnectable() throws Exception {
+            throw new IllegalStateException();
+        }
+
+        abstract void onReadable() throws Exception;
+
+        /** Drops current connection after I/O or processing error */
+        abstract void reset();
+
+        /** Periodic housekeeping. @return false if handler should be removed from event loop */
+        abstract boolean check(long now);
+
+        /** Releases all resources when handler is removed from event loop */
+        abstract void close();
+    }
+
+
+    /** Inbound connection: awaits LOGON, then serves FIX acceptor that is locked in the session manager */
+    private final class AcceptedConnection extends EventHandler {
+        private final SocketChannel channel;
+        private final SessionManager manager;
+        private final byte [] logonBuffer;
+        private final ByteBuffer logonByteBuffer;
+        private final int logonTimeout;
+        private final Runnable onClose;
+        private final SessionIDByteReferences sessionID = new SessionIDByteReferences();
+
+        private long logonDeadline;
+        private int requiredLogonLength = SimpleMessageScanner.MIN_MESSAGE_LENGTH;
+        private SelectionKey key;
+        private FixSessionAcceptor acceptor;
+        private boolean closed;
+
+        AcceptedConnection(SocketChannel channel, SessionManager manager, int logonBufferSize, int logonTimeout, Runnable onClose) {
+            this.channel = channel;
+            this.manager = manager;
+            this.logonBuffer = new byte[logonBufferSize];
+            this.logonByteBuffer = ByteBuffer.wrap(logonBuffer);
+            this.logonTimeout = logonTimeout;
+            this.onClose = onClose;
+        }
+
+        @Override
+        void open(long now) throws IOException {
+            logonDeadline = now + logonTimeout;
+            channel.configureBlocking(false);
+            key = channel.register(selector, SelectionKey.OP_READ, this);
+        }
+
+        @Override
+        void onReadable() throws Exception {
+            if (closed)
+                return;
+
+            if (acceptor != null) {
+                if ( ! acceptor.processAvailableInboundMessages())
+                    reset();
+            } else {
+                waitLogon();
+            }
+        }
+
+        private void waitLogon() throws Exception {
+            if (channel.read(logonByteBuffer) < 0)
+                throw ConnectionProblemException.NO_SOCKET_DATA;
+
+            final int logonLength = logonByteBuffer.position();
+            if (logonLength >= requiredLogonLength) {
+                int parsingResult = SessionIDParser.parseOpposite(logonBuffer, 0, logonLength, sessionID);
+                if (parsingResult > 0) {
+                    startAcceptor(logonLength);
+                } else {
+                    requiredLogonLength = logonLength - parsingResult;
+                    if (requiredLogonLength > logonBuffer.length)
+                        throw SessionAcceptorWrapper.LogonMessageIsTooLongException.INSTANCE;
+                }
+            }
+        }
+
+        private void startAcceptor(int logonLength) throws Exception {
+            FixSessionAcceptor acceptor = manager.lockSession(sessionID);
+            this.acceptor = acceptor;
+            acceptor.connect(channel);
+            if ( ! acceptor.startNonBlocking(logonBuffer, logonLength))
+                reset();
+        }
+
+        /** Accepted connections are not reused: channel is closed at once (otherwise EOF keeps it readable), handler is removed by the next check */
+        @Override
+        void reset() {
+            if (closed)
+                return;
+
+            closed = true;
+            if (key != null)
+                key.cancel();
+            if (acceptor != null && acceptor.getSessionStatus() != SessionStatus.Disconnected)
+                acceptor.disconnect("Connection reset by event loop");
+            closeChannel(channel);
+            checkRequired = true;
+        }
+
+        @Override
+        boolean check(long now) {
+            if (closed || ! channel.isOpen()) // channel is also closed by socket write timeout in other threads
+                return false;
+
+            if (acceptor == null) {
+                if (now > logonDeadline) {
+                    LOGGER.warn().append("Error occurred during starting acceptor. Logon timeout expired").commit();
+                    return false;
+                }
+                return true;
+            }
+            return acceptor.getSessionStatus() != SessionStatus.Disconnected;
+        }
+
+        @Override
+        void close() {
+            if (acceptor != null) {
+                try {
+                    if (acceptor.getSessionStatus() != SessionStatus.Disconnected)
+                        acceptor.disconnect("Connection closed by event loop");
+                    acceptor.stopNonBlocking();
+                } finally {
+                    manager.unlockSession(sessionID);
+                    acceptor = null;
+                }
+            }
+
+            closeChannel(channel);
+            sessionID.clear();
+            closed = true;
+
+            if (onClose != null)
+                onClose.run();
+        }
+    }
+
+
+    /** Outbound connection of FIX initiator that is re-established until initiator is closed */
+    private final class InitiatorConnection extends EventHandler {
+        private final FixSessionInitiator initiator;
+        private final FixInitiatorSettings settings;
+
+        private SocketChannel channel;
+        private boolean connected;
+        private long nextConnectTime;
+
+        InitiatorConnection(FixSessionInitiator initiator) {
+            this.initiator = initiator;
+            this.settings = initiator.getSettings();
+        }
+
+        @Override
+        void open(long now) throws IOException {
+            initiator.startNonBlocking();
+            nextConnectTime = now;
+        }
+
+        private void connect(long now) {
+            final long timeToSessionStart = initiator.getTimeToSessionStart();
+            if (timeToSessionStart > 0) {
+                LOGGER.info().append("Waiting ").append(timeToSessionStart/1000).append(" seconds until next FIX Session").commit();
+                nextConnectTime = now + timeToSessionStart;
+                return;
+            }
+
+            final String host = initiator.getHost();
+            final int port = initiator.getPort();
+            try {
+                LOGGER.info().append("Connecting...").commit();
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                if (channel.connect(new InetSocketAddress(host, port)))
+                    onConnected();
+                else
+                    channel.register(selector, SelectionKey.OP_CONNECT, this);
+            } catch (IOException e) {
+                LOGGER.warn().append("Error connecting to server ").append(host).append(':').append(port).append(", will retry later").append(e).commit();
+                disconnected(now, settings.getConnectInterval());
+            }
+        }
+
+        @Override
+        void onConnectable() throws Exception {
+            try {
+                channel.finishConnect();
+            } catch (IOException e) {
+                LOGGER.info().append("Server ").append(initiator.getHost()).append(':').append(initiator.getPort()).append(" is unreachable, will retry later").commit();
+                disconnected(timeSource.currentTimeMillis(), settings.getConnectInterval());
+                return;
+            }
+            onConnected();
+        }
+
+        private void onConnected() throws IOException {
+            channel.register(selector, SelectionKey.OP_READ, this);
+            initiator.connect(channel);
+            connected = true;
+            initiator.startSessionNonBlocking();
+        }
+
+        @Override
+        void onReadable() throws Exception {
+            if ( ! initiator.processAvailableInboundMessages())
+                reset();
+        }
+
+        @Override
+        void reset() {
+            if (connected && initiator.getSessionStatus() != SessionStatus.Disconnected)
+                initiator.disconnect("Connection reset by event loop");
+
+            disconnected(timeSource.currentTimeMillis(), settings.getErrorRecoveryInterval());
+        }
+
+        private void disconnected(long now, long reconnectInterval) {
+            if (connected) {
+                connected = false;
+                initiator.endSession();
+            }
+            if (channel != null) {
+                closeChannel(channel);
+                channel = null;
+            }
+            nextConnectTime = now + reconnectInterval;
+        }
+
+        @Override
+        boolean check(long now) {
+            if (connected) {
+                if (initiator.getSessionStatus() != SessionStatus.Disconnected && ! channel.isOpen()) // closed by socket write timeout
+                    initiator.disconnect("Socket channel closed");
+                if (initiator.getSessionStatus() == SessionStatus.Disconnected)
+                    disconnected(now, settings.getErrorRecoveryInterval());
+            }
+
+            if (initiator.closeInProgress)
+                return connected;
+
+            if (channel == null && now >= nextConnectTime)
+                connect(now);
+
+            return true;
+        }
+
+        @Override
+        void close() {
+            try {
+                if (connected && initiator.getSessionStatus() != SessionStatus.Disconnected)
+                    initiator.disconnect("Connection closed by event loop");
+                disconnected(timeSource.currentTimeMillis(), 0);
+            } finally {
+                initiator.stopNonBlocking();
+            }
+        }
+    }
+}
@@ -22,8 +22,11 @@ import org.f1x.io.InputChannel;
 import org.f1x.io.OutputChannel;
 import org.f1x.v1.schedule.SessionTimes;
 
+import java.io.IOException;
 import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -36,6 +39,7 @@ public class FixSessionInitiator extends FixSocketCommunicator {
     private final int port;
 
     private final AtomicReference<Thread> initiatorThread = new AtomicReference<>();
+    private volatile boolean nonBlocking; // driven by FixSessionEventLoop
 
     public FixSessionInitiator(String host, int port, FixVersion fixVersion, SessionID sessionID) {
         this(host, port, fixVersion, sessionID, new FixInitiatorSettings());
@@ -58,6 +62,14 @@ public class FixSessionInitiator extends FixSocketCommunicator {
         return sessionID;
     }
 
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
     @Override
     public void run() {
         if ( ! initiatorThread.compareAndSet(null, Thread.currentThread()))
@@ -94,6 +106,53 @@ public class FixSessionInitiator extends FixSocketCommunicator {
         }
     }
 
+    /** Binds this initiator to the calling event loop thread. Non-blocking alternative of {@link #run()} used by {@link FixSessionEventLoop} */
+    void startNonBlocking() {
+        if ( ! initiatorThread.compareAndSet(null, Thread.currentThread()))
+            throw new IllegalStateException("Another thread already using this initiator");
+        nonBlocking = true;
+        init();
+    }
+
+    /** Releases initiator bound by {@link #startNonBlocking()} */
+    void stopNonBlocking() {
+        try {
+            destroy();
+        } finally {
+            nonBlocking = false;
+            initiatorThread.set(null);
+            LOGGER.info().append("Detached FIX Initiator from event loop").commit();
+        }
+    }
+
+    /** @return number of milliseconds until the next FIX session starts (zero if session is in progress or there is no schedule) */
+    long getTimeToSessionStart() {
+        if (schedule != null) {
+            long now = timeSource.currentTimeMillis();
+            long timeToWaitUntilNextSession = schedule.getCurrentSessionTimes(now).getStart() - now;
+            if (timeToWaitUntilNextSession > 0)
+                return timeToWaitUntilNextSession;
+        }
+        return 0;
+    }
+
+    /** Non-blocking counterpart of {@link #startSession(boolean)}, called by event loop once socket channel is connected */
+    void startSessionNonBlocking() {
+        boolean newFixSession = false;
+        if (schedule != null) {
+            long now = timeSource.currentTimeMillis();
+            newFixSession = scheduleSessionEnd(now, schedule.getCurrentSessionTimes(now));
+        }
+        if (newFixSession) {
+            sessionState.resetNextSeqNums();
+            messageStore.clean();
+        }
+
+        logon(getSettings().isResetSequenceNumbersOnEachLogon());
+        scheduleSessionMonitoring();
+        startInboundMessages(null, 0);
+    }
+
     @Override
     protected void connect(InputChannel in, OutputChannel out) {
         assert Thread.currentThread() == initiatorThread.get();
@@ -126,17 +185,21 @@ public class FixSessionInitiator extends FixSocketCommunicator {
                 now = sessionStart;
             }
 
-            final long lastConnectionTime = sessionState.getLastConnectionTimestamp();
-            if (lastConnectionTime < sessionStart) {
-                newFixSession = true;
-            }
-
-            final long sessionEnd = sessionTimes.getEnd();
-            scheduleSessionEnd(sessionEnd - now);
+            newFixSession = scheduleSessionEnd(now, sessionTimes);
         }
         return newFixSession;
     }
 
+    /** @return true if this is the first connection in given FIX session */
+    private boolean scheduleSessionEnd(long now, SessionTimes sessionTimes) {
+        final long lastConnectionTime = sessionState.getLastConnectionTimestamp();
+        final boolean newFixSession = lastConnectionTime < sessionTimes.getStart();
+
+        final long sessionEnd = sessionTimes.getEnd();
+        scheduleSessionEnd(sessionEnd - now);
+        return newFixSession;
+    }
+
     protected void endSession() {
         getSessionState().flush();
         unscheduleSessionEnd();
@@ -157,7 +220,7 @@ public class FixSessionInitiator extends FixSocketCommunicator {
         while ( ! closeInProgress && getSessionStatus() == SessionStatus.Disconnected) {
             try {
                 LOGGER.info().append("Connecting...").commit();
-                connect(new Socket(host, port));
+                connect(createSocket());
             } catch (ConnectException e) {
                 LOGGER.info().append("Server ").append(host).append(':').append(port).append(" is unreachable, will retry later").commit();
                 timeSource.sleep(getSettings().getConnectInterval());
@@ -169,6 +232,14 @@ public class FixSessionInitiator extends FixSocketCommunicator {
         assert getSessionStatus() == SessionStatus.SocketConnected; // TODO: may be false when active is set to false from close method
     }
 
+    /** Opens socket connection to FIX counter-party. Socket is backed by SocketChannel when socket channel transport is enabled */
+    protected Socket createSocket() throws IOException {
+        if (getSettings().isSocketChannelTransport())
+            return SocketChannel.open(new InetSocketAddress(host, port)).socket();
+
+        return new Socket(host, port);
+    }
+
     /**
      * Initiates a LOGON procedure
      * @param newFixSession true at the beginning of new session (will cause sequence number reset)
@@ -190,7 +261,7 @@ public class FixSessionInitiator extends FixSocketCommunicator {
         super.close();
 
         Thread initiatorThread = this.initiatorThread.get();
-        if (initiatorThread != null)
+        if (initiatorThread != null && !nonBlocking) // never interrupt event loop thread
             initiatorThread.interrupt();
     }
 
@@ -21,10 +21,13 @@ import org.f1x.io.InputChannel;
 import org.f1x.io.InputStreamChannel;
 import org.f1x.io.OutputChannel;
 import org.f1x.io.OutputStreamChannel;
+import org.f1x.io.SocketChannelInputChannel;
+import org.f1x.io.SocketChannelOutputChannel;
 
 import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
 
 public abstract class FixSocketCommunicator extends FixCommunicator {
 
@@ -51,12 +54,50 @@ public abstract class FixSocketCommunicator extends FixCommunicator {
         connect(getInputChannel(socket), getOutputChannel(socket));
     }
 
+    /** Connects communicator to non-blocking socket channel (used by {@link FixSessionEventLoop}) */
+    protected void connect (SocketChannel channel) throws IOException {
+        Socket socket = channel.socket();
+        if (LOGGER.isInfoEnabled()) {
+            SocketAddress address = socket.getRemoteSocketAddress();
+            LOGGER.info().append("Connected to ").append(address).commit();
+        }
+
+        FixSettings settings = getSettings();
+
+        socket.setTcpNoDelay(settings.isSocketTcpNoDelay());
+        socket.setKeepAlive(settings.isSocketKeepAlive());
+        socket.setSendBufferSize(settings.getSocketSendBufferSize());
+        socket.setReceiveBufferSize(settings.getSocketRecvBufferSize());
+
+        setSessionStatus(SessionStatus.SocketConnected);
+        connect(getInputChannel(channel), getOutputChannel(channel));
+    }
+
     protected InputChannel getInputChannel (Socket socket) throws IOException {
+        final FixSettings settings = getSettings();
+        final SocketChannel channel = socket.getChannel();
+        if (channel != null && settings.isSocketChannelTransport())
+            return new SocketChannelInputChannel(channel, settings.getMaxInboundMessageSize(), settings.isSocketBusySpinRead());
+
         return new InputStreamChannel(socket.getInputStream());
     }
 
     protected OutputChannel getOutputChannel (Socket socket) throws IOException {
+        final SocketChannel channel = socket.getChannel();
+        if (channel != null && getSettings().isSocketChannelTransport())
+            return getOutputChannel(channel);
+
         return new OutputStreamChannel(socket.getOutputStream());
     }
 
+    /** Input channel for non-blocking socket channel served by event loop */
+    protected InputChannel getInputChannel (SocketChannel channel) throws IOException {
+        return new SocketChannelInputChannel(channel, getSettings().getMaxInboundMessageSize(), false);
+    }
+
+    protected OutputChannel getOutputChannel (SocketChannel channel) throws IOException {
+        final FixSettings settings = getSettings();
+        return new SocketChannelOutputChannel(channel, settings.getMaxOutboundMessageSize(), settings.getSocketWriteTimeout());
+    }
+
 }
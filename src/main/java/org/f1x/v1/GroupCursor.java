@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.RepeatingGroup;
+
+/** Implements repeating group navigation of {@link MessageParser} on top of forward iteration. Keeps stack of nested groups in fixed-size arrays. */
+final class GroupCursor {
+
+    /** Parser that can return current field again */
+    interface PushbackParser extends MessageParser {
+        /** Next call to {@link #next()} will return current field again */
+        void pushback();
+    }
+
+    private static final int MAX_DEPTH = 8;
+
+    private final PushbackParser parser;
+    private final int [] delimiterTags = new int [MAX_DEPTH];
+    private final int [] remainingEntries = new int [MAX_DEPTH];
+    private final RepeatingGroup [] groups = new RepeatingGroup [MAX_DEPTH];
+    private int depth;
+
+    GroupCursor(PushbackParser parser) {
+        this.parser = parser;
+    }
+
+    void reset() {
+        while (depth > 0)
+            groups[--depth] = null;
+    }
+
+    int enterGroup(int countTag, int delimiterTag, RepeatingGroup group) {
+        if (parser.getTagNum() != countTag)
+            throw new FixParserException("Expected group counter tag " + countTag + " instead of " + parser.getTagNum());
+        if (depth == MAX_DEPTH)
+            throw new FixParserException("Too many nested repeating groups");
+
+        final int count = parser.getIntValue();
+        if (count < 0)
+            throw new FixParserException("Negative number of entries in repeating group " + countTag);
+
+        delimiterTags[depth] = delimiterTag;
+        remainingEntries[depth] = count;
+        groups[depth] = group;
+        depth++;
+        return count;
+    }
+
+    boolean nextGroupEntry() {
+        final int top = top();
+        final int delimiterTag = delimiterTags[top];
+        final RepeatingGroup group = groups[top];
+
+        if (remainingEntries[top] == 0) {
+            if (group != null)
+                skipGroupFields(delimiterTag, group); // unprocessed fields of the last entry
+            groups[--depth] = null;
+            return false;
+        }
+
+        while (parser.next()) {
+            final int tagNum = parser.getTagNum();
+            if (tagNum == delimiterTag) {
+                remainingEntries[top]--;
+                return true;
+            }
+            if (group != null && ! group.isMember(tagNum))
+                break;
+            // skip unprocessed fields of the previous entry
+        }
+        throw new FixParserException("Repeating group (delimiter tag " + delimiterTag + ") has fewer entries than declared");
+    }
+
+    boolean nextGroupField() {
+        final int top = top();
+        if ( ! parser.next())
+            return false;
+
+        final int tagNum = parser.getTagNum();
+        if (tagNum == delimiterTags[top] || (remainingEntries[top] == 0 && groups[top] != null && ! groups[top].isMember(tagNum))) {
+            parser.pushback(); // beginning of the next entry or first field after the group
+            return false;
+        }
+        return true;
+    }
+
+    private void skipGroupFields(int delimiterTag, RepeatingGroup group) {
+        while (parser.next()) {
+            final int tagNum = parser.getTagNum();
+            if (tagNum == delimiterTag || ! group.isMember(tagNum)) {
+                parser.pushback();
+                break;
+            }
+        }
+    }
+
+    private int top() {
+        if (depth == 0)
+            throw new IllegalStateException("Parser is not inside repeating group");
+        return depth - 1;
+    }
+}
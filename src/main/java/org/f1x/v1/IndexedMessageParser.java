@@ -0,0 +1,419 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.RepeatingGroup;
+import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
+import org.f1x.util.parse.ByteScanner;
+import org.f1x.util.parse.NumbersParser;
+import org.f1x.util.parse.TimeOfDayParser;
+import org.f1x.util.parse.TimestampParser;
+
+import java.util.Arrays;
+
+/**
+ * Message parser that tokenizes entire message once (in {@link #set(byte[], int, int)}) into primitive arrays of (tag, value offset, value length).
+ * In addition to forward iteration defined by {@link MessageParser} it provides random access to field values by tag number.
+ * Does not allocate memory except when message has more fields than current capacity.
+ */
+public class IndexedMessageParser implements MessageParser, GroupCursor.PushbackParser {
+
+    private static final byte SOH = 1; // field separator
+    private static final int DIRECT_INDEX_SIZE = 1024; // tags below this number are located in O(1)
+    private static final int MAX_TAG_NUM_PREFIX = Integer.MAX_VALUE / 10;
+
+    private final TimestampParser utcTimestampParser = TimestampParser.createUTCTimestampParser();
+    private final TimestampParser localTimestampParser = TimestampParser.createLocalTimestampParser();
+    private final ByteArrayReference charSequenceBuffer = new ByteArrayReference();
+    private final GroupCursor groupCursor = new GroupCursor(this);
+
+    private byte[] buffer;
+    private int [] tagNums;
+    private int [] valueOffsets;
+    private int [] valueLengths;
+    private int fieldCount;
+    private int current = -1; // index of the current field for forward iteration
+
+    /** (index of the first field with given tag + 1) for tags below DIRECT_INDEX_SIZE, zero if message doesn't have such tag */
+    private final int [] directIndex = new int [DIRECT_INDEX_SIZE];
+
+    public IndexedMessageParser() {
+        this(64);
+    }
+
+    /** @param initialCapacity expected maximum number of fields in a message */
+    public IndexedMessageParser(int initialCapacity) {
+        tagNums = new int [initialCapacity];
+        valueOffsets = new int [initialCapacity];
+        valueLengths = new int [initialCapacity];
+    }
+
+    /** Tokenizes given message. Incomplete last field (not terminated by SOH) is ignored. */
+    public final void set (byte [] buffer, int offset, int length) {
+        for (int i=0; i < fieldCount; i++) {
+            final int tagNum = tagNums[i];
+            if (tagNum >= 0 && tagNum < DIRECT_INDEX_SIZE)
+                directIndex[tagNum] = 0;
+        }
+        this.buffer = buffer;
+        this.fieldCount = 0;
+        this.current = -1;
+        groupCursor.reset();
+
+        final int limit = offset + length;
+        int position = offset;
+        try {
+            while (position < limit) {
+                // tag number
+                int tagNum = 0;
+                byte ch;
+                while (true) {
+                    if (position == limit)
+                        return;
+                    ch = buffer[position++];
+                    if (ch >= '0' && ch <= '9') {
+                        if (tagNum > MAX_TAG_NUM_PREFIX)
+                            throw new FixParserException("Tag number is too large");
+                        tagNum = 10*tagNum + (ch - '0');
+                        if (tagNum < 0)
+                            throw new FixParserException("Tag number is too large");
+                    } else
+                    if (ch == '=') {
+                        if (tagNum <= 0)
+                            throw new FixParserException("Unexpected '=' character instead of a tag number digit");
+                        break;
+                    } else {
+                        throw new FixParserException("Unexpected character (0x" + Integer.toHexString(ch) + " where a tag number digit or '=' is expected");
+                    }
+                }
+
+                // value
+                final int valueOffset = position;
+                position = ByteScanner.indexOf(SOH, buffer, position, limit);
+                if (position < 0)
+                    return;
+
+                final int valueLength = position - valueOffset;
+                position++;
+                if (valueLength == 0)
+                    throw new FixParserException("Tag " + tagNum + " has empty value at position " + position);
+
+                addField(tagNum, valueOffset, valueLength);
+            }
+        } catch (FixParserException e) {
+            throw new FixParserException("Parser error (at " + position + "): " + e.getMessage());
+        }
+    }
+
+    private void addField(int tagNum, int valueOffset, int valueLength) {
+        if (fieldCount == tagNums.length) {
+            final int newCapacity = 2*fieldCount;
+            tagNums = Arrays.copyOf(tagNums, newCapacity);
+            valueOffsets = Arrays.copyOf(valueOffsets, newCapacity);
+            valueLengths = Arrays.copyOf(valueLengths, newCapacity);
+        }
+        tagNums[fieldCount] = tagNum;
+        valueOffsets[fieldCount] = valueOffset;
+        valueLengths[fieldCount] = valueLength;
+        fieldCount++;
+
+        if (tagNum >= 0 && tagNum < DIRECT_INDEX_SIZE && directIndex[tagNum] == 0)
+            directIndex[tagNum] = fieldCount;
+    }
+
+    /// Random access
+
+    /** @return number of fields in current message */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /** @return tag number of the field with given index */
+    public int getTagNumAt(int index) {
+        return tagNums[index];
+    }
+
+    /** @return index of the first field with given tag number, or -1 if message doesn't have such field */
+    public int find(int tagNum) {
+        if (tagNum < DIRECT_INDEX_SIZE)
+            return (tagNum > 0) ? directIndex[tagNum] - 1 : -1;
+        return find(tagNum, 0);
+    }
+
+    /** @return index of the first field with given tag number located at or after fromIndex, or -1 if there is no such field (useful for repeating groups) */
+    public int find(int tagNum, int fromIndex) {
+        for (int i=fromIndex; i < fieldCount; i++)
+            if (tagNums[i] == tagNum)
+                return i;
+        return -1;
+    }
+
+    /** Makes field with given index current (for methods like {@link #getIntValue()}). Subsequent {@link #next()} will proceed from this field. */
+    public void seek(int index) {
+        if (index < 0 || index >= fieldCount)
+            throw new IndexOutOfBoundsException();
+        current = index;
+    }
+
+    public byte getByte(int tagNum) {
+        return byteValue(indexOf(tagNum));
+    }
+
+    public int getInt(int tagNum) {
+        final int index = indexOf(tagNum);
+        return NumbersParser.parseInt(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public long getLong(int tagNum) {
+        final int index = indexOf(tagNum);
+        return NumbersParser.parseLong(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public double getDouble(int tagNum) {
+        final int index = indexOf(tagNum);
+        return NumbersParser.parseDouble(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public void getDecimal(int tagNum, Decimal value) {
+        final int index = indexOf(tagNum);
+        NumbersParser.parseDecimal(buffer, valueOffsets[index], valueLengths[index], value);
+    }
+
+    /** @return value of given tag as CharSequence. Note: returned object is reused (Flyweight pattern). */
+    public CharSequence getCharSequence(int tagNum) {
+        final int index = indexOf(tagNum);
+        charSequenceBuffer.set(buffer, valueOffsets[index], valueLengths[index]);
+        return charSequenceBuffer;
+    }
+
+    public void getByteSequence(int tagNum, ByteArrayReference seq) {
+        final int index = indexOf(tagNum);
+        seq.set(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public boolean getBoolean(int tagNum) {
+        return booleanValue(indexOf(tagNum));
+    }
+
+    public long getUTCTimestamp(int tagNum) {
+        final int index = indexOf(tagNum);
+        return utcTimestampParser.getUTCTimestampValue(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public int getUTCTimeOnly(int tagNum) {
+        final int index = indexOf(tagNum);
+        return TimeOfDayParser.parseTimeOfDay(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    public long getUTCDateOnly(int tagNum) {
+        final int index = indexOf(tagNum);
+        return utcTimestampParser.getUTCDateOnly(buffer, valueOffsets[index], valueLengths[index]);
+    }
+
+    /** @return true if value of given tag equals to given byte array (false if message doesn't have such tag) */
+    public boolean isValueEquals(int tagNum, byte[] constant) {
+        final int index = find(tagNum);
+        return index >= 0 && valueEquals(index, constant);
+    }
+
+    private int indexOf(int tagNum) {
+        final int index = find(tagNum);
+        if (index < 0)
+            throw new FixParserException("Missing tag " + tagNum);
+        return index;
+    }
+
+    /// MessageParser (forward iteration)
+
+    @Override
+    public boolean next() {
+        if (current + 1 < fieldCount) {
+            current++;
+            return true;
+        }
+        current = fieldCount;
+        return false;
+    }
+
+    @Override
+    public int getTagNum() {
+        return (current >= 0 && current < fieldCount) ? tagNums[current] : 0;
+    }
+
+    @Override
+    public byte getByteValue() {
+        return byteValue(current);
+    }
+
+    @Override
+    public int getIntValue() {
+        return NumbersParser.parseInt(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public long getLongValue() {
+        return NumbersParser.parseLong(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public double getDoubleValue() {
+        return NumbersParser.parseDouble(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public void getDecimal(Decimal value) {
+        NumbersParser.parseDecimal(buffer, valueOffsets[current], valueLengths[current], value);
+    }
+
+    @Override
+    public CharSequence getCharSequenceValue() {
+        charSequenceBuffer.set(buffer, valueOffsets[current], valueLengths[current]);
+        return charSequenceBuffer;
+    }
+
+    @Override
+    public void getByteSequence(ByteArrayReference seq) {
+        seq.set(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public String getStringValue() {
+        return new String (buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public void getStringBuilder(StringBuilder appendable) {
+        charSequenceBuffer.set(buffer, valueOffsets[current], valueLengths[current]);
+        appendable.append(charSequenceBuffer);
+    }
+
+    @Override
+    public boolean getBooleanValue() {
+        return booleanValue(current);
+    }
+
+    @Override
+    public long getUTCTimestampValue() {
+        return utcTimestampParser.getUTCTimestampValue(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public int getUTCTimeOnly() {
+        return TimeOfDayParser.parseTimeOfDay(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public long getUTCDateOnly() {
+        return utcTimestampParser.getUTCDateOnly(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public long getLocalMktDate() {
+        return localTimestampParser.getUTCDateOnly(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public int getLocalMktDate2() {
+        return localTimestampParser.getUTCDateOnly2(buffer, valueOffsets[current], valueLengths[current]);
+    }
+
+    @Override
+    public boolean isValueEquals(byte[] constant) {
+        return valueEquals(current, constant);
+    }
+
+    @Override
+    public void reset() {
+        current = -1;
+        groupCursor.reset();
+    }
+
+    @Override
+    public void pushback() {
+        if (current >= 0)
+            current--;
+    }
+
+    @Override
+    public int enterGroup(int countTag, int delimiterTag) {
+        return groupCursor.enterGroup(countTag, delimiterTag, null);
+    }
+
+    @Override
+    public int enterGroup(RepeatingGroup group) {
+        return groupCursor.enterGroup(group.getCountTag(), group.getDelimiterTag(), group);
+    }
+
+    @Override
+    public boolean nextGroupEntry() {
+        return groupCursor.nextGroupEntry();
+    }
+
+    @Override
+    public boolean nextGroupField() {
+        return groupCursor.nextGroupField();
+    }
+
+    private byte byteValue(int index) {
+        if (valueLengths[index] > 1)
+            throw new FixParserException("Value is not a single byte");
+
+        return buffer[valueOffsets[index]];
+    }
+
+    private boolean booleanValue(int index) {
+        if (valueLengths[index] > 1)
+            throw new FixParserException("Field is not a character");
+
+        final byte value = buffer[valueOffsets[index]];
+        if (value == 'Y') return true;
+
+        if (value == 'N') return false;
+
+        throw new FixParserException("Field cannot be parsed as FIX boolean");
+    }
+
+    private boolean valueEquals(int index, byte[] constant) {
+        final int valueLength = valueLengths[index];
+        if (valueLength != constant.length)
+            return false;
+
+        final int valueOffset = valueOffsets[index];
+        for (int i=0; i < valueLength; i++)
+            if (buffer[valueOffset+i] != constant[i])
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append ("Field ");
+        sb.append (current);
+        sb.append ('/');
+        sb.append (fieldCount);
+        if (current >= 0 && current < fieldCount) {
+            sb.append (" Current tag ");
+            sb.append (tagNums[current]);
+            sb.append ('=');
+            sb.append (new String(buffer, valueOffsets[current], valueLengths[current]));
+        }
+        return sb.toString();
+    }
+}
@@ -24,6 +24,7 @@ public final class InvalidFixMessageException extends Exception {
     static final InvalidFixMessageException BAD_BODY_LENGTH = new InvalidFixMessageException ("Message BodyLength(9) is invalid");
     static final InvalidFixMessageException MISSING_MSG_TYPE = new InvalidFixMessageException ("Message has no MsgType(35) tag");
     static final InvalidFixMessageException MESSAGE_TOO_LARGE = new InvalidFixMessageException ("Message is too large");
+    static final InvalidFixMessageException BAD_CHECKSUM = new InvalidFixMessageException ("Message has invalid CheckSum(10)");
     public static final InvalidFixMessageException RESET_BELOW_CURRENT_SEQ_LARGE = new InvalidFixMessageException ("SequenceReset can only increase the sequence number");
     static final InvalidFixMessageException EXPECTING_LOGON_MESSAGE = new InvalidFixMessageException ("Application-level connection is not yet established (Unfinished LOGON)");
     public static final InvalidFixMessageException NO_MSG_SEQ_NUM = new InvalidFixMessageException("No MsgSeqNum(34) in message");
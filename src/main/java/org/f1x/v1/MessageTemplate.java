@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.message.AppendableValue;
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.util.format.DecimalFormatter;
+import org.f1x.util.format.DoubleFormatter;
+import org.f1x.util.format.LongFormatter;
+import org.f1x.util.format.ShortestDoubleFormatter;
+import org.f1x.util.format.TimestampFormatter;
+
+import java.util.Arrays;
+
+/**
+ * Pre-encoded message with fixed-width slots for variable fields. Static fields are formatted only once,
+ * variable fields are patched in place before each send. Numeric slot values are padded with leading zeros (permitted by FIX for int and float fields).
+ * <p>
+ * Usage:
+ * <pre>
+ * MessageTemplate template = new MessageTemplate(session.createMessageBuilder());
+ * MessageBuilder mb = template.getMessageBuilder();
+ * mb.setMessageType(MsgType.ORDER_SINGLE);
+ * mb.add(FixTags.Account, "ACC1");
+ * int clOrdID = template.addSlot(FixTags.ClOrdID, 12);
+ * int price = template.addSlot(FixTags.Price, 12);
+ * ...
+ * template.setLong(clOrdID, nextOrderId++);
+ * template.setDouble(price, 1.2345);
+ * session.send(mb);
+ * </pre>
+ * Message builder must not be cleared after slots were added. Not thread safe.
+ */
+public final class MessageTemplate {
+
+    private static final byte ZERO = (byte) '0';
+    private static final byte MINUS = (byte) '-';
+
+    private final ByteBufferMessageBuilder messageBuilder;
+    private final TimestampFormatter gmtTimestampFormat = TimestampFormatter.createUTCTimestampFormatter();
+    private final DoubleFormatter doubleFormatter;
+    private final byte [] scratch;
+
+    private int [] slotOffsets = new int [8];
+    private int [] slotWidths = new int [8];
+    private int slotCount;
+
+    /**
+     * @param messageBuilder builder created by {@link org.f1x.api.session.FixSession#createMessageBuilder()}.
+     * {@link #setDouble(int, double)} uses the same precision as the builder (session's {@link org.f1x.api.FixSettings#getDoubleFormatterPrecision()})
+     */
+    public MessageTemplate(MessageBuilder messageBuilder) {
+        this(messageBuilder, toByteBufferMessageBuilder(messageBuilder).getDoubleFormatterPrecision());
+    }
+
+    /**
+     * @param messageBuilder builder created by {@link org.f1x.api.session.FixSession#createMessageBuilder()}
+     * @param doubleFormatterPrecision default number of digits after decimal point used by {@link #setDouble(int, double)}
+     */
+    public MessageTemplate(MessageBuilder messageBuilder, int doubleFormatterPrecision) {
+        this.messageBuilder = toByteBufferMessageBuilder(messageBuilder);
+        this.doubleFormatter = new DoubleFormatter(doubleFormatterPrecision);
+        int maxDoubleLength = (doubleFormatterPrecision == DoubleFormatter.SHORTEST) ? ShortestDoubleFormatter.MAX_LENGTH : DoubleFormatter.MAX_WIDTH;
+        this.scratch = new byte [Math.max(maxDoubleLength, DecimalFormatter.MAX_LENGTH)];
+    }
+
+    private static ByteBufferMessageBuilder toByteBufferMessageBuilder(MessageBuilder messageBuilder) {
+        if ( ! (messageBuilder instanceof ByteBufferMessageBuilder))
+            throw new IllegalArgumentException("Unsupported message builder: " + messageBuilder.getClass().getName());
+        return (ByteBufferMessageBuilder) messageBuilder;
+    }
+
+    /** @return message builder that holds pre-encoded message (static fields are added directly, message is sent using this builder) */
+    public MessageBuilder getMessageBuilder() {
+        return messageBuilder;
+    }
+
+    /**
+     * Appends field with fixed-width value that can be patched later. Initial value is filled with zeros.
+     * @return slot handle
+     */
+    public int addSlot(int tagNo, int width) {
+        if (width < 1)
+            throw new IllegalArgumentException("width");
+
+        AppendableValue value = messageBuilder.add(tagNo);
+        final int offset = messageBuilder.getBodyEnd();
+        for (int i = 0; i < width; i++)
+            value.append(ZERO);
+        value.end();
+
+        if (slotCount == slotOffsets.length) {
+            slotOffsets = Arrays.copyOf(slotOffsets, 2 * slotCount);
+            slotWidths = Arrays.copyOf(slotWidths, 2 * slotCount);
+        }
+        slotOffsets[slotCount] = offset;
+        slotWidths[slotCount] = width;
+        return slotCount++;
+    }
+
+    /** Appends field with UTCTimestamp value that can be patched later using {@link #setUTCTimestamp(int, long)} */
+    public int addUTCTimestampSlot(int tagNo) {
+        return addSlot(tagNo, TimestampFormatter.DATE_TIME_LENGTH);
+    }
+
+    /** @return width of the slot value */
+    public int getSlotWidth(int slot) {
+        checkSlot(slot);
+        return slotWidths[slot];
+    }
+
+    public void setLong(int slot, long value) {
+        patchRightAligned(slot, LongFormatter.format(value, scratch, 0));
+    }
+
+    /** Formats value using default precision */
+    public void setDouble(int slot, double value) {
+        patchRightAligned(slot, doubleFormatter.format(value, scratch, 0));
+    }
+
+    public void setDouble(int slot, double value, int precision) {
+        patchRightAligned(slot, doubleFormatter.format(value, precision, scratch, 0));
+    }
+
+    /** Formats fixed-point decimal <code>mantissa * 10^-scale</code> exactly */
+    public void setDecimal(int slot, long mantissa, int scale) {
+        patchRightAligned(slot, DecimalFormatter.format(mantissa, scale, scratch, 0));
+    }
+
+    /** Slot must be created by {@link #addUTCTimestampSlot(int)} */
+    public void setUTCTimestamp(int slot, long timestamp) {
+        checkSlot(slot);
+        if (slotWidths[slot] != TimestampFormatter.DATE_TIME_LENGTH)
+            throw new IllegalArgumentException("Slot " + slot + " is not a timestamp slot");
+
+        final byte [] buffer = messageBuilder.getBuffer();
+        final int offset = slotOffsets[slot];
+        final int oldSum = sum(buffer, offset, TimestampFormatter.DATE_TIME_LENGTH);
+        gmtTimestampFormat.formatDateTime(timestamp, buffer, offset);
+        messageBuilder.adjustByteSum(sum(buffer, offset, TimestampFormatter.DATE_TIME_LENGTH) - oldSum);
+    }
+
+    /** Text values cannot be padded: value length must be equal to the slot width */
+    public void setText(int slot, CharSequence value) {
+        checkSlot(slot);
+        final int width = slotWidths[slot];
+        if (value.length() != width)
+            throw new IllegalArgumentException("Value length " + value.length() + " does not match width " + width + " of slot " + slot);
+
+        final byte [] buffer = messageBuilder.getBuffer();
+        final int offset = slotOffsets[slot];
+        int delta = 0;
+        for (int i = 0; i < width; i++) {
+            final byte b = (byte) value.charAt(i);
+            delta += b - buffer[offset + i];
+            buffer[offset + i] = b;
+        }
+        messageBuilder.adjustByteSum(delta);
+    }
+
+    public void setByte(int slot, byte value) {
+        checkSlot(slot);
+        if (slotWidths[slot] != 1)
+            throw new IllegalArgumentException("Slot " + slot + " is wider than one byte");
+
+        final byte [] buffer = messageBuilder.getBuffer();
+        final int offset = slotOffsets[slot];
+        messageBuilder.adjustByteSum(value - buffer[offset]);
+        buffer[offset] = value;
+    }
+
+    /** Copies formatted value from scratch buffer into the slot, padding it with leading zeros (after sign) */
+    private void patchRightAligned(int slot, int length) {
+        checkSlot(slot);
+        final int width = slotWidths[slot];
+        if (length > width)
+            throw new IllegalArgumentException("Value does not fit width " + width + " of slot " + slot);
+
+        final byte [] buffer = messageBuilder.getBuffer();
+        final int offset = slotOffsets[slot];
+        final int oldSum = sum(buffer, offset, width);
+
+        int from = 0;
+        int to = offset;
+        if (scratch[0] == MINUS) {
+            buffer[to++] = MINUS;
+            from = 1;
+        }
+        final int end = offset + width;
+        final int digitsStart = end - (length - from);
+        while (to < digitsStart)
+            buffer[to++] = ZERO;
+        System.arraycopy(scratch, from, buffer, digitsStart, length - from);
+
+        messageBuilder.adjustByteSum(sum(buffer, offset, width) - oldSum);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= slotCount)
+            throw new IllegalArgumentException("Unknown slot: " + slot);
+    }
+
+    private static int sum(byte [] buffer, int offset, int length) {
+        int result = 0;
+        for (int i = 0; i < length; i++)
+            result += buffer[offset + i];
+        return result;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.v1;
+
+import com.lmax.disruptor.*;
+import org.f1x.api.message.MessageBuilder;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Pre-allocated ring of outbound message slots that can be shared by multiple producer threads without locking.
+ * Producer claims a slot, formats message body in place and publishes the slot.
+ * Single writer thread drains slots in the order they were claimed.
+ */
+final class OutboundMessageRing {
+
+    /** Outbound message body formatted by producer thread. Header and trailer are added by writer thread. */
+    static final class Slot {
+        final StringBuilder msgType = new StringBuilder(8);
+        final byte [] body;
+        int length; // -1 if slot does not contain valid message
+        int byteSum;
+        long sendingTime;
+
+        Slot(int maxMessageSize) {
+            body = new byte[maxMessageSize];
+        }
+    }
+
+    private final RingBuffer<Slot> ring;
+    private final BatchEventProcessor<Slot> processor;
+    private Thread writerThread;
+
+    /**
+     * @param ringSize number of slots (must be power of 2)
+     * @param maxMessageSize max size of message body
+     * @param writer handler that is called by writer thread for each published slot
+     */
+    OutboundMessageRing(int ringSize, final int maxMessageSize, WaitStrategy waitStrategy, EventHandler<Slot> writer) {
+        ring = RingBuffer.createMultiProducer(new EventFactory<Slot>() {
+            @Override
+            public Slot newInstance() {
+                return new Slot(maxMessageSize);
+            }
+        }, ringSize, waitStrategy);
+
+        processor = new BatchEventProcessor<>(ring, ring.newBarrier(), writer);
+        ring.addGatingSequences(processor.getSequence());
+    }
+
+    /** Formats message body into the next available slot. May block if writer thread falls behind by more than ringSize messages. Thread safe. */
+    void publish(MessageBuilder messageBuilder, long sendingTime) {
+        final long sequence = ring.next();
+        final Slot slot = ring.get(sequence);
+        slot.length = -1;
+        try {
+            slot.msgType.setLength(0);
+            slot.msgType.append(messageBuilder.getMessageType());
+            slot.sendingTime = sendingTime;
+            slot.byteSum = messageBuilder.getByteSum();
+            slot.length = messageBuilder.output(slot.body, 0);
+        } finally {
+            ring.publish(sequence); // writer skips slots that failed to format
+        }
+    }
+
+    /**
+     * Starts writer thread. Messages published while writer was halted are processed first.
+     * @param threadFactory optional factory of writer thread (e.g. to set CPU affinity)
+     */
+    synchronized void start(String name, ThreadFactory threadFactory) {
+        if (writerThread != null)
+            throw new IllegalStateException("Writer is already running");
+
+        if (threadFactory != null) {
+            writerThread = threadFactory.newThread(processor);
+        } else {
+            writerThread = new Thread(processor, name);
+            writerThread.setDaemon(true);
+        }
+        writerThread.start();
+    }
+
+    /** Stops writer thread at the end of its current batch. Unprocessed slots are kept until next {@link #start(String, ThreadFactory)}. */
+    synchronized void halt() {
+        if (writerThread != null) {
+            try {
+                do {
+                    processor.halt(); // repeat: halt request is lost if writer thread did not enter the processing loop yet
+                    writerThread.join(10);
+                } while (writerThread.isAlive());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+}
@@ -47,30 +47,163 @@ final class RawMessageAssembler {
     private final boolean isSendRequiresConnect;
     private final byte [] buffer;
 
+    private final byte [] batchBuffer;
+    private int batchOffset;
+
     RawMessageAssembler(FixVersion version, int maxMessageSize, boolean sendRequiresConnect) {
+        this(version, maxMessageSize, maxMessageSize, sendRequiresConnect);
+    }
+
+    /** @param maxBatchSize size of the buffer used to coalesce messages appended by {@link #append} (never less than maxMessageSize) */
+    RawMessageAssembler(FixVersion version, int maxMessageSize, int maxBatchSize, boolean sendRequiresConnect) {
         buffer = new byte[maxMessageSize];
+        batchBuffer = new byte[Math.max(maxMessageSize, maxBatchSize)];
         isSendRequiresConnect = sendRequiresConnect;
         BEGIN_STRING = AsciiUtils.getBytes("" + FixTags.BeginString + '=' + version.getBeginString() + (char) SOH);
-        System.arraycopy(BEGIN_STRING, 0, buffer, 0, BEGIN_STRING.length);
     }
 
     void send(SessionID sessionID, int msgSeqNum, MessageBuilder messageBuilder, MessageStore messageStore, long sendingTime,  OutputChannel out) throws IOException {
         if (isSendRequiresConnect && out == null)
             throw new IllegalStateException("Not connected");
 
-        int offset = BEGIN_STRING.length;
+        flush(out); // keep wire order in sync with sequence numbers
+
+        // Zero-copy path: header and trailer are assembled around message body, right inside builder's buffer
+        final ByteBufferMessageBuilder inPlaceBuilder = (messageBuilder instanceof ByteBufferMessageBuilder) ? (ByteBufferMessageBuilder) messageBuilder : null;
+        int start = (inPlaceBuilder != null) ? assembleInPlace(sessionID, msgSeqNum, inPlaceBuilder, sendingTime) : -1;
+
+        final byte [] message;
+        final int end;
+        if (start >= 0) {
+            message = inPlaceBuilder.getBuffer();
+            end = inPlaceBuilder.getBodyEnd() + FixCommunicator.CHECKSUM_LENGTH;
+        } else {
+            message = buffer;
+            start = 0;
+            end = assemble(sessionID, msgSeqNum, messageBuilder, sendingTime, buffer, 0);
+        }
+
+        try {
+            if (out != null)
+                out.write(message, start, end - start);
+        } finally {
+            if (messageStore != null)
+                messageStore.put(msgSeqNum, message, start, end - start);
+        }
+    }
+
+    /**
+     * Assembles message into batch buffer. Message is persisted in message store immediately but is not written into output channel
+     * until {@link #flush(OutputChannel)} is called (or batch buffer cannot fit another message).
+     */
+    void append(SessionID sessionID, int msgSeqNum, MessageBuilder messageBuilder, MessageStore messageStore, long sendingTime,  OutputChannel out) throws IOException {
+        if (isSendRequiresConnect && out == null)
+            throw new IllegalStateException("Not connected");
+
+        if (batchOffset + buffer.length > batchBuffer.length)
+            flush(out);
+
+        final int start = batchOffset;
+        final int end = assemble(sessionID, msgSeqNum, messageBuilder, sendingTime, batchBuffer, start);
+        batchOffset = end;
+
+        if (messageStore != null)
+            messageStore.put(msgSeqNum, batchBuffer, start, end - start);
+    }
+
+    /** Same as {@link #append(SessionID, int, MessageBuilder, MessageStore, long, OutputChannel)} for message body that was already formatted by MessageBuilder
+     * @param bodyByteSum sum of message body bytes (see {@link MessageBuilder#getByteSum()})
+     */
+    void append(SessionID sessionID, int msgSeqNum, CharSequence msgType, byte [] body, int bodyOffset, int bodyLength, int bodyByteSum, MessageStore messageStore, long sendingTime,  OutputChannel out) throws IOException {
+        if (isSendRequiresConnect && out == null)
+            throw new IllegalStateException("Not connected");
+
+        if (batchOffset + buffer.length > batchBuffer.length)
+            flush(out);
 
+        final int start = batchOffset;
+        final int end = assemble(sessionID, msgSeqNum, msgType, body, bodyOffset, bodyLength, bodyByteSum, sendingTime, batchBuffer, start);
+        batchOffset = end;
+
+        if (messageStore != null)
+            messageStore.put(msgSeqNum, batchBuffer, start, end - start);
+    }
+
+    /** Persists message in message store without sending it (e.g. connection was lost after message was queued). Counter-party can request it after reconnect. */
+    void store(SessionID sessionID, int msgSeqNum, CharSequence msgType, byte [] body, int bodyOffset, int bodyLength, int bodyByteSum, MessageStore messageStore, long sendingTime) {
+        final int end = assemble(sessionID, msgSeqNum, msgType, body, bodyOffset, bodyLength, bodyByteSum, sendingTime, buffer, 0);
+        if (messageStore != null)
+            messageStore.put(msgSeqNum, buffer, 0, end);
+    }
+
+    /** Writes all messages accumulated by {@link #append} using single write call */
+    void flush(OutputChannel out) throws IOException {
+        final int length = batchOffset;
+        if (length > 0) {
+            batchOffset = 0;
+            if (out != null)
+                out.write(batchBuffer, 0, length);
+        }
+    }
+
+    /** Drops messages accumulated by {@link #append} that were not flushed yet (they remain in message store and can be resent on request) */
+    void discard() {
+        batchOffset = 0;
+    }
+
+    /** @return offset of the end of assembled message */
+    private int assemble(SessionID sessionID, int msgSeqNum, MessageBuilder messageBuilder, long sendingTime, byte [] buffer, final int start) {
+        final int headerEnd = assembleHeader(sessionID, msgSeqNum, messageBuilder.getMessageType(), messageBuilder.getLength(), sendingTime, buffer, start);
+
+        // Message-specific and custom tags
+        final int offset = messageBuilder.output(buffer, headerEnd);
+
+        // Message builder accumulates checksum of the body, only header needs to be summed
+        return assembleTrailer(Tools.calcCheckSum(buffer, start, headerEnd - start) + messageBuilder.getByteSum(), buffer, offset);
+    }
+
+    /** @return offset of the end of assembled message */
+    private int assemble(SessionID sessionID, int msgSeqNum, CharSequence msgType, byte [] body, int bodyOffset, int bodyLength, int bodyByteSum, long sendingTime, byte [] buffer, final int start) {
+        final int headerEnd = assembleHeader(sessionID, msgSeqNum, msgType, bodyLength, sendingTime, buffer, start);
+        System.arraycopy(body, bodyOffset, buffer, headerEnd, bodyLength);
+        return assembleTrailer(Tools.calcCheckSum(buffer, start, headerEnd - start) + bodyByteSum, buffer, headerEnd + bodyLength);
+    }
+
+    /**
+     * Assembles header and trailer around the body kept by given message builder (in the room builder reserved for them).
+     * @return offset of the assembled message in builder's buffer, or -1 if builder has no room for header or trailer
+     */
+    private int assembleInPlace(SessionID sessionID, int msgSeqNum, ByteBufferMessageBuilder messageBuilder, long sendingTime) {
         final CharSequence msgType = messageBuilder.getMessageType();
+        final int messageLength = messageBuilder.getLength();
+        final int bodyLength = calcBodyLength(sessionID, msgSeqNum, msgType, messageLength);
+        final int headerLength = BEGIN_STRING.length + (3 + IntFormatter.stringSize(bodyLength)) + (bodyLength - messageLength); // "8=FIX.4.4|9=123|" + header tags
+
+        final byte [] buffer = messageBuilder.getBuffer();
+        final int bodyStart = messageBuilder.getBodyStart();
+        final int bodyEnd = messageBuilder.getBodyEnd();
+        final int start = bodyStart - headerLength;
+        final int end = bodyEnd + FixCommunicator.CHECKSUM_LENGTH;
+        if (start < 0 || end > buffer.length || end - start > this.buffer.length)
+            return -1; // copy path will report oversized message
+
+        final int headerEnd = assembleHeader(sessionID, msgSeqNum, msgType, messageLength, sendingTime, buffer, start);
+        assert headerEnd == bodyStart;
+        assembleTrailer(Tools.calcCheckSum(buffer, start, headerLength) + messageBuilder.getByteSum(), buffer, bodyEnd);
+        return start;
+    }
+
+    /** @return value of BodyLength(9): number of characters in the message following the BodyLength field up to, and including, the delimiter immediately preceding the CheckSum tag ("10=") */
+    private static int calcBodyLength(SessionID sessionID, int msgSeqNum, CharSequence msgType, int messageLength) {
         final CharSequence senderSubId = sessionID.getSenderSubId();
         final CharSequence targetSubId = sessionID.getTargetSubId();
 
-        // BodyLength is the number of characters in the message following the BodyLength field up to, and including, the delimiter immediately preceding the CheckSum tag ("10=")
         int bodyLength = (4 + msgType.length()) +
             (4 + IntFormatter.stringSize(msgSeqNum)) +
             (4 + TimestampFormatter.DATE_TIME_LENGTH) +
             (4 + sessionID.getSenderCompId().length()) +   // T O D O: Pre-compute and keep in session ID?
             (4 + sessionID.getTargetCompId().length()) +
-            messageBuilder.getLength();
+            messageLength;
 
         if (senderSubId != null)
             bodyLength += 4 + senderSubId.length();
@@ -78,6 +211,19 @@ final class RawMessageAssembler {
         if (targetSubId != null)
             bodyLength += 4 + targetSubId.length();
 
+        return bodyLength;
+    }
+
+    /** @return offset where message-specific tags should be placed */
+    private int assembleHeader(SessionID sessionID, int msgSeqNum, CharSequence msgType, int messageLength, long sendingTime, byte [] buffer, final int start) {
+        System.arraycopy(BEGIN_STRING, 0, buffer, start, BEGIN_STRING.length);
+        int offset = start + BEGIN_STRING.length;
+
+        final CharSequence senderSubId = sessionID.getSenderSubId();
+        final CharSequence targetSubId = sessionID.getTargetSubId();
+
+        final int bodyLength = calcBodyLength(sessionID, msgSeqNum, msgType, messageLength);
+
         // Standard Header tags
         offset = setIntField(FixTags.BodyLength, bodyLength, buffer, offset);
         offset = setTextField(FixTags.MsgType, msgType, buffer, offset);
@@ -89,21 +235,14 @@ final class RawMessageAssembler {
         offset = setTextField(FixTags.TargetCompID, sessionID.getTargetCompId(), buffer, offset);
         if (targetSubId != null)
             offset = setTextField(FixTags.TargetSubID, targetSubId, buffer, offset);
+        return offset;
+    }
 
-        // Message-specific and custom tags
-        offset = messageBuilder.output(buffer, offset);
-
-        // Standard footer
-        int checkSum = Tools.calcCheckSum(buffer, offset);  //T O D O: Let MessageBuilder accumulate payload checksum as we build each message
-        offset = set3DigitIntField(FixTags.CheckSum, checkSum, buffer, offset);
-
-        try {
-            if (out != null)
-                out.write(buffer, 0, offset);
-        } finally {
-            if (messageStore != null)
-                messageStore.put(msgSeqNum, buffer, 0, offset);
-        }
+    /** Appends standard footer to the message
+     * @param byteSum sum of all message bytes (header and body)
+     */
+    private static int assembleTrailer(int byteSum, byte [] buffer, int offset) {
+        return set3DigitIntField(FixTags.CheckSum, byteSum & 0xFF, buffer, offset);
     }
 
     private static int setTextField(int tagNo, CharSequence value, byte [] buffer, int offset) {
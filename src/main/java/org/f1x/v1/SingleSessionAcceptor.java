@@ -14,6 +14,7 @@
 
 package org.f1x.v1;
 
+import java.io.IOException;
 import java.net.Socket;
 
 public class SingleSessionAcceptor extends AbstractSessionAcceptor {
@@ -27,6 +28,11 @@ public class SingleSessionAcceptor extends AbstractSessionAcceptor {
         this.acceptor = acceptor;
     }
 
+    @Override
+    protected synchronized void initialize() throws IOException {
+        serverSocket = openServerSocket(acceptor.getSettings().isSocketChannelTransport());
+    }
+
     @Override
     protected void processConnection(Socket socket) {
         try {
@@ -20,6 +20,9 @@ public class SocketOptions {
     private int socketTimeout = 0;
     private int socketRecvBufferSize = 64*1024;
     private int socketSendBufferSize = 64*1024;
+    private boolean isSocketChannelTransport = false;
+    private boolean isSocketBusySpinRead = false;
+    private int socketWriteTimeout = 1000;
 
     public boolean isSocketKeepAlive() {
         return isSocketKeepAlive;
@@ -64,4 +67,34 @@ public class SocketOptions {
         this.socketTimeout = socketTimeout;
     }
 
+    /** @return <code>true</code> if socket I/O goes through {@link java.nio.channels.SocketChannel} and direct byte buffers instead of socket streams (SO_TIMEOUT is ignored in this mode) */
+    public boolean isSocketChannelTransport() {
+        return isSocketChannelTransport;
+    }
+
+    public void setSocketChannelTransport(boolean socketChannelTransport) {
+        isSocketChannelTransport = socketChannelTransport;
+    }
+
+    /** @return <code>true</code> if socket channel reads busy-spin in non-blocking mode instead of blocking (trades CPU for latency). Requires socket channel transport. */
+    public boolean isSocketBusySpinRead() {
+        return isSocketBusySpinRead;
+    }
+
+    public void setSocketBusySpinRead(boolean socketBusySpinRead) {
+        isSocketBusySpinRead = socketBusySpinRead;
+    }
+
+    /**
+     * @return maximum time in milliseconds a write into non-blocking socket channel may wait for space in socket send buffer (e.g. sessions served by {@link FixSessionEventLoop}).
+     * When it expires connection is closed, so that counter-party that stopped reading cannot stall other sessions. Zero means no limit.
+     */
+    public int getSocketWriteTimeout() {
+        return socketWriteTimeout;
+    }
+
+    public void setSocketWriteTimeout(int socketWriteTimeout) {
+        this.socketWriteTimeout = socketWriteTimeout;
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec;
+
+import org.f1x.api.FixParserException;
+import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
+import org.f1x.v1.IndexedMessageParser;
+
+/**
+ * Base class of generated flyweight decoders. Decoder does not copy anything: it locates fields within range
+ * [start, end) of {@link IndexedMessageParser} fields and parses their values on demand.
+ * Note: typed getters move current position of the underlying parser.
+ */
+public abstract class FlyweightDecoder {
+
+    IndexedMessageParser parser;
+    int start;
+    int end;
+
+    /** @return index of the first field with given tag inside decoder range, or -1 if there is no such field */
+    protected final int indexOf(int tagNum) {
+        if (start == 0) {
+            final int index = parser.find(tagNum); // O(1) for most tags
+            return (index < end) ? index : -1;
+        }
+        for (int i = start; i < end; i++)
+            if (parser.getTagNumAt(i) == tagNum)
+                return i;
+        return -1;
+    }
+
+    protected final boolean has(int tagNum) {
+        return indexOf(tagNum) >= 0;
+    }
+
+    /** Makes field with given tag current field of the parser */
+    protected final void seek(int tagNum) {
+        final int index = indexOf(tagNum);
+        if (index < 0)
+            throw new FixParserException("Missing tag " + tagNum);
+        parser.seek(index);
+    }
+
+    protected final byte getByte(int tagNum) {
+        seek(tagNum);
+        return parser.getByteValue();
+    }
+
+    protected final int getInt(int tagNum) {
+        seek(tagNum);
+        return parser.getIntValue();
+    }
+
+    protected final long getLong(int tagNum) {
+        seek(tagNum);
+        return parser.getLongValue();
+    }
+
+    protected final double getDouble(int tagNum) {
+        seek(tagNum);
+        return parser.getDoubleValue();
+    }
+
+    protected final void getDecimal(int tagNum, Decimal value) {
+        seek(tagNum);
+        parser.getDecimal(value);
+    }
+
+    protected final boolean getBoolean(int tagNum) {
+        seek(tagNum);
+        return parser.getBooleanValue();
+    }
+
+    /** @return value of given tag as CharSequence. Note: returned object is reused (Flyweight pattern). */
+    protected final CharSequence getCharSequence(int tagNum) {
+        seek(tagNum);
+        return parser.getCharSequenceValue();
+    }
+
+    protected final void getByteSequence(int tagNum, ByteArrayReference seq) {
+        seek(tagNum);
+        parser.getByteSequence(seq);
+    }
+
+    protected final long getUTCTimestamp(int tagNum) {
+        seek(tagNum);
+        return parser.getUTCTimestampValue();
+    }
+
+    protected final int getUTCTimeOnly(int tagNum) {
+        seek(tagNum);
+        return parser.getUTCTimeOnly();
+    }
+
+    protected final long getUTCDateOnly(int tagNum) {
+        seek(tagNum);
+        return parser.getUTCDateOnly();
+    }
+
+    protected final long getLocalMktDate(int tagNum) {
+        seek(tagNum);
+        return parser.getLocalMktDate();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.RepeatingGroup;
+
+/**
+ * Base class of generated repeating group decoders. After {@link #next()} decoder range covers fields of the current group entry:
+ * from the delimiter tag up to the next delimiter tag or the first tag that is not a member of the group.
+ * <pre>
+ * NoPartyIDsDecoder parties = order.getNoPartyIDs();
+ * while (parties.next())
+ *     process(parties.getPartyID());
+ * </pre>
+ */
+public abstract class GroupDecoder extends FlyweightDecoder {
+
+    private final RepeatingGroup group;
+    private int count;
+    private int remaining;
+    private int limit;
+
+    protected GroupDecoder(RepeatingGroup group) {
+        this.group = group;
+    }
+
+    /** Positions this decoder before the first entry of the group located inside range of given parent decoder */
+    protected final void wrapGroup(FlyweightDecoder parent) {
+        this.parser = parent.parser;
+        this.limit = parent.end;
+
+        final int countIndex = parent.indexOf(group.getCountTag());
+        if (countIndex < 0) {
+            count = 0;
+            start = end = limit;
+        } else {
+            parser.seek(countIndex);
+            count = parser.getIntValue();
+            if (count < 0)
+                throw new FixParserException("Negative number of entries in repeating group " + group.getCountTag());
+            start = end = countIndex + 1;
+        }
+        remaining = count;
+    }
+
+    /** @return number of entries declared by group counter tag (zero if message doesn't have this group) */
+    public final int size() {
+        return count;
+    }
+
+    /** Advances to the next group entry. @return false if there are no more entries */
+    public final boolean next() {
+        if (remaining == 0)
+            return false;
+
+        final int delimiterTag = group.getDelimiterTag();
+        final int entryStart = end;
+        if (entryStart >= limit || parser.getTagNumAt(entryStart) != delimiterTag)
+            throw new FixParserException("Repeating group (delimiter tag " + delimiterTag + ") has fewer entries than declared");
+
+        int entryEnd = entryStart + 1;
+        while (entryEnd < limit) {
+            final int tagNum = parser.getTagNumAt(entryEnd);
+            if (tagNum == delimiterTag || ! group.isMember(tagNum))
+                break;
+            entryEnd++;
+        }
+
+        start = entryStart;
+        end = entryEnd;
+        remaining--;
+        return true;
+    }
+}
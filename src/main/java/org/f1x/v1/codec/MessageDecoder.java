@@ -0,0 +1,31 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec;
+
+import org.f1x.v1.IndexedMessageParser;
+
+/** Base class of generated message decoders: decoder range covers all fields of the message */
+public abstract class MessageDecoder extends FlyweightDecoder {
+
+    protected final void wrapMessage(IndexedMessageParser parser) {
+        this.parser = parser;
+        this.start = 0;
+        this.end = parser.getFieldCount();
+    }
+
+    public final IndexedMessageParser getParser() {
+        return parser;
+    }
+}
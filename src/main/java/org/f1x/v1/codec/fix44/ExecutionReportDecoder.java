@@ -0,0 +1,1519 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec.fix44;
+
+import org.f1x.api.message.RepeatingGroup;
+import org.f1x.api.message.fields.AccountType;
+import org.f1x.api.message.fields.AcctIDSource;
+import org.f1x.api.message.fields.BookingType;
+import org.f1x.api.message.fields.BookingUnit;
+import org.f1x.api.message.fields.CancellationRights;
+import org.f1x.api.message.fields.CashMargin;
+import org.f1x.api.message.fields.CommType;
+import org.f1x.api.message.fields.ContAmtType;
+import org.f1x.api.message.fields.CrossType;
+import org.f1x.api.message.fields.CustOrderCapacity;
+import org.f1x.api.message.fields.DayBookingInst;
+import org.f1x.api.message.fields.DeliveryType;
+import org.f1x.api.message.fields.DiscretionInst;
+import org.f1x.api.message.fields.DiscretionLimitType;
+import org.f1x.api.message.fields.DiscretionMoveType;
+import org.f1x.api.message.fields.DiscretionOffsetType;
+import org.f1x.api.message.fields.DiscretionRoundDirection;
+import org.f1x.api.message.fields.DiscretionScope;
+import org.f1x.api.message.fields.EventType;
+import org.f1x.api.message.fields.ExecPriceType;
+import org.f1x.api.message.fields.ExecRestatementReason;
+import org.f1x.api.message.fields.ExecType;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.FundRenewWaiv;
+import org.f1x.api.message.fields.GTBookingInst;
+import org.f1x.api.message.fields.HandlInst;
+import org.f1x.api.message.fields.LastCapacity;
+import org.f1x.api.message.fields.LastLiquidityInd;
+import org.f1x.api.message.fields.LegSwapType;
+import org.f1x.api.message.fields.MiscFeeBasis;
+import org.f1x.api.message.fields.MiscFeeType;
+import org.f1x.api.message.fields.MoneyLaunderingStatus;
+import org.f1x.api.message.fields.MultiLegReportingType;
+import org.f1x.api.message.fields.OrdRejReason;
+import org.f1x.api.message.fields.OrdStatus;
+import org.f1x.api.message.fields.OrdType;
+import org.f1x.api.message.fields.OrderCapacity;
+import org.f1x.api.message.fields.PartyIDSource;
+import org.f1x.api.message.fields.PartyRole;
+import org.f1x.api.message.fields.PegLimitType;
+import org.f1x.api.message.fields.PegMoveType;
+import org.f1x.api.message.fields.PegOffsetType;
+import org.f1x.api.message.fields.PegRoundDirection;
+import org.f1x.api.message.fields.PegScope;
+import org.f1x.api.message.fields.PositionEffect;
+import org.f1x.api.message.fields.PreallocMethod;
+import org.f1x.api.message.fields.PriceType;
+import org.f1x.api.message.fields.PriorityIndicator;
+import org.f1x.api.message.fields.Product;
+import org.f1x.api.message.fields.QtyType;
+import org.f1x.api.message.fields.RoundingDirection;
+import org.f1x.api.message.fields.SettlCurrFxRateCalc;
+import org.f1x.api.message.fields.SettlType;
+import org.f1x.api.message.fields.Side;
+import org.f1x.api.message.fields.TerminationType;
+import org.f1x.api.message.fields.TimeInForce;
+import org.f1x.api.message.types.ByteEnumLookup;
+import org.f1x.api.message.types.IntEnumLookup;
+import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
+import org.f1x.v1.IndexedMessageParser;
+import org.f1x.v1.codec.FlyweightDecoder;
+import org.f1x.v1.codec.GroupDecoder;
+import org.f1x.v1.codec.MessageDecoder;
+
+// Generated by org.f1x.tools.DictionaryGenerator from QuickFIX dictionary
+/** Flyweight decoder of ExecutionReport(8) message */
+public final class ExecutionReportDecoder extends MessageDecoder {
+	private static final ByteEnumLookup<AccountType> ACCOUNT_TYPE = new ByteEnumLookup<>(AccountType.class);
+	private static final IntEnumLookup<AcctIDSource> ACCT_ID_SOURCE = new IntEnumLookup<>(AcctIDSource.class);
+	private static final ByteEnumLookup<BookingType> BOOKING_TYPE = new ByteEnumLookup<>(BookingType.class);
+	private static final ByteEnumLookup<BookingUnit> BOOKING_UNIT = new ByteEnumLookup<>(BookingUnit.class);
+	private static final ByteEnumLookup<CancellationRights> CANCELLATION_RIGHTS = new ByteEnumLookup<>(CancellationRights.class);
+	private static final ByteEnumLookup<CashMargin> CASH_MARGIN = new ByteEnumLookup<>(CashMargin.class);
+	private static final ByteEnumLookup<CommType> COMM_TYPE = new ByteEnumLookup<>(CommType.class);
+	private static final ByteEnumLookup<ContAmtType> CONT_AMT_TYPE = new ByteEnumLookup<>(ContAmtType.class);
+	private static final ByteEnumLookup<CrossType> CROSS_TYPE = new ByteEnumLookup<>(CrossType.class);
+	private static final ByteEnumLookup<CustOrderCapacity> CUST_ORDER_CAPACITY = new ByteEnumLookup<>(CustOrderCapacity.class);
+	private static final ByteEnumLookup<DayBookingInst> DAY_BOOKING_INST = new ByteEnumLookup<>(DayBookingInst.class);
+	private static final ByteEnumLookup<DeliveryType> DELIVERY_TYPE = new ByteEnumLookup<>(DeliveryType.class);
+	private static final ByteEnumLookup<DiscretionInst> DISCRETION_INST = new ByteEnumLookup<>(DiscretionInst.class);
+	private static final ByteEnumLookup<DiscretionLimitType> DISCRETION_LIMIT_TYPE = new ByteEnumLookup<>(DiscretionLimitType.class);
+	private static final ByteEnumLookup<DiscretionMoveType> DISCRETION_MOVE_TYPE = new ByteEnumLookup<>(DiscretionMoveType.class);
+	private static final ByteEnumLookup<DiscretionOffsetType> DISCRETION_OFFSET_TYPE = new ByteEnumLookup<>(DiscretionOffsetType.class);
+	private static final ByteEnumLookup<DiscretionRoundDirection> DISCRETION_ROUND_DIRECTION = new ByteEnumLookup<>(DiscretionRoundDirection.class);
+	private static final ByteEnumLookup<DiscretionScope> DISCRETION_SCOPE = new ByteEnumLookup<>(DiscretionScope.class);
+	private static final IntEnumLookup<EventType> EVENT_TYPE = new IntEnumLookup<>(EventType.class);
+	private static final ByteEnumLookup<ExecPriceType> EXEC_PRICE_TYPE = new ByteEnumLookup<>(ExecPriceType.class);
+	private static final IntEnumLookup<ExecRestatementReason> EXEC_RESTATEMENT_REASON = new IntEnumLookup<>(ExecRestatementReason.class);
+	private static final ByteEnumLookup<ExecType> EXEC_TYPE = new ByteEnumLookup<>(ExecType.class);
+	private static final ByteEnumLookup<FundRenewWaiv> FUND_RENEW_WAIV = new ByteEnumLookup<>(FundRenewWaiv.class);
+	private static final ByteEnumLookup<GTBookingInst> GT_BOOKING_INST = new ByteEnumLookup<>(GTBookingInst.class);
+	private static final ByteEnumLookup<HandlInst> HANDL_INST = new ByteEnumLookup<>(HandlInst.class);
+	private static final ByteEnumLookup<LastCapacity> LAST_CAPACITY = new ByteEnumLookup<>(LastCapacity.class);
+	private static final ByteEnumLookup<LastLiquidityInd> LAST_LIQUIDITY_IND = new ByteEnumLookup<>(LastLiquidityInd.class);
+	private static final ByteEnumLookup<LegSwapType> LEG_SWAP_TYPE = new ByteEnumLookup<>(LegSwapType.class);
+	private static final ByteEnumLookup<MiscFeeBasis> MISC_FEE_BASIS = new ByteEnumLookup<>(MiscFeeBasis.class);
+	private static final IntEnumLookup<MiscFeeType> MISC_FEE_TYPE = new IntEnumLookup<>(MiscFeeType.class);
+	private static final ByteEnumLookup<MoneyLaunderingStatus> MONEY_LAUNDERING_STATUS = new ByteEnumLookup<>(MoneyLaunderingStatus.class);
+	private static final ByteEnumLookup<MultiLegReportingType> MULTI_LEG_REPORTING_TYPE = new ByteEnumLookup<>(MultiLegReportingType.class);
+	private static final IntEnumLookup<OrdRejReason> ORD_REJ_REASON = new IntEnumLookup<>(OrdRejReason.class);
+	private static final ByteEnumLookup<OrdStatus> ORD_STATUS = new ByteEnumLookup<>(OrdStatus.class);
+	private static final ByteEnumLookup<OrdType> ORD_TYPE = new ByteEnumLookup<>(OrdType.class);
+	private static final ByteEnumLookup<OrderCapacity> ORDER_CAPACITY = new ByteEnumLookup<>(OrderCapacity.class);
+	private static final ByteEnumLookup<PartyIDSource> PARTY_ID_SOURCE = new ByteEnumLookup<>(PartyIDSource.class);
+	private static final IntEnumLookup<PartyRole> PARTY_ROLE = new IntEnumLookup<>(PartyRole.class);
+	private static final ByteEnumLookup<PegLimitType> PEG_LIMIT_TYPE = new ByteEnumLookup<>(PegLimitType.class);
+	private static final ByteEnumLookup<PegMoveType> PEG_MOVE_TYPE = new ByteEnumLookup<>(PegMoveType.class);
+	private static final ByteEnumLookup<PegOffsetType> PEG_OFFSET_TYPE = new ByteEnumLookup<>(PegOffsetType.class);
+	private static final ByteEnumLookup<PegRoundDirection> PEG_ROUND_DIRECTION = new ByteEnumLookup<>(PegRoundDirection.class);
+	private static final ByteEnumLookup<PegScope> PEG_SCOPE = new ByteEnumLookup<>(PegScope.class);
+	private static final ByteEnumLookup<PositionEffect> POSITION_EFFECT = new ByteEnumLookup<>(PositionEffect.class);
+	private static final ByteEnumLookup<PreallocMethod> PREALLOC_METHOD = new ByteEnumLookup<>(PreallocMethod.class);
+	private static final IntEnumLookup<PriceType> PRICE_TYPE = new IntEnumLookup<>(PriceType.class);
+	private static final ByteEnumLookup<PriorityIndicator> PRIORITY_INDICATOR = new ByteEnumLookup<>(PriorityIndicator.class);
+	private static final IntEnumLookup<Product> PRODUCT = new IntEnumLookup<>(Product.class);
+	private static final ByteEnumLookup<QtyType> QTY_TYPE = new ByteEnumLookup<>(QtyType.class);
+	private static final ByteEnumLookup<RoundingDirection> ROUNDING_DIRECTION = new ByteEnumLookup<>(RoundingDirection.class);
+	private static final ByteEnumLookup<SettlCurrFxRateCalc> SETTL_CURR_FX_RATE_CALC = new ByteEnumLookup<>(SettlCurrFxRateCalc.class);
+	private static final ByteEnumLookup<SettlType> SETTL_TYPE = new ByteEnumLookup<>(SettlType.class);
+	private static final ByteEnumLookup<Side> SIDE = new ByteEnumLookup<>(Side.class);
+	private static final ByteEnumLookup<TerminationType> TERMINATION_TYPE = new ByteEnumLookup<>(TerminationType.class);
+	private static final ByteEnumLookup<TimeInForce> TIME_IN_FORCE = new ByteEnumLookup<>(TimeInForce.class);
+
+	public ExecutionReportDecoder wrap(IndexedMessageParser parser) {
+		wrapMessage(parser);
+		return this;
+	}
+
+	public boolean hasOrderID() { return has(FixTags.OrderID); }
+	public CharSequence getOrderID() { return getCharSequence(FixTags.OrderID); }
+
+	public boolean hasSecondaryOrderID() { return has(FixTags.SecondaryOrderID); }
+	public CharSequence getSecondaryOrderID() { return getCharSequence(FixTags.SecondaryOrderID); }
+
+	public boolean hasSecondaryClOrdID() { return has(FixTags.SecondaryClOrdID); }
+	public CharSequence getSecondaryClOrdID() { return getCharSequence(FixTags.SecondaryClOrdID); }
+
+	public boolean hasSecondaryExecID() { return has(FixTags.SecondaryExecID); }
+	public CharSequence getSecondaryExecID() { return getCharSequence(FixTags.SecondaryExecID); }
+
+	public boolean hasClOrdID() { return has(FixTags.ClOrdID); }
+	public CharSequence getClOrdID() { return getCharSequence(FixTags.ClOrdID); }
+
+	public boolean hasOrigClOrdID() { return has(FixTags.OrigClOrdID); }
+	public CharSequence getOrigClOrdID() { return getCharSequence(FixTags.OrigClOrdID); }
+
+	public boolean hasClOrdLinkID() { return has(FixTags.ClOrdLinkID); }
+	public CharSequence getClOrdLinkID() { return getCharSequence(FixTags.ClOrdLinkID); }
+
+	public boolean hasQuoteRespID() { return has(FixTags.QuoteRespID); }
+	public CharSequence getQuoteRespID() { return getCharSequence(FixTags.QuoteRespID); }
+
+	public boolean hasOrdStatusReqID() { return has(FixTags.OrdStatusReqID); }
+	public CharSequence getOrdStatusReqID() { return getCharSequence(FixTags.OrdStatusReqID); }
+
+	public boolean hasMassStatusReqID() { return has(FixTags.MassStatusReqID); }
+	public CharSequence getMassStatusReqID() { return getCharSequence(FixTags.MassStatusReqID); }
+
+	public boolean hasTotNumReports() { return has(FixTags.TotNumReports); }
+	public int getTotNumReports() { return getInt(FixTags.TotNumReports); }
+
+	public boolean hasLastRptRequested() { return has(FixTags.LastRptRequested); }
+	public boolean getLastRptRequested() { return getBoolean(FixTags.LastRptRequested); }
+
+	private final NoPartyIDsDecoder noPartyIDs = new NoPartyIDsDecoder();
+	/** @return decoder of NoPartyIDs(453) repeating group positioned before the first entry */
+	public NoPartyIDsDecoder getNoPartyIDs() { return noPartyIDs.wrap(this); }
+
+	public boolean hasTradeOriginationDate() { return has(FixTags.TradeOriginationDate); }
+	public long getTradeOriginationDate() { return getLocalMktDate(FixTags.TradeOriginationDate); }
+
+	private final NoContraBrokersDecoder noContraBrokers = new NoContraBrokersDecoder();
+	/** @return decoder of NoContraBrokers(382) repeating group positioned before the first entry */
+	public NoContraBrokersDecoder getNoContraBrokers() { return noContraBrokers.wrap(this); }
+
+	public boolean hasListID() { return has(FixTags.ListID); }
+	public CharSequence getListID() { return getCharSequence(FixTags.ListID); }
+
+	public boolean hasCrossID() { return has(FixTags.CrossID); }
+	public CharSequence getCrossID() { return getCharSequence(FixTags.CrossID); }
+
+	public boolean hasOrigCrossID() { return has(FixTags.OrigCrossID); }
+	public CharSequence getOrigCrossID() { return getCharSequence(FixTags.OrigCrossID); }
+
+	public boolean hasCrossType() { return has(FixTags.CrossType); }
+	public CrossType getCrossType() { return CROSS_TYPE.get(getByte(FixTags.CrossType)); }
+
+	public boolean hasExecID() { return has(FixTags.ExecID); }
+	public CharSequence getExecID() { return getCharSequence(FixTags.ExecID); }
+
+	public boolean hasExecRefID() { return has(FixTags.ExecRefID); }
+	public CharSequence getExecRefID() { return getCharSequence(FixTags.ExecRefID); }
+
+	public boolean hasExecType() { return has(FixTags.ExecType); }
+	public ExecType getExecType() { return EXEC_TYPE.get(getByte(FixTags.ExecType)); }
+
+	public boolean hasOrdStatus() { return has(FixTags.OrdStatus); }
+	public OrdStatus getOrdStatus() { return ORD_STATUS.get(getByte(FixTags.OrdStatus)); }
+
+	public boolean hasWorkingIndicator() { return has(FixTags.WorkingIndicator); }
+	public boolean getWorkingIndicator() { return getBoolean(FixTags.WorkingIndicator); }
+
+	public boolean hasOrdRejReason() { return has(FixTags.OrdRejReason); }
+	public OrdRejReason getOrdRejReason() { return ORD_REJ_REASON.get(getInt(FixTags.OrdRejReason)); }
+
+	public boolean hasExecRestatementReason() { return has(FixTags.ExecRestatementReason); }
+	public ExecRestatementReason getExecRestatementReason() { return EXEC_RESTATEMENT_REASON.get(getInt(FixTags.ExecRestatementReason)); }
+
+	public boolean hasAccount() { return has(FixTags.Account); }
+	public CharSequence getAccount() { return getCharSequence(FixTags.Account); }
+
+	public boolean hasAcctIDSource() { return has(FixTags.AcctIDSource); }
+	public AcctIDSource getAcctIDSource() { return ACCT_ID_SOURCE.get(getInt(FixTags.AcctIDSource)); }
+
+	public boolean hasAccountType() { return has(FixTags.AccountType); }
+	public AccountType getAccountType() { return ACCOUNT_TYPE.get(getByte(FixTags.AccountType)); }
+
+	public boolean hasDayBookingInst() { return has(FixTags.DayBookingInst); }
+	public DayBookingInst getDayBookingInst() { return DAY_BOOKING_INST.get(getByte(FixTags.DayBookingInst)); }
+
+	public boolean hasBookingUnit() { return has(FixTags.BookingUnit); }
+	public BookingUnit getBookingUnit() { return BOOKING_UNIT.get(getByte(FixTags.BookingUnit)); }
+
+	public boolean hasPreallocMethod() { return has(FixTags.PreallocMethod); }
+	public PreallocMethod getPreallocMethod() { return PREALLOC_METHOD.get(getByte(FixTags.PreallocMethod)); }
+
+	public boolean hasSettlType() { return has(FixTags.SettlType); }
+	public SettlType getSettlType() { return SETTL_TYPE.get(getByte(FixTags.SettlType)); }
+
+	public boolean hasSettlDate() { return has(FixTags.SettlDate); }
+	public long getSettlDate() { return getLocalMktDate(FixTags.SettlDate); }
+
+	public boolean hasCashMargin() { return has(FixTags.CashMargin); }
+	public CashMargin getCashMargin() { return CASH_MARGIN.get(getByte(FixTags.CashMargin)); }
+
+	public boolean hasClearingFeeIndicator() { return has(FixTags.ClearingFeeIndicator); }
+	public CharSequence getClearingFeeIndicator() { return getCharSequence(FixTags.ClearingFeeIndicator); }
+
+	public boolean hasSymbol() { return has(FixTags.Symbol); }
+	public CharSequence getSymbol() { return getCharSequence(FixTags.Symbol); }
+
+	public boolean hasSymbolSfx() { return has(FixTags.SymbolSfx); }
+	public CharSequence getSymbolSfx() { return getCharSequence(FixTags.SymbolSfx); }
+
+	public boolean hasSecurityID() { return has(FixTags.SecurityID); }
+	public CharSequence getSecurityID() { return getCharSequence(FixTags.SecurityID); }
+
+	public boolean hasSecurityIDSource() { return has(FixTags.SecurityIDSource); }
+	public CharSequence getSecurityIDSource() { return getCharSequence(FixTags.SecurityIDSource); }
+
+	private final NoSecurityAltIDDecoder noSecurityAltID = new NoSecurityAltIDDecoder();
+	/** @return decoder of NoSecurityAltID(454) repeating group positioned before the first entry */
+	public NoSecurityAltIDDecoder getNoSecurityAltID() { return noSecurityAltID.wrap(this); }
+
+	public boolean hasProduct() { return has(FixTags.Product); }
+	public Product getProduct() { return PRODUCT.get(getInt(FixTags.Product)); }
+
+	public boolean hasCFICode() { return has(FixTags.CFICode); }
+	public CharSequence getCFICode() { return getCharSequence(FixTags.CFICode); }
+
+	public boolean hasSecurityType() { return has(FixTags.SecurityType); }
+	public CharSequence getSecurityType() { return getCharSequence(FixTags.SecurityType); }
+
+	public boolean hasSecuritySubType() { return has(FixTags.SecuritySubType); }
+	public CharSequence getSecuritySubType() { return getCharSequence(FixTags.SecuritySubType); }
+
+	public boolean hasMaturityMonthYear() { return has(FixTags.MaturityMonthYear); }
+	public CharSequence getMaturityMonthYear() { return getCharSequence(FixTags.MaturityMonthYear); }
+
+	public boolean hasMaturityDate() { return has(FixTags.MaturityDate); }
+	public long getMaturityDate() { return getLocalMktDate(FixTags.MaturityDate); }
+
+	public boolean hasCouponPaymentDate() { return has(FixTags.CouponPaymentDate); }
+	public long getCouponPaymentDate() { return getLocalMktDate(FixTags.CouponPaymentDate); }
+
+	public boolean hasIssueDate() { return has(FixTags.IssueDate); }
+	public long getIssueDate() { return getLocalMktDate(FixTags.IssueDate); }
+
+	public boolean hasRepoCollateralSecurityType() { return has(FixTags.RepoCollateralSecurityType); }
+	public int getRepoCollateralSecurityType() { return getInt(FixTags.RepoCollateralSecurityType); }
+
+	public boolean hasRepurchaseTerm() { return has(FixTags.RepurchaseTerm); }
+	public int getRepurchaseTerm() { return getInt(FixTags.RepurchaseTerm); }
+
+	public boolean hasRepurchaseRate() { return has(FixTags.RepurchaseRate); }
+	public double getRepurchaseRate() { return getDouble(FixTags.RepurchaseRate); }
+	public void getRepurchaseRate(Decimal value) { getDecimal(FixTags.RepurchaseRate, value); }
+
+	public boolean hasFactor() { return has(FixTags.Factor); }
+	public double getFactor() { return getDouble(FixTags.Factor); }
+	public void getFactor(Decimal value) { getDecimal(FixTags.Factor, value); }
+
+	public boolean hasCreditRating() { return has(FixTags.CreditRating); }
+	public CharSequence getCreditRating() { return getCharSequence(FixTags.CreditRating); }
+
+	public boolean hasInstrRegistry() { return has(FixTags.InstrRegistry); }
+	public CharSequence getInstrRegistry() { return getCharSequence(FixTags.InstrRegistry); }
+
+	public boolean hasCountryOfIssue() { return has(FixTags.CountryOfIssue); }
+	public CharSequence getCountryOfIssue() { return getCharSequence(FixTags.CountryOfIssue); }
+
+	public boolean hasStateOrProvinceOfIssue() { return has(FixTags.StateOrProvinceOfIssue); }
+	public CharSequence getStateOrProvinceOfIssue() { return getCharSequence(FixTags.StateOrProvinceOfIssue); }
+
+	public boolean hasLocaleOfIssue() { return has(FixTags.LocaleOfIssue); }
+	public CharSequence getLocaleOfIssue() { return getCharSequence(FixTags.LocaleOfIssue); }
+
+	public boolean hasRedemptionDate() { return has(FixTags.RedemptionDate); }
+	public long getRedemptionDate() { return getLocalMktDate(FixTags.RedemptionDate); }
+
+	public boolean hasStrikePrice() { return has(FixTags.StrikePrice); }
+	public double getStrikePrice() { return getDouble(FixTags.StrikePrice); }
+	public void getStrikePrice(Decimal value) { getDecimal(FixTags.StrikePrice, value); }
+
+	public boolean hasStrikeCurrency() { return has(FixTags.StrikeCurrency); }
+	public CharSequence getStrikeCurrency() { return getCharSequence(FixTags.StrikeCurrency); }
+
+	public boolean hasOptAttribute() { return has(FixTags.OptAttribute); }
+	public byte getOptAttribute() { return getByte(FixTags.OptAttribute); }
+
+	public boolean hasContractMultiplier() { return has(FixTags.ContractMultiplier); }
+	public double getContractMultiplier() { return getDouble(FixTags.ContractMultiplier); }
+	public void getContractMultiplier(Decimal value) { getDecimal(FixTags.ContractMultiplier, value); }
+
+	public boolean hasCouponRate() { return has(FixTags.CouponRate); }
+	public double getCouponRate() { return getDouble(FixTags.CouponRate); }
+	public void getCouponRate(Decimal value) { getDecimal(FixTags.CouponRate, value); }
+
+	public boolean hasSecurityExchange() { return has(FixTags.SecurityExchange); }
+	public CharSequence getSecurityExchange() { return getCharSequence(FixTags.SecurityExchange); }
+
+	public boolean hasIssuer() { return has(FixTags.Issuer); }
+	public CharSequence getIssuer() { return getCharSequence(FixTags.Issuer); }
+
+	public boolean hasEncodedIssuerLen() { return has(FixTags.EncodedIssuerLen); }
+	public int getEncodedIssuerLen() { return getInt(FixTags.EncodedIssuerLen); }
+
+	public boolean hasEncodedIssuer() { return has(FixTags.EncodedIssuer); }
+	public void getEncodedIssuer(ByteArrayReference value) { getByteSequence(FixTags.EncodedIssuer, value); }
+
+	public boolean hasSecurityDesc() { return has(FixTags.SecurityDesc); }
+	public CharSequence getSecurityDesc() { return getCharSequence(FixTags.SecurityDesc); }
+
+	public boolean hasEncodedSecurityDescLen() { return has(FixTags.EncodedSecurityDescLen); }
+	public int getEncodedSecurityDescLen() { return getInt(FixTags.EncodedSecurityDescLen); }
+
+	public boolean hasEncodedSecurityDesc() { return has(FixTags.EncodedSecurityDesc); }
+	public void getEncodedSecurityDesc(ByteArrayReference value) { getByteSequence(FixTags.EncodedSecurityDesc, value); }
+
+	public boolean hasPool() { return has(FixTags.Pool); }
+	public CharSequence getPool() { return getCharSequence(FixTags.Pool); }
+
+	public boolean hasContractSettlMonth() { return has(FixTags.ContractSettlMonth); }
+	public CharSequence getContractSettlMonth() { return getCharSequence(FixTags.ContractSettlMonth); }
+
+	public boolean hasCPProgram() { return has(FixTags.CPProgram); }
+	public int getCPProgram() { return getInt(FixTags.CPProgram); }
+
+	public boolean hasCPRegType() { return has(FixTags.CPRegType); }
+	public CharSequence getCPRegType() { return getCharSequence(FixTags.CPRegType); }
+
+	private final NoEventsDecoder noEvents = new NoEventsDecoder();
+	/** @return decoder of NoEvents(864) repeating group positioned before the first entry */
+	public NoEventsDecoder getNoEvents() { return noEvents.wrap(this); }
+
+	public boolean hasDatedDate() { return has(FixTags.DatedDate); }
+	public long getDatedDate() { return getLocalMktDate(FixTags.DatedDate); }
+
+	public boolean hasInterestAccrualDate() { return has(FixTags.InterestAccrualDate); }
+	public long getInterestAccrualDate() { return getLocalMktDate(FixTags.InterestAccrualDate); }
+
+	public boolean hasAgreementDesc() { return has(FixTags.AgreementDesc); }
+	public CharSequence getAgreementDesc() { return getCharSequence(FixTags.AgreementDesc); }
+
+	public boolean hasAgreementID() { return has(FixTags.AgreementID); }
+	public CharSequence getAgreementID() { return getCharSequence(FixTags.AgreementID); }
+
+	public boolean hasAgreementDate() { return has(FixTags.AgreementDate); }
+	public long getAgreementDate() { return getLocalMktDate(FixTags.AgreementDate); }
+
+	public boolean hasAgreementCurrency() { return has(FixTags.AgreementCurrency); }
+	public CharSequence getAgreementCurrency() { return getCharSequence(FixTags.AgreementCurrency); }
+
+	public boolean hasTerminationType() { return has(FixTags.TerminationType); }
+	public TerminationType getTerminationType() { return TERMINATION_TYPE.get(getByte(FixTags.TerminationType)); }
+
+	public boolean hasStartDate() { return has(FixTags.StartDate); }
+	public long getStartDate() { return getLocalMktDate(FixTags.StartDate); }
+
+	public boolean hasEndDate() { return has(FixTags.EndDate); }
+	public long getEndDate() { return getLocalMktDate(FixTags.EndDate); }
+
+	public boolean hasDeliveryType() { return has(FixTags.DeliveryType); }
+	public DeliveryType getDeliveryType() { return DELIVERY_TYPE.get(getByte(FixTags.DeliveryType)); }
+
+	public boolean hasMarginRatio() { return has(FixTags.MarginRatio); }
+	public double getMarginRatio() { return getDouble(FixTags.MarginRatio); }
+	public void getMarginRatio(Decimal value) { getDecimal(FixTags.MarginRatio, value); }
+
+	private final NoUnderlyingsDecoder noUnderlyings = new NoUnderlyingsDecoder();
+	/** @return decoder of NoUnderlyings(711) repeating group positioned before the first entry */
+	public NoUnderlyingsDecoder getNoUnderlyings() { return noUnderlyings.wrap(this); }
+
+	public boolean hasSide() { return has(FixTags.Side); }
+	public Side getSide() { return SIDE.get(getByte(FixTags.Side)); }
+
+	private final NoStipulationsDecoder noStipulations = new NoStipulationsDecoder();
+	/** @return decoder of NoStipulations(232) repeating group positioned before the first entry */
+	public NoStipulationsDecoder getNoStipulations() { return noStipulations.wrap(this); }
+
+	public boolean hasQtyType() { return has(FixTags.QtyType); }
+	public QtyType getQtyType() { return QTY_TYPE.get(getByte(FixTags.QtyType)); }
+
+	public boolean hasOrderQty() { return has(FixTags.OrderQty); }
+	public double getOrderQty() { return getDouble(FixTags.OrderQty); }
+	public void getOrderQty(Decimal value) { getDecimal(FixTags.OrderQty, value); }
+
+	public boolean hasCashOrderQty() { return has(FixTags.CashOrderQty); }
+	public double getCashOrderQty() { return getDouble(FixTags.CashOrderQty); }
+	public void getCashOrderQty(Decimal value) { getDecimal(FixTags.CashOrderQty, value); }
+
+	public boolean hasOrderPercent() { return has(FixTags.OrderPercent); }
+	public double getOrderPercent() { return getDouble(FixTags.OrderPercent); }
+	public void getOrderPercent(Decimal value) { getDecimal(FixTags.OrderPercent, value); }
+
+	public boolean hasRoundingDirection() { return has(FixTags.RoundingDirection); }
+	public RoundingDirection getRoundingDirection() { return ROUNDING_DIRECTION.get(getByte(FixTags.RoundingDirection)); }
+
+	public boolean hasRoundingModulus() { return has(FixTags.RoundingModulus); }
+	public double getRoundingModulus() { return getDouble(FixTags.RoundingModulus); }
+	public void getRoundingModulus(Decimal value) { getDecimal(FixTags.RoundingModulus, value); }
+
+	public boolean hasOrdType() { return has(FixTags.OrdType); }
+	public OrdType getOrdType() { return ORD_TYPE.get(getByte(FixTags.OrdType)); }
+
+	public boolean hasPriceType() { return has(FixTags.PriceType); }
+	public PriceType getPriceType() { return PRICE_TYPE.get(getInt(FixTags.PriceType)); }
+
+	public boolean hasPrice() { return has(FixTags.Price); }
+	public double getPrice() { return getDouble(FixTags.Price); }
+	public void getPrice(Decimal value) { getDecimal(FixTags.Price, value); }
+
+	public boolean hasStopPx() { return has(FixTags.StopPx); }
+	public double getStopPx() { return getDouble(FixTags.StopPx); }
+	public void getStopPx(Decimal value) { getDecimal(FixTags.StopPx, value); }
+
+	public boolean hasPegOffsetValue() { return has(FixTags.PegOffsetValue); }
+	public double getPegOffsetValue() { return getDouble(FixTags.PegOffsetValue); }
+	public void getPegOffsetValue(Decimal value) { getDecimal(FixTags.PegOffsetValue, value); }
+
+	public boolean hasPegMoveType() { return has(FixTags.PegMoveType); }
+	public PegMoveType getPegMoveType() { return PEG_MOVE_TYPE.get(getByte(FixTags.PegMoveType)); }
+
+	public boolean hasPegOffsetType() { return has(FixTags.PegOffsetType); }
+	public PegOffsetType getPegOffsetType() { return PEG_OFFSET_TYPE.get(getByte(FixTags.PegOffsetType)); }
+
+	public boolean hasPegLimitType() { return has(FixTags.PegLimitType); }
+	public PegLimitType getPegLimitType() { return PEG_LIMIT_TYPE.get(getByte(FixTags.PegLimitType)); }
+
+	public boolean hasPegRoundDirection() { return has(FixTags.PegRoundDirection); }
+	public PegRoundDirection getPegRoundDirection() { return PEG_ROUND_DIRECTION.get(getByte(FixTags.PegRoundDirection)); }
+
+	public boolean hasPegScope() { return has(FixTags.PegScope); }
+	public PegScope getPegScope() { return PEG_SCOPE.get(getByte(FixTags.PegScope)); }
+
+	public boolean hasDiscretionInst() { return has(FixTags.DiscretionInst); }
+	public DiscretionInst getDiscretionInst() { return DISCRETION_INST.get(getByte(FixTags.DiscretionInst)); }
+
+	public boolean hasDiscretionOffsetValue() { return has(FixTags.DiscretionOffsetValue); }
+	public double getDiscretionOffsetValue() { return getDouble(FixTags.DiscretionOffsetValue); }
+	public void getDiscretionOffsetValue(Decimal value) { getDecimal(FixTags.DiscretionOffsetValue, value); }
+
+	public boolean hasDiscretionMoveType() { return has(FixTags.DiscretionMoveType); }
+	public DiscretionMoveType getDiscretionMoveType() { return DISCRETION_MOVE_TYPE.get(getByte(FixTags.DiscretionMoveType)); }
+
+	public boolean hasDiscretionOffsetType() { return has(FixTags.DiscretionOffsetType); }
+	public DiscretionOffsetType getDiscretionOffsetType() { return DISCRETION_OFFSET_TYPE.get(getByte(FixTags.DiscretionOffsetType)); }
+
+	public boolean hasDiscretionLimitType() { return has(FixTags.DiscretionLimitType); }
+	public DiscretionLimitType getDiscretionLimitType() { return DISCRETION_LIMIT_TYPE.get(getByte(FixTags.DiscretionLimitType)); }
+
+	public boolean hasDiscretionRoundDirection() { return has(FixTags.DiscretionRoundDirection); }
+	public DiscretionRoundDirection getDiscretionRoundDirection() { return DISCRETION_ROUND_DIRECTION.get(getByte(FixTags.DiscretionRoundDirection)); }
+
+	public boolean hasDiscretionScope() { return has(FixTags.DiscretionScope); }
+	public DiscretionScope getDiscretionScope() { return DISCRETION_SCOPE.get(getByte(FixTags.DiscretionScope)); }
+
+	public boolean hasPeggedPrice() { return has(FixTags.PeggedPrice); }
+	public double getPeggedPrice() { return getDouble(FixTags.PeggedPrice); }
+	public void getPeggedPrice(Decimal value) { getDecimal(FixTags.PeggedPrice, value); }
+
+	public boolean hasDiscretionPrice() { return has(FixTags.DiscretionPrice); }
+	public double getDiscretionPrice() { return getDouble(FixTags.DiscretionPrice); }
+	public void getDiscretionPrice(Decimal value) { getDecimal(FixTags.DiscretionPrice, value); }
+
+	public boolean hasTargetStrategy() { return has(FixTags.TargetStrategy); }
+	public int getTargetStrategy() { return getInt(FixTags.TargetStrategy); }
+
+	public boolean hasTargetStrategyParameters() { return has(FixTags.TargetStrategyParameters); }
+	public CharSequence getTargetStrategyParameters() { return getCharSequence(FixTags.TargetStrategyParameters); }
+
+	public boolean hasParticipationRate() { return has(FixTags.ParticipationRate); }
+	public double getParticipationRate() { return getDouble(FixTags.ParticipationRate); }
+	public void getParticipationRate(Decimal value) { getDecimal(FixTags.ParticipationRate, value); }
+
+	public boolean hasTargetStrategyPerformance() { return has(FixTags.TargetStrategyPerformance); }
+	public double getTargetStrategyPerformance() { return getDouble(FixTags.TargetStrategyPerformance); }
+	public void getTargetStrategyPerformance(Decimal value) { getDecimal(FixTags.TargetStrategyPerformance, value); }
+
+	public boolean hasCurrency() { return has(FixTags.Currency); }
+	public CharSequence getCurrency() { return getCharSequence(FixTags.Currency); }
+
+	public boolean hasComplianceID() { return has(FixTags.ComplianceID); }
+	public CharSequence getComplianceID() { return getCharSequence(FixTags.ComplianceID); }
+
+	public boolean hasSolicitedFlag() { return has(FixTags.SolicitedFlag); }
+	public boolean getSolicitedFlag() { return getBoolean(FixTags.SolicitedFlag); }
+
+	public boolean hasTimeInForce() { return has(FixTags.TimeInForce); }
+	public TimeInForce getTimeInForce() { return TIME_IN_FORCE.get(getByte(FixTags.TimeInForce)); }
+
+	public boolean hasEffectiveTime() { return has(FixTags.EffectiveTime); }
+	public long getEffectiveTime() { return getUTCTimestamp(FixTags.EffectiveTime); }
+
+	public boolean hasExpireDate() { return has(FixTags.ExpireDate); }
+	public long getExpireDate() { return getLocalMktDate(FixTags.ExpireDate); }
+
+	public boolean hasExpireTime() { return has(FixTags.ExpireTime); }
+	public long getExpireTime() { return getUTCTimestamp(FixTags.ExpireTime); }
+
+	public boolean hasExecInst() { return has(FixTags.ExecInst); }
+	public CharSequence getExecInst() { return getCharSequence(FixTags.ExecInst); }
+
+	public boolean hasOrderCapacity() { return has(FixTags.OrderCapacity); }
+	public OrderCapacity getOrderCapacity() { return ORDER_CAPACITY.get(getByte(FixTags.OrderCapacity)); }
+
+	public boolean hasOrderRestrictions() { return has(FixTags.OrderRestrictions); }
+	public CharSequence getOrderRestrictions() { return getCharSequence(FixTags.OrderRestrictions); }
+
+	public boolean hasCustOrderCapacity() { return has(FixTags.CustOrderCapacity); }
+	public CustOrderCapacity getCustOrderCapacity() { return CUST_ORDER_CAPACITY.get(getByte(FixTags.CustOrderCapacity)); }
+
+	public boolean hasLastQty() { return has(FixTags.LastQty); }
+	public double getLastQty() { return getDouble(FixTags.LastQty); }
+	public void getLastQty(Decimal value) { getDecimal(FixTags.LastQty, value); }
+
+	public boolean hasUnderlyingLastQty() { return has(FixTags.UnderlyingLastQty); }
+	public double getUnderlyingLastQty() { return getDouble(FixTags.UnderlyingLastQty); }
+	public void getUnderlyingLastQty(Decimal value) { getDecimal(FixTags.UnderlyingLastQty, value); }
+
+	public boolean hasLastPx() { return has(FixTags.LastPx); }
+	public double getLastPx() { return getDouble(FixTags.LastPx); }
+	public void getLastPx(Decimal value) { getDecimal(FixTags.LastPx, value); }
+
+	public boolean hasUnderlyingLastPx() { return has(FixTags.UnderlyingLastPx); }
+	public double getUnderlyingLastPx() { return getDouble(FixTags.UnderlyingLastPx); }
+	public void getUnderlyingLastPx(Decimal value) { getDecimal(FixTags.UnderlyingLastPx, value); }
+
+	public boolean hasLastParPx() { return has(FixTags.LastParPx); }
+	public double getLastParPx() { return getDouble(FixTags.LastParPx); }
+	public void getLastParPx(Decimal value) { getDecimal(FixTags.LastParPx, value); }
+
+	public boolean hasLastSpotRate() { return has(FixTags.LastSpotRate); }
+	public double getLastSpotRate() { return getDouble(FixTags.LastSpotRate); }
+	public void getLastSpotRate(Decimal value) { getDecimal(FixTags.LastSpotRate, value); }
+
+	public boolean hasLastForwardPoints() { return has(FixTags.LastForwardPoints); }
+	public double getLastForwardPoints() { return getDouble(FixTags.LastForwardPoints); }
+	public void getLastForwardPoints(Decimal value) { getDecimal(FixTags.LastForwardPoints, value); }
+
+	public boolean hasLastMkt() { return has(FixTags.LastMkt); }
+	public CharSequence getLastMkt() { return getCharSequence(FixTags.LastMkt); }
+
+	public boolean hasTradingSessionID() { return has(FixTags.TradingSessionID); }
+	public CharSequence getTradingSessionID() { return getCharSequence(FixTags.TradingSessionID); }
+
+	public boolean hasTradingSessionSubID() { return has(FixTags.TradingSessionSubID); }
+	public CharSequence getTradingSessionSubID() { return getCharSequence(FixTags.TradingSessionSubID); }
+
+	public boolean hasTimeBracket() { return has(FixTags.TimeBracket); }
+	public CharSequence getTimeBracket() { return getCharSequence(FixTags.TimeBracket); }
+
+	public boolean hasLastCapacity() { return has(FixTags.LastCapacity); }
+	public LastCapacity getLastCapacity() { return LAST_CAPACITY.get(getByte(FixTags.LastCapacity)); }
+
+	public boolean hasLeavesQty() { return has(FixTags.LeavesQty); }
+	public double getLeavesQty() { return getDouble(FixTags.LeavesQty); }
+	public void getLeavesQty(Decimal value) { getDecimal(FixTags.LeavesQty, value); }
+
+	public boolean hasCumQty() { return has(FixTags.CumQty); }
+	public double getCumQty() { return getDouble(FixTags.CumQty); }
+	public void getCumQty(Decimal value) { getDecimal(FixTags.CumQty, value); }
+
+	public boolean hasAvgPx() { return has(FixTags.AvgPx); }
+	public double getAvgPx() { return getDouble(FixTags.AvgPx); }
+	public void getAvgPx(Decimal value) { getDecimal(FixTags.AvgPx, value); }
+
+	public boolean hasDayOrderQty() { return has(FixTags.DayOrderQty); }
+	public double getDayOrderQty() { return getDouble(FixTags.DayOrderQty); }
+	public void getDayOrderQty(Decimal value) { getDecimal(FixTags.DayOrderQty, value); }
+
+	public boolean hasDayCumQty() { return has(FixTags.DayCumQty); }
+	public double getDayCumQty() { return getDouble(FixTags.DayCumQty); }
+	public void getDayCumQty(Decimal value) { getDecimal(FixTags.DayCumQty, value); }
+
+	public boolean hasDayAvgPx() { return has(FixTags.DayAvgPx); }
+	public double getDayAvgPx() { return getDouble(FixTags.DayAvgPx); }
+	public void getDayAvgPx(Decimal value) { getDecimal(FixTags.DayAvgPx, value); }
+
+	public boolean hasGTBookingInst() { return has(FixTags.GTBookingInst); }
+	public GTBookingInst getGTBookingInst() { return GT_BOOKING_INST.get(getByte(FixTags.GTBookingInst)); }
+
+	public boolean hasTradeDate() { return has(FixTags.TradeDate); }
+	public long getTradeDate() { return getLocalMktDate(FixTags.TradeDate); }
+
+	public boolean hasTransactTime() { return has(FixTags.TransactTime); }
+	public long getTransactTime() { return getUTCTimestamp(FixTags.TransactTime); }
+
+	public boolean hasReportToExch() { return has(FixTags.ReportToExch); }
+	public boolean getReportToExch() { return getBoolean(FixTags.ReportToExch); }
+
+	public boolean hasCommission() { return has(FixTags.Commission); }
+	public double getCommission() { return getDouble(FixTags.Commission); }
+	public void getCommission(Decimal value) { getDecimal(FixTags.Commission, value); }
+
+	public boolean hasCommType() { return has(FixTags.CommType); }
+	public CommType getCommType() { return COMM_TYPE.get(getByte(FixTags.CommType)); }
+
+	public boolean hasCommCurrency() { return has(FixTags.CommCurrency); }
+	public CharSequence getCommCurrency() { return getCharSequence(FixTags.CommCurrency); }
+
+	public boolean hasFundRenewWaiv() { return has(FixTags.FundRenewWaiv); }
+	public FundRenewWaiv getFundRenewWaiv() { return FUND_RENEW_WAIV.get(getByte(FixTags.FundRenewWaiv)); }
+
+	public boolean hasSpread() { return has(FixTags.Spread); }
+	public double getSpread() { return getDouble(FixTags.Spread); }
+	public void getSpread(Decimal value) { getDecimal(FixTags.Spread, value); }
+
+	public boolean hasBenchmarkCurveCurrency() { return has(FixTags.BenchmarkCurveCurrency); }
+	public CharSequence getBenchmarkCurveCurrency() { return getCharSequence(FixTags.BenchmarkCurveCurrency); }
+
+	public boolean hasBenchmarkCurveName() { return has(FixTags.BenchmarkCurveName); }
+	public CharSequence getBenchmarkCurveName() { return getCharSequence(FixTags.BenchmarkCurveName); }
+
+	public boolean hasBenchmarkCurvePoint() { return has(FixTags.BenchmarkCurvePoint); }
+	public CharSequence getBenchmarkCurvePoint() { return getCharSequence(FixTags.BenchmarkCurvePoint); }
+
+	public boolean hasBenchmarkPrice() { return has(FixTags.BenchmarkPrice); }
+	public double getBenchmarkPrice() { return getDouble(FixTags.BenchmarkPrice); }
+	public void getBenchmarkPrice(Decimal value) { getDecimal(FixTags.BenchmarkPrice, value); }
+
+	public boolean hasBenchmarkPriceType() { return has(FixTags.BenchmarkPriceType); }
+	public int getBenchmarkPriceType() { return getInt(FixTags.BenchmarkPriceType); }
+
+	public boolean hasBenchmarkSecurityID() { return has(FixTags.BenchmarkSecurityID); }
+	public CharSequence getBenchmarkSecurityID() { return getCharSequence(FixTags.BenchmarkSecurityID); }
+
+	public boolean hasBenchmarkSecurityIDSource() { return has(FixTags.BenchmarkSecurityIDSource); }
+	public CharSequence getBenchmarkSecurityIDSource() { return getCharSequence(FixTags.BenchmarkSecurityIDSource); }
+
+	public boolean hasYieldType() { return has(FixTags.YieldType); }
+	public CharSequence getYieldType() { return getCharSequence(FixTags.YieldType); }
+
+	public boolean hasYield() { return has(FixTags.Yield); }
+	public double getYield() { return getDouble(FixTags.Yield); }
+	public void getYield(Decimal value) { getDecimal(FixTags.Yield, value); }
+
+	public boolean hasYieldCalcDate() { return has(FixTags.YieldCalcDate); }
+	public long getYieldCalcDate() { return getLocalMktDate(FixTags.YieldCalcDate); }
+
+	public boolean hasYieldRedemptionDate() { return has(FixTags.YieldRedemptionDate); }
+	public long getYieldRedemptionDate() { return getLocalMktDate(FixTags.YieldRedemptionDate); }
+
+	public boolean hasYieldRedemptionPrice() { return has(FixTags.YieldRedemptionPrice); }
+	public double getYieldRedemptionPrice() { return getDouble(FixTags.YieldRedemptionPrice); }
+	public void getYieldRedemptionPrice(Decimal value) { getDecimal(FixTags.YieldRedemptionPrice, value); }
+
+	public boolean hasYieldRedemptionPriceType() { return has(FixTags.YieldRedemptionPriceType); }
+	public int getYieldRedemptionPriceType() { return getInt(FixTags.YieldRedemptionPriceType); }
+
+	public boolean hasGrossTradeAmt() { return has(FixTags.GrossTradeAmt); }
+	public double getGrossTradeAmt() { return getDouble(FixTags.GrossTradeAmt); }
+	public void getGrossTradeAmt(Decimal value) { getDecimal(FixTags.GrossTradeAmt, value); }
+
+	public boolean hasNumDaysInterest() { return has(FixTags.NumDaysInterest); }
+	public int getNumDaysInterest() { return getInt(FixTags.NumDaysInterest); }
+
+	public boolean hasExDate() { return has(FixTags.ExDate); }
+	public long getExDate() { return getLocalMktDate(FixTags.ExDate); }
+
+	public boolean hasAccruedInterestRate() { return has(FixTags.AccruedInterestRate); }
+	public double getAccruedInterestRate() { return getDouble(FixTags.AccruedInterestRate); }
+	public void getAccruedInterestRate(Decimal value) { getDecimal(FixTags.AccruedInterestRate, value); }
+
+	public boolean hasAccruedInterestAmt() { return has(FixTags.AccruedInterestAmt); }
+	public double getAccruedInterestAmt() { return getDouble(FixTags.AccruedInterestAmt); }
+	public void getAccruedInterestAmt(Decimal value) { getDecimal(FixTags.AccruedInterestAmt, value); }
+
+	public boolean hasInterestAtMaturity() { return has(FixTags.InterestAtMaturity); }
+	public double getInterestAtMaturity() { return getDouble(FixTags.InterestAtMaturity); }
+	public void getInterestAtMaturity(Decimal value) { getDecimal(FixTags.InterestAtMaturity, value); }
+
+	public boolean hasEndAccruedInterestAmt() { return has(FixTags.EndAccruedInterestAmt); }
+	public double getEndAccruedInterestAmt() { return getDouble(FixTags.EndAccruedInterestAmt); }
+	public void getEndAccruedInterestAmt(Decimal value) { getDecimal(FixTags.EndAccruedInterestAmt, value); }
+
+	public boolean hasStartCash() { return has(FixTags.StartCash); }
+	public double getStartCash() { return getDouble(FixTags.StartCash); }
+	public void getStartCash(Decimal value) { getDecimal(FixTags.StartCash, value); }
+
+	public boolean hasEndCash() { return has(FixTags.EndCash); }
+	public double getEndCash() { return getDouble(FixTags.EndCash); }
+	public void getEndCash(Decimal value) { getDecimal(FixTags.EndCash, value); }
+
+	public boolean hasTradedFlatSwitch() { return has(FixTags.TradedFlatSwitch); }
+	public boolean getTradedFlatSwitch() { return getBoolean(FixTags.TradedFlatSwitch); }
+
+	public boolean hasBasisFeatureDate() { return has(FixTags.BasisFeatureDate); }
+	public long getBasisFeatureDate() { return getLocalMktDate(FixTags.BasisFeatureDate); }
+
+	public boolean hasBasisFeaturePrice() { return has(FixTags.BasisFeaturePrice); }
+	public double getBasisFeaturePrice() { return getDouble(FixTags.BasisFeaturePrice); }
+	public void getBasisFeaturePrice(Decimal value) { getDecimal(FixTags.BasisFeaturePrice, value); }
+
+	public boolean hasConcession() { return has(FixTags.Concession); }
+	public double getConcession() { return getDouble(FixTags.Concession); }
+	public void getConcession(Decimal value) { getDecimal(FixTags.Concession, value); }
+
+	public boolean hasTotalTakedown() { return has(FixTags.TotalTakedown); }
+	public double getTotalTakedown() { return getDouble(FixTags.TotalTakedown); }
+	public void getTotalTakedown(Decimal value) { getDecimal(FixTags.TotalTakedown, value); }
+
+	public boolean hasNetMoney() { return has(FixTags.NetMoney); }
+	public double getNetMoney() { return getDouble(FixTags.NetMoney); }
+	public void getNetMoney(Decimal value) { getDecimal(FixTags.NetMoney, value); }
+
+	public boolean hasSettlCurrAmt() { return has(FixTags.SettlCurrAmt); }
+	public double getSettlCurrAmt() { return getDouble(FixTags.SettlCurrAmt); }
+	public void getSettlCurrAmt(Decimal value) { getDecimal(FixTags.SettlCurrAmt, value); }
+
+	public boolean hasSettlCurrency() { return has(FixTags.SettlCurrency); }
+	public CharSequence getSettlCurrency() { return getCharSequence(FixTags.SettlCurrency); }
+
+	public boolean hasSettlCurrFxRate() { return has(FixTags.SettlCurrFxRate); }
+	public double getSettlCurrFxRate() { return getDouble(FixTags.SettlCurrFxRate); }
+	public void getSettlCurrFxRate(Decimal value) { getDecimal(FixTags.SettlCurrFxRate, value); }
+
+	public boolean hasSettlCurrFxRateCalc() { return has(FixTags.SettlCurrFxRateCalc); }
+	public SettlCurrFxRateCalc getSettlCurrFxRateCalc() { return SETTL_CURR_FX_RATE_CALC.get(getByte(FixTags.SettlCurrFxRateCalc)); }
+
+	public boolean hasHandlInst() { return has(FixTags.HandlInst); }
+	public HandlInst getHandlInst() { return HANDL_INST.get(getByte(FixTags.HandlInst)); }
+
+	public boolean hasMinQty() { return has(FixTags.MinQty); }
+	public double getMinQty() { return getDouble(FixTags.MinQty); }
+	public void getMinQty(Decimal value) { getDecimal(FixTags.MinQty, value); }
+
+	public boolean hasMaxFloor() { return has(FixTags.MaxFloor); }
+	public double getMaxFloor() { return getDouble(FixTags.MaxFloor); }
+	public void getMaxFloor(Decimal value) { getDecimal(FixTags.MaxFloor, value); }
+
+	public boolean hasPositionEffect() { return has(FixTags.PositionEffect); }
+	public PositionEffect getPositionEffect() { return POSITION_EFFECT.get(getByte(FixTags.PositionEffect)); }
+
+	public boolean hasMaxShow() { return has(FixTags.MaxShow); }
+	public double getMaxShow() { return getDouble(FixTags.MaxShow); }
+	public void getMaxShow(Decimal value) { getDecimal(FixTags.MaxShow, value); }
+
+	public boolean hasBookingType() { return has(FixTags.BookingType); }
+	public BookingType getBookingType() { return BOOKING_TYPE.get(getByte(FixTags.BookingType)); }
+
+	public boolean hasText() { return has(FixTags.Text); }
+	public CharSequence getText() { return getCharSequence(FixTags.Text); }
+
+	public boolean hasEncodedTextLen() { return has(FixTags.EncodedTextLen); }
+	public int getEncodedTextLen() { return getInt(FixTags.EncodedTextLen); }
+
+	public boolean hasEncodedText() { return has(FixTags.EncodedText); }
+	public void getEncodedText(ByteArrayReference value) { getByteSequence(FixTags.EncodedText, value); }
+
+	public boolean hasSettlDate2() { return has(FixTags.SettlDate2); }
+	public long getSettlDate2() { return getLocalMktDate(FixTags.SettlDate2); }
+
+	public boolean hasOrderQty2() { return has(FixTags.OrderQty2); }
+	public double getOrderQty2() { return getDouble(FixTags.OrderQty2); }
+	public void getOrderQty2(Decimal value) { getDecimal(FixTags.OrderQty2, value); }
+
+	public boolean hasLastForwardPoints2() { return has(FixTags.LastForwardPoints2); }
+	public double getLastForwardPoints2() { return getDouble(FixTags.LastForwardPoints2); }
+	public void getLastForwardPoints2(Decimal value) { getDecimal(FixTags.LastForwardPoints2, value); }
+
+	public boolean hasMultiLegReportingType() { return has(FixTags.MultiLegReportingType); }
+	public MultiLegReportingType getMultiLegReportingType() { return MULTI_LEG_REPORTING_TYPE.get(getByte(FixTags.MultiLegReportingType)); }
+
+	public boolean hasCancellationRights() { return has(FixTags.CancellationRights); }
+	public CancellationRights getCancellationRights() { return CANCELLATION_RIGHTS.get(getByte(FixTags.CancellationRights)); }
+
+	public boolean hasMoneyLaunderingStatus() { return has(FixTags.MoneyLaunderingStatus); }
+	public MoneyLaunderingStatus getMoneyLaunderingStatus() { return MONEY_LAUNDERING_STATUS.get(getByte(FixTags.MoneyLaunderingStatus)); }
+
+	public boolean hasRegistID() { return has(FixTags.RegistID); }
+	public CharSequence getRegistID() { return getCharSequence(FixTags.RegistID); }
+
+	public boolean hasDesignation() { return has(FixTags.Designation); }
+	public CharSequence getDesignation() { return getCharSequence(FixTags.Designation); }
+
+	public boolean hasTransBkdTime() { return has(FixTags.TransBkdTime); }
+	public long getTransBkdTime() { return getUTCTimestamp(FixTags.TransBkdTime); }
+
+	public boolean hasExecValuationPoint() { return has(FixTags.ExecValuationPoint); }
+	public long getExecValuationPoint() { return getUTCTimestamp(FixTags.ExecValuationPoint); }
+
+	public boolean hasExecPriceType() { return has(FixTags.ExecPriceType); }
+	public ExecPriceType getExecPriceType() { return EXEC_PRICE_TYPE.get(getByte(FixTags.ExecPriceType)); }
+
+	public boolean hasExecPriceAdjustment() { return has(FixTags.ExecPriceAdjustment); }
+	public double getExecPriceAdjustment() { return getDouble(FixTags.ExecPriceAdjustment); }
+	public void getExecPriceAdjustment(Decimal value) { getDecimal(FixTags.ExecPriceAdjustment, value); }
+
+	public boolean hasPriorityIndicator() { return has(FixTags.PriorityIndicator); }
+	public PriorityIndicator getPriorityIndicator() { return PRIORITY_INDICATOR.get(getByte(FixTags.PriorityIndicator)); }
+
+	public boolean hasPriceImprovement() { return has(FixTags.PriceImprovement); }
+	public double getPriceImprovement() { return getDouble(FixTags.PriceImprovement); }
+	public void getPriceImprovement(Decimal value) { getDecimal(FixTags.PriceImprovement, value); }
+
+	public boolean hasLastLiquidityInd() { return has(FixTags.LastLiquidityInd); }
+	public LastLiquidityInd getLastLiquidityInd() { return LAST_LIQUIDITY_IND.get(getByte(FixTags.LastLiquidityInd)); }
+
+	private final NoContAmtsDecoder noContAmts = new NoContAmtsDecoder();
+	/** @return decoder of NoContAmts(518) repeating group positioned before the first entry */
+	public NoContAmtsDecoder getNoContAmts() { return noContAmts.wrap(this); }
+
+	private final NoLegsDecoder noLegs = new NoLegsDecoder();
+	/** @return decoder of NoLegs(555) repeating group positioned before the first entry */
+	public NoLegsDecoder getNoLegs() { return noLegs.wrap(this); }
+
+	public boolean hasCopyMsgIndicator() { return has(FixTags.CopyMsgIndicator); }
+	public boolean getCopyMsgIndicator() { return getBoolean(FixTags.CopyMsgIndicator); }
+
+	private final NoMiscFeesDecoder noMiscFees = new NoMiscFeesDecoder();
+	/** @return decoder of NoMiscFees(136) repeating group positioned before the first entry */
+	public NoMiscFeesDecoder getNoMiscFees() { return noMiscFees.wrap(this); }
+
+	public static final class NoPartyIDsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoPartyIDs, FixTags.PartyID, FixTags.PartyIDSource, FixTags.PartyRole, FixTags.NoPartySubIDs, FixTags.PartySubID, FixTags.PartySubIDType);
+
+		NoPartyIDsDecoder() {
+			super(GROUP);
+		}
+
+		NoPartyIDsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasPartyID() { return has(FixTags.PartyID); }
+		public CharSequence getPartyID() { return getCharSequence(FixTags.PartyID); }
+
+		public boolean hasPartyIDSource() { return has(FixTags.PartyIDSource); }
+		public PartyIDSource getPartyIDSource() { return PARTY_ID_SOURCE.get(getByte(FixTags.PartyIDSource)); }
+
+		public boolean hasPartyRole() { return has(FixTags.PartyRole); }
+		public PartyRole getPartyRole() { return PARTY_ROLE.get(getInt(FixTags.PartyRole)); }
+
+		private final NoPartySubIDsDecoder noPartySubIDs = new NoPartySubIDsDecoder();
+		/** @return decoder of NoPartySubIDs(802) repeating group positioned before the first entry */
+		public NoPartySubIDsDecoder getNoPartySubIDs() { return noPartySubIDs.wrap(this); }
+
+		public static final class NoPartySubIDsDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoPartySubIDs, FixTags.PartySubID, FixTags.PartySubIDType);
+
+			NoPartySubIDsDecoder() {
+				super(GROUP);
+			}
+
+			NoPartySubIDsDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasPartySubID() { return has(FixTags.PartySubID); }
+			public CharSequence getPartySubID() { return getCharSequence(FixTags.PartySubID); }
+
+			public boolean hasPartySubIDType() { return has(FixTags.PartySubIDType); }
+			public int getPartySubIDType() { return getInt(FixTags.PartySubIDType); }
+		}
+	}
+
+	public static final class NoContraBrokersDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoContraBrokers, FixTags.ContraBroker, FixTags.ContraTrader, FixTags.ContraTradeQty, FixTags.ContraTradeTime, FixTags.ContraLegRefID);
+
+		NoContraBrokersDecoder() {
+			super(GROUP);
+		}
+
+		NoContraBrokersDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasContraBroker() { return has(FixTags.ContraBroker); }
+		public CharSequence getContraBroker() { return getCharSequence(FixTags.ContraBroker); }
+
+		public boolean hasContraTrader() { return has(FixTags.ContraTrader); }
+		public CharSequence getContraTrader() { return getCharSequence(FixTags.ContraTrader); }
+
+		public boolean hasContraTradeQty() { return has(FixTags.ContraTradeQty); }
+		public double getContraTradeQty() { return getDouble(FixTags.ContraTradeQty); }
+		public void getContraTradeQty(Decimal value) { getDecimal(FixTags.ContraTradeQty, value); }
+
+		public boolean hasContraTradeTime() { return has(FixTags.ContraTradeTime); }
+		public long getContraTradeTime() { return getUTCTimestamp(FixTags.ContraTradeTime); }
+
+		public boolean hasContraLegRefID() { return has(FixTags.ContraLegRefID); }
+		public CharSequence getContraLegRefID() { return getCharSequence(FixTags.ContraLegRefID); }
+	}
+
+	public static final class NoSecurityAltIDDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoSecurityAltID, FixTags.SecurityAltID, FixTags.SecurityAltIDSource);
+
+		NoSecurityAltIDDecoder() {
+			super(GROUP);
+		}
+
+		NoSecurityAltIDDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasSecurityAltID() { return has(FixTags.SecurityAltID); }
+		public CharSequence getSecurityAltID() { return getCharSequence(FixTags.SecurityAltID); }
+
+		public boolean hasSecurityAltIDSource() { return has(FixTags.SecurityAltIDSource); }
+		public CharSequence getSecurityAltIDSource() { return getCharSequence(FixTags.SecurityAltIDSource); }
+	}
+
+	public static final class NoEventsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoEvents, FixTags.EventType, FixTags.EventDate, FixTags.EventPx, FixTags.EventText);
+
+		NoEventsDecoder() {
+			super(GROUP);
+		}
+
+		NoEventsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasEventType() { return has(FixTags.EventType); }
+		public EventType getEventType() { return EVENT_TYPE.get(getInt(FixTags.EventType)); }
+
+		public boolean hasEventDate() { return has(FixTags.EventDate); }
+		public long getEventDate() { return getLocalMktDate(FixTags.EventDate); }
+
+		public boolean hasEventPx() { return has(FixTags.EventPx); }
+		public double getEventPx() { return getDouble(FixTags.EventPx); }
+		public void getEventPx(Decimal value) { getDecimal(FixTags.EventPx, value); }
+
+		public boolean hasEventText() { return has(FixTags.EventText); }
+		public CharSequence getEventText() { return getCharSequence(FixTags.EventText); }
+	}
+
+	public static final class NoUnderlyingsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoUnderlyings, FixTags.UnderlyingSymbol, FixTags.UnderlyingSymbolSfx, FixTags.UnderlyingSecurityID, FixTags.UnderlyingSecurityIDSource, FixTags.NoUnderlyingSecurityAltID, FixTags.UnderlyingSecurityAltID, FixTags.UnderlyingSecurityAltIDSource, FixTags.UnderlyingProduct, FixTags.UnderlyingCFICode, FixTags.UnderlyingSecurityType, FixTags.UnderlyingSecuritySubType, FixTags.UnderlyingMaturityMonthYear, FixTags.UnderlyingMaturityDate, FixTags.UnderlyingCouponPaymentDate, FixTags.UnderlyingIssueDate, FixTags.UnderlyingRepoCollateralSecurityType, FixTags.UnderlyingRepurchaseTerm, FixTags.UnderlyingRepurchaseRate, FixTags.UnderlyingFactor, FixTags.UnderlyingCreditRating, FixTags.UnderlyingInstrRegistry, FixTags.UnderlyingCountryOfIssue, FixTags.UnderlyingStateOrProvinceOfIssue, FixTags.UnderlyingLocaleOfIssue, FixTags.UnderlyingRedemptionDate, FixTags.UnderlyingStrikePrice, FixTags.UnderlyingStrikeCurrency, FixTags.UnderlyingOptAttribute, FixTags.UnderlyingContractMultiplier, FixTags.UnderlyingCouponRate, FixTags.UnderlyingSecurityExchange, FixTags.UnderlyingIssuer, FixTags.EncodedUnderlyingIssuerLen, FixTags.EncodedUnderlyingIssuer, FixTags.UnderlyingSecurityDesc, FixTags.EncodedUnderlyingSecurityDescLen, FixTags.EncodedUnderlyingSecurityDesc, FixTags.UnderlyingCPProgram, FixTags.UnderlyingCPRegType, FixTags.UnderlyingCurrency, FixTags.UnderlyingQty, FixTags.UnderlyingPx, FixTags.UnderlyingDirtyPrice, FixTags.UnderlyingEndPrice, FixTags.UnderlyingStartValue, FixTags.UnderlyingCurrentValue, FixTags.UnderlyingEndValue, FixTags.NoUnderlyingStips, FixTags.UnderlyingStipType, FixTags.UnderlyingStipValue);
+
+		NoUnderlyingsDecoder() {
+			super(GROUP);
+		}
+
+		NoUnderlyingsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasUnderlyingSymbol() { return has(FixTags.UnderlyingSymbol); }
+		public CharSequence getUnderlyingSymbol() { return getCharSequence(FixTags.UnderlyingSymbol); }
+
+		public boolean hasUnderlyingSymbolSfx() { return has(FixTags.UnderlyingSymbolSfx); }
+		public CharSequence getUnderlyingSymbolSfx() { return getCharSequence(FixTags.UnderlyingSymbolSfx); }
+
+		public boolean hasUnderlyingSecurityID() { return has(FixTags.UnderlyingSecurityID); }
+		public CharSequence getUnderlyingSecurityID() { return getCharSequence(FixTags.UnderlyingSecurityID); }
+
+		public boolean hasUnderlyingSecurityIDSource() { return has(FixTags.UnderlyingSecurityIDSource); }
+		public CharSequence getUnderlyingSecurityIDSource() { return getCharSequence(FixTags.UnderlyingSecurityIDSource); }
+
+		private final NoUnderlyingSecurityAltIDDecoder noUnderlyingSecurityAltID = new NoUnderlyingSecurityAltIDDecoder();
+		/** @return decoder of NoUnderlyingSecurityAltID(457) repeating group positioned before the first entry */
+		public NoUnderlyingSecurityAltIDDecoder getNoUnderlyingSecurityAltID() { return noUnderlyingSecurityAltID.wrap(this); }
+
+		public boolean hasUnderlyingProduct() { return has(FixTags.UnderlyingProduct); }
+		public int getUnderlyingProduct() { return getInt(FixTags.UnderlyingProduct); }
+
+		public boolean hasUnderlyingCFICode() { return has(FixTags.UnderlyingCFICode); }
+		public CharSequence getUnderlyingCFICode() { return getCharSequence(FixTags.UnderlyingCFICode); }
+
+		public boolean hasUnderlyingSecurityType() { return has(FixTags.UnderlyingSecurityType); }
+		public CharSequence getUnderlyingSecurityType() { return getCharSequence(FixTags.UnderlyingSecurityType); }
+
+		public boolean hasUnderlyingSecuritySubType() { return has(FixTags.UnderlyingSecuritySubType); }
+		public CharSequence getUnderlyingSecuritySubType() { return getCharSequence(FixTags.UnderlyingSecuritySubType); }
+
+		public boolean hasUnderlyingMaturityMonthYear() { return has(FixTags.UnderlyingMaturityMonthYear); }
+		public CharSequence getUnderlyingMaturityMonthYear() { return getCharSequence(FixTags.UnderlyingMaturityMonthYear); }
+
+		public boolean hasUnderlyingMaturityDate() { return has(FixTags.UnderlyingMaturityDate); }
+		public long getUnderlyingMaturityDate() { return getLocalMktDate(FixTags.UnderlyingMaturityDate); }
+
+		public boolean hasUnderlyingCouponPaymentDate() { return has(FixTags.UnderlyingCouponPaymentDate); }
+		public long getUnderlyingCouponPaymentDate() { return getLocalMktDate(FixTags.UnderlyingCouponPaymentDate); }
+
+		public boolean hasUnderlyingIssueDate() { return has(FixTags.UnderlyingIssueDate); }
+		public long getUnderlyingIssueDate() { return getLocalMktDate(FixTags.UnderlyingIssueDate); }
+
+		public boolean hasUnderlyingRepoCollateralSecurityType() { return has(FixTags.UnderlyingRepoCollateralSecurityType); }
+		public int getUnderlyingRepoCollateralSecurityType() { return getInt(FixTags.UnderlyingRepoCollateralSecurityType); }
+
+		public boolean hasUnderlyingRepurchaseTerm() { return has(FixTags.UnderlyingRepurchaseTerm); }
+		public int getUnderlyingRepurchaseTerm() { return getInt(FixTags.UnderlyingRepurchaseTerm); }
+
+		public boolean hasUnderlyingRepurchaseRate() { return has(FixTags.UnderlyingRepurchaseRate); }
+		public double getUnderlyingRepurchaseRate() { return getDouble(FixTags.UnderlyingRepurchaseRate); }
+		public void getUnderlyingRepurchaseRate(Decimal value) { getDecimal(FixTags.UnderlyingRepurchaseRate, value); }
+
+		public boolean hasUnderlyingFactor() { return has(FixTags.UnderlyingFactor); }
+		public double getUnderlyingFactor() { return getDouble(FixTags.UnderlyingFactor); }
+		public void getUnderlyingFactor(Decimal value) { getDecimal(FixTags.UnderlyingFactor, value); }
+
+		public boolean hasUnderlyingCreditRating() { return has(FixTags.UnderlyingCreditRating); }
+		public CharSequence getUnderlyingCreditRating() { return getCharSequence(FixTags.UnderlyingCreditRating); }
+
+		public boolean hasUnderlyingInstrRegistry() { return has(FixTags.UnderlyingInstrRegistry); }
+		public CharSequence getUnderlyingInstrRegistry() { return getCharSequence(FixTags.UnderlyingInstrRegistry); }
+
+		public boolean hasUnderlyingCountryOfIssue() { return has(FixTags.UnderlyingCountryOfIssue); }
+		public CharSequence getUnderlyingCountryOfIssue() { return getCharSequence(FixTags.UnderlyingCountryOfIssue); }
+
+		public boolean hasUnderlyingStateOrProvinceOfIssue() { return has(FixTags.UnderlyingStateOrProvinceOfIssue); }
+		public CharSequence getUnderlyingStateOrProvinceOfIssue() { return getCharSequence(FixTags.UnderlyingStateOrProvinceOfIssue); }
+
+		public boolean hasUnderlyingLocaleOfIssue() { return has(FixTags.UnderlyingLocaleOfIssue); }
+		public CharSequence getUnderlyingLocaleOfIssue() { return getCharSequence(FixTags.UnderlyingLocaleOfIssue); }
+
+		public boolean hasUnderlyingRedemptionDate() { return has(FixTags.UnderlyingRedemptionDate); }
+		public long getUnderlyingRedemptionDate() { return getLocalMktDate(FixTags.UnderlyingRedemptionDate); }
+
+		public boolean hasUnderlyingStrikePrice() { return has(FixTags.UnderlyingStrikePrice); }
+		public double getUnderlyingStrikePrice() { return getDouble(FixTags.UnderlyingStrikePrice); }
+		public void getUnderlyingStrikePrice(Decimal value) { getDecimal(FixTags.UnderlyingStrikePrice, value); }
+
+		public boolean hasUnderlyingStrikeCurrency() { return has(FixTags.UnderlyingStrikeCurrency); }
+		public CharSequence getUnderlyingStrikeCurrency() { return getCharSequence(FixTags.UnderlyingStrikeCurrency); }
+
+		public boolean hasUnderlyingOptAttribute() { return has(FixTags.UnderlyingOptAttribute); }
+		public byte getUnderlyingOptAttribute() { return getByte(FixTags.UnderlyingOptAttribute); }
+
+		public boolean hasUnderlyingContractMultiplier() { return has(FixTags.UnderlyingContractMultiplier); }
+		public double getUnderlyingContractMultiplier() { return getDouble(FixTags.UnderlyingContractMultiplier); }
+		public void getUnderlyingContractMultiplier(Decimal value) { getDecimal(FixTags.UnderlyingContractMultiplier, value); }
+
+		public boolean hasUnderlyingCouponRate() { return has(FixTags.UnderlyingCouponRate); }
+		public double getUnderlyingCouponRate() { return getDouble(FixTags.UnderlyingCouponRate); }
+		public void getUnderlyingCouponRate(Decimal value) { getDecimal(FixTags.UnderlyingCouponRate, value); }
+
+		public boolean hasUnderlyingSecurityExchange() { return has(FixTags.UnderlyingSecurityExchange); }
+		public CharSequence getUnderlyingSecurityExchange() { return getCharSequence(FixTags.UnderlyingSecurityExchange); }
+
+		public boolean hasUnderlyingIssuer() { return has(FixTags.UnderlyingIssuer); }
+		public CharSequence getUnderlyingIssuer() { return getCharSequence(FixTags.UnderlyingIssuer); }
+
+		public boolean hasEncodedUnderlyingIssuerLen() { return has(FixTags.EncodedUnderlyingIssuerLen); }
+		public int getEncodedUnderlyingIssuerLen() { return getInt(FixTags.EncodedUnderlyingIssuerLen); }
+
+		public boolean hasEncodedUnderlyingIssuer() { return has(FixTags.EncodedUnderlyingIssuer); }
+		public void getEncodedUnderlyingIssuer(ByteArrayReference value) { getByteSequence(FixTags.EncodedUnderlyingIssuer, value); }
+
+		public boolean hasUnderlyingSecurityDesc() { return has(FixTags.UnderlyingSecurityDesc); }
+		public CharSequence getUnderlyingSecurityDesc() { return getCharSequence(FixTags.UnderlyingSecurityDesc); }
+
+		public boolean hasEncodedUnderlyingSecurityDescLen() { return has(FixTags.EncodedUnderlyingSecurityDescLen); }
+		public int getEncodedUnderlyingSecurityDescLen() { return getInt(FixTags.EncodedUnderlyingSecurityDescLen); }
+
+		public boolean hasEncodedUnderlyingSecurityDesc() { return has(FixTags.EncodedUnderlyingSecurityDesc); }
+		public void getEncodedUnderlyingSecurityDesc(ByteArrayReference value) { getByteSequence(FixTags.EncodedUnderlyingSecurityDesc, value); }
+
+		public boolean hasUnderlyingCPProgram() { return has(FixTags.UnderlyingCPProgram); }
+		public CharSequence getUnderlyingCPProgram() { return getCharSequence(FixTags.UnderlyingCPProgram); }
+
+		public boolean hasUnderlyingCPRegType() { return has(FixTags.UnderlyingCPRegType); }
+		public CharSequence getUnderlyingCPRegType() { return getCharSequence(FixTags.UnderlyingCPRegType); }
+
+		public boolean hasUnderlyingCurrency() { return has(FixTags.UnderlyingCurrency); }
+		public CharSequence getUnderlyingCurrency() { return getCharSequence(FixTags.UnderlyingCurrency); }
+
+		public boolean hasUnderlyingQty() { return has(FixTags.UnderlyingQty); }
+		public double getUnderlyingQty() { return getDouble(FixTags.UnderlyingQty); }
+		public void getUnderlyingQty(Decimal value) { getDecimal(FixTags.UnderlyingQty, value); }
+
+		public boolean hasUnderlyingPx() { return has(FixTags.UnderlyingPx); }
+		public double getUnderlyingPx() { return getDouble(FixTags.UnderlyingPx); }
+		public void getUnderlyingPx(Decimal value) { getDecimal(FixTags.UnderlyingPx, value); }
+
+		public boolean hasUnderlyingDirtyPrice() { return has(FixTags.UnderlyingDirtyPrice); }
+		public double getUnderlyingDirtyPrice() { return getDouble(FixTags.UnderlyingDirtyPrice); }
+		public void getUnderlyingDirtyPrice(Decimal value) { getDecimal(FixTags.UnderlyingDirtyPrice, value); }
+
+		public boolean hasUnderlyingEndPrice() { return has(FixTags.UnderlyingEndPrice); }
+		public double getUnderlyingEndPrice() { return getDouble(FixTags.UnderlyingEndPrice); }
+		public void getUnderlyingEndPrice(Decimal value) { getDecimal(FixTags.UnderlyingEndPrice, value); }
+
+		public boolean hasUnderlyingStartValue() { return has(FixTags.UnderlyingStartValue); }
+		public double getUnderlyingStartValue() { return getDouble(FixTags.UnderlyingStartValue); }
+		public void getUnderlyingStartValue(Decimal value) { getDecimal(FixTags.UnderlyingStartValue, value); }
+
+		public boolean hasUnderlyingCurrentValue() { return has(FixTags.UnderlyingCurrentValue); }
+		public double getUnderlyingCurrentValue() { return getDouble(FixTags.UnderlyingCurrentValue); }
+		public void getUnderlyingCurrentValue(Decimal value) { getDecimal(FixTags.UnderlyingCurrentValue, value); }
+
+		public boolean hasUnderlyingEndValue() { return has(FixTags.UnderlyingEndValue); }
+		public double getUnderlyingEndValue() { return getDouble(FixTags.UnderlyingEndValue); }
+		public void getUnderlyingEndValue(Decimal value) { getDecimal(FixTags.UnderlyingEndValue, value); }
+
+		private final NoUnderlyingStipsDecoder noUnderlyingStips = new NoUnderlyingStipsDecoder();
+		/** @return decoder of NoUnderlyingStips(887) repeating group positioned before the first entry */
+		public NoUnderlyingStipsDecoder getNoUnderlyingStips() { return noUnderlyingStips.wrap(this); }
+
+		public static final class NoUnderlyingSecurityAltIDDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoUnderlyingSecurityAltID, FixTags.UnderlyingSecurityAltID, FixTags.UnderlyingSecurityAltIDSource);
+
+			NoUnderlyingSecurityAltIDDecoder() {
+				super(GROUP);
+			}
+
+			NoUnderlyingSecurityAltIDDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasUnderlyingSecurityAltID() { return has(FixTags.UnderlyingSecurityAltID); }
+			public CharSequence getUnderlyingSecurityAltID() { return getCharSequence(FixTags.UnderlyingSecurityAltID); }
+
+			public boolean hasUnderlyingSecurityAltIDSource() { return has(FixTags.UnderlyingSecurityAltIDSource); }
+			public CharSequence getUnderlyingSecurityAltIDSource() { return getCharSequence(FixTags.UnderlyingSecurityAltIDSource); }
+		}
+
+		public static final class NoUnderlyingStipsDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoUnderlyingStips, FixTags.UnderlyingStipType, FixTags.UnderlyingStipValue);
+
+			NoUnderlyingStipsDecoder() {
+				super(GROUP);
+			}
+
+			NoUnderlyingStipsDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasUnderlyingStipType() { return has(FixTags.UnderlyingStipType); }
+			public CharSequence getUnderlyingStipType() { return getCharSequence(FixTags.UnderlyingStipType); }
+
+			public boolean hasUnderlyingStipValue() { return has(FixTags.UnderlyingStipValue); }
+			public CharSequence getUnderlyingStipValue() { return getCharSequence(FixTags.UnderlyingStipValue); }
+		}
+	}
+
+	public static final class NoStipulationsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoStipulations, FixTags.StipulationType, FixTags.StipulationValue);
+
+		NoStipulationsDecoder() {
+			super(GROUP);
+		}
+
+		NoStipulationsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasStipulationType() { return has(FixTags.StipulationType); }
+		public CharSequence getStipulationType() { return getCharSequence(FixTags.StipulationType); }
+
+		public boolean hasStipulationValue() { return has(FixTags.StipulationValue); }
+		public CharSequence getStipulationValue() { return getCharSequence(FixTags.StipulationValue); }
+	}
+
+	public static final class NoContAmtsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoContAmts, FixTags.ContAmtType, FixTags.ContAmtValue, FixTags.ContAmtCurr);
+
+		NoContAmtsDecoder() {
+			super(GROUP);
+		}
+
+		NoContAmtsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasContAmtType() { return has(FixTags.ContAmtType); }
+		public ContAmtType getContAmtType() { return CONT_AMT_TYPE.get(getByte(FixTags.ContAmtType)); }
+
+		public boolean hasContAmtValue() { return has(FixTags.ContAmtValue); }
+		public double getContAmtValue() { return getDouble(FixTags.ContAmtValue); }
+		public void getContAmtValue(Decimal value) { getDecimal(FixTags.ContAmtValue, value); }
+
+		public boolean hasContAmtCurr() { return has(FixTags.ContAmtCurr); }
+		public CharSequence getContAmtCurr() { return getCharSequence(FixTags.ContAmtCurr); }
+	}
+
+	public static final class NoLegsDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoLegs, FixTags.LegSymbol, FixTags.LegSymbolSfx, FixTags.LegSecurityID, FixTags.LegSecurityIDSource, FixTags.NoLegSecurityAltID, FixTags.LegSecurityAltID, FixTags.LegSecurityAltIDSource, FixTags.LegProduct, FixTags.LegCFICode, FixTags.LegSecurityType, FixTags.LegSecuritySubType, FixTags.LegMaturityMonthYear, FixTags.LegMaturityDate, FixTags.LegCouponPaymentDate, FixTags.LegIssueDate, FixTags.LegRepoCollateralSecurityType, FixTags.LegRepurchaseTerm, FixTags.LegRepurchaseRate, FixTags.LegFactor, FixTags.LegCreditRating, FixTags.LegInstrRegistry, FixTags.LegCountryOfIssue, FixTags.LegStateOrProvinceOfIssue, FixTags.LegLocaleOfIssue, FixTags.LegRedemptionDate, FixTags.LegStrikePrice, FixTags.LegStrikeCurrency, FixTags.LegOptAttribute, FixTags.LegContractMultiplier, FixTags.LegCouponRate, FixTags.LegSecurityExchange, FixTags.LegIssuer, FixTags.EncodedLegIssuerLen, FixTags.EncodedLegIssuer, FixTags.LegSecurityDesc, FixTags.EncodedLegSecurityDescLen, FixTags.EncodedLegSecurityDesc, FixTags.LegRatioQty, FixTags.LegSide, FixTags.LegCurrency, FixTags.LegPool, FixTags.LegDatedDate, FixTags.LegContractSettlMonth, FixTags.LegInterestAccrualDate, FixTags.LegQty, FixTags.LegSwapType, FixTags.NoLegStipulations, FixTags.LegStipulationType, FixTags.LegStipulationValue, FixTags.LegPositionEffect, FixTags.LegCoveredOrUncovered, FixTags.NoNestedPartyIDs, FixTags.NestedPartyID, FixTags.NestedPartyIDSource, FixTags.NestedPartyRole, FixTags.NoNestedPartySubIDs, FixTags.NestedPartySubID, FixTags.NestedPartySubIDType, FixTags.LegRefID, FixTags.LegPrice, FixTags.LegSettlType, FixTags.LegSettlDate, FixTags.LegLastPx);
+
+		NoLegsDecoder() {
+			super(GROUP);
+		}
+
+		NoLegsDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasLegSymbol() { return has(FixTags.LegSymbol); }
+		public CharSequence getLegSymbol() { return getCharSequence(FixTags.LegSymbol); }
+
+		public boolean hasLegSymbolSfx() { return has(FixTags.LegSymbolSfx); }
+		public CharSequence getLegSymbolSfx() { return getCharSequence(FixTags.LegSymbolSfx); }
+
+		public boolean hasLegSecurityID() { return has(FixTags.LegSecurityID); }
+		public CharSequence getLegSecurityID() { return getCharSequence(FixTags.LegSecurityID); }
+
+		public boolean hasLegSecurityIDSource() { return has(FixTags.LegSecurityIDSource); }
+		public CharSequence getLegSecurityIDSource() { return getCharSequence(FixTags.LegSecurityIDSource); }
+
+		private final NoLegSecurityAltIDDecoder noLegSecurityAltID = new NoLegSecurityAltIDDecoder();
+		/** @return decoder of NoLegSecurityAltID(604) repeating group positioned before the first entry */
+		public NoLegSecurityAltIDDecoder getNoLegSecurityAltID() { return noLegSecurityAltID.wrap(this); }
+
+		public boolean hasLegProduct() { return has(FixTags.LegProduct); }
+		public int getLegProduct() { return getInt(FixTags.LegProduct); }
+
+		public boolean hasLegCFICode() { return has(FixTags.LegCFICode); }
+		public CharSequence getLegCFICode() { return getCharSequence(FixTags.LegCFICode); }
+
+		public boolean hasLegSecurityType() { return has(FixTags.LegSecurityType); }
+		public CharSequence getLegSecurityType() { return getCharSequence(FixTags.LegSecurityType); }
+
+		public boolean hasLegSecuritySubType() { return has(FixTags.LegSecuritySubType); }
+		public CharSequence getLegSecuritySubType() { return getCharSequence(FixTags.LegSecuritySubType); }
+
+		public boolean hasLegMaturityMonthYear() { return has(FixTags.LegMaturityMonthYear); }
+		public CharSequence getLegMaturityMonthYear() { return getCharSequence(FixTags.LegMaturityMonthYear); }
+
+		public boolean hasLegMaturityDate() { return has(FixTags.LegMaturityDate); }
+		public long getLegMaturityDate() { return getLocalMktDate(FixTags.LegMaturityDate); }
+
+		public boolean hasLegCouponPaymentDate() { return has(FixTags.LegCouponPaymentDate); }
+		public long getLegCouponPaymentDate() { return getLocalMktDate(FixTags.LegCouponPaymentDate); }
+
+		public boolean hasLegIssueDate() { return has(FixTags.LegIssueDate); }
+		public long getLegIssueDate() { return getLocalMktDate(FixTags.LegIssueDate); }
+
+		public boolean hasLegRepoCollateralSecurityType() { return has(FixTags.LegRepoCollateralSecurityType); }
+		public int getLegRepoCollateralSecurityType() { return getInt(FixTags.LegRepoCollateralSecurityType); }
+
+		public boolean hasLegRepurchaseTerm() { return has(FixTags.LegRepurchaseTerm); }
+		public int getLegRepurchaseTerm() { return getInt(FixTags.LegRepurchaseTerm); }
+
+		public boolean hasLegRepurchaseRate() { return has(FixTags.LegRepurchaseRate); }
+		public double getLegRepurchaseRate() { return getDouble(FixTags.LegRepurchaseRate); }
+		public void getLegRepurchaseRate(Decimal value) { getDecimal(FixTags.LegRepurchaseRate, value); }
+
+		public boolean hasLegFactor() { return has(FixTags.LegFactor); }
+		public double getLegFactor() { return getDouble(FixTags.LegFactor); }
+		public void getLegFactor(Decimal value) { getDecimal(FixTags.LegFactor, value); }
+
+		public boolean hasLegCreditRating() { return has(FixTags.LegCreditRating); }
+		public CharSequence getLegCreditRating() { return getCharSequence(FixTags.LegCreditRating); }
+
+		public boolean hasLegInstrRegistry() { return has(FixTags.LegInstrRegistry); }
+		public CharSequence getLegInstrRegistry() { return getCharSequence(FixTags.LegInstrRegistry); }
+
+		public boolean hasLegCountryOfIssue() { return has(FixTags.LegCountryOfIssue); }
+		public CharSequence getLegCountryOfIssue() { return getCharSequence(FixTags.LegCountryOfIssue); }
+
+		public boolean hasLegStateOrProvinceOfIssue() { return has(FixTags.LegStateOrProvinceOfIssue); }
+		public CharSequence getLegStateOrProvinceOfIssue() { return getCharSequence(FixTags.LegStateOrProvinceOfIssue); }
+
+		public boolean hasLegLocaleOfIssue() { return has(FixTags.LegLocaleOfIssue); }
+		public CharSequence getLegLocaleOfIssue() { return getCharSequence(FixTags.LegLocaleOfIssue); }
+
+		public boolean hasLegRedemptionDate() { return has(FixTags.LegRedemptionDate); }
+		public long getLegRedemptionDate() { return getLocalMktDate(FixTags.LegRedemptionDate); }
+
+		public boolean hasLegStrikePrice() { return has(FixTags.LegStrikePrice); }
+		public double getLegStrikePrice() { return getDouble(FixTags.LegStrikePrice); }
+		public void getLegStrikePrice(Decimal value) { getDecimal(FixTags.LegStrikePrice, value); }
+
+		public boolean hasLegStrikeCurrency() { return has(FixTags.LegStrikeCurrency); }
+		public CharSequence getLegStrikeCurrency() { return getCharSequence(FixTags.LegStrikeCurrency); }
+
+		public boolean hasLegOptAttribute() { return has(FixTags.LegOptAttribute); }
+		public byte getLegOptAttribute() { return getByte(FixTags.LegOptAttribute); }
+
+		public boolean hasLegContractMultiplier() { return has(FixTags.LegContractMultiplier); }
+		public double getLegContractMultiplier() { return getDouble(FixTags.LegContractMultiplier); }
+		public void getLegContractMultiplier(Decimal value) { getDecimal(FixTags.LegContractMultiplier, value); }
+
+		public boolean hasLegCouponRate() { return has(FixTags.LegCouponRate); }
+		public double getLegCouponRate() { return getDouble(FixTags.LegCouponRate); }
+		public void getLegCouponRate(Decimal value) { getDecimal(FixTags.LegCouponRate, value); }
+
+		public boolean hasLegSecurityExchange() { return has(FixTags.LegSecurityExchange); }
+		public CharSequence getLegSecurityExchange() { return getCharSequence(FixTags.LegSecurityExchange); }
+
+		public boolean hasLegIssuer() { return has(FixTags.LegIssuer); }
+		public CharSequence getLegIssuer() { return getCharSequence(FixTags.LegIssuer); }
+
+		public boolean hasEncodedLegIssuerLen() { return has(FixTags.EncodedLegIssuerLen); }
+		public int getEncodedLegIssuerLen() { return getInt(FixTags.EncodedLegIssuerLen); }
+
+		public boolean hasEncodedLegIssuer() { return has(FixTags.EncodedLegIssuer); }
+		public void getEncodedLegIssuer(ByteArrayReference value) { getByteSequence(FixTags.EncodedLegIssuer, value); }
+
+		public boolean hasLegSecurityDesc() { return has(FixTags.LegSecurityDesc); }
+		public CharSequence getLegSecurityDesc() { return getCharSequence(FixTags.LegSecurityDesc); }
+
+		public boolean hasEncodedLegSecurityDescLen() { return has(FixTags.EncodedLegSecurityDescLen); }
+		public int getEncodedLegSecurityDescLen() { return getInt(FixTags.EncodedLegSecurityDescLen); }
+
+		public boolean hasEncodedLegSecurityDesc() { return has(FixTags.EncodedLegSecurityDesc); }
+		public void getEncodedLegSecurityDesc(ByteArrayReference value) { getByteSequence(FixTags.EncodedLegSecurityDesc, value); }
+
+		public boolean hasLegRatioQty() { return has(FixTags.LegRatioQty); }
+		public double getLegRatioQty() { return getDouble(FixTags.LegRatioQty); }
+		public void getLegRatioQty(Decimal value) { getDecimal(FixTags.LegRatioQty, value); }
+
+		public boolean hasLegSide() { return has(FixTags.LegSide); }
+		public byte getLegSide() { return getByte(FixTags.LegSide); }
+
+		public boolean hasLegCurrency() { return has(FixTags.LegCurrency); }
+		public CharSequence getLegCurrency() { return getCharSequence(FixTags.LegCurrency); }
+
+		public boolean hasLegPool() { return has(FixTags.LegPool); }
+		public CharSequence getLegPool() { return getCharSequence(FixTags.LegPool); }
+
+		public boolean hasLegDatedDate() { return has(FixTags.LegDatedDate); }
+		public long getLegDatedDate() { return getLocalMktDate(FixTags.LegDatedDate); }
+
+		public boolean hasLegContractSettlMonth() { return has(FixTags.LegContractSettlMonth); }
+		public CharSequence getLegContractSettlMonth() { return getCharSequence(FixTags.LegContractSettlMonth); }
+
+		public boolean hasLegInterestAccrualDate() { return has(FixTags.LegInterestAccrualDate); }
+		public long getLegInterestAccrualDate() { return getLocalMktDate(FixTags.LegInterestAccrualDate); }
+
+		public boolean hasLegQty() { return has(FixTags.LegQty); }
+		public double getLegQty() { return getDouble(FixTags.LegQty); }
+		public void getLegQty(Decimal value) { getDecimal(FixTags.LegQty, value); }
+
+		public boolean hasLegSwapType() { return has(FixTags.LegSwapType); }
+		public LegSwapType getLegSwapType() { return LEG_SWAP_TYPE.get(getByte(FixTags.LegSwapType)); }
+
+		private final NoLegStipulationsDecoder noLegStipulations = new NoLegStipulationsDecoder();
+		/** @return decoder of NoLegStipulations(683) repeating group positioned before the first entry */
+		public NoLegStipulationsDecoder getNoLegStipulations() { return noLegStipulations.wrap(this); }
+
+		public boolean hasLegPositionEffect() { return has(FixTags.LegPositionEffect); }
+		public byte getLegPositionEffect() { return getByte(FixTags.LegPositionEffect); }
+
+		public boolean hasLegCoveredOrUncovered() { return has(FixTags.LegCoveredOrUncovered); }
+		public int getLegCoveredOrUncovered() { return getInt(FixTags.LegCoveredOrUncovered); }
+
+		private final NoNestedPartyIDsDecoder noNestedPartyIDs = new NoNestedPartyIDsDecoder();
+		/** @return decoder of NoNestedPartyIDs(539) repeating group positioned before the first entry */
+		public NoNestedPartyIDsDecoder getNoNestedPartyIDs() { return noNestedPartyIDs.wrap(this); }
+
+		public boolean hasLegRefID() { return has(FixTags.LegRefID); }
+		public CharSequence getLegRefID() { return getCharSequence(FixTags.LegRefID); }
+
+		public boolean hasLegPrice() { return has(FixTags.LegPrice); }
+		public double getLegPrice() { return getDouble(FixTags.LegPrice); }
+		public void getLegPrice(Decimal value) { getDecimal(FixTags.LegPrice, value); }
+
+		public boolean hasLegSettlType() { return has(FixTags.LegSettlType); }
+		public byte getLegSettlType() { return getByte(FixTags.LegSettlType); }
+
+		public boolean hasLegSettlDate() { return has(FixTags.LegSettlDate); }
+		public long getLegSettlDate() { return getLocalMktDate(FixTags.LegSettlDate); }
+
+		public boolean hasLegLastPx() { return has(FixTags.LegLastPx); }
+		public double getLegLastPx() { return getDouble(FixTags.LegLastPx); }
+		public void getLegLastPx(Decimal value) { getDecimal(FixTags.LegLastPx, value); }
+
+		public static final class NoLegSecurityAltIDDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoLegSecurityAltID, FixTags.LegSecurityAltID, FixTags.LegSecurityAltIDSource);
+
+			NoLegSecurityAltIDDecoder() {
+				super(GROUP);
+			}
+
+			NoLegSecurityAltIDDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasLegSecurityAltID() { return has(FixTags.LegSecurityAltID); }
+			public CharSequence getLegSecurityAltID() { return getCharSequence(FixTags.LegSecurityAltID); }
+
+			public boolean hasLegSecurityAltIDSource() { return has(FixTags.LegSecurityAltIDSource); }
+			public CharSequence getLegSecurityAltIDSource() { return getCharSequence(FixTags.LegSecurityAltIDSource); }
+		}
+
+		public static final class NoLegStipulationsDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoLegStipulations, FixTags.LegStipulationType, FixTags.LegStipulationValue);
+
+			NoLegStipulationsDecoder() {
+				super(GROUP);
+			}
+
+			NoLegStipulationsDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasLegStipulationType() { return has(FixTags.LegStipulationType); }
+			public CharSequence getLegStipulationType() { return getCharSequence(FixTags.LegStipulationType); }
+
+			public boolean hasLegStipulationValue() { return has(FixTags.LegStipulationValue); }
+			public CharSequence getLegStipulationValue() { return getCharSequence(FixTags.LegStipulationValue); }
+		}
+
+		public static final class NoNestedPartyIDsDecoder extends GroupDecoder {
+			private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoNestedPartyIDs, FixTags.NestedPartyID, FixTags.NestedPartyIDSource, FixTags.NestedPartyRole, FixTags.NoNestedPartySubIDs, FixTags.NestedPartySubID, FixTags.NestedPartySubIDType);
+
+			NoNestedPartyIDsDecoder() {
+				super(GROUP);
+			}
+
+			NoNestedPartyIDsDecoder wrap(FlyweightDecoder parent) {
+				wrapGroup(parent);
+				return this;
+			}
+
+			public boolean hasNestedPartyID() { return has(FixTags.NestedPartyID); }
+			public CharSequence getNestedPartyID() { return getCharSequence(FixTags.NestedPartyID); }
+
+			public boolean hasNestedPartyIDSource() { return has(FixTags.NestedPartyIDSource); }
+			public byte getNestedPartyIDSource() { return getByte(FixTags.NestedPartyIDSource); }
+
+			public boolean hasNestedPartyRole() { return has(FixTags.NestedPartyRole); }
+			public int getNestedPartyRole() { return getInt(FixTags.NestedPartyRole); }
+
+			private final NoNestedPartySubIDsDecoder noNestedPartySubIDs = new NoNestedPartySubIDsDecoder();
+			/** @return decoder of NoNestedPartySubIDs(804) repeating group positioned before the first entry */
+			public NoNestedPartySubIDsDecoder getNoNestedPartySubIDs() { return noNestedPartySubIDs.wrap(this); }
+
+			public static final class NoNestedPartySubIDsDecoder extends GroupDecoder {
+				private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoNestedPartySubIDs, FixTags.NestedPartySubID, FixTags.NestedPartySubIDType);
+
+				NoNestedPartySubIDsDecoder() {
+					super(GROUP);
+				}
+
+				NoNestedPartySubIDsDecoder wrap(FlyweightDecoder parent) {
+					wrapGroup(parent);
+					return this;
+				}
+
+				public boolean hasNestedPartySubID() { return has(FixTags.NestedPartySubID); }
+				public CharSequence getNestedPartySubID() { return getCharSequence(FixTags.NestedPartySubID); }
+
+				public boolean hasNestedPartySubIDType() { return has(FixTags.NestedPartySubIDType); }
+				public int getNestedPartySubIDType() { return getInt(FixTags.NestedPartySubIDType); }
+			}
+		}
+	}
+
+	public static final class NoMiscFeesDecoder extends GroupDecoder {
+		private static final RepeatingGroup GROUP = new RepeatingGroup(FixTags.NoMiscFees, FixTags.MiscFeeAmt, FixTags.MiscFeeCurr, FixTags.MiscFeeType, FixTags.MiscFeeBasis);
+
+		NoMiscFeesDecoder() {
+			super(GROUP);
+		}
+
+		NoMiscFeesDecoder wrap(FlyweightDecoder parent) {
+			wrapGroup(parent);
+			return this;
+		}
+
+		public boolean hasMiscFeeAmt() { return has(FixTags.MiscFeeAmt); }
+		public double getMiscFeeAmt() { return getDouble(FixTags.MiscFeeAmt); }
+		public void getMiscFeeAmt(Decimal value) { getDecimal(FixTags.MiscFeeAmt, value); }
+
+		public boolean hasMiscFeeCurr() { return has(FixTags.MiscFeeCurr); }
+		public CharSequence getMiscFeeCurr() { return getCharSequence(FixTags.MiscFeeCurr); }
+
+		public boolean hasMiscFeeType() { return has(FixTags.MiscFeeType); }
+		public MiscFeeType getMiscFeeType() { return MISC_FEE_TYPE.get(getInt(FixTags.MiscFeeType)); }
+
+		public boolean hasMiscFeeBasis() { return has(FixTags.MiscFeeBasis); }
+		public MiscFeeBasis getMiscFeeBasis() { return MISC_FEE_BASIS.get(getByte(FixTags.MiscFeeBasis)); }
+	}
+}
@@ -0,0 +1,1114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec.fix44;
+
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.fields.AccountType;
+import org.f1x.api.message.fields.AcctIDSource;
+import org.f1x.api.message.fields.BenchmarkCurveName;
+import org.f1x.api.message.fields.BenchmarkSecurityIDSource;
+import org.f1x.api.message.fields.BookingType;
+import org.f1x.api.message.fields.BookingUnit;
+import org.f1x.api.message.fields.CancellationRights;
+import org.f1x.api.message.fields.CashMargin;
+import org.f1x.api.message.fields.ClearingFeeIndicator;
+import org.f1x.api.message.fields.CommType;
+import org.f1x.api.message.fields.ContAmtType;
+import org.f1x.api.message.fields.CrossType;
+import org.f1x.api.message.fields.CustOrderCapacity;
+import org.f1x.api.message.fields.DayBookingInst;
+import org.f1x.api.message.fields.DeliveryType;
+import org.f1x.api.message.fields.DiscretionInst;
+import org.f1x.api.message.fields.DiscretionLimitType;
+import org.f1x.api.message.fields.DiscretionMoveType;
+import org.f1x.api.message.fields.DiscretionOffsetType;
+import org.f1x.api.message.fields.DiscretionRoundDirection;
+import org.f1x.api.message.fields.DiscretionScope;
+import org.f1x.api.message.fields.EventType;
+import org.f1x.api.message.fields.ExecPriceType;
+import org.f1x.api.message.fields.ExecRestatementReason;
+import org.f1x.api.message.fields.ExecType;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.FundRenewWaiv;
+import org.f1x.api.message.fields.GTBookingInst;
+import org.f1x.api.message.fields.HandlInst;
+import org.f1x.api.message.fields.LastCapacity;
+import org.f1x.api.message.fields.LastLiquidityInd;
+import org.f1x.api.message.fields.LegSwapType;
+import org.f1x.api.message.fields.MiscFeeBasis;
+import org.f1x.api.message.fields.MiscFeeType;
+import org.f1x.api.message.fields.MoneyLaunderingStatus;
+import org.f1x.api.message.fields.MsgType;
+import org.f1x.api.message.fields.MultiLegReportingType;
+import org.f1x.api.message.fields.OrdRejReason;
+import org.f1x.api.message.fields.OrdStatus;
+import org.f1x.api.message.fields.OrdType;
+import org.f1x.api.message.fields.OrderCapacity;
+import org.f1x.api.message.fields.PartyIDSource;
+import org.f1x.api.message.fields.PartyRole;
+import org.f1x.api.message.fields.PegLimitType;
+import org.f1x.api.message.fields.PegMoveType;
+import org.f1x.api.message.fields.PegOffsetType;
+import org.f1x.api.message.fields.PegRoundDirection;
+import org.f1x.api.message.fields.PegScope;
+import org.f1x.api.message.fields.PositionEffect;
+import org.f1x.api.message.fields.PreallocMethod;
+import org.f1x.api.message.fields.PriceType;
+import org.f1x.api.message.fields.PriorityIndicator;
+import org.f1x.api.message.fields.Product;
+import org.f1x.api.message.fields.QtyType;
+import org.f1x.api.message.fields.RoundingDirection;
+import org.f1x.api.message.fields.SecurityIDSource;
+import org.f1x.api.message.fields.SecurityType;
+import org.f1x.api.message.fields.SettlCurrFxRateCalc;
+import org.f1x.api.message.fields.SettlType;
+import org.f1x.api.message.fields.Side;
+import org.f1x.api.message.fields.StipulationType;
+import org.f1x.api.message.fields.StipulationValue;
+import org.f1x.api.message.fields.SymbolSfx;
+import org.f1x.api.message.fields.TerminationType;
+import org.f1x.api.message.fields.TimeInForce;
+import org.f1x.api.message.fields.YieldType;
+import org.f1x.v1.codec.FlyweightEncoder;
+
+// Generated by org.f1x.tools.DictionaryGenerator from QuickFIX dictionary
+/** Flyweight encoder of ExecutionReport(8) message */
+public final class ExecutionReportEncoder extends FlyweightEncoder {
+
+	/** Clears given builder and starts new ExecutionReport message */
+	public ExecutionReportEncoder wrap(MessageBuilder builder) {
+		builder.clear();
+		builder.setMessageType(MsgType.EXECUTION_REPORT);
+		this.builder = builder;
+		return this;
+	}
+
+	public ExecutionReportEncoder setOrderID(CharSequence value) { builder.add(FixTags.OrderID, value); return this; }
+
+	public ExecutionReportEncoder setSecondaryOrderID(CharSequence value) { builder.add(FixTags.SecondaryOrderID, value); return this; }
+
+	public ExecutionReportEncoder setSecondaryClOrdID(CharSequence value) { builder.add(FixTags.SecondaryClOrdID, value); return this; }
+
+	public ExecutionReportEncoder setSecondaryExecID(CharSequence value) { builder.add(FixTags.SecondaryExecID, value); return this; }
+
+	public ExecutionReportEncoder setClOrdID(CharSequence value) { builder.add(FixTags.ClOrdID, value); return this; }
+
+	public ExecutionReportEncoder setOrigClOrdID(CharSequence value) { builder.add(FixTags.OrigClOrdID, value); return this; }
+
+	public ExecutionReportEncoder setClOrdLinkID(CharSequence value) { builder.add(FixTags.ClOrdLinkID, value); return this; }
+
+	public ExecutionReportEncoder setQuoteRespID(CharSequence value) { builder.add(FixTags.QuoteRespID, value); return this; }
+
+	public ExecutionReportEncoder setOrdStatusReqID(CharSequence value) { builder.add(FixTags.OrdStatusReqID, value); return this; }
+
+	public ExecutionReportEncoder setMassStatusReqID(CharSequence value) { builder.add(FixTags.MassStatusReqID, value); return this; }
+
+	public ExecutionReportEncoder setTotNumReports(int value) { builder.add(FixTags.TotNumReports, value); return this; }
+
+	public ExecutionReportEncoder setLastRptRequested(boolean value) { builder.add(FixTags.LastRptRequested, value); return this; }
+
+	private final NoPartyIDsEncoder noPartyIDs = new NoPartyIDsEncoder();
+	/** Appends NoPartyIDs(453) group counter. Each group entry must start with PartyID. */
+	public NoPartyIDsEncoder setNoPartyIDs(int count) { builder.add(FixTags.NoPartyIDs, count); return noPartyIDs.wrap(builder); }
+
+	public ExecutionReportEncoder setTradeOriginationDate(long timestamp) { builder.addLocalMktDate(FixTags.TradeOriginationDate, timestamp); return this; }
+
+	private final NoContraBrokersEncoder noContraBrokers = new NoContraBrokersEncoder();
+	/** Appends NoContraBrokers(382) group counter. Each group entry must start with ContraBroker. */
+	public NoContraBrokersEncoder setNoContraBrokers(int count) { builder.add(FixTags.NoContraBrokers, count); return noContraBrokers.wrap(builder); }
+
+	public ExecutionReportEncoder setListID(CharSequence value) { builder.add(FixTags.ListID, value); return this; }
+
+	public ExecutionReportEncoder setCrossID(CharSequence value) { builder.add(FixTags.CrossID, value); return this; }
+
+	public ExecutionReportEncoder setOrigCrossID(CharSequence value) { builder.add(FixTags.OrigCrossID, value); return this; }
+
+	public ExecutionReportEncoder setCrossType(CrossType value) { builder.add(FixTags.CrossType, value); return this; }
+	public ExecutionReportEncoder setCrossType(int value) { builder.add(FixTags.CrossType, value); return this; }
+
+	public ExecutionReportEncoder setExecID(CharSequence value) { builder.add(FixTags.ExecID, value); return this; }
+
+	public ExecutionReportEncoder setExecRefID(CharSequence value) { builder.add(FixTags.ExecRefID, value); return this; }
+
+	public ExecutionReportEncoder setExecType(ExecType value) { builder.add(FixTags.ExecType, value); return this; }
+	public ExecutionReportEncoder setExecType(byte value) { builder.add(FixTags.ExecType, value); return this; }
+
+	public ExecutionReportEncoder setOrdStatus(OrdStatus value) { builder.add(FixTags.OrdStatus, value); return this; }
+	public ExecutionReportEncoder setOrdStatus(byte value) { builder.add(FixTags.OrdStatus, value); return this; }
+
+	public ExecutionReportEncoder setWorkingIndicator(boolean value) { builder.add(FixTags.WorkingIndicator, value); return this; }
+
+	public ExecutionReportEncoder setOrdRejReason(OrdRejReason value) { builder.add(FixTags.OrdRejReason, value); return this; }
+	public ExecutionReportEncoder setOrdRejReason(int value) { builder.add(FixTags.OrdRejReason, value); return this; }
+
+	public ExecutionReportEncoder setExecRestatementReason(ExecRestatementReason value) { builder.add(FixTags.ExecRestatementReason, value); return this; }
+	public ExecutionReportEncoder setExecRestatementReason(int value) { builder.add(FixTags.ExecRestatementReason, value); return this; }
+
+	public ExecutionReportEncoder setAccount(CharSequence value) { builder.add(FixTags.Account, value); return this; }
+
+	public ExecutionReportEncoder setAcctIDSource(AcctIDSource value) { builder.add(FixTags.AcctIDSource, value); return this; }
+	public ExecutionReportEncoder setAcctIDSource(int value) { builder.add(FixTags.AcctIDSource, value); return this; }
+
+	public ExecutionReportEncoder setAccountType(AccountType value) { builder.add(FixTags.AccountType, value); return this; }
+	public ExecutionReportEncoder setAccountType(int value) { builder.add(FixTags.AccountType, value); return this; }
+
+	public ExecutionReportEncoder setDayBookingInst(DayBookingInst value) { builder.add(FixTags.DayBookingInst, value); return this; }
+	public ExecutionReportEncoder setDayBookingInst(byte value) { builder.add(FixTags.DayBookingInst, value); return this; }
+
+	public ExecutionReportEncoder setBookingUnit(BookingUnit value) { builder.add(FixTags.BookingUnit, value); return this; }
+	public ExecutionReportEncoder setBookingUnit(byte value) { builder.add(FixTags.BookingUnit, value); return this; }
+
+	public ExecutionReportEncoder setPreallocMethod(PreallocMethod value) { builder.add(FixTags.PreallocMethod, value); return this; }
+	public ExecutionReportEncoder setPreallocMethod(byte value) { builder.add(FixTags.PreallocMethod, value); return this; }
+
+	public ExecutionReportEncoder setSettlType(SettlType value) { builder.add(FixTags.SettlType, value); return this; }
+	public ExecutionReportEncoder setSettlType(byte value) { builder.add(FixTags.SettlType, value); return this; }
+
+	public ExecutionReportEncoder setSettlDate(long timestamp) { builder.addLocalMktDate(FixTags.SettlDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setCashMargin(CashMargin value) { builder.add(FixTags.CashMargin, value); return this; }
+	public ExecutionReportEncoder setCashMargin(byte value) { builder.add(FixTags.CashMargin, value); return this; }
+
+	public ExecutionReportEncoder setClearingFeeIndicator(ClearingFeeIndicator value) { builder.add(FixTags.ClearingFeeIndicator, value); return this; }
+	public ExecutionReportEncoder setClearingFeeIndicator(CharSequence value) { builder.add(FixTags.ClearingFeeIndicator, value); return this; }
+
+	public ExecutionReportEncoder setSymbol(CharSequence value) { builder.add(FixTags.Symbol, value); return this; }
+
+	public ExecutionReportEncoder setSymbolSfx(SymbolSfx value) { builder.add(FixTags.SymbolSfx, value); return this; }
+	public ExecutionReportEncoder setSymbolSfx(CharSequence value) { builder.add(FixTags.SymbolSfx, value); return this; }
+
+	public ExecutionReportEncoder setSecurityID(CharSequence value) { builder.add(FixTags.SecurityID, value); return this; }
+
+	public ExecutionReportEncoder setSecurityIDSource(SecurityIDSource value) { builder.add(FixTags.SecurityIDSource, value); return this; }
+	public ExecutionReportEncoder setSecurityIDSource(CharSequence value) { builder.add(FixTags.SecurityIDSource, value); return this; }
+
+	private final NoSecurityAltIDEncoder noSecurityAltID = new NoSecurityAltIDEncoder();
+	/** Appends NoSecurityAltID(454) group counter. Each group entry must start with SecurityAltID. */
+	public NoSecurityAltIDEncoder setNoSecurityAltID(int count) { builder.add(FixTags.NoSecurityAltID, count); return noSecurityAltID.wrap(builder); }
+
+	public ExecutionReportEncoder setProduct(Product value) { builder.add(FixTags.Product, value); return this; }
+	public ExecutionReportEncoder setProduct(int value) { builder.add(FixTags.Product, value); return this; }
+
+	public ExecutionReportEncoder setCFICode(CharSequence value) { builder.add(FixTags.CFICode, value); return this; }
+
+	public ExecutionReportEncoder setSecurityType(SecurityType value) { builder.add(FixTags.SecurityType, value); return this; }
+	public ExecutionReportEncoder setSecurityType(CharSequence value) { builder.add(FixTags.SecurityType, value); return this; }
+
+	public ExecutionReportEncoder setSecuritySubType(CharSequence value) { builder.add(FixTags.SecuritySubType, value); return this; }
+
+	public ExecutionReportEncoder setMaturityMonthYear(CharSequence value) { builder.add(FixTags.MaturityMonthYear, value); return this; }
+
+	public ExecutionReportEncoder setMaturityDate(long timestamp) { builder.addLocalMktDate(FixTags.MaturityDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setCouponPaymentDate(long timestamp) { builder.addLocalMktDate(FixTags.CouponPaymentDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setIssueDate(long timestamp) { builder.addLocalMktDate(FixTags.IssueDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setRepoCollateralSecurityType(int value) { builder.add(FixTags.RepoCollateralSecurityType, value); return this; }
+
+	public ExecutionReportEncoder setRepurchaseTerm(int value) { builder.add(FixTags.RepurchaseTerm, value); return this; }
+
+	public ExecutionReportEncoder setRepurchaseRate(double value) { builder.add(FixTags.RepurchaseRate, value); return this; }
+	public ExecutionReportEncoder setRepurchaseRate(long mantissa, int scale) { builder.addDecimal(FixTags.RepurchaseRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setFactor(double value) { builder.add(FixTags.Factor, value); return this; }
+	public ExecutionReportEncoder setFactor(long mantissa, int scale) { builder.addDecimal(FixTags.Factor, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCreditRating(CharSequence value) { builder.add(FixTags.CreditRating, value); return this; }
+
+	public ExecutionReportEncoder setInstrRegistry(CharSequence value) { builder.add(FixTags.InstrRegistry, value); return this; }
+
+	public ExecutionReportEncoder setCountryOfIssue(CharSequence value) { builder.add(FixTags.CountryOfIssue, value); return this; }
+
+	public ExecutionReportEncoder setStateOrProvinceOfIssue(CharSequence value) { builder.add(FixTags.StateOrProvinceOfIssue, value); return this; }
+
+	public ExecutionReportEncoder setLocaleOfIssue(CharSequence value) { builder.add(FixTags.LocaleOfIssue, value); return this; }
+
+	public ExecutionReportEncoder setRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.RedemptionDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setStrikePrice(double value) { builder.add(FixTags.StrikePrice, value); return this; }
+	public ExecutionReportEncoder setStrikePrice(long mantissa, int scale) { builder.addDecimal(FixTags.StrikePrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setStrikeCurrency(CharSequence value) { builder.add(FixTags.StrikeCurrency, value); return this; }
+
+	public ExecutionReportEncoder setOptAttribute(byte value) { builder.add(FixTags.OptAttribute, value); return this; }
+
+	public ExecutionReportEncoder setContractMultiplier(double value) { builder.add(FixTags.ContractMultiplier, value); return this; }
+	public ExecutionReportEncoder setContractMultiplier(long mantissa, int scale) { builder.addDecimal(FixTags.ContractMultiplier, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCouponRate(double value) { builder.add(FixTags.CouponRate, value); return this; }
+	public ExecutionReportEncoder setCouponRate(long mantissa, int scale) { builder.addDecimal(FixTags.CouponRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setSecurityExchange(CharSequence value) { builder.add(FixTags.SecurityExchange, value); return this; }
+
+	public ExecutionReportEncoder setIssuer(CharSequence value) { builder.add(FixTags.Issuer, value); return this; }
+
+	public ExecutionReportEncoder setEncodedIssuerLen(int value) { builder.add(FixTags.EncodedIssuerLen, value); return this; }
+
+	public ExecutionReportEncoder setEncodedIssuer(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedIssuer, buffer, offset, length); return this; }
+
+	public ExecutionReportEncoder setSecurityDesc(CharSequence value) { builder.add(FixTags.SecurityDesc, value); return this; }
+
+	public ExecutionReportEncoder setEncodedSecurityDescLen(int value) { builder.add(FixTags.EncodedSecurityDescLen, value); return this; }
+
+	public ExecutionReportEncoder setEncodedSecurityDesc(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedSecurityDesc, buffer, offset, length); return this; }
+
+	public ExecutionReportEncoder setPool(CharSequence value) { builder.add(FixTags.Pool, value); return this; }
+
+	public ExecutionReportEncoder setContractSettlMonth(CharSequence value) { builder.add(FixTags.ContractSettlMonth, value); return this; }
+
+	public ExecutionReportEncoder setCPProgram(int value) { builder.add(FixTags.CPProgram, value); return this; }
+
+	public ExecutionReportEncoder setCPRegType(CharSequence value) { builder.add(FixTags.CPRegType, value); return this; }
+
+	private final NoEventsEncoder noEvents = new NoEventsEncoder();
+	/** Appends NoEvents(864) group counter. Each group entry must start with EventType. */
+	public NoEventsEncoder setNoEvents(int count) { builder.add(FixTags.NoEvents, count); return noEvents.wrap(builder); }
+
+	public ExecutionReportEncoder setDatedDate(long timestamp) { builder.addLocalMktDate(FixTags.DatedDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setInterestAccrualDate(long timestamp) { builder.addLocalMktDate(FixTags.InterestAccrualDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setAgreementDesc(CharSequence value) { builder.add(FixTags.AgreementDesc, value); return this; }
+
+	public ExecutionReportEncoder setAgreementID(CharSequence value) { builder.add(FixTags.AgreementID, value); return this; }
+
+	public ExecutionReportEncoder setAgreementDate(long timestamp) { builder.addLocalMktDate(FixTags.AgreementDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setAgreementCurrency(CharSequence value) { builder.add(FixTags.AgreementCurrency, value); return this; }
+
+	public ExecutionReportEncoder setTerminationType(TerminationType value) { builder.add(FixTags.TerminationType, value); return this; }
+	public ExecutionReportEncoder setTerminationType(int value) { builder.add(FixTags.TerminationType, value); return this; }
+
+	public ExecutionReportEncoder setStartDate(long timestamp) { builder.addLocalMktDate(FixTags.StartDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setEndDate(long timestamp) { builder.addLocalMktDate(FixTags.EndDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setDeliveryType(DeliveryType value) { builder.add(FixTags.DeliveryType, value); return this; }
+	public ExecutionReportEncoder setDeliveryType(int value) { builder.add(FixTags.DeliveryType, value); return this; }
+
+	public ExecutionReportEncoder setMarginRatio(double value) { builder.add(FixTags.MarginRatio, value); return this; }
+	public ExecutionReportEncoder setMarginRatio(long mantissa, int scale) { builder.addDecimal(FixTags.MarginRatio, mantissa, scale); return this; }
+
+	private final NoUnderlyingsEncoder noUnderlyings = new NoUnderlyingsEncoder();
+	/** Appends NoUnderlyings(711) group counter. Each group entry must start with UnderlyingSymbol. */
+	public NoUnderlyingsEncoder setNoUnderlyings(int count) { builder.add(FixTags.NoUnderlyings, count); return noUnderlyings.wrap(builder); }
+
+	public ExecutionReportEncoder setSide(Side value) { builder.add(FixTags.Side, value); return this; }
+	public ExecutionReportEncoder setSide(byte value) { builder.add(FixTags.Side, value); return this; }
+
+	private final NoStipulationsEncoder noStipulations = new NoStipulationsEncoder();
+	/** Appends NoStipulations(232) group counter. Each group entry must start with StipulationType. */
+	public NoStipulationsEncoder setNoStipulations(int count) { builder.add(FixTags.NoStipulations, count); return noStipulations.wrap(builder); }
+
+	public ExecutionReportEncoder setQtyType(QtyType value) { builder.add(FixTags.QtyType, value); return this; }
+	public ExecutionReportEncoder setQtyType(int value) { builder.add(FixTags.QtyType, value); return this; }
+
+	public ExecutionReportEncoder setOrderQty(double value) { builder.add(FixTags.OrderQty, value); return this; }
+	public ExecutionReportEncoder setOrderQty(long mantissa, int scale) { builder.addDecimal(FixTags.OrderQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCashOrderQty(double value) { builder.add(FixTags.CashOrderQty, value); return this; }
+	public ExecutionReportEncoder setCashOrderQty(long mantissa, int scale) { builder.addDecimal(FixTags.CashOrderQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setOrderPercent(double value) { builder.add(FixTags.OrderPercent, value); return this; }
+	public ExecutionReportEncoder setOrderPercent(long mantissa, int scale) { builder.addDecimal(FixTags.OrderPercent, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setRoundingDirection(RoundingDirection value) { builder.add(FixTags.RoundingDirection, value); return this; }
+	public ExecutionReportEncoder setRoundingDirection(byte value) { builder.add(FixTags.RoundingDirection, value); return this; }
+
+	public ExecutionReportEncoder setRoundingModulus(double value) { builder.add(FixTags.RoundingModulus, value); return this; }
+	public ExecutionReportEncoder setRoundingModulus(long mantissa, int scale) { builder.addDecimal(FixTags.RoundingModulus, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setOrdType(OrdType value) { builder.add(FixTags.OrdType, value); return this; }
+	public ExecutionReportEncoder setOrdType(byte value) { builder.add(FixTags.OrdType, value); return this; }
+
+	public ExecutionReportEncoder setPriceType(PriceType value) { builder.add(FixTags.PriceType, value); return this; }
+	public ExecutionReportEncoder setPriceType(int value) { builder.add(FixTags.PriceType, value); return this; }
+
+	public ExecutionReportEncoder setPrice(double value) { builder.add(FixTags.Price, value); return this; }
+	public ExecutionReportEncoder setPrice(long mantissa, int scale) { builder.addDecimal(FixTags.Price, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setStopPx(double value) { builder.add(FixTags.StopPx, value); return this; }
+	public ExecutionReportEncoder setStopPx(long mantissa, int scale) { builder.addDecimal(FixTags.StopPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setPegOffsetValue(double value) { builder.add(FixTags.PegOffsetValue, value); return this; }
+	public ExecutionReportEncoder setPegOffsetValue(long mantissa, int scale) { builder.addDecimal(FixTags.PegOffsetValue, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setPegMoveType(PegMoveType value) { builder.add(FixTags.PegMoveType, value); return this; }
+	public ExecutionReportEncoder setPegMoveType(int value) { builder.add(FixTags.PegMoveType, value); return this; }
+
+	public ExecutionReportEncoder setPegOffsetType(PegOffsetType value) { builder.add(FixTags.PegOffsetType, value); return this; }
+	public ExecutionReportEncoder setPegOffsetType(int value) { builder.add(FixTags.PegOffsetType, value); return this; }
+
+	public ExecutionReportEncoder setPegLimitType(PegLimitType value) { builder.add(FixTags.PegLimitType, value); return this; }
+	public ExecutionReportEncoder setPegLimitType(int value) { builder.add(FixTags.PegLimitType, value); return this; }
+
+	public ExecutionReportEncoder setPegRoundDirection(PegRoundDirection value) { builder.add(FixTags.PegRoundDirection, value); return this; }
+	public ExecutionReportEncoder setPegRoundDirection(int value) { builder.add(FixTags.PegRoundDirection, value); return this; }
+
+	public ExecutionReportEncoder setPegScope(PegScope value) { builder.add(FixTags.PegScope, value); return this; }
+	public ExecutionReportEncoder setPegScope(int value) { builder.add(FixTags.PegScope, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionInst(DiscretionInst value) { builder.add(FixTags.DiscretionInst, value); return this; }
+	public ExecutionReportEncoder setDiscretionInst(byte value) { builder.add(FixTags.DiscretionInst, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionOffsetValue(double value) { builder.add(FixTags.DiscretionOffsetValue, value); return this; }
+	public ExecutionReportEncoder setDiscretionOffsetValue(long mantissa, int scale) { builder.addDecimal(FixTags.DiscretionOffsetValue, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setDiscretionMoveType(DiscretionMoveType value) { builder.add(FixTags.DiscretionMoveType, value); return this; }
+	public ExecutionReportEncoder setDiscretionMoveType(int value) { builder.add(FixTags.DiscretionMoveType, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionOffsetType(DiscretionOffsetType value) { builder.add(FixTags.DiscretionOffsetType, value); return this; }
+	public ExecutionReportEncoder setDiscretionOffsetType(int value) { builder.add(FixTags.DiscretionOffsetType, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionLimitType(DiscretionLimitType value) { builder.add(FixTags.DiscretionLimitType, value); return this; }
+	public ExecutionReportEncoder setDiscretionLimitType(int value) { builder.add(FixTags.DiscretionLimitType, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionRoundDirection(DiscretionRoundDirection value) { builder.add(FixTags.DiscretionRoundDirection, value); return this; }
+	public ExecutionReportEncoder setDiscretionRoundDirection(int value) { builder.add(FixTags.DiscretionRoundDirection, value); return this; }
+
+	public ExecutionReportEncoder setDiscretionScope(DiscretionScope value) { builder.add(FixTags.DiscretionScope, value); return this; }
+	public ExecutionReportEncoder setDiscretionScope(int value) { builder.add(FixTags.DiscretionScope, value); return this; }
+
+	public ExecutionReportEncoder setPeggedPrice(double value) { builder.add(FixTags.PeggedPrice, value); return this; }
+	public ExecutionReportEncoder setPeggedPrice(long mantissa, int scale) { builder.addDecimal(FixTags.PeggedPrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setDiscretionPrice(double value) { builder.add(FixTags.DiscretionPrice, value); return this; }
+	public ExecutionReportEncoder setDiscretionPrice(long mantissa, int scale) { builder.addDecimal(FixTags.DiscretionPrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setTargetStrategy(int value) { builder.add(FixTags.TargetStrategy, value); return this; }
+
+	public ExecutionReportEncoder setTargetStrategyParameters(CharSequence value) { builder.add(FixTags.TargetStrategyParameters, value); return this; }
+
+	public ExecutionReportEncoder setParticipationRate(double value) { builder.add(FixTags.ParticipationRate, value); return this; }
+	public ExecutionReportEncoder setParticipationRate(long mantissa, int scale) { builder.addDecimal(FixTags.ParticipationRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setTargetStrategyPerformance(double value) { builder.add(FixTags.TargetStrategyPerformance, value); return this; }
+	public ExecutionReportEncoder setTargetStrategyPerformance(long mantissa, int scale) { builder.addDecimal(FixTags.TargetStrategyPerformance, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCurrency(CharSequence value) { builder.add(FixTags.Currency, value); return this; }
+
+	public ExecutionReportEncoder setComplianceID(CharSequence value) { builder.add(FixTags.ComplianceID, value); return this; }
+
+	public ExecutionReportEncoder setSolicitedFlag(boolean value) { builder.add(FixTags.SolicitedFlag, value); return this; }
+
+	public ExecutionReportEncoder setTimeInForce(TimeInForce value) { builder.add(FixTags.TimeInForce, value); return this; }
+	public ExecutionReportEncoder setTimeInForce(byte value) { builder.add(FixTags.TimeInForce, value); return this; }
+
+	public ExecutionReportEncoder setEffectiveTime(long timestamp) { builder.addUTCTimestamp(FixTags.EffectiveTime, timestamp); return this; }
+
+	public ExecutionReportEncoder setExpireDate(long timestamp) { builder.addLocalMktDate(FixTags.ExpireDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setExpireTime(long timestamp) { builder.addUTCTimestamp(FixTags.ExpireTime, timestamp); return this; }
+
+	public ExecutionReportEncoder setExecInst(CharSequence value) { builder.add(FixTags.ExecInst, value); return this; }
+
+	public ExecutionReportEncoder setOrderCapacity(OrderCapacity value) { builder.add(FixTags.OrderCapacity, value); return this; }
+	public ExecutionReportEncoder setOrderCapacity(byte value) { builder.add(FixTags.OrderCapacity, value); return this; }
+
+	public ExecutionReportEncoder setOrderRestrictions(CharSequence value) { builder.add(FixTags.OrderRestrictions, value); return this; }
+
+	public ExecutionReportEncoder setCustOrderCapacity(CustOrderCapacity value) { builder.add(FixTags.CustOrderCapacity, value); return this; }
+	public ExecutionReportEncoder setCustOrderCapacity(int value) { builder.add(FixTags.CustOrderCapacity, value); return this; }
+
+	public ExecutionReportEncoder setLastQty(double value) { builder.add(FixTags.LastQty, value); return this; }
+	public ExecutionReportEncoder setLastQty(long mantissa, int scale) { builder.addDecimal(FixTags.LastQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setUnderlyingLastQty(double value) { builder.add(FixTags.UnderlyingLastQty, value); return this; }
+	public ExecutionReportEncoder setUnderlyingLastQty(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingLastQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastPx(double value) { builder.add(FixTags.LastPx, value); return this; }
+	public ExecutionReportEncoder setLastPx(long mantissa, int scale) { builder.addDecimal(FixTags.LastPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setUnderlyingLastPx(double value) { builder.add(FixTags.UnderlyingLastPx, value); return this; }
+	public ExecutionReportEncoder setUnderlyingLastPx(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingLastPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastParPx(double value) { builder.add(FixTags.LastParPx, value); return this; }
+	public ExecutionReportEncoder setLastParPx(long mantissa, int scale) { builder.addDecimal(FixTags.LastParPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastSpotRate(double value) { builder.add(FixTags.LastSpotRate, value); return this; }
+	public ExecutionReportEncoder setLastSpotRate(long mantissa, int scale) { builder.addDecimal(FixTags.LastSpotRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastForwardPoints(double value) { builder.add(FixTags.LastForwardPoints, value); return this; }
+	public ExecutionReportEncoder setLastForwardPoints(long mantissa, int scale) { builder.addDecimal(FixTags.LastForwardPoints, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastMkt(CharSequence value) { builder.add(FixTags.LastMkt, value); return this; }
+
+	public ExecutionReportEncoder setTradingSessionID(CharSequence value) { builder.add(FixTags.TradingSessionID, value); return this; }
+
+	public ExecutionReportEncoder setTradingSessionSubID(CharSequence value) { builder.add(FixTags.TradingSessionSubID, value); return this; }
+
+	public ExecutionReportEncoder setTimeBracket(CharSequence value) { builder.add(FixTags.TimeBracket, value); return this; }
+
+	public ExecutionReportEncoder setLastCapacity(LastCapacity value) { builder.add(FixTags.LastCapacity, value); return this; }
+	public ExecutionReportEncoder setLastCapacity(byte value) { builder.add(FixTags.LastCapacity, value); return this; }
+
+	public ExecutionReportEncoder setLeavesQty(double value) { builder.add(FixTags.LeavesQty, value); return this; }
+	public ExecutionReportEncoder setLeavesQty(long mantissa, int scale) { builder.addDecimal(FixTags.LeavesQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCumQty(double value) { builder.add(FixTags.CumQty, value); return this; }
+	public ExecutionReportEncoder setCumQty(long mantissa, int scale) { builder.addDecimal(FixTags.CumQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setAvgPx(double value) { builder.add(FixTags.AvgPx, value); return this; }
+	public ExecutionReportEncoder setAvgPx(long mantissa, int scale) { builder.addDecimal(FixTags.AvgPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setDayOrderQty(double value) { builder.add(FixTags.DayOrderQty, value); return this; }
+	public ExecutionReportEncoder setDayOrderQty(long mantissa, int scale) { builder.addDecimal(FixTags.DayOrderQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setDayCumQty(double value) { builder.add(FixTags.DayCumQty, value); return this; }
+	public ExecutionReportEncoder setDayCumQty(long mantissa, int scale) { builder.addDecimal(FixTags.DayCumQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setDayAvgPx(double value) { builder.add(FixTags.DayAvgPx, value); return this; }
+	public ExecutionReportEncoder setDayAvgPx(long mantissa, int scale) { builder.addDecimal(FixTags.DayAvgPx, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setGTBookingInst(GTBookingInst value) { builder.add(FixTags.GTBookingInst, value); return this; }
+	public ExecutionReportEncoder setGTBookingInst(int value) { builder.add(FixTags.GTBookingInst, value); return this; }
+
+	public ExecutionReportEncoder setTradeDate(long timestamp) { builder.addLocalMktDate(FixTags.TradeDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setTransactTime(long timestamp) { builder.addUTCTimestamp(FixTags.TransactTime, timestamp); return this; }
+
+	public ExecutionReportEncoder setReportToExch(boolean value) { builder.add(FixTags.ReportToExch, value); return this; }
+
+	public ExecutionReportEncoder setCommission(double value) { builder.add(FixTags.Commission, value); return this; }
+	public ExecutionReportEncoder setCommission(long mantissa, int scale) { builder.addDecimal(FixTags.Commission, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setCommType(CommType value) { builder.add(FixTags.CommType, value); return this; }
+	public ExecutionReportEncoder setCommType(byte value) { builder.add(FixTags.CommType, value); return this; }
+
+	public ExecutionReportEncoder setCommCurrency(CharSequence value) { builder.add(FixTags.CommCurrency, value); return this; }
+
+	public ExecutionReportEncoder setFundRenewWaiv(FundRenewWaiv value) { builder.add(FixTags.FundRenewWaiv, value); return this; }
+	public ExecutionReportEncoder setFundRenewWaiv(byte value) { builder.add(FixTags.FundRenewWaiv, value); return this; }
+
+	public ExecutionReportEncoder setSpread(double value) { builder.add(FixTags.Spread, value); return this; }
+	public ExecutionReportEncoder setSpread(long mantissa, int scale) { builder.addDecimal(FixTags.Spread, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setBenchmarkCurveCurrency(CharSequence value) { builder.add(FixTags.BenchmarkCurveCurrency, value); return this; }
+
+	public ExecutionReportEncoder setBenchmarkCurveName(BenchmarkCurveName value) { builder.add(FixTags.BenchmarkCurveName, value); return this; }
+	public ExecutionReportEncoder setBenchmarkCurveName(CharSequence value) { builder.add(FixTags.BenchmarkCurveName, value); return this; }
+
+	public ExecutionReportEncoder setBenchmarkCurvePoint(CharSequence value) { builder.add(FixTags.BenchmarkCurvePoint, value); return this; }
+
+	public ExecutionReportEncoder setBenchmarkPrice(double value) { builder.add(FixTags.BenchmarkPrice, value); return this; }
+	public ExecutionReportEncoder setBenchmarkPrice(long mantissa, int scale) { builder.addDecimal(FixTags.BenchmarkPrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setBenchmarkPriceType(int value) { builder.add(FixTags.BenchmarkPriceType, value); return this; }
+
+	public ExecutionReportEncoder setBenchmarkSecurityID(CharSequence value) { builder.add(FixTags.BenchmarkSecurityID, value); return this; }
+
+	public ExecutionReportEncoder setBenchmarkSecurityIDSource(BenchmarkSecurityIDSource value) { builder.add(FixTags.BenchmarkSecurityIDSource, value); return this; }
+	public ExecutionReportEncoder setBenchmarkSecurityIDSource(CharSequence value) { builder.add(FixTags.BenchmarkSecurityIDSource, value); return this; }
+
+	public ExecutionReportEncoder setYieldType(YieldType value) { builder.add(FixTags.YieldType, value); return this; }
+	public ExecutionReportEncoder setYieldType(CharSequence value) { builder.add(FixTags.YieldType, value); return this; }
+
+	public ExecutionReportEncoder setYield(double value) { builder.add(FixTags.Yield, value); return this; }
+	public ExecutionReportEncoder setYield(long mantissa, int scale) { builder.addDecimal(FixTags.Yield, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setYieldCalcDate(long timestamp) { builder.addLocalMktDate(FixTags.YieldCalcDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setYieldRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.YieldRedemptionDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setYieldRedemptionPrice(double value) { builder.add(FixTags.YieldRedemptionPrice, value); return this; }
+	public ExecutionReportEncoder setYieldRedemptionPrice(long mantissa, int scale) { builder.addDecimal(FixTags.YieldRedemptionPrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setYieldRedemptionPriceType(int value) { builder.add(FixTags.YieldRedemptionPriceType, value); return this; }
+
+	public ExecutionReportEncoder setGrossTradeAmt(double value) { builder.add(FixTags.GrossTradeAmt, value); return this; }
+	public ExecutionReportEncoder setGrossTradeAmt(long mantissa, int scale) { builder.addDecimal(FixTags.GrossTradeAmt, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setNumDaysInterest(int value) { builder.add(FixTags.NumDaysInterest, value); return this; }
+
+	public ExecutionReportEncoder setExDate(long timestamp) { builder.addLocalMktDate(FixTags.ExDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setAccruedInterestRate(double value) { builder.add(FixTags.AccruedInterestRate, value); return this; }
+	public ExecutionReportEncoder setAccruedInterestRate(long mantissa, int scale) { builder.addDecimal(FixTags.AccruedInterestRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setAccruedInterestAmt(double value) { builder.add(FixTags.AccruedInterestAmt, value); return this; }
+	public ExecutionReportEncoder setAccruedInterestAmt(long mantissa, int scale) { builder.addDecimal(FixTags.AccruedInterestAmt, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setInterestAtMaturity(double value) { builder.add(FixTags.InterestAtMaturity, value); return this; }
+	public ExecutionReportEncoder setInterestAtMaturity(long mantissa, int scale) { builder.addDecimal(FixTags.InterestAtMaturity, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setEndAccruedInterestAmt(double value) { builder.add(FixTags.EndAccruedInterestAmt, value); return this; }
+	public ExecutionReportEncoder setEndAccruedInterestAmt(long mantissa, int scale) { builder.addDecimal(FixTags.EndAccruedInterestAmt, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setStartCash(double value) { builder.add(FixTags.StartCash, value); return this; }
+	public ExecutionReportEncoder setStartCash(long mantissa, int scale) { builder.addDecimal(FixTags.StartCash, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setEndCash(double value) { builder.add(FixTags.EndCash, value); return this; }
+	public ExecutionReportEncoder setEndCash(long mantissa, int scale) { builder.addDecimal(FixTags.EndCash, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setTradedFlatSwitch(boolean value) { builder.add(FixTags.TradedFlatSwitch, value); return this; }
+
+	public ExecutionReportEncoder setBasisFeatureDate(long timestamp) { builder.addLocalMktDate(FixTags.BasisFeatureDate, timestamp); return this; }
+
+	public ExecutionReportEncoder setBasisFeaturePrice(double value) { builder.add(FixTags.BasisFeaturePrice, value); return this; }
+	public ExecutionReportEncoder setBasisFeaturePrice(long mantissa, int scale) { builder.addDecimal(FixTags.BasisFeaturePrice, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setConcession(double value) { builder.add(FixTags.Concession, value); return this; }
+	public ExecutionReportEncoder setConcession(long mantissa, int scale) { builder.addDecimal(FixTags.Concession, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setTotalTakedown(double value) { builder.add(FixTags.TotalTakedown, value); return this; }
+	public ExecutionReportEncoder setTotalTakedown(long mantissa, int scale) { builder.addDecimal(FixTags.TotalTakedown, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setNetMoney(double value) { builder.add(FixTags.NetMoney, value); return this; }
+	public ExecutionReportEncoder setNetMoney(long mantissa, int scale) { builder.addDecimal(FixTags.NetMoney, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setSettlCurrAmt(double value) { builder.add(FixTags.SettlCurrAmt, value); return this; }
+	public ExecutionReportEncoder setSettlCurrAmt(long mantissa, int scale) { builder.addDecimal(FixTags.SettlCurrAmt, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setSettlCurrency(CharSequence value) { builder.add(FixTags.SettlCurrency, value); return this; }
+
+	public ExecutionReportEncoder setSettlCurrFxRate(double value) { builder.add(FixTags.SettlCurrFxRate, value); return this; }
+	public ExecutionReportEncoder setSettlCurrFxRate(long mantissa, int scale) { builder.addDecimal(FixTags.SettlCurrFxRate, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setSettlCurrFxRateCalc(SettlCurrFxRateCalc value) { builder.add(FixTags.SettlCurrFxRateCalc, value); return this; }
+	public ExecutionReportEncoder setSettlCurrFxRateCalc(byte value) { builder.add(FixTags.SettlCurrFxRateCalc, value); return this; }
+
+	public ExecutionReportEncoder setHandlInst(HandlInst value) { builder.add(FixTags.HandlInst, value); return this; }
+	public ExecutionReportEncoder setHandlInst(byte value) { builder.add(FixTags.HandlInst, value); return this; }
+
+	public ExecutionReportEncoder setMinQty(double value) { builder.add(FixTags.MinQty, value); return this; }
+	public ExecutionReportEncoder setMinQty(long mantissa, int scale) { builder.addDecimal(FixTags.MinQty, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setMaxFloor(double value) { builder.add(FixTags.MaxFloor, value); return this; }
+	public ExecutionReportEncoder setMaxFloor(long mantissa, int scale) { builder.addDecimal(FixTags.MaxFloor, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setPositionEffect(PositionEffect value) { builder.add(FixTags.PositionEffect, value); return this; }
+	public ExecutionReportEncoder setPositionEffect(byte value) { builder.add(FixTags.PositionEffect, value); return this; }
+
+	public ExecutionReportEncoder setMaxShow(double value) { builder.add(FixTags.MaxShow, value); return this; }
+	public ExecutionReportEncoder setMaxShow(long mantissa, int scale) { builder.addDecimal(FixTags.MaxShow, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setBookingType(BookingType value) { builder.add(FixTags.BookingType, value); return this; }
+	public ExecutionReportEncoder setBookingType(int value) { builder.add(FixTags.BookingType, value); return this; }
+
+	public ExecutionReportEncoder setText(CharSequence value) { builder.add(FixTags.Text, value); return this; }
+
+	public ExecutionReportEncoder setEncodedTextLen(int value) { builder.add(FixTags.EncodedTextLen, value); return this; }
+
+	public ExecutionReportEncoder setEncodedText(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedText, buffer, offset, length); return this; }
+
+	public ExecutionReportEncoder setSettlDate2(long timestamp) { builder.addLocalMktDate(FixTags.SettlDate2, timestamp); return this; }
+
+	public ExecutionReportEncoder setOrderQty2(double value) { builder.add(FixTags.OrderQty2, value); return this; }
+	public ExecutionReportEncoder setOrderQty2(long mantissa, int scale) { builder.addDecimal(FixTags.OrderQty2, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastForwardPoints2(double value) { builder.add(FixTags.LastForwardPoints2, value); return this; }
+	public ExecutionReportEncoder setLastForwardPoints2(long mantissa, int scale) { builder.addDecimal(FixTags.LastForwardPoints2, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setMultiLegReportingType(MultiLegReportingType value) { builder.add(FixTags.MultiLegReportingType, value); return this; }
+	public ExecutionReportEncoder setMultiLegReportingType(byte value) { builder.add(FixTags.MultiLegReportingType, value); return this; }
+
+	public ExecutionReportEncoder setCancellationRights(CancellationRights value) { builder.add(FixTags.CancellationRights, value); return this; }
+	public ExecutionReportEncoder setCancellationRights(byte value) { builder.add(FixTags.CancellationRights, value); return this; }
+
+	public ExecutionReportEncoder setMoneyLaunderingStatus(MoneyLaunderingStatus value) { builder.add(FixTags.MoneyLaunderingStatus, value); return this; }
+	public ExecutionReportEncoder setMoneyLaunderingStatus(byte value) { builder.add(FixTags.MoneyLaunderingStatus, value); return this; }
+
+	public ExecutionReportEncoder setRegistID(CharSequence value) { builder.add(FixTags.RegistID, value); return this; }
+
+	public ExecutionReportEncoder setDesignation(CharSequence value) { builder.add(FixTags.Designation, value); return this; }
+
+	public ExecutionReportEncoder setTransBkdTime(long timestamp) { builder.addUTCTimestamp(FixTags.TransBkdTime, timestamp); return this; }
+
+	public ExecutionReportEncoder setExecValuationPoint(long timestamp) { builder.addUTCTimestamp(FixTags.ExecValuationPoint, timestamp); return this; }
+
+	public ExecutionReportEncoder setExecPriceType(ExecPriceType value) { builder.add(FixTags.ExecPriceType, value); return this; }
+	public ExecutionReportEncoder setExecPriceType(byte value) { builder.add(FixTags.ExecPriceType, value); return this; }
+
+	public ExecutionReportEncoder setExecPriceAdjustment(double value) { builder.add(FixTags.ExecPriceAdjustment, value); return this; }
+	public ExecutionReportEncoder setExecPriceAdjustment(long mantissa, int scale) { builder.addDecimal(FixTags.ExecPriceAdjustment, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setPriorityIndicator(PriorityIndicator value) { builder.add(FixTags.PriorityIndicator, value); return this; }
+	public ExecutionReportEncoder setPriorityIndicator(int value) { builder.add(FixTags.PriorityIndicator, value); return this; }
+
+	public ExecutionReportEncoder setPriceImprovement(double value) { builder.add(FixTags.PriceImprovement, value); return this; }
+	public ExecutionReportEncoder setPriceImprovement(long mantissa, int scale) { builder.addDecimal(FixTags.PriceImprovement, mantissa, scale); return this; }
+
+	public ExecutionReportEncoder setLastLiquidityInd(LastLiquidityInd value) { builder.add(FixTags.LastLiquidityInd, value); return this; }
+	public ExecutionReportEncoder setLastLiquidityInd(int value) { builder.add(FixTags.LastLiquidityInd, value); return this; }
+
+	private final NoContAmtsEncoder noContAmts = new NoContAmtsEncoder();
+	/** Appends NoContAmts(518) group counter. Each group entry must start with ContAmtType. */
+	public NoContAmtsEncoder setNoContAmts(int count) { builder.add(FixTags.NoContAmts, count); return noContAmts.wrap(builder); }
+
+	private final NoLegsEncoder noLegs = new NoLegsEncoder();
+	/** Appends NoLegs(555) group counter. Each group entry must start with LegSymbol. */
+	public NoLegsEncoder setNoLegs(int count) { builder.add(FixTags.NoLegs, count); return noLegs.wrap(builder); }
+
+	public ExecutionReportEncoder setCopyMsgIndicator(boolean value) { builder.add(FixTags.CopyMsgIndicator, value); return this; }
+
+	private final NoMiscFeesEncoder noMiscFees = new NoMiscFeesEncoder();
+	/** Appends NoMiscFees(136) group counter. Each group entry must start with MiscFeeAmt. */
+	public NoMiscFeesEncoder setNoMiscFees(int count) { builder.add(FixTags.NoMiscFees, count); return noMiscFees.wrap(builder); }
+
+	public static final class NoPartyIDsEncoder extends FlyweightEncoder {
+
+		NoPartyIDsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoPartyIDsEncoder setPartyID(CharSequence value) { builder.add(FixTags.PartyID, value); return this; }
+
+		public NoPartyIDsEncoder setPartyIDSource(PartyIDSource value) { builder.add(FixTags.PartyIDSource, value); return this; }
+		public NoPartyIDsEncoder setPartyIDSource(byte value) { builder.add(FixTags.PartyIDSource, value); return this; }
+
+		public NoPartyIDsEncoder setPartyRole(PartyRole value) { builder.add(FixTags.PartyRole, value); return this; }
+		public NoPartyIDsEncoder setPartyRole(int value) { builder.add(FixTags.PartyRole, value); return this; }
+
+		private final NoPartySubIDsEncoder noPartySubIDs = new NoPartySubIDsEncoder();
+		/** Appends NoPartySubIDs(802) group counter. Each group entry must start with PartySubID. */
+		public NoPartySubIDsEncoder setNoPartySubIDs(int count) { builder.add(FixTags.NoPartySubIDs, count); return noPartySubIDs.wrap(builder); }
+
+		public static final class NoPartySubIDsEncoder extends FlyweightEncoder {
+
+			NoPartySubIDsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoPartySubIDsEncoder setPartySubID(CharSequence value) { builder.add(FixTags.PartySubID, value); return this; }
+
+			public NoPartySubIDsEncoder setPartySubIDType(int value) { builder.add(FixTags.PartySubIDType, value); return this; }
+		}
+	}
+
+	public static final class NoContraBrokersEncoder extends FlyweightEncoder {
+
+		NoContraBrokersEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoContraBrokersEncoder setContraBroker(CharSequence value) { builder.add(FixTags.ContraBroker, value); return this; }
+
+		public NoContraBrokersEncoder setContraTrader(CharSequence value) { builder.add(FixTags.ContraTrader, value); return this; }
+
+		public NoContraBrokersEncoder setContraTradeQty(double value) { builder.add(FixTags.ContraTradeQty, value); return this; }
+		public NoContraBrokersEncoder setContraTradeQty(long mantissa, int scale) { builder.addDecimal(FixTags.ContraTradeQty, mantissa, scale); return this; }
+
+		public NoContraBrokersEncoder setContraTradeTime(long timestamp) { builder.addUTCTimestamp(FixTags.ContraTradeTime, timestamp); return this; }
+
+		public NoContraBrokersEncoder setContraLegRefID(CharSequence value) { builder.add(FixTags.ContraLegRefID, value); return this; }
+	}
+
+	public static final class NoSecurityAltIDEncoder extends FlyweightEncoder {
+
+		NoSecurityAltIDEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoSecurityAltIDEncoder setSecurityAltID(CharSequence value) { builder.add(FixTags.SecurityAltID, value); return this; }
+
+		public NoSecurityAltIDEncoder setSecurityAltIDSource(CharSequence value) { builder.add(FixTags.SecurityAltIDSource, value); return this; }
+	}
+
+	public static final class NoEventsEncoder extends FlyweightEncoder {
+
+		NoEventsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoEventsEncoder setEventType(EventType value) { builder.add(FixTags.EventType, value); return this; }
+		public NoEventsEncoder setEventType(int value) { builder.add(FixTags.EventType, value); return this; }
+
+		public NoEventsEncoder setEventDate(long timestamp) { builder.addLocalMktDate(FixTags.EventDate, timestamp); return this; }
+
+		public NoEventsEncoder setEventPx(double value) { builder.add(FixTags.EventPx, value); return this; }
+		public NoEventsEncoder setEventPx(long mantissa, int scale) { builder.addDecimal(FixTags.EventPx, mantissa, scale); return this; }
+
+		public NoEventsEncoder setEventText(CharSequence value) { builder.add(FixTags.EventText, value); return this; }
+	}
+
+	public static final class NoUnderlyingsEncoder extends FlyweightEncoder {
+
+		NoUnderlyingsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoUnderlyingsEncoder setUnderlyingSymbol(CharSequence value) { builder.add(FixTags.UnderlyingSymbol, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSymbolSfx(CharSequence value) { builder.add(FixTags.UnderlyingSymbolSfx, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityID(CharSequence value) { builder.add(FixTags.UnderlyingSecurityID, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityIDSource(CharSequence value) { builder.add(FixTags.UnderlyingSecurityIDSource, value); return this; }
+
+		private final NoUnderlyingSecurityAltIDEncoder noUnderlyingSecurityAltID = new NoUnderlyingSecurityAltIDEncoder();
+		/** Appends NoUnderlyingSecurityAltID(457) group counter. Each group entry must start with UnderlyingSecurityAltID. */
+		public NoUnderlyingSecurityAltIDEncoder setNoUnderlyingSecurityAltID(int count) { builder.add(FixTags.NoUnderlyingSecurityAltID, count); return noUnderlyingSecurityAltID.wrap(builder); }
+
+		public NoUnderlyingsEncoder setUnderlyingProduct(int value) { builder.add(FixTags.UnderlyingProduct, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCFICode(CharSequence value) { builder.add(FixTags.UnderlyingCFICode, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityType(CharSequence value) { builder.add(FixTags.UnderlyingSecurityType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecuritySubType(CharSequence value) { builder.add(FixTags.UnderlyingSecuritySubType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingMaturityMonthYear(CharSequence value) { builder.add(FixTags.UnderlyingMaturityMonthYear, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingMaturityDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingMaturityDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCouponPaymentDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingCouponPaymentDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingIssueDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingIssueDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepoCollateralSecurityType(int value) { builder.add(FixTags.UnderlyingRepoCollateralSecurityType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseTerm(int value) { builder.add(FixTags.UnderlyingRepurchaseTerm, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseRate(double value) { builder.add(FixTags.UnderlyingRepurchaseRate, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseRate(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingRepurchaseRate, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingFactor(double value) { builder.add(FixTags.UnderlyingFactor, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingFactor(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingFactor, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCreditRating(CharSequence value) { builder.add(FixTags.UnderlyingCreditRating, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingInstrRegistry(CharSequence value) { builder.add(FixTags.UnderlyingInstrRegistry, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCountryOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingCountryOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStateOrProvinceOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingStateOrProvinceOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingLocaleOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingLocaleOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingRedemptionDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStrikePrice(double value) { builder.add(FixTags.UnderlyingStrikePrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingStrikePrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingStrikePrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStrikeCurrency(CharSequence value) { builder.add(FixTags.UnderlyingStrikeCurrency, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingOptAttribute(byte value) { builder.add(FixTags.UnderlyingOptAttribute, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingContractMultiplier(double value) { builder.add(FixTags.UnderlyingContractMultiplier, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingContractMultiplier(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingContractMultiplier, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCouponRate(double value) { builder.add(FixTags.UnderlyingCouponRate, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingCouponRate(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingCouponRate, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityExchange(CharSequence value) { builder.add(FixTags.UnderlyingSecurityExchange, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingIssuer(CharSequence value) { builder.add(FixTags.UnderlyingIssuer, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingIssuerLen(int value) { builder.add(FixTags.EncodedUnderlyingIssuerLen, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingIssuer(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedUnderlyingIssuer, buffer, offset, length); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityDesc(CharSequence value) { builder.add(FixTags.UnderlyingSecurityDesc, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingSecurityDescLen(int value) { builder.add(FixTags.EncodedUnderlyingSecurityDescLen, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingSecurityDesc(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedUnderlyingSecurityDesc, buffer, offset, length); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCPProgram(CharSequence value) { builder.add(FixTags.UnderlyingCPProgram, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCPRegType(CharSequence value) { builder.add(FixTags.UnderlyingCPRegType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCurrency(CharSequence value) { builder.add(FixTags.UnderlyingCurrency, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingQty(double value) { builder.add(FixTags.UnderlyingQty, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingQty(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingQty, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingPx(double value) { builder.add(FixTags.UnderlyingPx, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingPx(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingPx, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingDirtyPrice(double value) { builder.add(FixTags.UnderlyingDirtyPrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingDirtyPrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingDirtyPrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingEndPrice(double value) { builder.add(FixTags.UnderlyingEndPrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingEndPrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingEndPrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStartValue(double value) { builder.add(FixTags.UnderlyingStartValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingStartValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingStartValue, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCurrentValue(double value) { builder.add(FixTags.UnderlyingCurrentValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingCurrentValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingCurrentValue, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingEndValue(double value) { builder.add(FixTags.UnderlyingEndValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingEndValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingEndValue, mantissa, scale); return this; }
+
+		private final NoUnderlyingStipsEncoder noUnderlyingStips = new NoUnderlyingStipsEncoder();
+		/** Appends NoUnderlyingStips(887) group counter. Each group entry must start with UnderlyingStipType. */
+		public NoUnderlyingStipsEncoder setNoUnderlyingStips(int count) { builder.add(FixTags.NoUnderlyingStips, count); return noUnderlyingStips.wrap(builder); }
+
+		public static final class NoUnderlyingSecurityAltIDEncoder extends FlyweightEncoder {
+
+			NoUnderlyingSecurityAltIDEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoUnderlyingSecurityAltIDEncoder setUnderlyingSecurityAltID(CharSequence value) { builder.add(FixTags.UnderlyingSecurityAltID, value); return this; }
+
+			public NoUnderlyingSecurityAltIDEncoder setUnderlyingSecurityAltIDSource(CharSequence value) { builder.add(FixTags.UnderlyingSecurityAltIDSource, value); return this; }
+		}
+
+		public static final class NoUnderlyingStipsEncoder extends FlyweightEncoder {
+
+			NoUnderlyingStipsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoUnderlyingStipsEncoder setUnderlyingStipType(CharSequence value) { builder.add(FixTags.UnderlyingStipType, value); return this; }
+
+			public NoUnderlyingStipsEncoder setUnderlyingStipValue(CharSequence value) { builder.add(FixTags.UnderlyingStipValue, value); return this; }
+		}
+	}
+
+	public static final class NoStipulationsEncoder extends FlyweightEncoder {
+
+		NoStipulationsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoStipulationsEncoder setStipulationType(StipulationType value) { builder.add(FixTags.StipulationType, value); return this; }
+		public NoStipulationsEncoder setStipulationType(CharSequence value) { builder.add(FixTags.StipulationType, value); return this; }
+
+		public NoStipulationsEncoder setStipulationValue(StipulationValue value) { builder.add(FixTags.StipulationValue, value); return this; }
+		public NoStipulationsEncoder setStipulationValue(CharSequence value) { builder.add(FixTags.StipulationValue, value); return this; }
+	}
+
+	public static final class NoContAmtsEncoder extends FlyweightEncoder {
+
+		NoContAmtsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoContAmtsEncoder setContAmtType(ContAmtType value) { builder.add(FixTags.ContAmtType, value); return this; }
+		public NoContAmtsEncoder setContAmtType(int value) { builder.add(FixTags.ContAmtType, value); return this; }
+
+		public NoContAmtsEncoder setContAmtValue(double value) { builder.add(FixTags.ContAmtValue, value); return this; }
+		public NoContAmtsEncoder setContAmtValue(long mantissa, int scale) { builder.addDecimal(FixTags.ContAmtValue, mantissa, scale); return this; }
+
+		public NoContAmtsEncoder setContAmtCurr(CharSequence value) { builder.add(FixTags.ContAmtCurr, value); return this; }
+	}
+
+	public static final class NoLegsEncoder extends FlyweightEncoder {
+
+		NoLegsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoLegsEncoder setLegSymbol(CharSequence value) { builder.add(FixTags.LegSymbol, value); return this; }
+
+		public NoLegsEncoder setLegSymbolSfx(CharSequence value) { builder.add(FixTags.LegSymbolSfx, value); return this; }
+
+		public NoLegsEncoder setLegSecurityID(CharSequence value) { builder.add(FixTags.LegSecurityID, value); return this; }
+
+		public NoLegsEncoder setLegSecurityIDSource(CharSequence value) { builder.add(FixTags.LegSecurityIDSource, value); return this; }
+
+		private final NoLegSecurityAltIDEncoder noLegSecurityAltID = new NoLegSecurityAltIDEncoder();
+		/** Appends NoLegSecurityAltID(604) group counter. Each group entry must start with LegSecurityAltID. */
+		public NoLegSecurityAltIDEncoder setNoLegSecurityAltID(int count) { builder.add(FixTags.NoLegSecurityAltID, count); return noLegSecurityAltID.wrap(builder); }
+
+		public NoLegsEncoder setLegProduct(int value) { builder.add(FixTags.LegProduct, value); return this; }
+
+		public NoLegsEncoder setLegCFICode(CharSequence value) { builder.add(FixTags.LegCFICode, value); return this; }
+
+		public NoLegsEncoder setLegSecurityType(CharSequence value) { builder.add(FixTags.LegSecurityType, value); return this; }
+
+		public NoLegsEncoder setLegSecuritySubType(CharSequence value) { builder.add(FixTags.LegSecuritySubType, value); return this; }
+
+		public NoLegsEncoder setLegMaturityMonthYear(CharSequence value) { builder.add(FixTags.LegMaturityMonthYear, value); return this; }
+
+		public NoLegsEncoder setLegMaturityDate(long timestamp) { builder.addLocalMktDate(FixTags.LegMaturityDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegCouponPaymentDate(long timestamp) { builder.addLocalMktDate(FixTags.LegCouponPaymentDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegIssueDate(long timestamp) { builder.addLocalMktDate(FixTags.LegIssueDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegRepoCollateralSecurityType(int value) { builder.add(FixTags.LegRepoCollateralSecurityType, value); return this; }
+
+		public NoLegsEncoder setLegRepurchaseTerm(int value) { builder.add(FixTags.LegRepurchaseTerm, value); return this; }
+
+		public NoLegsEncoder setLegRepurchaseRate(double value) { builder.add(FixTags.LegRepurchaseRate, value); return this; }
+		public NoLegsEncoder setLegRepurchaseRate(long mantissa, int scale) { builder.addDecimal(FixTags.LegRepurchaseRate, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegFactor(double value) { builder.add(FixTags.LegFactor, value); return this; }
+		public NoLegsEncoder setLegFactor(long mantissa, int scale) { builder.addDecimal(FixTags.LegFactor, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegCreditRating(CharSequence value) { builder.add(FixTags.LegCreditRating, value); return this; }
+
+		public NoLegsEncoder setLegInstrRegistry(CharSequence value) { builder.add(FixTags.LegInstrRegistry, value); return this; }
+
+		public NoLegsEncoder setLegCountryOfIssue(CharSequence value) { builder.add(FixTags.LegCountryOfIssue, value); return this; }
+
+		public NoLegsEncoder setLegStateOrProvinceOfIssue(CharSequence value) { builder.add(FixTags.LegStateOrProvinceOfIssue, value); return this; }
+
+		public NoLegsEncoder setLegLocaleOfIssue(CharSequence value) { builder.add(FixTags.LegLocaleOfIssue, value); return this; }
+
+		public NoLegsEncoder setLegRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.LegRedemptionDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegStrikePrice(double value) { builder.add(FixTags.LegStrikePrice, value); return this; }
+		public NoLegsEncoder setLegStrikePrice(long mantissa, int scale) { builder.addDecimal(FixTags.LegStrikePrice, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegStrikeCurrency(CharSequence value) { builder.add(FixTags.LegStrikeCurrency, value); return this; }
+
+		public NoLegsEncoder setLegOptAttribute(byte value) { builder.add(FixTags.LegOptAttribute, value); return this; }
+
+		public NoLegsEncoder setLegContractMultiplier(double value) { builder.add(FixTags.LegContractMultiplier, value); return this; }
+		public NoLegsEncoder setLegContractMultiplier(long mantissa, int scale) { builder.addDecimal(FixTags.LegContractMultiplier, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegCouponRate(double value) { builder.add(FixTags.LegCouponRate, value); return this; }
+		public NoLegsEncoder setLegCouponRate(long mantissa, int scale) { builder.addDecimal(FixTags.LegCouponRate, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegSecurityExchange(CharSequence value) { builder.add(FixTags.LegSecurityExchange, value); return this; }
+
+		public NoLegsEncoder setLegIssuer(CharSequence value) { builder.add(FixTags.LegIssuer, value); return this; }
+
+		public NoLegsEncoder setEncodedLegIssuerLen(int value) { builder.add(FixTags.EncodedLegIssuerLen, value); return this; }
+
+		public NoLegsEncoder setEncodedLegIssuer(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedLegIssuer, buffer, offset, length); return this; }
+
+		public NoLegsEncoder setLegSecurityDesc(CharSequence value) { builder.add(FixTags.LegSecurityDesc, value); return this; }
+
+		public NoLegsEncoder setEncodedLegSecurityDescLen(int value) { builder.add(FixTags.EncodedLegSecurityDescLen, value); return this; }
+
+		public NoLegsEncoder setEncodedLegSecurityDesc(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedLegSecurityDesc, buffer, offset, length); return this; }
+
+		public NoLegsEncoder setLegRatioQty(double value) { builder.add(FixTags.LegRatioQty, value); return this; }
+		public NoLegsEncoder setLegRatioQty(long mantissa, int scale) { builder.addDecimal(FixTags.LegRatioQty, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegSide(byte value) { builder.add(FixTags.LegSide, value); return this; }
+
+		public NoLegsEncoder setLegCurrency(CharSequence value) { builder.add(FixTags.LegCurrency, value); return this; }
+
+		public NoLegsEncoder setLegPool(CharSequence value) { builder.add(FixTags.LegPool, value); return this; }
+
+		public NoLegsEncoder setLegDatedDate(long timestamp) { builder.addLocalMktDate(FixTags.LegDatedDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegContractSettlMonth(CharSequence value) { builder.add(FixTags.LegContractSettlMonth, value); return this; }
+
+		public NoLegsEncoder setLegInterestAccrualDate(long timestamp) { builder.addLocalMktDate(FixTags.LegInterestAccrualDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegQty(double value) { builder.add(FixTags.LegQty, value); return this; }
+		public NoLegsEncoder setLegQty(long mantissa, int scale) { builder.addDecimal(FixTags.LegQty, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegSwapType(LegSwapType value) { builder.add(FixTags.LegSwapType, value); return this; }
+		public NoLegsEncoder setLegSwapType(int value) { builder.add(FixTags.LegSwapType, value); return this; }
+
+		private final NoLegStipulationsEncoder noLegStipulations = new NoLegStipulationsEncoder();
+		/** Appends NoLegStipulations(683) group counter. Each group entry must start with LegStipulationType. */
+		public NoLegStipulationsEncoder setNoLegStipulations(int count) { builder.add(FixTags.NoLegStipulations, count); return noLegStipulations.wrap(builder); }
+
+		public NoLegsEncoder setLegPositionEffect(byte value) { builder.add(FixTags.LegPositionEffect, value); return this; }
+
+		public NoLegsEncoder setLegCoveredOrUncovered(int value) { builder.add(FixTags.LegCoveredOrUncovered, value); return this; }
+
+		private final NoNestedPartyIDsEncoder noNestedPartyIDs = new NoNestedPartyIDsEncoder();
+		/** Appends NoNestedPartyIDs(539) group counter. Each group entry must start with NestedPartyID. */
+		public NoNestedPartyIDsEncoder setNoNestedPartyIDs(int count) { builder.add(FixTags.NoNestedPartyIDs, count); return noNestedPartyIDs.wrap(builder); }
+
+		public NoLegsEncoder setLegRefID(CharSequence value) { builder.add(FixTags.LegRefID, value); return this; }
+
+		public NoLegsEncoder setLegPrice(double value) { builder.add(FixTags.LegPrice, value); return this; }
+		public NoLegsEncoder setLegPrice(long mantissa, int scale) { builder.addDecimal(FixTags.LegPrice, mantissa, scale); return this; }
+
+		public NoLegsEncoder setLegSettlType(byte value) { builder.add(FixTags.LegSettlType, value); return this; }
+
+		public NoLegsEncoder setLegSettlDate(long timestamp) { builder.addLocalMktDate(FixTags.LegSettlDate, timestamp); return this; }
+
+		public NoLegsEncoder setLegLastPx(double value) { builder.add(FixTags.LegLastPx, value); return this; }
+		public NoLegsEncoder setLegLastPx(long mantissa, int scale) { builder.addDecimal(FixTags.LegLastPx, mantissa, scale); return this; }
+
+		public static final class NoLegSecurityAltIDEncoder extends FlyweightEncoder {
+
+			NoLegSecurityAltIDEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoLegSecurityAltIDEncoder setLegSecurityAltID(CharSequence value) { builder.add(FixTags.LegSecurityAltID, value); return this; }
+
+			public NoLegSecurityAltIDEncoder setLegSecurityAltIDSource(CharSequence value) { builder.add(FixTags.LegSecurityAltIDSource, value); return this; }
+		}
+
+		public static final class NoLegStipulationsEncoder extends FlyweightEncoder {
+
+			NoLegStipulationsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoLegStipulationsEncoder setLegStipulationType(CharSequence value) { builder.add(FixTags.LegStipulationType, value); return this; }
+
+			public NoLegStipulationsEncoder setLegStipulationValue(CharSequence value) { builder.add(FixTags.LegStipulationValue, value); return this; }
+		}
+
+		public static final class NoNestedPartyIDsEncoder extends FlyweightEncoder {
+
+			NoNestedPartyIDsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoNestedPartyIDsEncoder setNestedPartyID(CharSequence value) { builder.add(FixTags.NestedPartyID, value); return this; }
+
+			public NoNestedPartyIDsEncoder setNestedPartyIDSource(byte value) { builder.add(FixTags.NestedPartyIDSource, value); return this; }
+
+			public NoNestedPartyIDsEncoder setNestedPartyRole(int value) { builder.add(FixTags.NestedPartyRole, value); return this; }
+
+			private final NoNestedPartySubIDsEncoder noNestedPartySubIDs = new NoNestedPartySubIDsEncoder();
+			/** Appends NoNestedPartySubIDs(804) group counter. Each group entry must start with NestedPartySubID. */
+			public NoNestedPartySubIDsEncoder setNoNestedPartySubIDs(int count) { builder.add(FixTags.NoNestedPartySubIDs, count); return noNestedPartySubIDs.wrap(builder); }
+
+			public static final class NoNestedPartySubIDsEncoder extends FlyweightEncoder {
+
+				NoNestedPartySubIDsEncoder wrap(MessageBuilder builder) {
+					this.builder = builder;
+					return this;
+				}
+
+				public NoNestedPartySubIDsEncoder setNestedPartySubID(CharSequence value) { builder.add(FixTags.NestedPartySubID, value); return this; }
+
+				public NoNestedPartySubIDsEncoder setNestedPartySubIDType(int value) { builder.add(FixTags.NestedPartySubIDType, value); return this; }
+			}
+		}
+	}
+
+	public static final class NoMiscFeesEncoder extends FlyweightEncoder {
+
+		NoMiscFeesEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoMiscFeesEncoder setMiscFeeAmt(double value) { builder.add(FixTags.MiscFeeAmt, value); return this; }
+		public NoMiscFeesEncoder setMiscFeeAmt(long mantissa, int scale) { builder.addDecimal(FixTags.MiscFeeAmt, mantissa, scale); return this; }
+
+		public NoMiscFeesEncoder setMiscFeeCurr(CharSequence value) { builder.add(FixTags.MiscFeeCurr, value); return this; }
+
+		public NoMiscFeesEncoder setMiscFeeType(MiscFeeType value) { builder.add(FixTags.MiscFeeType, value); return this; }
+		public NoMiscFeesEncoder setMiscFeeType(byte value) { builder.add(FixTags.MiscFeeType, value); return this; }
+
+		public NoMiscFeesEncoder setMiscFeeBasis(MiscFeeBasis value) { builder.add(FixTags.MiscFeeBasis, value); return this; }
+		public NoMiscFeesEncoder setMiscFeeBasis(int value) { builder.add(FixTags.MiscFeeBasis, value); return this; }
+	}
+}
@@ -0,0 +1,761 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec.fix44;
+
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.fields.AccountType;
+import org.f1x.api.message.fields.AcctIDSource;
+import org.f1x.api.message.fields.BenchmarkCurveName;
+import org.f1x.api.message.fields.BenchmarkSecurityIDSource;
+import org.f1x.api.message.fields.BookingType;
+import org.f1x.api.message.fields.BookingUnit;
+import org.f1x.api.message.fields.CancellationRights;
+import org.f1x.api.message.fields.CashMargin;
+import org.f1x.api.message.fields.ClearingFeeIndicator;
+import org.f1x.api.message.fields.CommType;
+import org.f1x.api.message.fields.CoveredOrUncovered;
+import org.f1x.api.message.fields.CustOrderCapacity;
+import org.f1x.api.message.fields.DayBookingInst;
+import org.f1x.api.message.fields.DeliveryType;
+import org.f1x.api.message.fields.DiscretionInst;
+import org.f1x.api.message.fields.DiscretionLimitType;
+import org.f1x.api.message.fields.DiscretionMoveType;
+import org.f1x.api.message.fields.DiscretionOffsetType;
+import org.f1x.api.message.fields.DiscretionRoundDirection;
+import org.f1x.api.message.fields.DiscretionScope;
+import org.f1x.api.message.fields.EventType;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.FundRenewWaiv;
+import org.f1x.api.message.fields.GTBookingInst;
+import org.f1x.api.message.fields.HandlInst;
+import org.f1x.api.message.fields.MoneyLaunderingStatus;
+import org.f1x.api.message.fields.MsgType;
+import org.f1x.api.message.fields.OrdType;
+import org.f1x.api.message.fields.OrderCapacity;
+import org.f1x.api.message.fields.PartyIDSource;
+import org.f1x.api.message.fields.PartyRole;
+import org.f1x.api.message.fields.PegLimitType;
+import org.f1x.api.message.fields.PegMoveType;
+import org.f1x.api.message.fields.PegOffsetType;
+import org.f1x.api.message.fields.PegRoundDirection;
+import org.f1x.api.message.fields.PegScope;
+import org.f1x.api.message.fields.PositionEffect;
+import org.f1x.api.message.fields.PreallocMethod;
+import org.f1x.api.message.fields.PriceType;
+import org.f1x.api.message.fields.ProcessCode;
+import org.f1x.api.message.fields.Product;
+import org.f1x.api.message.fields.QtyType;
+import org.f1x.api.message.fields.RoundingDirection;
+import org.f1x.api.message.fields.SecurityIDSource;
+import org.f1x.api.message.fields.SecurityType;
+import org.f1x.api.message.fields.SettlType;
+import org.f1x.api.message.fields.Side;
+import org.f1x.api.message.fields.StipulationType;
+import org.f1x.api.message.fields.StipulationValue;
+import org.f1x.api.message.fields.SymbolSfx;
+import org.f1x.api.message.fields.TerminationType;
+import org.f1x.api.message.fields.TimeInForce;
+import org.f1x.api.message.fields.YieldType;
+import org.f1x.v1.codec.FlyweightEncoder;
+
+// Generated by org.f1x.tools.DictionaryGenerator from QuickFIX dictionary
+/** Flyweight encoder of NewOrderSingle(D) message */
+public final class NewOrderSingleEncoder extends FlyweightEncoder {
+
+	/** Clears given builder and starts new NewOrderSingle message */
+	public NewOrderSingleEncoder wrap(MessageBuilder builder) {
+		builder.clear();
+		builder.setMessageType(MsgType.ORDER_SINGLE);
+		this.builder = builder;
+		return this;
+	}
+
+	public NewOrderSingleEncoder setClOrdID(CharSequence value) { builder.add(FixTags.ClOrdID, value); return this; }
+
+	public NewOrderSingleEncoder setSecondaryClOrdID(CharSequence value) { builder.add(FixTags.SecondaryClOrdID, value); return this; }
+
+	public NewOrderSingleEncoder setClOrdLinkID(CharSequence value) { builder.add(FixTags.ClOrdLinkID, value); return this; }
+
+	private final NoPartyIDsEncoder noPartyIDs = new NoPartyIDsEncoder();
+	/** Appends NoPartyIDs(453) group counter. Each group entry must start with PartyID. */
+	public NoPartyIDsEncoder setNoPartyIDs(int count) { builder.add(FixTags.NoPartyIDs, count); return noPartyIDs.wrap(builder); }
+
+	public NewOrderSingleEncoder setTradeOriginationDate(long timestamp) { builder.addLocalMktDate(FixTags.TradeOriginationDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setTradeDate(long timestamp) { builder.addLocalMktDate(FixTags.TradeDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setAccount(CharSequence value) { builder.add(FixTags.Account, value); return this; }
+
+	public NewOrderSingleEncoder setAcctIDSource(AcctIDSource value) { builder.add(FixTags.AcctIDSource, value); return this; }
+	public NewOrderSingleEncoder setAcctIDSource(int value) { builder.add(FixTags.AcctIDSource, value); return this; }
+
+	public NewOrderSingleEncoder setAccountType(AccountType value) { builder.add(FixTags.AccountType, value); return this; }
+	public NewOrderSingleEncoder setAccountType(int value) { builder.add(FixTags.AccountType, value); return this; }
+
+	public NewOrderSingleEncoder setDayBookingInst(DayBookingInst value) { builder.add(FixTags.DayBookingInst, value); return this; }
+	public NewOrderSingleEncoder setDayBookingInst(byte value) { builder.add(FixTags.DayBookingInst, value); return this; }
+
+	public NewOrderSingleEncoder setBookingUnit(BookingUnit value) { builder.add(FixTags.BookingUnit, value); return this; }
+	public NewOrderSingleEncoder setBookingUnit(byte value) { builder.add(FixTags.BookingUnit, value); return this; }
+
+	public NewOrderSingleEncoder setPreallocMethod(PreallocMethod value) { builder.add(FixTags.PreallocMethod, value); return this; }
+	public NewOrderSingleEncoder setPreallocMethod(byte value) { builder.add(FixTags.PreallocMethod, value); return this; }
+
+	public NewOrderSingleEncoder setAllocID(CharSequence value) { builder.add(FixTags.AllocID, value); return this; }
+
+	private final NoAllocsEncoder noAllocs = new NoAllocsEncoder();
+	/** Appends NoAllocs(78) group counter. Each group entry must start with AllocAccount. */
+	public NoAllocsEncoder setNoAllocs(int count) { builder.add(FixTags.NoAllocs, count); return noAllocs.wrap(builder); }
+
+	public NewOrderSingleEncoder setSettlType(SettlType value) { builder.add(FixTags.SettlType, value); return this; }
+	public NewOrderSingleEncoder setSettlType(byte value) { builder.add(FixTags.SettlType, value); return this; }
+
+	public NewOrderSingleEncoder setSettlDate(long timestamp) { builder.addLocalMktDate(FixTags.SettlDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setCashMargin(CashMargin value) { builder.add(FixTags.CashMargin, value); return this; }
+	public NewOrderSingleEncoder setCashMargin(byte value) { builder.add(FixTags.CashMargin, value); return this; }
+
+	public NewOrderSingleEncoder setClearingFeeIndicator(ClearingFeeIndicator value) { builder.add(FixTags.ClearingFeeIndicator, value); return this; }
+	public NewOrderSingleEncoder setClearingFeeIndicator(CharSequence value) { builder.add(FixTags.ClearingFeeIndicator, value); return this; }
+
+	public NewOrderSingleEncoder setHandlInst(HandlInst value) { builder.add(FixTags.HandlInst, value); return this; }
+	public NewOrderSingleEncoder setHandlInst(byte value) { builder.add(FixTags.HandlInst, value); return this; }
+
+	public NewOrderSingleEncoder setExecInst(CharSequence value) { builder.add(FixTags.ExecInst, value); return this; }
+
+	public NewOrderSingleEncoder setMinQty(double value) { builder.add(FixTags.MinQty, value); return this; }
+	public NewOrderSingleEncoder setMinQty(long mantissa, int scale) { builder.addDecimal(FixTags.MinQty, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setMaxFloor(double value) { builder.add(FixTags.MaxFloor, value); return this; }
+	public NewOrderSingleEncoder setMaxFloor(long mantissa, int scale) { builder.addDecimal(FixTags.MaxFloor, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setExDestination(CharSequence value) { builder.add(FixTags.ExDestination, value); return this; }
+
+	private final NoTradingSessionsEncoder noTradingSessions = new NoTradingSessionsEncoder();
+	/** Appends NoTradingSessions(386) group counter. Each group entry must start with TradingSessionID. */
+	public NoTradingSessionsEncoder setNoTradingSessions(int count) { builder.add(FixTags.NoTradingSessions, count); return noTradingSessions.wrap(builder); }
+
+	public NewOrderSingleEncoder setProcessCode(ProcessCode value) { builder.add(FixTags.ProcessCode, value); return this; }
+	public NewOrderSingleEncoder setProcessCode(byte value) { builder.add(FixTags.ProcessCode, value); return this; }
+
+	public NewOrderSingleEncoder setSymbol(CharSequence value) { builder.add(FixTags.Symbol, value); return this; }
+
+	public NewOrderSingleEncoder setSymbolSfx(SymbolSfx value) { builder.add(FixTags.SymbolSfx, value); return this; }
+	public NewOrderSingleEncoder setSymbolSfx(CharSequence value) { builder.add(FixTags.SymbolSfx, value); return this; }
+
+	public NewOrderSingleEncoder setSecurityID(CharSequence value) { builder.add(FixTags.SecurityID, value); return this; }
+
+	public NewOrderSingleEncoder setSecurityIDSource(SecurityIDSource value) { builder.add(FixTags.SecurityIDSource, value); return this; }
+	public NewOrderSingleEncoder setSecurityIDSource(CharSequence value) { builder.add(FixTags.SecurityIDSource, value); return this; }
+
+	private final NoSecurityAltIDEncoder noSecurityAltID = new NoSecurityAltIDEncoder();
+	/** Appends NoSecurityAltID(454) group counter. Each group entry must start with SecurityAltID. */
+	public NoSecurityAltIDEncoder setNoSecurityAltID(int count) { builder.add(FixTags.NoSecurityAltID, count); return noSecurityAltID.wrap(builder); }
+
+	public NewOrderSingleEncoder setProduct(Product value) { builder.add(FixTags.Product, value); return this; }
+	public NewOrderSingleEncoder setProduct(int value) { builder.add(FixTags.Product, value); return this; }
+
+	public NewOrderSingleEncoder setCFICode(CharSequence value) { builder.add(FixTags.CFICode, value); return this; }
+
+	public NewOrderSingleEncoder setSecurityType(SecurityType value) { builder.add(FixTags.SecurityType, value); return this; }
+	public NewOrderSingleEncoder setSecurityType(CharSequence value) { builder.add(FixTags.SecurityType, value); return this; }
+
+	public NewOrderSingleEncoder setSecuritySubType(CharSequence value) { builder.add(FixTags.SecuritySubType, value); return this; }
+
+	public NewOrderSingleEncoder setMaturityMonthYear(CharSequence value) { builder.add(FixTags.MaturityMonthYear, value); return this; }
+
+	public NewOrderSingleEncoder setMaturityDate(long timestamp) { builder.addLocalMktDate(FixTags.MaturityDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setCouponPaymentDate(long timestamp) { builder.addLocalMktDate(FixTags.CouponPaymentDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setIssueDate(long timestamp) { builder.addLocalMktDate(FixTags.IssueDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setRepoCollateralSecurityType(int value) { builder.add(FixTags.RepoCollateralSecurityType, value); return this; }
+
+	public NewOrderSingleEncoder setRepurchaseTerm(int value) { builder.add(FixTags.RepurchaseTerm, value); return this; }
+
+	public NewOrderSingleEncoder setRepurchaseRate(double value) { builder.add(FixTags.RepurchaseRate, value); return this; }
+	public NewOrderSingleEncoder setRepurchaseRate(long mantissa, int scale) { builder.addDecimal(FixTags.RepurchaseRate, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setFactor(double value) { builder.add(FixTags.Factor, value); return this; }
+	public NewOrderSingleEncoder setFactor(long mantissa, int scale) { builder.addDecimal(FixTags.Factor, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setCreditRating(CharSequence value) { builder.add(FixTags.CreditRating, value); return this; }
+
+	public NewOrderSingleEncoder setInstrRegistry(CharSequence value) { builder.add(FixTags.InstrRegistry, value); return this; }
+
+	public NewOrderSingleEncoder setCountryOfIssue(CharSequence value) { builder.add(FixTags.CountryOfIssue, value); return this; }
+
+	public NewOrderSingleEncoder setStateOrProvinceOfIssue(CharSequence value) { builder.add(FixTags.StateOrProvinceOfIssue, value); return this; }
+
+	public NewOrderSingleEncoder setLocaleOfIssue(CharSequence value) { builder.add(FixTags.LocaleOfIssue, value); return this; }
+
+	public NewOrderSingleEncoder setRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.RedemptionDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setStrikePrice(double value) { builder.add(FixTags.StrikePrice, value); return this; }
+	public NewOrderSingleEncoder setStrikePrice(long mantissa, int scale) { builder.addDecimal(FixTags.StrikePrice, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setStrikeCurrency(CharSequence value) { builder.add(FixTags.StrikeCurrency, value); return this; }
+
+	public NewOrderSingleEncoder setOptAttribute(byte value) { builder.add(FixTags.OptAttribute, value); return this; }
+
+	public NewOrderSingleEncoder setContractMultiplier(double value) { builder.add(FixTags.ContractMultiplier, value); return this; }
+	public NewOrderSingleEncoder setContractMultiplier(long mantissa, int scale) { builder.addDecimal(FixTags.ContractMultiplier, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setCouponRate(double value) { builder.add(FixTags.CouponRate, value); return this; }
+	public NewOrderSingleEncoder setCouponRate(long mantissa, int scale) { builder.addDecimal(FixTags.CouponRate, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setSecurityExchange(CharSequence value) { builder.add(FixTags.SecurityExchange, value); return this; }
+
+	public NewOrderSingleEncoder setIssuer(CharSequence value) { builder.add(FixTags.Issuer, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedIssuerLen(int value) { builder.add(FixTags.EncodedIssuerLen, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedIssuer(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedIssuer, buffer, offset, length); return this; }
+
+	public NewOrderSingleEncoder setSecurityDesc(CharSequence value) { builder.add(FixTags.SecurityDesc, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedSecurityDescLen(int value) { builder.add(FixTags.EncodedSecurityDescLen, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedSecurityDesc(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedSecurityDesc, buffer, offset, length); return this; }
+
+	public NewOrderSingleEncoder setPool(CharSequence value) { builder.add(FixTags.Pool, value); return this; }
+
+	public NewOrderSingleEncoder setContractSettlMonth(CharSequence value) { builder.add(FixTags.ContractSettlMonth, value); return this; }
+
+	public NewOrderSingleEncoder setCPProgram(int value) { builder.add(FixTags.CPProgram, value); return this; }
+
+	public NewOrderSingleEncoder setCPRegType(CharSequence value) { builder.add(FixTags.CPRegType, value); return this; }
+
+	private final NoEventsEncoder noEvents = new NoEventsEncoder();
+	/** Appends NoEvents(864) group counter. Each group entry must start with EventType. */
+	public NoEventsEncoder setNoEvents(int count) { builder.add(FixTags.NoEvents, count); return noEvents.wrap(builder); }
+
+	public NewOrderSingleEncoder setDatedDate(long timestamp) { builder.addLocalMktDate(FixTags.DatedDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setInterestAccrualDate(long timestamp) { builder.addLocalMktDate(FixTags.InterestAccrualDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setAgreementDesc(CharSequence value) { builder.add(FixTags.AgreementDesc, value); return this; }
+
+	public NewOrderSingleEncoder setAgreementID(CharSequence value) { builder.add(FixTags.AgreementID, value); return this; }
+
+	public NewOrderSingleEncoder setAgreementDate(long timestamp) { builder.addLocalMktDate(FixTags.AgreementDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setAgreementCurrency(CharSequence value) { builder.add(FixTags.AgreementCurrency, value); return this; }
+
+	public NewOrderSingleEncoder setTerminationType(TerminationType value) { builder.add(FixTags.TerminationType, value); return this; }
+	public NewOrderSingleEncoder setTerminationType(int value) { builder.add(FixTags.TerminationType, value); return this; }
+
+	public NewOrderSingleEncoder setStartDate(long timestamp) { builder.addLocalMktDate(FixTags.StartDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setEndDate(long timestamp) { builder.addLocalMktDate(FixTags.EndDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setDeliveryType(DeliveryType value) { builder.add(FixTags.DeliveryType, value); return this; }
+	public NewOrderSingleEncoder setDeliveryType(int value) { builder.add(FixTags.DeliveryType, value); return this; }
+
+	public NewOrderSingleEncoder setMarginRatio(double value) { builder.add(FixTags.MarginRatio, value); return this; }
+	public NewOrderSingleEncoder setMarginRatio(long mantissa, int scale) { builder.addDecimal(FixTags.MarginRatio, mantissa, scale); return this; }
+
+	private final NoUnderlyingsEncoder noUnderlyings = new NoUnderlyingsEncoder();
+	/** Appends NoUnderlyings(711) group counter. Each group entry must start with UnderlyingSymbol. */
+	public NoUnderlyingsEncoder setNoUnderlyings(int count) { builder.add(FixTags.NoUnderlyings, count); return noUnderlyings.wrap(builder); }
+
+	public NewOrderSingleEncoder setPrevClosePx(double value) { builder.add(FixTags.PrevClosePx, value); return this; }
+	public NewOrderSingleEncoder setPrevClosePx(long mantissa, int scale) { builder.addDecimal(FixTags.PrevClosePx, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setSide(Side value) { builder.add(FixTags.Side, value); return this; }
+	public NewOrderSingleEncoder setSide(byte value) { builder.add(FixTags.Side, value); return this; }
+
+	public NewOrderSingleEncoder setLocateReqd(boolean value) { builder.add(FixTags.LocateReqd, value); return this; }
+
+	public NewOrderSingleEncoder setTransactTime(long timestamp) { builder.addUTCTimestamp(FixTags.TransactTime, timestamp); return this; }
+
+	private final NoStipulationsEncoder noStipulations = new NoStipulationsEncoder();
+	/** Appends NoStipulations(232) group counter. Each group entry must start with StipulationType. */
+	public NoStipulationsEncoder setNoStipulations(int count) { builder.add(FixTags.NoStipulations, count); return noStipulations.wrap(builder); }
+
+	public NewOrderSingleEncoder setQtyType(QtyType value) { builder.add(FixTags.QtyType, value); return this; }
+	public NewOrderSingleEncoder setQtyType(int value) { builder.add(FixTags.QtyType, value); return this; }
+
+	public NewOrderSingleEncoder setOrderQty(double value) { builder.add(FixTags.OrderQty, value); return this; }
+	public NewOrderSingleEncoder setOrderQty(long mantissa, int scale) { builder.addDecimal(FixTags.OrderQty, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setCashOrderQty(double value) { builder.add(FixTags.CashOrderQty, value); return this; }
+	public NewOrderSingleEncoder setCashOrderQty(long mantissa, int scale) { builder.addDecimal(FixTags.CashOrderQty, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setOrderPercent(double value) { builder.add(FixTags.OrderPercent, value); return this; }
+	public NewOrderSingleEncoder setOrderPercent(long mantissa, int scale) { builder.addDecimal(FixTags.OrderPercent, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setRoundingDirection(RoundingDirection value) { builder.add(FixTags.RoundingDirection, value); return this; }
+	public NewOrderSingleEncoder setRoundingDirection(byte value) { builder.add(FixTags.RoundingDirection, value); return this; }
+
+	public NewOrderSingleEncoder setRoundingModulus(double value) { builder.add(FixTags.RoundingModulus, value); return this; }
+	public NewOrderSingleEncoder setRoundingModulus(long mantissa, int scale) { builder.addDecimal(FixTags.RoundingModulus, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setOrdType(OrdType value) { builder.add(FixTags.OrdType, value); return this; }
+	public NewOrderSingleEncoder setOrdType(byte value) { builder.add(FixTags.OrdType, value); return this; }
+
+	public NewOrderSingleEncoder setPriceType(PriceType value) { builder.add(FixTags.PriceType, value); return this; }
+	public NewOrderSingleEncoder setPriceType(int value) { builder.add(FixTags.PriceType, value); return this; }
+
+	public NewOrderSingleEncoder setPrice(double value) { builder.add(FixTags.Price, value); return this; }
+	public NewOrderSingleEncoder setPrice(long mantissa, int scale) { builder.addDecimal(FixTags.Price, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setStopPx(double value) { builder.add(FixTags.StopPx, value); return this; }
+	public NewOrderSingleEncoder setStopPx(long mantissa, int scale) { builder.addDecimal(FixTags.StopPx, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setSpread(double value) { builder.add(FixTags.Spread, value); return this; }
+	public NewOrderSingleEncoder setSpread(long mantissa, int scale) { builder.addDecimal(FixTags.Spread, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkCurveCurrency(CharSequence value) { builder.add(FixTags.BenchmarkCurveCurrency, value); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkCurveName(BenchmarkCurveName value) { builder.add(FixTags.BenchmarkCurveName, value); return this; }
+	public NewOrderSingleEncoder setBenchmarkCurveName(CharSequence value) { builder.add(FixTags.BenchmarkCurveName, value); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkCurvePoint(CharSequence value) { builder.add(FixTags.BenchmarkCurvePoint, value); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkPrice(double value) { builder.add(FixTags.BenchmarkPrice, value); return this; }
+	public NewOrderSingleEncoder setBenchmarkPrice(long mantissa, int scale) { builder.addDecimal(FixTags.BenchmarkPrice, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkPriceType(int value) { builder.add(FixTags.BenchmarkPriceType, value); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkSecurityID(CharSequence value) { builder.add(FixTags.BenchmarkSecurityID, value); return this; }
+
+	public NewOrderSingleEncoder setBenchmarkSecurityIDSource(BenchmarkSecurityIDSource value) { builder.add(FixTags.BenchmarkSecurityIDSource, value); return this; }
+	public NewOrderSingleEncoder setBenchmarkSecurityIDSource(CharSequence value) { builder.add(FixTags.BenchmarkSecurityIDSource, value); return this; }
+
+	public NewOrderSingleEncoder setYieldType(YieldType value) { builder.add(FixTags.YieldType, value); return this; }
+	public NewOrderSingleEncoder setYieldType(CharSequence value) { builder.add(FixTags.YieldType, value); return this; }
+
+	public NewOrderSingleEncoder setYield(double value) { builder.add(FixTags.Yield, value); return this; }
+	public NewOrderSingleEncoder setYield(long mantissa, int scale) { builder.addDecimal(FixTags.Yield, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setYieldCalcDate(long timestamp) { builder.addLocalMktDate(FixTags.YieldCalcDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setYieldRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.YieldRedemptionDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setYieldRedemptionPrice(double value) { builder.add(FixTags.YieldRedemptionPrice, value); return this; }
+	public NewOrderSingleEncoder setYieldRedemptionPrice(long mantissa, int scale) { builder.addDecimal(FixTags.YieldRedemptionPrice, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setYieldRedemptionPriceType(int value) { builder.add(FixTags.YieldRedemptionPriceType, value); return this; }
+
+	public NewOrderSingleEncoder setCurrency(CharSequence value) { builder.add(FixTags.Currency, value); return this; }
+
+	public NewOrderSingleEncoder setComplianceID(CharSequence value) { builder.add(FixTags.ComplianceID, value); return this; }
+
+	public NewOrderSingleEncoder setSolicitedFlag(boolean value) { builder.add(FixTags.SolicitedFlag, value); return this; }
+
+	public NewOrderSingleEncoder setIOIid(CharSequence value) { builder.add(FixTags.IOIid, value); return this; }
+
+	public NewOrderSingleEncoder setQuoteID(CharSequence value) { builder.add(FixTags.QuoteID, value); return this; }
+
+	public NewOrderSingleEncoder setTimeInForce(TimeInForce value) { builder.add(FixTags.TimeInForce, value); return this; }
+	public NewOrderSingleEncoder setTimeInForce(byte value) { builder.add(FixTags.TimeInForce, value); return this; }
+
+	public NewOrderSingleEncoder setEffectiveTime(long timestamp) { builder.addUTCTimestamp(FixTags.EffectiveTime, timestamp); return this; }
+
+	public NewOrderSingleEncoder setExpireDate(long timestamp) { builder.addLocalMktDate(FixTags.ExpireDate, timestamp); return this; }
+
+	public NewOrderSingleEncoder setExpireTime(long timestamp) { builder.addUTCTimestamp(FixTags.ExpireTime, timestamp); return this; }
+
+	public NewOrderSingleEncoder setGTBookingInst(GTBookingInst value) { builder.add(FixTags.GTBookingInst, value); return this; }
+	public NewOrderSingleEncoder setGTBookingInst(int value) { builder.add(FixTags.GTBookingInst, value); return this; }
+
+	public NewOrderSingleEncoder setCommission(double value) { builder.add(FixTags.Commission, value); return this; }
+	public NewOrderSingleEncoder setCommission(long mantissa, int scale) { builder.addDecimal(FixTags.Commission, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setCommType(CommType value) { builder.add(FixTags.CommType, value); return this; }
+	public NewOrderSingleEncoder setCommType(byte value) { builder.add(FixTags.CommType, value); return this; }
+
+	public NewOrderSingleEncoder setCommCurrency(CharSequence value) { builder.add(FixTags.CommCurrency, value); return this; }
+
+	public NewOrderSingleEncoder setFundRenewWaiv(FundRenewWaiv value) { builder.add(FixTags.FundRenewWaiv, value); return this; }
+	public NewOrderSingleEncoder setFundRenewWaiv(byte value) { builder.add(FixTags.FundRenewWaiv, value); return this; }
+
+	public NewOrderSingleEncoder setOrderCapacity(OrderCapacity value) { builder.add(FixTags.OrderCapacity, value); return this; }
+	public NewOrderSingleEncoder setOrderCapacity(byte value) { builder.add(FixTags.OrderCapacity, value); return this; }
+
+	public NewOrderSingleEncoder setOrderRestrictions(CharSequence value) { builder.add(FixTags.OrderRestrictions, value); return this; }
+
+	public NewOrderSingleEncoder setCustOrderCapacity(CustOrderCapacity value) { builder.add(FixTags.CustOrderCapacity, value); return this; }
+	public NewOrderSingleEncoder setCustOrderCapacity(int value) { builder.add(FixTags.CustOrderCapacity, value); return this; }
+
+	public NewOrderSingleEncoder setForexReq(boolean value) { builder.add(FixTags.ForexReq, value); return this; }
+
+	public NewOrderSingleEncoder setSettlCurrency(CharSequence value) { builder.add(FixTags.SettlCurrency, value); return this; }
+
+	public NewOrderSingleEncoder setBookingType(BookingType value) { builder.add(FixTags.BookingType, value); return this; }
+	public NewOrderSingleEncoder setBookingType(int value) { builder.add(FixTags.BookingType, value); return this; }
+
+	public NewOrderSingleEncoder setText(CharSequence value) { builder.add(FixTags.Text, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedTextLen(int value) { builder.add(FixTags.EncodedTextLen, value); return this; }
+
+	public NewOrderSingleEncoder setEncodedText(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedText, buffer, offset, length); return this; }
+
+	public NewOrderSingleEncoder setSettlDate2(long timestamp) { builder.addLocalMktDate(FixTags.SettlDate2, timestamp); return this; }
+
+	public NewOrderSingleEncoder setOrderQty2(double value) { builder.add(FixTags.OrderQty2, value); return this; }
+	public NewOrderSingleEncoder setOrderQty2(long mantissa, int scale) { builder.addDecimal(FixTags.OrderQty2, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setPrice2(double value) { builder.add(FixTags.Price2, value); return this; }
+	public NewOrderSingleEncoder setPrice2(long mantissa, int scale) { builder.addDecimal(FixTags.Price2, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setPositionEffect(PositionEffect value) { builder.add(FixTags.PositionEffect, value); return this; }
+	public NewOrderSingleEncoder setPositionEffect(byte value) { builder.add(FixTags.PositionEffect, value); return this; }
+
+	public NewOrderSingleEncoder setCoveredOrUncovered(CoveredOrUncovered value) { builder.add(FixTags.CoveredOrUncovered, value); return this; }
+	public NewOrderSingleEncoder setCoveredOrUncovered(int value) { builder.add(FixTags.CoveredOrUncovered, value); return this; }
+
+	public NewOrderSingleEncoder setMaxShow(double value) { builder.add(FixTags.MaxShow, value); return this; }
+	public NewOrderSingleEncoder setMaxShow(long mantissa, int scale) { builder.addDecimal(FixTags.MaxShow, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setPegOffsetValue(double value) { builder.add(FixTags.PegOffsetValue, value); return this; }
+	public NewOrderSingleEncoder setPegOffsetValue(long mantissa, int scale) { builder.addDecimal(FixTags.PegOffsetValue, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setPegMoveType(PegMoveType value) { builder.add(FixTags.PegMoveType, value); return this; }
+	public NewOrderSingleEncoder setPegMoveType(int value) { builder.add(FixTags.PegMoveType, value); return this; }
+
+	public NewOrderSingleEncoder setPegOffsetType(PegOffsetType value) { builder.add(FixTags.PegOffsetType, value); return this; }
+	public NewOrderSingleEncoder setPegOffsetType(int value) { builder.add(FixTags.PegOffsetType, value); return this; }
+
+	public NewOrderSingleEncoder setPegLimitType(PegLimitType value) { builder.add(FixTags.PegLimitType, value); return this; }
+	public NewOrderSingleEncoder setPegLimitType(int value) { builder.add(FixTags.PegLimitType, value); return this; }
+
+	public NewOrderSingleEncoder setPegRoundDirection(PegRoundDirection value) { builder.add(FixTags.PegRoundDirection, value); return this; }
+	public NewOrderSingleEncoder setPegRoundDirection(int value) { builder.add(FixTags.PegRoundDirection, value); return this; }
+
+	public NewOrderSingleEncoder setPegScope(PegScope value) { builder.add(FixTags.PegScope, value); return this; }
+	public NewOrderSingleEncoder setPegScope(int value) { builder.add(FixTags.PegScope, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionInst(DiscretionInst value) { builder.add(FixTags.DiscretionInst, value); return this; }
+	public NewOrderSingleEncoder setDiscretionInst(byte value) { builder.add(FixTags.DiscretionInst, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionOffsetValue(double value) { builder.add(FixTags.DiscretionOffsetValue, value); return this; }
+	public NewOrderSingleEncoder setDiscretionOffsetValue(long mantissa, int scale) { builder.addDecimal(FixTags.DiscretionOffsetValue, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setDiscretionMoveType(DiscretionMoveType value) { builder.add(FixTags.DiscretionMoveType, value); return this; }
+	public NewOrderSingleEncoder setDiscretionMoveType(int value) { builder.add(FixTags.DiscretionMoveType, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionOffsetType(DiscretionOffsetType value) { builder.add(FixTags.DiscretionOffsetType, value); return this; }
+	public NewOrderSingleEncoder setDiscretionOffsetType(int value) { builder.add(FixTags.DiscretionOffsetType, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionLimitType(DiscretionLimitType value) { builder.add(FixTags.DiscretionLimitType, value); return this; }
+	public NewOrderSingleEncoder setDiscretionLimitType(int value) { builder.add(FixTags.DiscretionLimitType, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionRoundDirection(DiscretionRoundDirection value) { builder.add(FixTags.DiscretionRoundDirection, value); return this; }
+	public NewOrderSingleEncoder setDiscretionRoundDirection(int value) { builder.add(FixTags.DiscretionRoundDirection, value); return this; }
+
+	public NewOrderSingleEncoder setDiscretionScope(DiscretionScope value) { builder.add(FixTags.DiscretionScope, value); return this; }
+	public NewOrderSingleEncoder setDiscretionScope(int value) { builder.add(FixTags.DiscretionScope, value); return this; }
+
+	public NewOrderSingleEncoder setTargetStrategy(int value) { builder.add(FixTags.TargetStrategy, value); return this; }
+
+	public NewOrderSingleEncoder setTargetStrategyParameters(CharSequence value) { builder.add(FixTags.TargetStrategyParameters, value); return this; }
+
+	public NewOrderSingleEncoder setParticipationRate(double value) { builder.add(FixTags.ParticipationRate, value); return this; }
+	public NewOrderSingleEncoder setParticipationRate(long mantissa, int scale) { builder.addDecimal(FixTags.ParticipationRate, mantissa, scale); return this; }
+
+	public NewOrderSingleEncoder setCancellationRights(CancellationRights value) { builder.add(FixTags.CancellationRights, value); return this; }
+	public NewOrderSingleEncoder setCancellationRights(byte value) { builder.add(FixTags.CancellationRights, value); return this; }
+
+	public NewOrderSingleEncoder setMoneyLaunderingStatus(MoneyLaunderingStatus value) { builder.add(FixTags.MoneyLaunderingStatus, value); return this; }
+	public NewOrderSingleEncoder setMoneyLaunderingStatus(byte value) { builder.add(FixTags.MoneyLaunderingStatus, value); return this; }
+
+	public NewOrderSingleEncoder setRegistID(CharSequence value) { builder.add(FixTags.RegistID, value); return this; }
+
+	public NewOrderSingleEncoder setDesignation(CharSequence value) { builder.add(FixTags.Designation, value); return this; }
+
+	public static final class NoPartyIDsEncoder extends FlyweightEncoder {
+
+		NoPartyIDsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoPartyIDsEncoder setPartyID(CharSequence value) { builder.add(FixTags.PartyID, value); return this; }
+
+		public NoPartyIDsEncoder setPartyIDSource(PartyIDSource value) { builder.add(FixTags.PartyIDSource, value); return this; }
+		public NoPartyIDsEncoder setPartyIDSource(byte value) { builder.add(FixTags.PartyIDSource, value); return this; }
+
+		public NoPartyIDsEncoder setPartyRole(PartyRole value) { builder.add(FixTags.PartyRole, value); return this; }
+		public NoPartyIDsEncoder setPartyRole(int value) { builder.add(FixTags.PartyRole, value); return this; }
+
+		private final NoPartySubIDsEncoder noPartySubIDs = new NoPartySubIDsEncoder();
+		/** Appends NoPartySubIDs(802) group counter. Each group entry must start with PartySubID. */
+		public NoPartySubIDsEncoder setNoPartySubIDs(int count) { builder.add(FixTags.NoPartySubIDs, count); return noPartySubIDs.wrap(builder); }
+
+		public static final class NoPartySubIDsEncoder extends FlyweightEncoder {
+
+			NoPartySubIDsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoPartySubIDsEncoder setPartySubID(CharSequence value) { builder.add(FixTags.PartySubID, value); return this; }
+
+			public NoPartySubIDsEncoder setPartySubIDType(int value) { builder.add(FixTags.PartySubIDType, value); return this; }
+		}
+	}
+
+	public static final class NoAllocsEncoder extends FlyweightEncoder {
+
+		NoAllocsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoAllocsEncoder setAllocAccount(CharSequence value) { builder.add(FixTags.AllocAccount, value); return this; }
+
+		public NoAllocsEncoder setAllocAcctIDSource(int value) { builder.add(FixTags.AllocAcctIDSource, value); return this; }
+
+		public NoAllocsEncoder setAllocSettlCurrency(CharSequence value) { builder.add(FixTags.AllocSettlCurrency, value); return this; }
+
+		public NoAllocsEncoder setIndividualAllocID(CharSequence value) { builder.add(FixTags.IndividualAllocID, value); return this; }
+
+		private final NoNestedPartyIDsEncoder noNestedPartyIDs = new NoNestedPartyIDsEncoder();
+		/** Appends NoNestedPartyIDs(539) group counter. Each group entry must start with NestedPartyID. */
+		public NoNestedPartyIDsEncoder setNoNestedPartyIDs(int count) { builder.add(FixTags.NoNestedPartyIDs, count); return noNestedPartyIDs.wrap(builder); }
+
+		public NoAllocsEncoder setAllocQty(double value) { builder.add(FixTags.AllocQty, value); return this; }
+		public NoAllocsEncoder setAllocQty(long mantissa, int scale) { builder.addDecimal(FixTags.AllocQty, mantissa, scale); return this; }
+
+		public static final class NoNestedPartyIDsEncoder extends FlyweightEncoder {
+
+			NoNestedPartyIDsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoNestedPartyIDsEncoder setNestedPartyID(CharSequence value) { builder.add(FixTags.NestedPartyID, value); return this; }
+
+			public NoNestedPartyIDsEncoder setNestedPartyIDSource(byte value) { builder.add(FixTags.NestedPartyIDSource, value); return this; }
+
+			public NoNestedPartyIDsEncoder setNestedPartyRole(int value) { builder.add(FixTags.NestedPartyRole, value); return this; }
+
+			private final NoNestedPartySubIDsEncoder noNestedPartySubIDs = new NoNestedPartySubIDsEncoder();
+			/** Appends NoNestedPartySubIDs(804) group counter. Each group entry must start with NestedPartySubID. */
+			public NoNestedPartySubIDsEncoder setNoNestedPartySubIDs(int count) { builder.add(FixTags.NoNestedPartySubIDs, count); return noNestedPartySubIDs.wrap(builder); }
+
+			public static final class NoNestedPartySubIDsEncoder extends FlyweightEncoder {
+
+				NoNestedPartySubIDsEncoder wrap(MessageBuilder builder) {
+					this.builder = builder;
+					return this;
+				}
+
+				public NoNestedPartySubIDsEncoder setNestedPartySubID(CharSequence value) { builder.add(FixTags.NestedPartySubID, value); return this; }
+
+				public NoNestedPartySubIDsEncoder setNestedPartySubIDType(int value) { builder.add(FixTags.NestedPartySubIDType, value); return this; }
+			}
+		}
+	}
+
+	public static final class NoTradingSessionsEncoder extends FlyweightEncoder {
+
+		NoTradingSessionsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoTradingSessionsEncoder setTradingSessionID(CharSequence value) { builder.add(FixTags.TradingSessionID, value); return this; }
+
+		public NoTradingSessionsEncoder setTradingSessionSubID(CharSequence value) { builder.add(FixTags.TradingSessionSubID, value); return this; }
+	}
+
+	public static final class NoSecurityAltIDEncoder extends FlyweightEncoder {
+
+		NoSecurityAltIDEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoSecurityAltIDEncoder setSecurityAltID(CharSequence value) { builder.add(FixTags.SecurityAltID, value); return this; }
+
+		public NoSecurityAltIDEncoder setSecurityAltIDSource(CharSequence value) { builder.add(FixTags.SecurityAltIDSource, value); return this; }
+	}
+
+	public static final class NoEventsEncoder extends FlyweightEncoder {
+
+		NoEventsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoEventsEncoder setEventType(EventType value) { builder.add(FixTags.EventType, value); return this; }
+		public NoEventsEncoder setEventType(int value) { builder.add(FixTags.EventType, value); return this; }
+
+		public NoEventsEncoder setEventDate(long timestamp) { builder.addLocalMktDate(FixTags.EventDate, timestamp); return this; }
+
+		public NoEventsEncoder setEventPx(double value) { builder.add(FixTags.EventPx, value); return this; }
+		public NoEventsEncoder setEventPx(long mantissa, int scale) { builder.addDecimal(FixTags.EventPx, mantissa, scale); return this; }
+
+		public NoEventsEncoder setEventText(CharSequence value) { builder.add(FixTags.EventText, value); return this; }
+	}
+
+	public static final class NoUnderlyingsEncoder extends FlyweightEncoder {
+
+		NoUnderlyingsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoUnderlyingsEncoder setUnderlyingSymbol(CharSequence value) { builder.add(FixTags.UnderlyingSymbol, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSymbolSfx(CharSequence value) { builder.add(FixTags.UnderlyingSymbolSfx, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityID(CharSequence value) { builder.add(FixTags.UnderlyingSecurityID, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityIDSource(CharSequence value) { builder.add(FixTags.UnderlyingSecurityIDSource, value); return this; }
+
+		private final NoUnderlyingSecurityAltIDEncoder noUnderlyingSecurityAltID = new NoUnderlyingSecurityAltIDEncoder();
+		/** Appends NoUnderlyingSecurityAltID(457) group counter. Each group entry must start with UnderlyingSecurityAltID. */
+		public NoUnderlyingSecurityAltIDEncoder setNoUnderlyingSecurityAltID(int count) { builder.add(FixTags.NoUnderlyingSecurityAltID, count); return noUnderlyingSecurityAltID.wrap(builder); }
+
+		public NoUnderlyingsEncoder setUnderlyingProduct(int value) { builder.add(FixTags.UnderlyingProduct, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCFICode(CharSequence value) { builder.add(FixTags.UnderlyingCFICode, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityType(CharSequence value) { builder.add(FixTags.UnderlyingSecurityType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecuritySubType(CharSequence value) { builder.add(FixTags.UnderlyingSecuritySubType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingMaturityMonthYear(CharSequence value) { builder.add(FixTags.UnderlyingMaturityMonthYear, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingMaturityDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingMaturityDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCouponPaymentDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingCouponPaymentDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingIssueDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingIssueDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepoCollateralSecurityType(int value) { builder.add(FixTags.UnderlyingRepoCollateralSecurityType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseTerm(int value) { builder.add(FixTags.UnderlyingRepurchaseTerm, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseRate(double value) { builder.add(FixTags.UnderlyingRepurchaseRate, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingRepurchaseRate(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingRepurchaseRate, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingFactor(double value) { builder.add(FixTags.UnderlyingFactor, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingFactor(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingFactor, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCreditRating(CharSequence value) { builder.add(FixTags.UnderlyingCreditRating, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingInstrRegistry(CharSequence value) { builder.add(FixTags.UnderlyingInstrRegistry, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCountryOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingCountryOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStateOrProvinceOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingStateOrProvinceOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingLocaleOfIssue(CharSequence value) { builder.add(FixTags.UnderlyingLocaleOfIssue, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingRedemptionDate(long timestamp) { builder.addLocalMktDate(FixTags.UnderlyingRedemptionDate, timestamp); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStrikePrice(double value) { builder.add(FixTags.UnderlyingStrikePrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingStrikePrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingStrikePrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStrikeCurrency(CharSequence value) { builder.add(FixTags.UnderlyingStrikeCurrency, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingOptAttribute(byte value) { builder.add(FixTags.UnderlyingOptAttribute, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingContractMultiplier(double value) { builder.add(FixTags.UnderlyingContractMultiplier, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingContractMultiplier(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingContractMultiplier, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCouponRate(double value) { builder.add(FixTags.UnderlyingCouponRate, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingCouponRate(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingCouponRate, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityExchange(CharSequence value) { builder.add(FixTags.UnderlyingSecurityExchange, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingIssuer(CharSequence value) { builder.add(FixTags.UnderlyingIssuer, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingIssuerLen(int value) { builder.add(FixTags.EncodedUnderlyingIssuerLen, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingIssuer(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedUnderlyingIssuer, buffer, offset, length); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingSecurityDesc(CharSequence value) { builder.add(FixTags.UnderlyingSecurityDesc, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingSecurityDescLen(int value) { builder.add(FixTags.EncodedUnderlyingSecurityDescLen, value); return this; }
+
+		public NoUnderlyingsEncoder setEncodedUnderlyingSecurityDesc(byte[] buffer, int offset, int length) { builder.addRaw(FixTags.EncodedUnderlyingSecurityDesc, buffer, offset, length); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCPProgram(CharSequence value) { builder.add(FixTags.UnderlyingCPProgram, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCPRegType(CharSequence value) { builder.add(FixTags.UnderlyingCPRegType, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCurrency(CharSequence value) { builder.add(FixTags.UnderlyingCurrency, value); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingQty(double value) { builder.add(FixTags.UnderlyingQty, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingQty(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingQty, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingPx(double value) { builder.add(FixTags.UnderlyingPx, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingPx(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingPx, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingDirtyPrice(double value) { builder.add(FixTags.UnderlyingDirtyPrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingDirtyPrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingDirtyPrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingEndPrice(double value) { builder.add(FixTags.UnderlyingEndPrice, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingEndPrice(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingEndPrice, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingStartValue(double value) { builder.add(FixTags.UnderlyingStartValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingStartValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingStartValue, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingCurrentValue(double value) { builder.add(FixTags.UnderlyingCurrentValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingCurrentValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingCurrentValue, mantissa, scale); return this; }
+
+		public NoUnderlyingsEncoder setUnderlyingEndValue(double value) { builder.add(FixTags.UnderlyingEndValue, value); return this; }
+		public NoUnderlyingsEncoder setUnderlyingEndValue(long mantissa, int scale) { builder.addDecimal(FixTags.UnderlyingEndValue, mantissa, scale); return this; }
+
+		private final NoUnderlyingStipsEncoder noUnderlyingStips = new NoUnderlyingStipsEncoder();
+		/** Appends NoUnderlyingStips(887) group counter. Each group entry must start with UnderlyingStipType. */
+		public NoUnderlyingStipsEncoder setNoUnderlyingStips(int count) { builder.add(FixTags.NoUnderlyingStips, count); return noUnderlyingStips.wrap(builder); }
+
+		public static final class NoUnderlyingSecurityAltIDEncoder extends FlyweightEncoder {
+
+			NoUnderlyingSecurityAltIDEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoUnderlyingSecurityAltIDEncoder setUnderlyingSecurityAltID(CharSequence value) { builder.add(FixTags.UnderlyingSecurityAltID, value); return this; }
+
+			public NoUnderlyingSecurityAltIDEncoder setUnderlyingSecurityAltIDSource(CharSequence value) { builder.add(FixTags.UnderlyingSecurityAltIDSource, value); return this; }
+		}
+
+		public static final class NoUnderlyingStipsEncoder extends FlyweightEncoder {
+
+			NoUnderlyingStipsEncoder wrap(MessageBuilder builder) {
+				this.builder = builder;
+				return this;
+			}
+
+			public NoUnderlyingStipsEncoder setUnderlyingStipType(CharSequence value) { builder.add(FixTags.UnderlyingStipType, value); return this; }
+
+			public NoUnderlyingStipsEncoder setUnderlyingStipValue(CharSequence value) { builder.add(FixTags.UnderlyingStipValue, value); return this; }
+		}
+	}
+
+	public static final class NoStipulationsEncoder extends FlyweightEncoder {
+
+		NoStipulationsEncoder wrap(MessageBuilder builder) {
+			this.builder = builder;
+			return this;
+		}
+
+		public NoStipulationsEncoder setStipulationType(StipulationType value) { builder.add(FixTags.StipulationType, value); return this; }
+		public NoStipulationsEncoder setStipulationType(CharSequence value) { builder.add(FixTags.StipulationType, value); return this; }
+
+		public NoStipulationsEncoder setStipulationValue(StipulationValue value) { builder.add(FixTags.StipulationValue, value); return this; }
+		public NoStipulationsEncoder setStipulationValue(CharSequence value) { builder.add(FixTags.StipulationValue, value); return this; }
+	}
+}
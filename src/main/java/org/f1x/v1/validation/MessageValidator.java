@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.validation;
+
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.SessionRejectReason;
+import org.f1x.util.ByteArrayReference;
+
+import java.util.Arrays;
+
+/**
+ * Validates inbound messages against {@link ValidationDictionary}: MsgType must be defined, each tag must be defined for given message type
+ * and its value must belong to enumeration defined by dictionary (if any). All required tags must be present.
+ * (Empty values are rejected by message parsers.)
+ * Validation is a single pass over message fields that doesn't allocate memory.
+ * Not thread-safe: each session uses its own validator. Validator keeps the reason of the last failed validation.
+ */
+public final class MessageValidator {
+
+    /** Tags starting from this number are reserved for user-defined fields. Such fields are not validated unless dictionary defines them. */
+    public static final int USER_DEFINED_TAG_MIN = 5000;
+
+    private final ValidationDictionary dictionary;
+    private final long [] presentTags;
+    private final ByteArrayReference value = new ByteArrayReference();
+
+    private SessionRejectReason rejectReason;
+    private int refTagID;
+    private String rejectText;
+
+    public MessageValidator(ValidationDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.presentTags = new long [dictionary.definedTags.length];
+    }
+
+    /**
+     * Validates the message. Parser is reset after validation, so that message handlers can iterate the same message.
+     * @param msgType type of the message
+     * @param parser message parser positioned at the beginning of the message
+     * @return true if message is valid, otherwise see {@link #getRejectReason()}, {@link #getRefTagID()}
+     */
+    public boolean validate(CharSequence msgType, MessageParser parser) {
+        rejectReason = null;
+        refTagID = 0;
+        rejectText = null;
+
+        final ValidationDictionary.MessageDef message = dictionary.getMessage(msgType);
+        if (message == null)
+            return reject(SessionRejectReason.INVALID_MSGTYPE, FixTags.MsgType, "Invalid MsgType");
+
+        Arrays.fill(presentTags, 0L);
+        try {
+            while (parser.next()) {
+                final int tagNum = parser.getTagNum();
+                if ( ! ValidationDictionary.isSet(dictionary.definedTags, tagNum)) {
+                    if (tagNum < USER_DEFINED_TAG_MIN)
+                        return reject(SessionRejectReason.UNDEFINED_TAG, tagNum, "Undefined tag");
+                    continue;
+                }
+
+                if ( ! ValidationDictionary.isSet(message.allowedTags, tagNum))
+                    return reject(SessionRejectReason.TAG_NOT_DEFINED_FOR_THIS_MESSAGE_TYPE, tagNum, "Tag not defined for this message type");
+
+                presentTags[tagNum >> 6] |= 1L << tagNum;
+
+                final ValidationDictionary.FieldValues values = dictionary.fieldValues[tagNum];
+                if (values != null && ! values.isValid(getValue(parser)))
+                    return reject(SessionRejectReason.VALUE_IS_INCORRECT, tagNum, "Value is incorrect (out of range) for this tag");
+            }
+
+            for (int tagNum : message.requiredTags) {
+                if ( ! ValidationDictionary.isSet(presentTags, tagNum))
+                    return reject(SessionRejectReason.REQUIRED_TAG_MISSING, tagNum, "Required tag missing");
+            }
+            return true;
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /** @return reason of the last failed validation */
+    public SessionRejectReason getRejectReason() {
+        return rejectReason;
+    }
+
+    /** @return tag that failed the last validation (suitable for RefTagID(371)) */
+    public int getRefTagID() {
+        return refTagID;
+    }
+
+    /** @return explanation of the last failed validation (suitable for Text(58)) */
+    public String getRejectText() {
+        return rejectText;
+    }
+
+    private CharSequence getValue(MessageParser parser) {
+        parser.getByteSequence(value);
+        return value;
+    }
+
+    private boolean reject(SessionRejectReason rejectReason, int refTagID, String rejectText) {
+        this.rejectReason = rejectReason;
+        this.refTagID = refTagID;
+        this.rejectText = rejectText;
+        return false;
+    }
+}
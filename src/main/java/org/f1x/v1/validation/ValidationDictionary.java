@@ -0,0 +1,285 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.validation;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QuickFIX dictionary (e.g. tools/quickfix/FIX44.xml) compiled into tag bitsets and arrays indexed by tag number and MsgType,
+ * so that {@link MessageValidator} checks each field of inbound message without hashing.
+ * Immutable, can be shared by all sessions that use the same FIX version.
+ */
+public final class ValidationDictionary {
+
+    private static final int MAX_MSG_TYPE_CHAR = 128;
+
+    final int maxTag;
+    /** Bitset of all tags defined by dictionary */
+    final long [] definedTags;
+    /** Enumerated values of each tag (null if value of the tag is not restricted) */
+    final FieldValues [] fieldValues;
+    /** Message definitions indexed by the first and the second MsgType character (index 0 for single-character types) */
+    private final MessageDef [][] messages = new MessageDef [MAX_MSG_TYPE_CHAR][];
+
+    static final class MessageDef {
+        /** Bitset of tags allowed in the message (including standard header, trailer and repeating group tags) */
+        final long [] allowedTags;
+        /** Tags required at the top level of the message body */
+        final int [] requiredTags;
+
+        MessageDef(long [] allowedTags, int [] requiredTags) {
+            this.allowedTags = allowedTags;
+            this.requiredTags = requiredTags;
+        }
+    }
+
+    static final class FieldValues {
+        private final long [] singleByteValues = new long [2]; // bitset of ASCII codes
+        private final byte [][] multiByteValues;
+        private final boolean multipleValues; // space-separated list of values
+
+        FieldValues(NodeList values, boolean multipleValues) {
+            this.multipleValues = multipleValues;
+
+            List<byte[]> longValues = new ArrayList<>();
+            for (int i = 0; i < values.getLength(); i++) {
+                String value = ((Element) values.item(i)).getAttribute("enum");
+                if (value.length() == 1 && value.charAt(0) < 128)
+                    setBit(singleByteValues, value.charAt(0));
+                else
+                    longValues.add(value.getBytes());
+            }
+            multiByteValues = longValues.toArray(new byte[longValues.size()][]);
+        }
+
+        boolean isValid(CharSequence value) {
+            final int length = value.length();
+            if ( ! multipleValues)
+                return isValid(value, 0, length);
+
+            int start = 0;
+            for (int i = 0; i <= length; i++) {
+                if (i == length || value.charAt(i) == ' ') {
+                    if (i == start || ! isValid(value, start, i))
+                        return false;
+                    start = i + 1;
+                }
+            }
+            return true;
+        }
+
+        private boolean isValid(CharSequence value, int start, int end) {
+            final int length = end - start;
+            if (length == 1)
+                return isSet(singleByteValues, value.charAt(start));
+
+            for (byte [] candidate : multiByteValues) {
+                if (candidate.length == length && equals(candidate, value, start))
+                    return true;
+            }
+            return false;
+        }
+
+        private static boolean equals(byte [] candidate, CharSequence value, int start) {
+            for (int i = 0; i < candidate.length; i++)
+                if (candidate[i] != value.charAt(start + i))
+                    return false;
+            return true;
+        }
+    }
+
+    private ValidationDictionary(Document doc) {
+        final Map<String, Element> fields = new HashMap<>();
+        final Map<String, Element> components = new HashMap<>();
+        collectNamedElements(doc, "fields", "field", fields);
+        collectNamedElements(doc, "components", "component", components);
+
+        int max = 0;
+        for (Element field : fields.values())
+            max = Math.max(max, getTagNum(field));
+        maxTag = max;
+
+        definedTags = new long [bitsetLength(maxTag)];
+        fieldValues = new FieldValues [maxTag + 1];
+        for (Element field : fields.values()) {
+            int tagNum = getTagNum(field);
+            setBit(definedTags, tagNum);
+
+            NodeList values = field.getElementsByTagName("value");
+            if (values.getLength() > 0)
+                fieldValues[tagNum] = new FieldValues(values, isMultipleValueType(field.getAttribute("type")));
+        }
+
+        long [] headerTags = new long [definedTags.length];
+        List<Integer> ignored = new ArrayList<>();
+        collectTags(getSingleElement(doc, "header"), fields, components, headerTags, ignored, false);
+        collectTags(getSingleElement(doc, "trailer"), fields, components, headerTags, ignored, false);
+
+        Map<String, Element> messageElements = new HashMap<>();
+        collectNamedElements(doc, "messages", "message", messageElements);
+        for (Element message : messageElements.values()) {
+            long [] allowedTags = headerTags.clone();
+            List<Integer> requiredTags = new ArrayList<>();
+            collectTags(message, fields, components, allowedTags, requiredTags, true);
+
+            int [] required = new int [requiredTags.size()];
+            for (int i = 0; i < required.length; i++)
+                required[i] = requiredTags.get(i);
+
+            addMessage(message.getAttribute("msgtype"), new MessageDef(allowedTags, required));
+        }
+    }
+
+    public static ValidationDictionary load(File file) throws IOException {
+        try (InputStream is = new FileInputStream(file)) {
+            return load(is);
+        }
+    }
+
+    /** Loads and compiles QuickFIX XML dictionary */
+    public static ValidationDictionary load(InputStream is) throws IOException {
+        try {
+            Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(is);
+            return new ValidationDictionary(doc);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Can't parse FIX dictionary: " + e.getMessage(), e);
+        }
+    }
+
+    /** @return definition of given message type or null if dictionary doesn't define such message */
+    MessageDef getMessage(CharSequence msgType) {
+        final int length = msgType.length();
+        if (length == 0 || length > 2)
+            return null;
+
+        final char first = msgType.charAt(0);
+        if (first >= MAX_MSG_TYPE_CHAR)
+            return null;
+
+        final MessageDef [] messagesByFirstChar = messages[first];
+        if (messagesByFirstChar == null)
+            return null;
+
+        if (length == 1)
+            return messagesByFirstChar[0];
+
+        final char second = msgType.charAt(1);
+        return (second < MAX_MSG_TYPE_CHAR) ? messagesByFirstChar[second] : null;
+    }
+
+    private void addMessage(String msgType, MessageDef message) {
+        if (msgType.length() == 0 || msgType.length() > 2)
+            throw new IllegalArgumentException("Unsupported MsgType: \"" + msgType + '"');
+
+        final char first = msgType.charAt(0);
+        final char second = (msgType.length() == 1) ? 0 : msgType.charAt(1);
+        if (first >= MAX_MSG_TYPE_CHAR || second >= MAX_MSG_TYPE_CHAR)
+            throw new IllegalArgumentException("Unsupported MsgType: \"" + msgType + '"');
+
+        if (messages[first] == null)
+            messages[first] = new MessageDef [MAX_MSG_TYPE_CHAR];
+        messages[first][second] = message;
+    }
+
+    /** Collects tags of given message, component or group. Tags of required components are required; tags inside repeating groups never are. */
+    private static void collectTags(Element container, Map<String, Element> fields, Map<String, Element> components, long [] allowedTags, List<Integer> requiredTags, boolean collectRequired) {
+        NodeList children = container.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() != Node.ELEMENT_NODE)
+                continue;
+
+            Element element = (Element) child;
+            String name = element.getAttribute("name");
+            boolean required = collectRequired && "Y".equals(element.getAttribute("required"));
+            switch (element.getNodeName()) {
+                case "field":
+                case "group":
+                    int tagNum = getTagNum(getNamedElement(fields, "field", name));
+                    setBit(allowedTags, tagNum);
+                    if (required)
+                        requiredTags.add(tagNum);
+                    if (element.getNodeName().equals("group"))
+                        collectTags(element, fields, components, allowedTags, requiredTags, false);
+                    break;
+                case "component":
+                    collectTags(getNamedElement(components, "component", name), fields, components, allowedTags, requiredTags, required);
+                    break;
+            }
+        }
+    }
+
+    private static Element getNamedElement(Map<String, Element> elements, String elementName, String name) {
+        Element result = elements.get(name);
+        if (result == null)
+            throw new IllegalArgumentException("FIX dictionary doesn't define " + elementName + " \"" + name + '"');
+        return result;
+    }
+
+    private static Element getSingleElement(Document doc, String elementName) {
+        NodeList elements = doc.getElementsByTagName(elementName);
+        if (elements.getLength() != 1)
+            throw new IllegalArgumentException("FIX dictionary must have single <" + elementName + "> element");
+        return (Element) elements.item(0);
+    }
+
+    private static void collectNamedElements(Document doc, String sectionName, String elementName, Map<String, Element> result) {
+        NodeList sections = doc.getElementsByTagName(sectionName);
+        for (int i = 0; i < sections.getLength(); i++) {
+            NodeList children = sections.item(i).getChildNodes();
+            for (int j = 0; j < children.getLength(); j++) {
+                Node child = children.item(j);
+                if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals(elementName))
+                    result.put(((Element) child).getAttribute("name"), (Element) child);
+            }
+        }
+    }
+
+    private static int getTagNum(Element field) {
+        return Integer.parseInt(field.getAttribute("number"));
+    }
+
+    private static boolean isMultipleValueType(String type) {
+        return type.equals("MULTIPLEVALUESTRING") || type.equals("MULTIPLESTRINGVALUE") || type.equals("MULTIPLECHARVALUE");
+    }
+
+    private static int bitsetLength(int maxBit) {
+        return (maxBit >> 6) + 1;
+    }
+
+    private static void setBit(long [] bitset, int bit) {
+        bitset[bit >> 6] |= 1L << bit;
+    }
+
+    static boolean isSet(long [] bitset, int bit) {
+        final int index = bit >> 6;
+        return index < bitset.length && (bitset[index] & (1L << bit)) != 0;
+    }
+}
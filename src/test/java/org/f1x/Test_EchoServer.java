@@ -60,6 +60,31 @@ public class Test_EchoServer extends  TestCommon {
         normalClose(client, server);
     }
 
+    /** Same as simpleMessageLoop but both sides use SocketChannel transport (initiator busy-spins on reads) */
+    @Test(timeout = 120000)
+    public void simpleMessageLoopOverSocketChannels() throws InterruptedException, IOException {
+        FixAcceptorSettings acceptorSettings = new FixAcceptorSettings();
+        acceptorSettings.setSocketChannelTransport(true);
+        FixInitiatorSettings initiatorSettings = new FixInitiatorSettings();
+        initiatorSettings.setSocketChannelTransport(true);
+        initiatorSettings.setSocketBusySpinRead(true);
+        initiatorSettings.setConnectInterval(100);
+
+        final EchoServer server = new EchoServer(7892, new SessionIDBean(ACCEPTOR_SENDER_ID, INITIATOR_SENDER_ID), acceptorSettings);
+        final EchoServerClient client = new EchoServerClient ("localhost", 7892, new SessionIDBean(INITIATOR_SENDER_ID, ACCEPTOR_SENDER_ID), 3, initiatorSettings);
+
+        final Thread acceptorThread = new Thread(server, "EchoServer");
+        acceptorThread.start();
+
+        final Thread initiatorThread = new Thread(client, "EchoClient");
+        initiatorThread.start();
+
+        if ( ! client.messageCount.await(15, TimeUnit.SECONDS))
+            Assert.fail("Communication failed (timed out waiting for echo)");
+
+        normalClose(client, server);
+    }
+
     /** Test verifies automatic re-connection after abrupt disconnect */
     @Test(timeout = 120000)
     public void loginAfterDisconnect() throws InterruptedException, IOException {
@@ -160,7 +185,11 @@ public class Test_EchoServer extends  TestCommon {
         private final Object disconnectedSignal = new Object();
 
         public EchoServerClient(String host, int port, SessionID sessionID, int numberOfMessagesToSend) {
-            super(host, port, FixVersion.FIX44, sessionID, new FixInitiatorSettings());
+            this(host, port, sessionID, numberOfMessagesToSend, new FixInitiatorSettings());
+        }
+
+        public EchoServerClient(String host, int port, SessionID sessionID, int numberOfMessagesToSend, FixInitiatorSettings settings) {
+            super(host, port, FixVersion.FIX44, sessionID, settings);
 
             messageCount = new CountDownLatch(numberOfMessagesToSend);
             mb = createMessageBuilder();
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x;
+
+import org.f1x.api.FixAcceptorSettings;
+import org.f1x.api.FixInitiatorSettings;
+import org.f1x.api.FixVersion;
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.Tools;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.MsgType;
+import org.f1x.api.session.SessionID;
+import org.f1x.api.session.SessionStatus;
+import org.f1x.v1.EventLoopSessionAcceptor;
+import org.f1x.v1.FixSessionAcceptor;
+import org.f1x.v1.FixSessionEventLoop;
+import org.f1x.v1.FixSessionInitiator;
+import org.f1x.v1.SimpleSessionManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/** Verifies that several FIX acceptors and initiators can be served by a single event loop thread */
+public class Test_EventLoopEchoServer extends TestCommon {
+    private static final int PORT = 7891;
+    private static final int NUMBER_OF_SESSIONS = 5;
+    private static final int NUMBER_OF_MESSAGES = 10;
+
+    @Test(timeout = 120000)
+    public void multipleSessionsOnSingleThread() throws Exception {
+        final SimpleSessionManager manager = new SimpleSessionManager();
+        final FixSessionEventLoop eventLoop = new FixSessionEventLoop();
+        final EventLoopSessionAcceptor server = new EventLoopSessionAcceptor("localhost", PORT, 1024, 5000, NUMBER_OF_SESSIONS, manager, eventLoop);
+        final CountDownLatch echoes = new CountDownLatch(NUMBER_OF_SESSIONS * NUMBER_OF_MESSAGES);
+
+        final EchoClient [] clients = new EchoClient[NUMBER_OF_SESSIONS];
+        for (int i = 0; i < NUMBER_OF_SESSIONS; i++) {
+            manager.addSession(new EchoAcceptor(new SessionIDBean("SERVER", "CLIENT" + i)));
+            clients[i] = new EchoClient(new SessionIDBean("CLIENT" + i, "SERVER"), echoes);
+        }
+
+        final Thread eventLoopThread = new Thread(eventLoop, "EventLoop");
+        eventLoopThread.start();
+        new Thread(server, "Acceptor").start();
+
+        for (EchoClient client : clients)
+            eventLoop.register(client);
+
+        if ( ! echoes.await(30, TimeUnit.SECONDS))
+            Assert.fail("Communication failed (timed out waiting for echo)");
+
+        for (EchoClient client : clients)
+            Assert.assertEquals(SessionStatus.ApplicationConnected, client.getSessionStatus());
+
+        for (EchoClient client : clients)
+            client.close();
+
+        for (EchoClient client : clients)
+            Assert.assertTrue("Client logout", waitForStatus(client, SessionStatus.Disconnected, 15000));
+
+        server.close();
+        eventLoop.close();
+        eventLoopThread.join(15000);
+        Assert.assertFalse(eventLoopThread.isAlive());
+    }
+
+    private static boolean waitForStatus(FixSessionInitiator session, SessionStatus expectedStatus, long timeout) throws InterruptedException {
+        final long timeoutTime = System.currentTimeMillis() + timeout;
+        while (session.getSessionStatus() != expectedStatus) {
+            if (System.currentTimeMillis() > timeoutTime)
+                return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static class EchoAcceptor extends FixSessionAcceptor {
+        private final MessageBuilder mb;
+
+        EchoAcceptor(SessionID sessionID) {
+            super(FixVersion.FIX44, sessionID, new FixAcceptorSettings());
+            mb = createMessageBuilder();
+        }
+
+        @Override
+        protected void processInboundAppMessage(CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
+            mb.clear();
+            mb.setMessageType(msgType.toString());
+            while (parser.next()) {
+                if (parser.getTagNum() == FixTags.Text)
+                    mb.add(FixTags.Text, parser.getCharSequenceValue());
+            }
+            send(mb);
+        }
+    }
+
+    private static class EchoClient extends FixSessionInitiator {
+        private final CountDownLatch echoes;
+        private final MessageBuilder mb;
+
+        EchoClient(SessionID sessionID, CountDownLatch echoes) {
+            super("localhost", PORT, FixVersion.FIX44, sessionID, new FixInitiatorSettings());
+            this.echoes = echoes;
+            this.mb = createMessageBuilder();
+        }
+
+        @Override
+        protected void onSessionStatusChanged(SessionStatus oldStatus, SessionStatus newStatus) {
+            super.onSessionStatusChanged(oldStatus, newStatus);
+            if (newStatus == SessionStatus.ApplicationConnected) {
+                try {
+                    for (int i = 0; i < NUMBER_OF_MESSAGES; i++) {
+                        mb.clear();
+                        mb.setMessageType(MsgType.NEWS);
+                        mb.add(FixTags.Text, "Hello " + i);
+                        send(mb);
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        @Override
+        protected void processInboundAppMessage(CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
+            if (Tools.equals(MsgType.NEWS, msgType))
+                echoes.countDown();
+        }
+    }
+}
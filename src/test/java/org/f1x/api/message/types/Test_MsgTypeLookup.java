@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.api.message.types;
+
+import org.f1x.api.message.fields.MsgType;
+import org.f1x.api.message.fields.MsgTypeCodes;
+import org.f1x.util.AsciiUtils;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Test_MsgTypeLookup {
+
+    @Test
+    public void testCodes() {
+        assertEquals('D', MsgTypeLookup.getCode("D"));
+        assertEquals(('A' << 8) | 'E', MsgTypeLookup.getCode("AE"));
+        assertEquals(MsgTypeCodes.ORDER_SINGLE, MsgTypeLookup.getCode(MsgType.ORDER_SINGLE.getCode()));
+        assertEquals(MsgTypeCodes.TRADE_CAPTURE_REPORT, MsgTypeLookup.getCode(MsgType.TRADE_CAPTURE_REPORT.getCode()));
+
+        byte [] buffer = AsciiUtils.getBytes("35=AE|");
+        assertEquals(MsgTypeCodes.TRADE_CAPTURE_REPORT, MsgTypeLookup.getCode(buffer, 3, 2));
+        assertEquals(MsgTypeCodes.LOGON, MsgTypeLookup.getCode(buffer, 3, 1));
+    }
+
+    @Test
+    public void testUndefinedCodes() {
+        assertEquals(MsgTypeLookup.UNDEFINED_CODE, MsgTypeLookup.getCode(""));
+        assertEquals(MsgTypeLookup.UNDEFINED_CODE, MsgTypeLookup.getCode("ABC"));
+        assertEquals(MsgTypeLookup.UNDEFINED_CODE, MsgTypeLookup.getCode("\u00C4"));
+        assertEquals(MsgTypeLookup.UNDEFINED_CODE, MsgTypeLookup.getCode(new byte [] {(byte) 0xC4}, 0, 1));
+        assertEquals(MsgTypeLookup.UNDEFINED_CODE, MsgTypeLookup.getCode(new byte [] {'A', (byte) 0xC4}, 0, 2));
+    }
+
+    @Test
+    public void testLookup() {
+        for (MsgType msgType : MsgType.values())
+            assertEquals(msgType, MsgTypeLookup.get(MsgTypeLookup.getCode(msgType.getCode())));
+
+        assertIllegalArgument(MsgTypeLookup.UNDEFINED_CODE);
+        assertIllegalArgument(0);
+        assertIllegalArgument('~');
+        assertIllegalArgument(('~' << 8) | '~');
+        assertIllegalArgument(0x10000);
+    }
+
+    /** Generated MsgTypeCodes constants must agree with MsgType enum */
+    @Test
+    public void testGeneratedConstants() throws IllegalAccessException {
+        Field [] fields = MsgTypeCodes.class.getFields();
+        assertEquals(MsgType.values().length, fields.length);
+        for (Field field : fields)
+            assertEquals(field.getName(), MsgType.valueOf(field.getName()), MsgTypeLookup.get(field.getInt(null)));
+    }
+
+    private static void assertIllegalArgument(int code) {
+        try {
+            MsgTypeLookup.get(code);
+            fail ("Failed to detect invalid code: 0x" + Integer.toHexString(code));
+        } catch (IllegalArgumentException expected) { }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.io;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+public class Test_SocketChannelOutputChannel {
+
+    private static final int WRITE_TIMEOUT = 200;
+
+    /** Write into non-blocking channel must give up when counter-party stops reading */
+    @Test(timeout = 30000)
+    public void testWriteTimeout() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel peer = server.accept()) { // peer never reads
+                client.socket().setSendBufferSize(8 * 1024);
+                client.configureBlocking(false);
+
+                final SocketChannelOutputChannel out = new SocketChannelOutputChannel(client, 1024, WRITE_TIMEOUT);
+                final byte [] block = new byte [64 * 1024];
+                long timeoutStart = 0;
+                try {
+                    while (true) {
+                        timeoutStart = System.currentTimeMillis();
+                        out.write(block, 0, block.length);
+                    }
+                } catch (SocketTimeoutException expected) {
+                    Assert.assertTrue("Waited at least write timeout", System.currentTimeMillis() - timeoutStart >= WRITE_TIMEOUT);
+                }
+                Assert.assertFalse("Channel is closed", client.isOpen());
+                Assert.assertTrue(peer.isOpen());
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.io.disruptor;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import org.f1x.io.RingBufferStreamChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Test_MultiProducerByteRing {
+
+    private static final int QUEUE_SIZE = 1024;
+    private static final int NUM_PRODUCERS = 4;
+    private static final int NUM_MESSAGES = 10000;
+
+    private final Executor executor = Executors.newCachedThreadPool();
+
+    @Test(timeout = 30000)
+    public void testConcurrentProducers() throws Exception {
+        final ByteRing ring = ByteRing.createMultiProducer(QUEUE_SIZE, new BlockingWaitStrategy());
+
+        final CollectingProcessor collector = new CollectingProcessor(NUM_PRODUCERS * NUM_MESSAGES);
+        MessageProcessorPool processorPool = new MessageProcessorPool(ring, ring.newBarrier(), new TestExceptionHandler(), collector);
+        ring.addGatingSequences(processorPool.getWorkerSequences());
+        processorPool.start(executor);
+
+        final CountDownLatch producersFinished = new CountDownLatch(NUM_PRODUCERS);
+        final AtomicReference<Throwable> producerError = new AtomicReference<>();
+        for (int i = 0; i < NUM_PRODUCERS; i++) {
+            final int producerId = i;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    RingBufferStreamChannel channel = new RingBufferStreamChannel(ring);
+                    try {
+                        for (int j = 0; j < NUM_MESSAGES; j++) {
+                            byte [] message = (producerId + ":" + j).getBytes();
+                            channel.write(message, 0, message.length);
+                        }
+                    } catch (Throwable e) {
+                        producerError.compareAndSet(null, e);
+                    } finally {
+                        producersFinished.countDown();
+                    }
+                }
+            });
+        }
+        assertProducersSucceeded(producersFinished, producerError);
+
+        Assert.assertTrue("All messages received", collector.received.await(20, TimeUnit.SECONDS));
+        processorPool.drainAndHalt();
+
+        final int [] nextMessage = new int [NUM_PRODUCERS];
+        for (String message : collector.messages) {
+            int separator = message.indexOf(':');
+            Assert.assertTrue("Corrupted message: " + message, separator > 0);
+            int producerId = Integer.parseInt(message.substring(0, separator));
+            Assert.assertEquals("Order of producer " + producerId, nextMessage[producerId]++, Integer.parseInt(message.substring(separator + 1)));
+        }
+        for (int i = 0; i < NUM_PRODUCERS; i++)
+            Assert.assertEquals(NUM_MESSAGES, nextMessage[i]);
+    }
+
+    @Test(timeout = 30000)
+    public void testBatchMode() throws Exception {
+        final ByteRing ring = ByteRing.createMultiProducer(QUEUE_SIZE, new BlockingWaitStrategy());
+
+        final int totalSize = NUM_PRODUCERS * NUM_MESSAGES * 8; // each message is 8 bytes: "P:NNNNN;"
+        final StreamCollector collector = new StreamCollector(totalSize);
+        MessageProcessorPool processorPool = new MessageProcessorPool(ring, ring.newBarrier(), true, new TestExceptionHandler(), collector);
+        ring.addGatingSequences(processorPool.getWorkerSequences());
+        processorPool.start(executor);
+
+        final CountDownLatch producersFinished = new CountDownLatch(NUM_PRODUCERS);
+        final AtomicReference<Throwable> producerError = new AtomicReference<>();
+        for (int i = 0; i < NUM_PRODUCERS; i++) {
+            final int producerId = i;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    RingBufferStreamChannel channel = new RingBufferStreamChannel(ring, false);
+                    try {
+                        for (int j = 0; j < NUM_MESSAGES; j++) {
+                            byte [] message = String.format("%d:%05d;", producerId, j).getBytes();
+                            channel.write(message, 0, message.length);
+                        }
+                    } catch (Throwable e) {
+                        producerError.compareAndSet(null, e);
+                    } finally {
+                        producersFinished.countDown();
+                    }
+                }
+            });
+        }
+        assertProducersSucceeded(producersFinished, producerError);
+
+        Assert.assertTrue("All bytes received", collector.received.await(20, TimeUnit.SECONDS));
+        processorPool.drainAndHalt();
+
+        Assert.assertTrue("Batches", collector.batchCount <= NUM_PRODUCERS * NUM_MESSAGES);
+        final int [] nextMessage = new int [NUM_PRODUCERS];
+        for (String message : collector.toString().split(";")) {
+            int producerId = Integer.parseInt(message.substring(0, 1));
+            Assert.assertEquals("Order of producer " + producerId, nextMessage[producerId]++, Integer.parseInt(message.substring(2)));
+        }
+        for (int i = 0; i < NUM_PRODUCERS; i++)
+            Assert.assertEquals(NUM_MESSAGES, nextMessage[i]);
+    }
+
+    private static void assertProducersSucceeded(CountDownLatch producersFinished, AtomicReference<Throwable> producerError) throws InterruptedException {
+        Assert.assertTrue("All producers finished", producersFinished.await(20, TimeUnit.SECONDS));
+        if (producerError.get() != null)
+            throw new AssertionError("Producer failed: " + producerError.get(), producerError.get());
+    }
+
+    /** Collects raw byte stream */
+    private static final class StreamCollector implements RingBufferBlockProcessor {
+        private final StringBuilder sb = new StringBuilder();
+        private final CountDownLatch received = new CountDownLatch(1);
+        private final int expectedSize;
+        private int batchCount;
+
+        StreamCollector(int expectedSize) {
+            this.expectedSize = expectedSize;
+        }
+
+        @Override
+        public int process(byte[] buffer, int offset, int length, int ringBufferSize) {
+            batchCount++;
+            for (int i = 0; i < length; i++)
+                sb.append((char) buffer[(offset + i) % ringBufferSize]);
+            if (sb.length() == expectedSize)
+                received.countDown();
+            return length;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+
+    private static final class CollectingProcessor implements RingBufferBlockProcessor {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch received;
+
+        CollectingProcessor(int expectedCount) {
+            received = new CountDownLatch(expectedCount);
+        }
+
+        @Override
+        public int process(byte[] buffer, int offset, int length, int ringBufferSize) {
+            byte [] message = new byte[length];
+            for (int i = 0; i < length; i++)
+                message[i] = buffer[(offset + i) % ringBufferSize];
+            messages.add(new String(message));
+            received.countDown();
+            return length;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -199,6 +199,48 @@ public class Test_InMemoryMessageStore {
         put(1, "DUMMY");
     }
 
+    @Test
+    public void indexCollisions() {
+        store = new InMemoryMessageStore (STORE_SIZE, 2); // most slots are reused by newer messages
+        put(1, "M1");
+        put(2, "M2");
+        put(3, "M3");
+        put(5, "M5");
+
+        assertGet(1, "M1");
+        assertGet(2, "M2");
+        assertGet(3, "M3");
+        assertNotFound(4);
+        assertGet(5, "M5");
+        assertIterator (1, 5, "M1,M2,M3,M5");
+        assertIterator (4, 5, "M5");
+    }
+
+    @Test
+    public void iteratorInterleavedWithPut() {
+        put(1, "M1");
+        put(2, "M2");
+        MessageStore.MessageStoreIterator iter = store.iterator(1, 100);
+        byte [] buffer = new byte [256];
+        Assert.assertEquals(1, iter.next(buffer));
+        put(3, "M3");
+        Assert.assertEquals(2, iter.next(buffer));
+        Assert.assertEquals(3, iter.next(buffer));
+        Assert.assertEquals(-1, iter.next(buffer));
+
+        // overwrite everything iterator has seen
+        for (int i=4; i < 10; i++)
+            put(i, "M" + i);
+        Assert.assertEquals(6, iter.next(buffer));
+        Assert.assertEquals("M6", new String (buffer, 0, sizeof(buffer)));
+        Assert.assertEquals(7, iter.next(buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidIndexSize() {
+        new InMemoryMessageStore (STORE_SIZE, 3);
+    }
+
     private void put (int seqNum, String content) {
         put(seqNum, content.getBytes());
     }
@@ -0,0 +1,213 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.store;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class Test_MemoryMappedMessageStore {
+
+    private File directory;
+    private MemoryMappedMessageStore store;
+
+    @Before
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("f1x-store").toFile();
+        store = new MemoryMappedMessageStore(directory, 4, 1024, 3);
+    }
+
+    @After
+    public void destroy() {
+        store.close();
+        File [] files = directory.listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.delete();
+    }
+
+    @Test
+    public void simple() {
+        put(1, "MSG1");
+        put(2, "MSG2");
+        put(3, "MSG3");
+
+        assertNotFound(4);
+        assertGet(3, "MSG3");
+        assertGet(1, "MSG1");
+        assertGet(2, "MSG2");
+        assertNotFound(0);
+    }
+
+    @Test
+    public void reset() {
+        put(1, "MSG1");
+        put(2, "MSG2");
+        store.clean();
+        assertNotFound(1);
+        assertNotFound(2);
+
+        put(1, "NEW1");
+        assertGet(1, "NEW1");
+        assertIterator(1, 10, "NEW1");
+    }
+
+    @Test
+    public void iteratorWithGaps() {
+        put(1, "1");
+        put(3, "#3");
+        put(4, "4");
+        put(6, "6"); // starts new segment
+        put(8, "8");
+
+        assertIterator(1, 8, "1,#3,4,6,8");
+        assertIterator(1, 100, "1,#3,4,6,8");
+        assertIterator(3, 6, "#3,4,6");
+        assertIterator(5, 7, "6");
+        assertIterator(5, 5, "");
+        assertIterator(9, 12, "");
+        assertNotFound(2);
+        assertNotFound(5);
+    }
+
+    /** Index holds four messages per segment, store keeps three segments (twelve latest messages at most) */
+    @Test
+    public void rollAndPrune() {
+        for (int i = 1; i <= 20; i++)
+            put(i, "MSG" + i);
+
+        assertNotFound(8);
+        assertGet(9, "MSG9");
+        assertGet(20, "MSG20");
+        assertIterator(1, 12, "MSG9,MSG10,MSG11,MSG12");
+        Assert.assertEquals(3, directory.listFiles().length);
+    }
+
+    @Test
+    public void largeMessageRollsSegment() {
+        put(1, "MSG1");
+        put(2, new String(new char[900]).replace('\0', 'X'));
+        put(3, "MSG3");
+        assertGet(1, "MSG1");
+        assertGet(3, "MSG3");
+        assertIterator(1, 3, "MSG1," + new String(new char[900]).replace('\0', 'X') + ",MSG3");
+    }
+
+    @Test
+    public void reopen() throws IOException {
+        put(1, "MSG1");
+        put(2, "MSG2");
+        put(5, "MSG5");
+        store.close();
+
+        store = new MemoryMappedMessageStore(directory, 4, 1024, 3);
+        assertGet(1, "MSG1");
+        assertGet(5, "MSG5");
+        assertIterator(1, 10, "MSG1,MSG2,MSG5");
+
+        put(6, "MSG6");
+        assertIterator(5, 6, "MSG5,MSG6");
+    }
+
+    @Test
+    public void outOfOrderSequenceNumTruncates() {
+        put(1, "MSG1");
+        put(2, "MSG2");
+        put(3, "MSG3");
+        put(2, "NEW2");
+        assertGet(1, "MSG1");
+        assertGet(2, "NEW2");
+        assertNotFound(3);
+        assertIterator(1, 10, "MSG1,NEW2");
+
+        put(3, "NEW3");
+        assertIterator(1, 10, "MSG1,NEW2,NEW3");
+    }
+
+    @Test
+    public void outOfOrderSequenceNumTruncatesSegments() throws IOException {
+        for (int i = 1; i <= 10; i++)
+            put(i, "MSG" + i); // segments start at #1, #5 and #9
+
+        put(5, "NEW5");
+        assertGet(4, "MSG4");
+        assertGet(5, "NEW5");
+        assertNotFound(6);
+        assertNotFound(9);
+        assertIterator(1, 10, "MSG1,MSG2,MSG3,MSG4,NEW5");
+
+        put(1, "NEW1"); // restart of sequence
+        assertIterator(1, 10, "NEW1");
+    }
+
+    @Test
+    public void outOfOrderSequenceNumAfterReopen() throws IOException {
+        put(1, "MSG1");
+        put(2, "MSG2");
+        put(3, "MSG3");
+        store.close();
+
+        store = new MemoryMappedMessageStore(directory, 4, 1024, 3);
+        put(2, "NEW2");
+        store.close();
+
+        store = new MemoryMappedMessageStore(directory, 4, 1024, 3);
+        assertIterator(1, 10, "MSG1,NEW2");
+        put(3, "NEW3");
+        assertIterator(1, 10, "MSG1,NEW2,NEW3");
+    }
+
+    private void put (int seqNum, String content) {
+        byte [] bytes = content.getBytes();
+        store.put(seqNum, bytes, 0, bytes.length);
+    }
+
+    private void assertGet(int seqNum, String expectedContent) {
+        byte [] buffer = new byte[1024];
+        if (store.get(seqNum, buffer) <= 0)
+            Assert.fail("Can't find message with sequence number " + seqNum);
+        Assert.assertEquals(expectedContent, new String (buffer, 0, sizeof(buffer)));
+    }
+
+    private void assertNotFound(int seqNum) {
+        byte [] buffer = new byte[1024];
+        if (store.get(seqNum, buffer) > 0)
+            Assert.fail("Was not supposed to find message with sequence number " + seqNum + " found: " + new String (buffer, 0, sizeof(buffer)));
+    }
+
+    private void assertIterator(int fromSeqNum, int toSeqNum, String expectedContent) {
+        MessageStore.MessageStoreIterator iter = store.iterator(fromSeqNum, toSeqNum);
+        byte [] buffer = new byte [1024];
+        StringBuilder sb = new StringBuilder();
+        while (iter.next(buffer) > 0) {
+            if (sb.length() > 0)
+                sb.append(",");
+            sb.append(new String (buffer, 0, sizeof(buffer)));
+        }
+        Assert.assertEquals("Range [" + fromSeqNum + ", " + toSeqNum +"]", expectedContent, sb.toString());
+    }
+
+    private static int sizeof(byte[] szBytes) {
+        int result = 0;
+        while(szBytes[result] != 0)
+            result++;
+        return result;
+    }
+}
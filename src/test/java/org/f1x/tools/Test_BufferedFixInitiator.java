@@ -0,0 +1,193 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.tools;
+
+import org.f1x.SessionIDBean;
+import org.f1x.api.FixInitiatorSettings;
+import org.f1x.api.FixVersion;
+import org.f1x.api.session.SessionStatus;
+import org.f1x.io.OutputChannel;
+import org.f1x.util.AsciiUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Test_BufferedFixInitiator {
+
+    private TestInitiator initiator;
+
+    @Before
+    public void init() {
+        initiator = new TestInitiator();
+        initiator.init();
+    }
+
+    @After
+    public void destroy() {
+        if (initiator != null)
+            initiator.destroy();
+    }
+
+    /** Messages queued for lost connection must not reach the next one, and send error of lost connection must not disconnect the next one */
+    @Test(timeout = 10000)
+    public void testReconnect() throws Exception {
+        final BlockingStream oldStream = new BlockingStream();
+        OutputChannel channel = initiator.getOutputChannel(new TestSocket(oldStream));
+        write(channel, "OLD1");
+        assertTrue("writer is blocked", oldStream.entered.await(5, TimeUnit.SECONDS));
+        write(channel, "OLD2"); // remains in the ring
+        initiator.disconnect("Connection lost");
+
+        new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ignore) {
+                }
+                oldStream.failure = new IOException("Broken pipe");
+                oldStream.release.countDown();
+            }
+        }.start();
+
+        SyncByteArrayOutputStream newStream = new SyncByteArrayOutputStream();
+        channel = initiator.getOutputChannel(new TestSocket(newStream));
+        initiator.setStatus(SessionStatus.ApplicationConnected);
+        write(channel, "NEW1");
+        write(channel, "NEW2");
+
+        awaitContent(newStream, "NEW1NEW2");
+        Thread.sleep(100); // nothing else arrives
+        assertEquals("NEW1NEW2", newStream.toString());
+        assertEquals(SessionStatus.ApplicationConnected, initiator.getSessionStatus());
+    }
+
+    @Test(timeout = 10000)
+    public void testLogoutDrainsQueue() throws Exception {
+        SyncByteArrayOutputStream stream = new SlowStream();
+        OutputChannel channel = initiator.getOutputChannel(new TestSocket(stream));
+        for (int i = 1; i <= 5; i++)
+            write(channel, "MSG" + i);
+
+        initiator.setStatus(SessionStatus.InitiatedLogout);
+        initiator.disconnect("Logout");
+        assertEquals("MSG1MSG2MSG3MSG4MSG5", stream.toString());
+        assertEquals(SessionStatus.Disconnected, initiator.getSessionStatus());
+    }
+
+    @Test(timeout = 10000)
+    public void testDestroyWithStuckWriter() throws Exception {
+        BlockingStream stream = new BlockingStream();
+        try {
+            OutputChannel channel = initiator.getOutputChannel(new TestSocket(stream));
+            write(channel, "MSG1");
+            assertTrue("writer is blocked", stream.entered.await(5, TimeUnit.SECONDS));
+            write(channel, "MSG2");
+
+            initiator.destroy(); // must not wait for stuck writer forever
+            initiator = null;
+        } finally {
+            stream.release.countDown();
+        }
+    }
+
+    private static void awaitContent(ByteArrayOutputStream stream, String expected) throws InterruptedException {
+        for (int i = 0; i < 500 && stream.toString().length() < expected.length(); i++)
+            Thread.sleep(10);
+        assertEquals(expected, stream.toString());
+    }
+
+    private static void write(OutputChannel channel, String message) throws IOException {
+        byte [] bytes = AsciiUtils.getBytes(message);
+        channel.write(bytes, 0, bytes.length);
+    }
+
+    private static final class TestInitiator extends BufferedFixInitiator {
+        TestInitiator() {
+            super("localhost", 0, FixVersion.FIX44, new SessionIDBean("CLIENT", "SERVER"), 1024, new FixInitiatorSettings());
+        }
+
+        void setStatus(SessionStatus status) {
+            setSessionStatus(status);
+        }
+    }
+
+    private static final class TestSocket extends Socket {
+        private final OutputStream os;
+
+        TestSocket(OutputStream os) {
+            this.os = os;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return os;
+        }
+    }
+
+    private static class SyncByteArrayOutputStream extends ByteArrayOutputStream {
+        @Override
+        public synchronized String toString() {
+            return super.toString();
+        }
+    }
+
+    /** Simulates slow network */
+    private static final class SlowStream extends SyncByteArrayOutputStream {
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.write(b, off, len);
+        }
+    }
+
+    /** Simulates socket write stuck until released */
+    private static final class BlockingStream extends OutputStream {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile IOException failure;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failure != null)
+                throw failure;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.f1x.util.format;
+
+import org.f1x.util.Decimal;
+import org.f1x.util.parse.NumbersParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/** Compares fixed-point decimal formatting and parsing with double-based path */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 4, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class Benchmark_DecimalFormatters {
+
+    private final DoubleFormatter doubleFormatter = new DoubleFormatter(10);
+    private final Decimal decimal = new Decimal();
+    private final byte[] buffer = new byte[256];
+
+    @Param({"12345.67890","1234567890","0.1234567890"})
+    private String number = "12345.67890";
+
+    private double doubleValue;
+    private int length;
+
+    @Setup
+    public void init() {
+        byte [] bytes = number.getBytes();
+        System.arraycopy(bytes, 0, buffer, 128, bytes.length);
+        length = bytes.length;
+        NumbersParser.parseDecimal(buffer, 128, length, decimal);
+        doubleValue = NumbersParser.parseDouble(buffer, 128, length);
+    }
+
+    @GenerateMicroBenchmark
+    public int measureFormatDecimal() {
+        return DecimalFormatter.format(decimal.getMantissa(), decimal.getScale(), buffer, 0);
+    }
+
+    @GenerateMicroBenchmark
+    public int measureFormatDouble() {
+        return doubleFormatter.format(doubleValue, decimal.getScale(), buffer, 0);
+    }
+
+    @GenerateMicroBenchmark
+    public long measureParseDecimal() {
+        NumbersParser.parseDecimal(buffer, 128, length, decimal);
+        return decimal.getMantissa();
+    }
+
+    @GenerateMicroBenchmark
+    public double measureParseDouble() {
+        return NumbersParser.parseDouble(buffer, 128, length);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + Benchmark_DecimalFormatters.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
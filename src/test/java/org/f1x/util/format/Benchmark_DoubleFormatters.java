@@ -34,6 +34,12 @@ public class Benchmark_DoubleFormatters {
         DoubleFormatter2.format(number, precision, buffer, 0);
     }
 
+    /** Does not depend on precision parameter */
+    @GenerateMicroBenchmark
+    public void measureFormatShortest() {
+        ShortestDoubleFormatter.format(number, buffer, 0);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + Benchmark_DoubleFormatters.class.getSimpleName() + ".*")
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.format;
+
+import org.f1x.util.Decimal;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+public class Test_DecimalFormatter {
+
+    private final byte [] buffer = new byte [DecimalFormatter.MAX_LENGTH];
+
+    @Test
+    public void testSimple() {
+        assertFormat(0, 0, "0");
+        assertFormat(0, 2, "0.00");
+        assertFormat(5, 0, "5");
+        assertFormat(5, 3, "0.005");
+        assertFormat(-5, 3, "-0.005");
+        assertFormat(150, 2, "1.50");
+        assertFormat(-12345, 2, "-123.45");
+        assertFormat(12345, 5, "0.12345");
+        assertFormat(Long.MAX_VALUE, 18, "9.223372036854775807");
+        assertFormat(Long.MIN_VALUE, 18, "-9.223372036854775808");
+        assertFormat(Long.MIN_VALUE, 0, "-9223372036854775808");
+        assertFormat(1, 18, "0.000000000000000001");
+    }
+
+    @Test
+    public void testRandom() {
+        Random rnd = new Random(1);
+        for (int i=0; i < 100000; i++) {
+            long mantissa = rnd.nextLong() >> rnd.nextInt(64);
+            int scale = rnd.nextInt(19);
+            assertFormat(mantissa, scale, BigDecimal.valueOf(mantissa, scale).toPlainString());
+        }
+    }
+
+    @Test
+    public void testScaledMantissa() {
+        Decimal decimal = new Decimal(125, 2);
+        Assert.assertEquals(125000, decimal.getScaledMantissa(5));
+        Assert.assertEquals(125, decimal.getScaledMantissa(2));
+        Assert.assertEquals(1.25, decimal.toDouble(), 0);
+        Assert.assertEquals("1.25", decimal.toString());
+
+        decimal.set(1200, 3);
+        Assert.assertEquals(12, decimal.getScaledMantissa(1));
+        try {
+            decimal.getScaledMantissa(0);
+            Assert.fail("precision loss");
+        } catch (ArithmeticException expected) {
+            // ok
+        }
+
+        decimal.set(Long.MAX_VALUE / 5, 0);
+        try {
+            decimal.getScaledMantissa(1);
+            Assert.fail("overflow");
+        } catch (ArithmeticException expected) {
+            // ok
+        }
+    }
+
+    private void assertFormat(long mantissa, int scale, String expected) {
+        int length = DecimalFormatter.format(mantissa, scale, buffer, 0);
+        Assert.assertEquals(expected, new String (buffer, 0, length));
+    }
+
+}
@@ -46,6 +46,17 @@ public class Test_DoubleFormatter {
     }
 
 
+    @Test
+    public void testShortestMode() {
+        DoubleFormatter formatter = new DoubleFormatter(DoubleFormatter.SHORTEST);
+        int length = formatter.format(1.2345, buffer, 0);
+        assertEquals("1.2345", new String(buffer, 0, length));
+        length = formatter.format(0.1 + 0.2, buffer, 0);
+        assertEquals("0.30000000000000004", new String(buffer, 0, length));
+        length = formatter.format(1.23456, 2, buffer, 0); // explicit precision is still honored
+        assertEquals("1.23", new String(buffer, 0, length));
+    }
+
     @Test
     public void testAroundBoundariesOfLong() {
         assertFormat(0.99e19, 1, "9900000000000000000");
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.format;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+public class Test_ShortestDoubleFormatter {
+
+    private final byte [] buffer = new byte [400];
+
+    @Test
+    public void testSimple() {
+        assertFormat(0, "0");
+        assertFormat(-0.0, "0");
+        assertFormat(1, "1");
+        assertFormat(-1, "-1");
+        assertFormat(0.1, "0.1");
+        assertFormat(0.3, "0.3");
+        assertFormat(0.1 + 0.2, "0.30000000000000004");
+        assertFormat(1.2345, "1.2345");
+        assertFormat(-123.45, "-123.45");
+        assertFormat(100, "100");
+        assertFormat(1e22, "10000000000000000000000");
+        assertFormat(1e23, "100000000000000000000000");
+        assertFormat(0.001, "0.001");
+        assertFormat(2.0E-3, "0.002");
+        assertFormat(1.0E-7, "0.0000001");
+        assertFormat(9007199254740993.0, "9007199254740992");
+        assertFormat(Double.MIN_VALUE, "0." + repeat('0', 323) + "5");
+        assertFormat(Double.MAX_VALUE, "17976931348623157" + repeat('0', 292));
+    }
+
+    @Test
+    public void testMaxLength() {
+        Assert.assertEquals(ShortestDoubleFormatter.MAX_LENGTH, ShortestDoubleFormatter.format(-Double.MIN_VALUE, buffer, 0));
+        Assert.assertTrue(ShortestDoubleFormatter.format(-Double.MAX_VALUE, buffer, 0) < ShortestDoubleFormatter.MAX_LENGTH);
+    }
+
+    @Test
+    public void testNotFinite() {
+        for (double value : new double [] {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            try {
+                ShortestDoubleFormatter.format(value, buffer, 0);
+                Assert.fail("Expected failure on " + value);
+            } catch (IllegalArgumentException expected) {
+                // ok
+            }
+        }
+    }
+
+    @Test
+    public void testPrices() {
+        Random rnd = new Random(17);
+        for (int i=0; i < 100000; i++) {
+            int scale = rnd.nextInt(8);
+            long mantissa = rnd.nextInt(100000000);
+            double price = BigDecimal.valueOf(mantissa, scale).doubleValue();
+            assertFormat(price, BigDecimal.valueOf(mantissa, scale).stripTrailingZeros().toPlainString());
+        }
+    }
+
+    @Test
+    public void testRandomBits() {
+        Random rnd = new Random(42);
+        for (int i=0; i < 20000; i++) {
+            double value = Double.longBitsToDouble(rnd.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value))
+                continue;
+            assertShortest(value);
+        }
+        // subnormals and powers of two (asymmetric rounding intervals)
+        for (int i=1; i < 1000; i++)
+            assertShortest(Double.longBitsToDouble(i));
+        for (int e = -1074; e <= 1023; e++)
+            assertShortest(Math.scalb(1.0, e));
+    }
+
+    /** Verifies result against the closest decimal of the smallest number of digits that reads back to the same double */
+    private void assertShortest(double value) {
+        int length = ShortestDoubleFormatter.format(value, buffer, 0);
+        String actual = new String(buffer, 0, length);
+        Assert.assertEquals(actual, value, Double.parseDouble(actual), 0);
+
+        BigDecimal exact = new BigDecimal(value);
+        for (int digits = 1; digits <= 17; digits++) {
+            // rounding interval of powers of two is asymmetric: closest decimal may be outside while the other neighbour is inside
+            BigDecimal best = null;
+            for (RoundingMode mode : new RoundingMode[] {RoundingMode.HALF_EVEN, RoundingMode.FLOOR, RoundingMode.CEILING}) {
+                BigDecimal candidate = exact.round(new MathContext(digits, mode));
+                if (candidate.doubleValue() == value && (best == null || candidate.subtract(exact).abs().compareTo(best.subtract(exact).abs()) < 0))
+                    best = candidate;
+            }
+            if (best != null) {
+                Assert.assertEquals("Formatting " + value, 0, best.compareTo(new BigDecimal(actual)));
+                return;
+            }
+        }
+        Assert.fail("No 17-digit representation for " + value);
+    }
+
+    private void assertFormat(double value, String expected) {
+        int length = ShortestDoubleFormatter.format(value, buffer, 0);
+        Assert.assertEquals(expected, new String(buffer, 0, length));
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i=0; i < count; i++)
+            sb.append(c);
+        return sb.toString();
+    }
+
+}
@@ -20,6 +20,8 @@ import org.f1x.util.TestUtils;
 
 import java.text.DateFormat;
 import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
 
 public class Test_UTCTimestampFormatter {
 
@@ -34,6 +36,86 @@ public class Test_UTCTimestampFormatter {
         assertDateOnlyFormat(now);
     }
 
+    @Test
+    public void testRandomTimestamps () {
+        Random rnd = new Random(123);
+        long from = TestUtils.parseUTCTimestamp("19000101-00:00:00.000");
+        long to = TestUtils.parseUTCTimestamp("22000101-00:00:00.000");
+        for (int i=0; i < 100000; i++) {
+            long timestamp = from + (long) (rnd.nextDouble() * (to - from));
+            assertDateTimeFormat(timestamp);
+            assertDateOnlyFormat(timestamp);
+        }
+    }
+
+    @Test
+    public void testConsecutiveTimestamps () {
+        // crosses second, day, month, year and leap day boundaries
+        long [] starts = {
+            TestUtils.parseUTCTimestamp("20131231-23:59:58.000"),
+            TestUtils.parseUTCTimestamp("20120228-23:59:59.000"),
+            TestUtils.parseUTCTimestamp("20000229-23:59:59.000"),
+            TestUtils.parseUTCTimestamp("19691231-23:59:59.000"),
+        };
+        for (long start : starts) {
+            for (long timestamp = start; timestamp < start + 3000; timestamp += 7) {
+                assertDateTimeFormat(timestamp);
+                assertDateOnlyFormat(timestamp);
+            }
+            assertDateTimeFormat(start); // going back in time
+        }
+    }
+
+    @Test
+    public void testInterleavedDateOnly () {
+        // formatDateOnly() of another day must not corrupt cached date of formatDateTime()
+        long timestamp = TestUtils.parseUTCTimestamp("20131005-19:06:40.123");
+        assertDateTimeFormat(timestamp);
+        assertDateOnlyFormat(timestamp + 30*24*3600*1000L);
+        assertDateTimeFormat(timestamp + 5);
+        assertDateOnlyFormat(timestamp - 24*3600*1000L);
+        assertDateTimeFormat(timestamp + 10);
+        assertDateOnlyFormat(timestamp);
+        assertDateTimeFormat(timestamp + 15);
+    }
+
+    @Test
+    public void testMicrosAndNanos () {
+        long timestamp = TestUtils.parseUTCTimestamp("20131125-19:09:38.746");
+
+        byte [] buffer = new byte[TimestampFormatter.DATE_TIME_NANOS_LENGTH];
+        int length = customFormat.formatDateTimeMicros(timestamp * 1000 + 123, buffer, 0);
+        Assert.assertEquals(TimestampFormatter.DATE_TIME_MICROS_LENGTH, length);
+        Assert.assertEquals("20131125-19:09:38.746123", new String (buffer, 0, length));
+
+        length = customFormat.formatDateTimeNanos(timestamp * 1000000 + 1234, buffer, 0);
+        Assert.assertEquals(TimestampFormatter.DATE_TIME_NANOS_LENGTH, length);
+        Assert.assertEquals("20131125-19:09:38.746001234", new String (buffer, 0, length));
+
+        length = customFormat.formatDateTimeMicros(-1, buffer, 0);
+        Assert.assertEquals("19691231-23:59:59.999999", new String (buffer, 0, length));
+    }
+
+    @Test
+    public void testLocalDateOnly () {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            TimestampFormatter localFormat = TimestampFormatter.createLocalTimestampFormatter();
+            DateFormat expectedFormat = TestUtils.createDateFormat(TimestampFormatter.DATE_ONLY_FORMAT, TimeZone.getDefault());
+
+            // hourly steps across daylight saving transitions
+            long start = TestUtils.parseUTCTimestamp("20130308-00:00:00.000");
+            byte [] buffer = new byte[TimestampFormatter.DATE_ONLY_LENGTH];
+            for (long timestamp = start; timestamp < start + 5*24*3600*1000L; timestamp += 15*60*1000L) {
+                int length = localFormat.formatDateOnly(timestamp, buffer, 0);
+                Assert.assertEquals(expectedFormat.format(new Date(timestamp)), new String (buffer, 0, length));
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
     private void assertDateTimeFormat(long timestamp) {
         String expected = dateTimeFormat.format(new Date(timestamp));
 
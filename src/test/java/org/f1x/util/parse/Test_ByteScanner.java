@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.parse;
+
+import org.f1x.api.message.Tools;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class Test_ByteScanner {
+
+    private static final byte SOH = 1;
+
+    @Test
+    public void testEveryPosition() {
+        for (int length = 0; length < 40; length++) {
+            for (int position = 0; position < length; position++) {
+                byte [] buffer = filled(length, (byte) 'A');
+                buffer[position] = SOH;
+                for (int from = 0; from <= length; from++)
+                    for (int to = from; to <= length; to++)
+                        Assert.assertEquals("[" + from + "," + to + ") in " + length, (position >= from && position < to) ? position : -1, ByteScanner.indexOf(SOH, buffer, from, to));
+            }
+        }
+    }
+
+    @Test
+    public void testFirstOccurrence() {
+        byte [] buffer = "35=D\u000149=SENDER\u000156=TARGET\u0001".getBytes();
+        Assert.assertEquals(4, ByteScanner.indexOf(SOH, buffer, 0, buffer.length));
+        Assert.assertEquals(14, ByteScanner.indexOf(SOH, buffer, 5, buffer.length));
+        Assert.assertEquals(2, ByteScanner.indexOf((byte)'=', buffer, 0, buffer.length));
+    }
+
+    @Test
+    public void testRandomContent() {
+        Random random = new Random(17);
+        byte [] buffer = new byte [256];
+        for (int i=0; i < 10000; i++) {
+            random.nextBytes(buffer);
+            byte value = (byte) random.nextInt(256);
+            int from = random.nextInt(buffer.length);
+            int to = from + random.nextInt(buffer.length - from + 1);
+            Assert.assertEquals(bytewiseIndexOf(value, buffer, from, to), ByteScanner.indexOf(value, buffer, from, to));
+        }
+    }
+
+    @Test
+    public void testSum() {
+        Random random = new Random(17);
+        byte [] buffer = new byte [4096];
+        random.nextBytes(buffer);
+        Arrays.fill(buffer, 100, 2000, (byte) 0xFF); // maximum byte values for lane overflow check
+        for (int from = 0; from < 20; from++)
+            for (int to = from; to < buffer.length; to += 1 + random.nextInt(97))
+                Assert.assertEquals("[" + from + "," + to + ")", Tools.calcCheckSum(buffer, from, to - from), ByteScanner.sum(buffer, from, to));
+        Assert.assertEquals(Tools.calcCheckSum(buffer, 0, buffer.length), ByteScanner.sum(buffer, 0, buffer.length));
+    }
+
+    @Test
+    public void testRangeIsChecked() {
+        final byte [] buffer = filled(16, (byte) 'X');
+        assertOutOfBounds(buffer, 0, 17);
+        assertOutOfBounds(buffer, 8, 24);
+        assertOutOfBounds(buffer, -1, 8);
+        assertOutOfBounds(buffer, 9, 8);
+        Assert.assertEquals(-1, ByteScanner.indexOf((byte) 1, buffer, 16, 16));
+        Assert.assertEquals(0, ByteScanner.sum(buffer, 16, 16));
+    }
+
+    private static void assertOutOfBounds(byte [] buffer, int from, int to) {
+        try {
+            ByteScanner.indexOf((byte) 1, buffer, from, to);
+            Assert.fail("indexOf() accepted range [" + from + ", " + to + ")");
+        } catch (ArrayIndexOutOfBoundsException expected) {
+        }
+        try {
+            ByteScanner.sum(buffer, from, to);
+            Assert.fail("sum() accepted range [" + from + ", " + to + ")");
+        } catch (ArrayIndexOutOfBoundsException expected) {
+        }
+    }
+
+    private static int bytewiseIndexOf(byte value, byte [] buffer, int from, int to) {
+        for (int i=from; i < to; i++)
+            if (buffer[i] == value)
+                return i;
+        return -1;
+    }
+
+    private static byte [] filled(int length, byte value) {
+        byte [] result = new byte [length];
+        for (int i=0; i < length; i++)
+            result[i] = value;
+        return result;
+    }
+}
@@ -15,6 +15,7 @@
 package org.f1x.util.parse;
 
 
+import org.f1x.util.Decimal;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -81,6 +82,31 @@ public class Test_NumbersParser {
         assertLongNumber("-0", 0);
     }
 
+    @Test
+    public void decimalInputs () {
+        assertDecimalNumber("0", 0, 0);
+        assertDecimalNumber("123", 123, 0);
+        assertDecimalNumber("123.", 123, 0);
+        assertDecimalNumber("1.25", 125, 2);
+        assertDecimalNumber("1.250", 1250, 3);
+        assertDecimalNumber("-0.001", -1, 3);
+        assertDecimalNumber("+.5", 5, 1);
+        assertDecimalNumber("0000123.4500", 1234500, 4);
+        assertDecimalNumber("9223372036854775807", Long.MAX_VALUE, 0);
+        assertDecimalNumber("-922337203.6854775807", -Long.MAX_VALUE, 10);
+        assertDecimalNumber("0.000000000000000001", 1, 18);
+
+        assertBadDecimalNumber("");
+        assertBadDecimalNumber("-");
+        assertBadDecimalNumber(".");
+        assertBadDecimalNumber("1.2.3");
+        assertBadDecimalNumber("1,5");
+        assertBadDecimalNumber(" 1.5");
+        assertBadDecimalNumber("1-");
+        assertBadDecimalNumber("9223372036854775808");
+        assertBadDecimalNumber("0.0000000000000000001");
+    }
+
     @Test
     @Ignore //TODO
     public void tooLargeIntegers () {
@@ -134,6 +160,24 @@ public class Test_NumbersParser {
         assertEquals(number, parsedValue);
     }
 
+    private static void assertDecimalNumber (String value, long expectedMantissa, int expectedScale) {
+        byte[] valueBytes = value.getBytes();
+        Decimal decimal = new Decimal();
+        NumbersParser.parseDecimal(wrap(valueBytes), 1, valueBytes.length, decimal);
+        Assert.assertEquals("mantissa of " + value, expectedMantissa, decimal.getMantissa());
+        Assert.assertEquals("scale of " + value, expectedScale, decimal.getScale());
+    }
+
+    private static void assertBadDecimalNumber(String value) {
+        byte[] valueBytes = value.getBytes();
+        Decimal decimal = new Decimal();
+        try {
+            NumbersParser.parseDecimal(wrap(valueBytes), 1, valueBytes.length, decimal);
+            fail("Parser was expected to fail on \"" + value + "\" but instead it produced: " + decimal);
+        } catch (Exception expected) {
+        }
+    }
+
     private static void assertDoubleParser(double number) {
         String value = Double.toString(number);
         byte[] valueBytes = value.getBytes();
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.parse;
+
+import org.f1x.api.FixParserException;
+import org.f1x.util.TestUtils;
+import org.f1x.util.format.TimestampFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Random;
+import java.util.TimeZone;
+
+public class Test_TimestampParser {
+
+    private final TimestampParser parser = TimestampParser.createUTCTimestampParser();
+
+    @Test
+    public void testSimple() {
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20131125-19:09:38.746"), parseTimestamp("20131125-19:09:38.746"));
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20131125-19:09:38.000"), parseTimestamp("20131125-19:09:38"));
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("19691231-23:59:59.999"), parseTimestamp("19691231-23:59:59.999"));
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20000229-00:00:00.000"), parseDate("20000229"));
+        Assert.assertEquals(0, parseDate("19700101"));
+    }
+
+    @Test
+    public void testMicrosAndNanos() {
+        long millis = TestUtils.parseUTCTimestamp("20131125-19:09:38.746");
+        Assert.assertEquals(millis, parseTimestamp("20131125-19:09:38.746123"));
+        Assert.assertEquals(millis, parseTimestamp("20131125-19:09:38.746123456"));
+
+        byte [] value = "20131125-19:09:38.746123456".getBytes();
+        Assert.assertEquals(millis * 1000 + 123, parser.getUTCTimestampMicros(value, 0, value.length));
+        Assert.assertEquals(millis * 1000000 + 123456, parser.getUTCTimestampNanos(value, 0, value.length));
+
+        value = "20131125-19:09:38.746".getBytes();
+        Assert.assertEquals(millis * 1000, parser.getUTCTimestampMicros(value, 0, value.length));
+        Assert.assertEquals(millis * 1000000, parser.getUTCTimestampNanos(value, 0, value.length));
+
+        value = "20131125-19:09:38".getBytes();
+        Assert.assertEquals((millis - 746) * 1000000, parser.getUTCTimestampNanos(value, 0, value.length));
+    }
+
+    @Test
+    public void testFormatterRoundTrip() {
+        TimestampFormatter formatter = TimestampFormatter.createUTCTimestampFormatter();
+        byte [] buffer = new byte[TimestampFormatter.DATE_TIME_NANOS_LENGTH];
+
+        Random rnd = new Random(321);
+        long from = TestUtils.parseUTCTimestamp("17000101-00:00:00.000");
+        long to = TestUtils.parseUTCTimestamp("22000101-00:00:00.000");
+        for (int i=0; i < 100000; i++) {
+            long timestamp = from + (long) (rnd.nextDouble() * (to - from));
+            int length = formatter.formatDateTime(timestamp, buffer, 0);
+            Assert.assertEquals(timestamp, parser.getUTCTimestampValue(buffer, 0, length));
+
+            long micros = timestamp * 1000 + rnd.nextInt(1000);
+            length = formatter.formatDateTimeMicros(micros, buffer, 0);
+            Assert.assertEquals(micros, parser.getUTCTimestampMicros(buffer, 0, length));
+        }
+    }
+
+    @Test
+    public void testSameDateCache() {
+        // alternate between dates that share some digits
+        for (int i=0; i < 3; i++) {
+            Assert.assertEquals(TestUtils.parseUTCTimestamp("20131125-00:00:01.000"), parseTimestamp("20131125-00:00:01.000"));
+            Assert.assertEquals(TestUtils.parseUTCTimestamp("20131126-00:00:01.000"), parseTimestamp("20131126-00:00:01.000"));
+            Assert.assertEquals(TestUtils.parseUTCTimestamp("20131126-00:00:00.000"), parseDate("20131126"));
+        }
+    }
+
+    @Test
+    public void testLocalDateOnly() throws ParseException {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            TimestampParser localParser = TimestampParser.createLocalTimestampParser();
+            DateFormat expectedFormat = TestUtils.createDateFormat(TimestampFormatter.DATE_ONLY_FORMAT, TimeZone.getDefault());
+            for (String date : new String [] {"20130309", "20130310", "20130311", "20131103", "20131104", "20130101", "20130701"}) {
+                byte [] value = date.getBytes();
+                Assert.assertEquals(date, expectedFormat.parse(date).getTime(), localParser.getUTCDateOnly(value, 0, value.length));
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testMonthLength() {
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20120229-00:00:00.000"), parseDate("20120229")); // leap year
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20000229-00:00:00.000"), parseDate("20000229")); // divisible by 400
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20131130-00:00:00.000"), parseDate("20131130"));
+        Assert.assertEquals(TestUtils.parseUTCTimestamp("20131231-00:00:00.000"), parseDate("20131231"));
+        for (String date : new String [] {"20120231", "20130229", "21000229", "20130431", "20130631", "20130931", "20131131"}) {
+            try {
+                parseDate(date);
+                Assert.fail("Expected to detect invalid date " + date);
+            } catch (FixParserException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testBadTimestamps() {
+        assertBad("");
+        assertBad("2013112");
+        assertBad("20131125");
+        assertBad("20131125-19:09");
+        assertBad("20131125-19:09:3");
+        assertBad("20131125-19:09:38.");
+        assertBad("20131125-19:09:38.7");
+        assertBad("20131125-19:09:38.7461");
+        assertBad("20131125 19:09:38.746");
+        assertBad("20131125-19-09:38.746");
+        assertBad("20131125-19:09-38.746");
+        assertBad("20131125-19:09:38:746");
+        assertBad("2013112A-19:09:38.746");
+        assertBad("20131325-19:09:38.746");
+        assertBad("20131100-19:09:38.746");
+        assertBad("20131132-19:09:38.746");
+        assertBad("20131131-19:09:38.746");
+        assertBad("20120230-19:09:38.746");
+        assertBad("20130229-19:09:38.746");
+        assertBad("19000229-19:09:38.746");
+        assertBad("20131125-24:09:38.746");
+        assertBad("20131125-19:60:38.746");
+        assertBad("20131125-19:09:61.746");
+        assertBad("20131125-19:09:38.7A6");
+        assertBad("20131125-19:09:38.746123A");
+        assertBad("20131125-19:09:38.746abc");       // truncated digits are validated too
+        assertBad("20131125-19:09:38.746123abc");
+        assertBad("20131125-19:09:38.7461234-6");
+    }
+
+    private long parseTimestamp(String value) {
+        byte [] bytes = value.getBytes();
+        return parser.getUTCTimestampValue(bytes, 0, bytes.length);
+    }
+
+    private long parseDate(String value) {
+        byte [] bytes = value.getBytes();
+        return parser.getUTCDateOnly(bytes, 0, bytes.length);
+    }
+
+    private void assertBad(String input) {
+        try {
+            parseTimestamp(input);
+            Assert.fail("Expected to detect a problem in timestamp \"" + input + '"');
+        } catch (FixParserException expected) {
+        }
+    }
+
+}
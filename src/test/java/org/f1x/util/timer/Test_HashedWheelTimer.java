@@ -0,0 +1,251 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.util.timer;
+
+import org.f1x.util.TimeSource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ThreadFactory;
+
+public class Test_HashedWheelTimer {
+
+    private static final long TICK = 10;
+
+    private final ManualTimeSource timeSource = new ManualTimeSource();
+    private HashedWheelTimer timer;
+
+    @Before
+    public void init() {
+        timeSource.time = 1000;
+        timer = new HashedWheelTimer(timeSource, TICK, 8);
+    }
+
+    @Test
+    public void singleExecution() {
+        CountingTask action = new CountingTask();
+        HashedWheelTimer.Task task = new HashedWheelTimer.Task(action);
+        timer.schedule(task, 25);
+        Assert.assertTrue(task.isScheduled());
+
+        advanceTo(1020);
+        Assert.assertEquals("Should not run early", 0, action.count);
+        advanceTo(1030);
+        Assert.assertEquals(1, action.count);
+        Assert.assertFalse(task.isScheduled());
+
+        advanceTo(2000);
+        Assert.assertEquals(1, action.count);
+    }
+
+    @Test
+    public void moreThanOneRevolution() {
+        CountingTask action = new CountingTask();
+        timer.schedule(new HashedWheelTimer.Task(action), 8*TICK*3 + 5); // wheel is 8 ticks
+
+        advanceTo(1000 + 8*TICK*3);
+        Assert.assertEquals(0, action.count);
+        advanceTo(1000 + 8*TICK*3 + TICK);
+        Assert.assertEquals(1, action.count);
+    }
+
+    @Test
+    public void periodicExecution() {
+        CountingTask action = new CountingTask();
+        HashedWheelTimer.Task task = new HashedWheelTimer.Task(action);
+        timer.schedule(task, 100, 100);
+
+        for (int i=1; i <= 5; i++) {
+            advanceTo(1000 + i*100);
+            Assert.assertEquals(i, action.count);
+        }
+
+        task.cancel();
+        advanceTo(3000);
+        Assert.assertEquals(5, action.count);
+    }
+
+    @Test
+    public void cancelAndReschedule() {
+        CountingTask action = new CountingTask();
+        HashedWheelTimer.Task task = new HashedWheelTimer.Task(action);
+        timer.schedule(task, 50);
+        task.cancel();
+        Assert.assertFalse(task.isScheduled());
+        advanceTo(1100);
+        Assert.assertEquals(0, action.count);
+
+        timer.schedule(task, 50);
+        timer.schedule(task, 200); // re-schedule replaces previous deadline
+        advanceTo(1200);
+        Assert.assertEquals(0, action.count);
+        advanceTo(1300);
+        Assert.assertEquals(1, action.count);
+    }
+
+    @Test
+    public void manyTasksInSameBucket() {
+        CountingTask action = new CountingTask();
+        HashedWheelTimer.Task [] tasks = new HashedWheelTimer.Task[10];
+        for (int i=0; i < tasks.length; i++) {
+            tasks[i] = new HashedWheelTimer.Task(action);
+            timer.schedule(tasks[i], 50);
+        }
+        tasks[0].cancel();
+        tasks[5].cancel();
+        tasks[9].cancel();
+
+        advanceTo(1050);
+        Assert.assertEquals(7, action.count);
+    }
+
+    @Test
+    public void taskFailureDoesNotAffectOthers() {
+        CountingTask action = new CountingTask();
+        timer.schedule(new HashedWheelTimer.Task(new Runnable() {
+            @Override
+            public void run() {
+                throw new RuntimeException("Expected");
+            }
+        }), 10);
+        timer.schedule(new HashedWheelTimer.Task(action), 10);
+
+        advanceTo(1010);
+        Assert.assertEquals(1, action.count);
+    }
+
+    @Test
+    public void cancelAfterExpiration() {
+        // both tasks expire on the same tick; whichever runs first cancels the other one
+        final CountingTask action = new CountingTask();
+        final HashedWheelTimer.Task [] tasks = new HashedWheelTimer.Task[2];
+        for (int i=0; i < tasks.length; i++) {
+            final int other = 1 - i;
+            tasks[i] = new HashedWheelTimer.Task(new Runnable() {
+                @Override
+                public void run() {
+                    action.run();
+                    tasks[other].cancel();
+                }
+            });
+        }
+        timer.schedule(tasks[0], 50);
+        timer.schedule(tasks[1], 50, 100);
+
+        advanceTo(1050);
+        Assert.assertEquals("Cancelled task should not run", 1, action.count);
+        advanceTo(2000);
+        Assert.assertTrue(action.count <= 2);
+    }
+
+    @Test
+    public void rescheduleAfterExpiration() {
+        // both tasks expire on the same tick; whichever runs first moves the other one
+        final CountingTask action = new CountingTask();
+        final HashedWheelTimer.Task [] tasks = new HashedWheelTimer.Task[2];
+        for (int i=0; i < tasks.length; i++) {
+            final int other = 1 - i;
+            tasks[i] = new HashedWheelTimer.Task(new Runnable() {
+                @Override
+                public void run() {
+                    action.run();
+                    timer.schedule(tasks[other], 100);
+                }
+            });
+            timer.schedule(tasks[i], 50);
+        }
+
+        advanceTo(1050);
+        Assert.assertEquals("Re-scheduled task should not run", 1, action.count);
+        advanceTo(1150);
+        Assert.assertEquals(2, action.count);
+        advanceTo(1250);
+        Assert.assertEquals(3, action.count);
+    }
+
+    @Test(timeout = 10000)
+    public void threadFactoryDecidesDaemonFlag() throws InterruptedException {
+        HashedWheelTimer realTimer = new HashedWheelTimer(org.f1x.util.RealTimeSource.INSTANCE, 1, 64);
+        final Thread [] created = new Thread[1];
+        realTimer.start(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread result = new Thread(r, "Custom Timer");
+                result.setDaemon(false);
+                created[0] = result;
+                return result;
+            }
+        });
+        try {
+            Assert.assertFalse(created[0].isDaemon());
+        } finally {
+            realTimer.stop();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void timerThread() throws InterruptedException {
+        HashedWheelTimer realTimer = new HashedWheelTimer(org.f1x.util.RealTimeSource.INSTANCE, 1, 64);
+        final Object lock = new Object();
+        final CountingTask action = new CountingTask() {
+            @Override
+            public void run() {
+                synchronized (lock) {
+                    super.run();
+                    lock.notifyAll();
+                }
+            }
+        };
+        realTimer.start(null);
+        try {
+            realTimer.schedule(new HashedWheelTimer.Task(action), 5, 5);
+            synchronized (lock) {
+                while (action.count < 3)
+                    lock.wait();
+            }
+        } finally {
+            realTimer.stop();
+        }
+    }
+
+    private void advanceTo(long time) {
+        timeSource.time = time;
+        timer.expireTasks(time);
+    }
+
+    private static class CountingTask implements Runnable {
+        volatile int count;
+
+        @Override
+        public void run() {
+            count++;
+        }
+    }
+
+    private static class ManualTimeSource implements TimeSource {
+        long time;
+
+        @Override
+        public long currentTimeMillis() {
+            return time;
+        }
+
+        @Override
+        public void sleep(long millis) throws InterruptedException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.f1x.v1;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/** Compares word-at-a-time SOH scanning of DefaultMessageParser and IndexedMessageParser with byte-at-a-time scanning */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 4, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class Benchmark_MessageParsers {
+
+    private static final String LOGON = "8=FIX.4.4\u00019=116\u000135=A\u000134=1\u000149=DEMO2Kweoj_DEMOFIX\u000152=20121009-13:14:57.089\u000156=DUKASCOPYFIX\u000198=0\u0001108=30\u0001141=Y\u0001553=DEMO2Kweoj\u0001554=**********\u000110=202\u0001";
+    private static final String REJECT = "8=FIX.4.4\u00019=251\u000135=8\u000134=7\u000149=DUKASCOPYFIX\u000152=20121009-13:59:21.158\u000156=DEMO2Kweoj_DEMOFIX\u00016=0\u000111=506\u000114=0\u000117=506\u000137=506\u000138=0\u000139=8\u000154=7\u000155=UNKNOWN\u000158=Your order has been rejected due to validation failure.  Order amount can't be less than <MIN_OPEN_AMOUNT>\u0001150=8\u0001151=0\u000110=196\u0001";
+
+    @Param({"logon", "reject", "marketData"})
+    private String message;
+
+    private byte [] buffer;
+    private final DefaultMessageParser defaultParser = new DefaultMessageParser();
+    private final IndexedMessageParser indexedParser = new IndexedMessageParser();
+    private final BytewiseParser bytewiseParser = new BytewiseParser();
+
+    @Setup
+    public void init() {
+        switch (message) {
+            case "logon":  buffer = LOGON.getBytes(); break;
+            case "reject": buffer = REJECT.getBytes(); break;
+            default:       buffer = marketDataSnapshot(100).getBytes(); break;
+        }
+    }
+
+    @GenerateMicroBenchmark
+    public int measureBytewiseParser() {
+        bytewiseParser.set(buffer, 0, buffer.length);
+        int result = 0;
+        while (bytewiseParser.next())
+            result += bytewiseParser.tagNum + bytewiseParser.valueLength;
+        return result;
+    }
+
+    @GenerateMicroBenchmark
+    public int measureDefaultParser() {
+        defaultParser.set(buffer, 0, buffer.length);
+        int result = 0;
+        while (defaultParser.next())
+            result += defaultParser.getTagNum();
+        return result;
+    }
+
+    @GenerateMicroBenchmark
+    public int measureIndexedParser() {
+        indexedParser.set(buffer, 0, buffer.length);
+        return indexedParser.getFieldCount();
+    }
+
+    private static String marketDataSnapshot(int numberOfEntries) {
+        StringBuilder sb = new StringBuilder(64 * numberOfEntries);
+        sb.append("8=FIX.4.4\u00019=0\u000135=W\u000134=7\u000149=SENDER\u000152=20121009-13:59:21.158\u000156=TARGET\u0001262=REQ123456789\u000155=EUR/USD\u0001268=").append(numberOfEntries).append('\u0001');
+        for (int i=0; i < numberOfEntries; i++) {
+            sb.append("269=").append(i & 1).append('\u0001');
+            sb.append("270=1.3").append(5000 + i).append('\u0001');
+            sb.append("271=").append(1000000 * (1 + i % 5)).append('\u0001');
+            sb.append("278=ENTRY-ID-").append(i).append('\u0001');
+            sb.append("299=QUOTE-ENTRY-ID-").append(i).append('\u0001');
+        }
+        sb.append("10=000\u0001");
+        return sb.toString();
+    }
+
+    /** Byte-at-a-time reference tokenizer (former DefaultMessageParser algorithm) */
+    private static final class BytewiseParser {
+        private byte [] buffer;
+        private int offset, limit;
+        int tagNum, valueOffset, valueLength;
+
+        void set(byte [] buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.limit = offset + length;
+        }
+
+        boolean next() {
+            boolean isParsingTagNum = true;
+            tagNum = 0;
+            while (offset < limit) {
+                byte ch = buffer[offset++];
+                if (isParsingTagNum) {
+                    if (ch >= '0' && ch <= '9') {
+                        tagNum = 10*tagNum + (ch - '0');
+                    } else
+                    if (ch == '=') {
+                        isParsingTagNum = false;
+                        valueOffset = offset;
+                        valueLength = 0;
+                    } else {
+                        throw new IllegalStateException();
+                    }
+                } else {
+                    if (ch == 1)
+                        return true;
+                    valueLength++;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + Benchmark_MessageParsers.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
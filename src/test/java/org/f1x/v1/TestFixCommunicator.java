@@ -26,7 +26,11 @@ class TestFixCommunicator extends FixCommunicator {
     private final SessionID sessionID;
 
     public TestFixCommunicator(SessionID sessionID, TimeSource timeSource, InputChannel in, OutputChannel out) {
-        super(FixVersion.FIX44, new FixSettings(), timeSource);
+        this(sessionID, new FixSettings(), timeSource, in, out);
+    }
+
+    public TestFixCommunicator(SessionID sessionID, FixSettings settings, TimeSource timeSource, InputChannel in, OutputChannel out) {
+        super(FixVersion.FIX44, settings, timeSource);
 
         this.sessionID = sessionID;
 
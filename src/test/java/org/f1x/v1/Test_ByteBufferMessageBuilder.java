@@ -17,6 +17,7 @@ package org.f1x.v1;
 import org.junit.Assert;
 import org.junit.Test;
 import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.Tools;
 import org.f1x.api.message.fields.*;
 import org.f1x.util.TestUtils;
 
@@ -48,10 +49,11 @@ public class Test_ByteBufferMessageBuilder {
         mb.addRaw(16, rawField, 0, rawField.length);
         mb.add(17).append((byte)'A').append('B').append("CD").append("**EF**", 2, 4).append(123).append(456L).append(.001).end();
         mb.addLocalMktDate2(18, 20140607);
+        mb.addDecimal(19, 150, 2);
 
         assertContentEquals("1=ABC|2=B|3=123|4=123|5=3.142|6=x|7=Y|8=N|9=1|10=3|11=B|12=20121009-13:44:49.421|13=20121009|14=13:44:49.421|15=" +
                 getMktDateFromUTCTimestamp(utcTimestampForMktDate) +
-                "|16=RAW|17=ABCDEF1234560.001|18=20140607|");
+                "|16=RAW|17=ABCDEF1234560.001|18=20140607|19=1.50|");
     }
 
     @Test
@@ -84,6 +86,16 @@ public class Test_ByteBufferMessageBuilder {
         assertContentEquals("268=2|269=0|270=12.32|271=100|299=BID123|269=1|270=12.32|271=100|299=OFFER123|");
     }
 
+    @Test
+    public void testByteSumAfterClear () {
+        mb.add(FixTags.Text, "Hello");
+        mb.getByteSum();
+        mb.clear();
+        Assert.assertEquals(0, mb.getByteSum());
+        mb.add(FixTags.Text, "World");
+        assertContentEquals("58=World|");
+    }
+
     @Test
     public void testMessageTooLarge () throws UnsupportedEncodingException {
         byte [] largeField = new byte [200];
@@ -103,6 +115,7 @@ public class Test_ByteBufferMessageBuilder {
         mb.output(buffer, 0);
         String actual = new String(buffer).replace('\u0001', '|');
         Assert.assertEquals(expected, actual);
+        Assert.assertEquals("byte sum", Tools.calcCheckSum(buffer, buffer.length), mb.getByteSum());
     }
 
     private String getMktDateFromUTCTimestamp(String utc) {
@@ -24,6 +24,7 @@ import org.f1x.api.message.fields.Side;
 import org.f1x.api.message.types.ByteEnumLookup;
 import org.f1x.api.message.types.IntEnumLookup;
 import org.f1x.util.ByteArrayReference;
+import org.f1x.util.Decimal;
 import org.f1x.util.TestUtils;
 import org.f1x.util.format.TimestampFormatter;
 
@@ -104,11 +105,12 @@ public class Test_DefaultMessageParser {
         mb.addLocalMktDate(14, localDateFormat.parse("20121122").getTime());
         byte [] rawField = "RAW".getBytes();
         mb.addRaw(15, rawField, 0, rawField.length);
+        mb.addDecimal(16, -12345, 3);
 
         byte [] buffer = new byte[mb.getLength()];
         mb.output(buffer, 0);
 
-        assertMessageEquals("1=ABC|2=123|3=123|4=3.14159|5=x|6=Y|7=N|8=1|9=3|10=B|11=20121009-13:44:49.421|12=20121009|13=13:44:49.421|14=20121122|15=RAW|", new String(buffer));
+        assertMessageEquals("1=ABC|2=123|3=123|4=3.14159|5=x|6=Y|7=N|8=1|9=3|10=B|11=20121009-13:44:49.421|12=20121009|13=13:44:49.421|14=20121122|15=RAW|16=-12.345|", new String(buffer));
 
         DefaultMessageParser parser = new DefaultMessageParser();
         parser.set(buffer, 0, buffer.length);
@@ -116,6 +118,7 @@ public class Test_DefaultMessageParser {
         IntEnumLookup<OrdRejReason> rejReasonIntEnumLookup = new IntEnumLookup<>(OrdRejReason.class);
         //StringEnumLookup<Side> sideByteEnumLookup1 = new StringEnumLookup<>(Side.class);
         ByteArrayReference array = new ByteArrayReference();
+        Decimal decimal = new Decimal();
         while (parser.next()) {
             switch (parser.getTagNum()) {
                 case 1: assertEquals("ABC", String.valueOf(parser.getCharSequenceValue())); break;
@@ -135,6 +138,10 @@ public class Test_DefaultMessageParser {
                     assertEquals("20121122", localDateFormat.format(new Date(parser.getLocalMktDate())));
                     assertEquals(20121122, parser.getLocalMktDate2()); break;
                 case 15: parser.getByteSequence(array); assertEquals("RAW", array.toString()); break;
+                case 16:
+                    parser.getDecimal(decimal);
+                    assertEquals(-12345, decimal.getMantissa());
+                    assertEquals(3, decimal.getScale()); break;
             }
         }
     }
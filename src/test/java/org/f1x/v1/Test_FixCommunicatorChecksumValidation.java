@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.SessionIDBean;
+import org.f1x.api.ChecksumValidation;
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.Tools;
+import org.f1x.io.EmptyOutputChannel;
+import org.f1x.io.PredefinedInputChannel;
+import org.f1x.util.AsciiUtils;
+import org.f1x.util.StoredTimeSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Test_FixCommunicatorChecksumValidation {
+
+    private static final String BODY_1 = "8=FIX.4.4|9=67|35=1|34=1|49=CLIENT|52=20140101-10:10:10.100|56=SERVER|112=TEST123|";
+    private static final String BODY_2 = "8=FIX.4.4|9=67|35=1|34=2|49=CLIENT|52=20140101-10:10:10.100|56=SERVER|112=TEST456|";
+
+    @Test
+    public void testValidChecksum() {
+        String message1 = withChecksum(BODY_1);
+        String message2 = withChecksum(BODY_2);
+        assertProcessedMessages(ChecksumValidation.DISCONNECT, new String[] {message1, message2}, message1, message2);
+    }
+
+    @Test
+    public void testNoValidation() {
+        String garbled = BODY_1 + "10=000|";
+        assertProcessedMessages(ChecksumValidation.NONE, new String[] {garbled}, garbled);
+    }
+
+    @Test
+    public void testIgnoreGarbledMessage() {
+        String garbled = withChecksum(BODY_1).replace("TEST123", "TEST124");
+        String message2 = withChecksum(BODY_2);
+        assertProcessedMessages(ChecksumValidation.IGNORE, new String[] {garbled, message2}, message2);
+    }
+
+    @Test
+    public void testIgnoreMalformedChecksumField() {
+        String message2 = withChecksum(BODY_2);
+        assertProcessedMessages(ChecksumValidation.IGNORE, new String[] {BODY_1 + "10=1A3|", BODY_1 + "11=123|", message2}, message2);
+    }
+
+    @Test
+    public void testDisconnectOnGarbledMessage() {
+        String garbled = withChecksum(BODY_1).replace("TEST123", "TEST124");
+        MessageCollectingTestFixCommunicator fix = createCommunicator(ChecksumValidation.DISCONNECT, garbled, withChecksum(BODY_2));
+        fix.processInboundMessages();
+        Assert.assertEquals(0, fix.parsedMessages.size());
+        Assert.assertEquals("Protocol Error: Message has invalid CheckSum(10)", fix.error);
+    }
+
+    @Test
+    public void testLongMessage() {
+        StringBuilder text = new StringBuilder();
+        for (int i=0; i < 300; i++)
+            text.append((char)('A' + i % 26));
+        String body = "35=B|34=1|49=CLIENT|52=20140101-10:10:10.100|56=SERVER|148=" + text + "|";
+        String message = withChecksum("8=FIX.4.4|9=" + body.length() + "|" + body);
+        assertProcessedMessages(ChecksumValidation.DISCONNECT, new String[] {message}, message);
+    }
+
+    private static void assertProcessedMessages(ChecksumValidation validation, String [] input, String ... expected) {
+        MessageCollectingTestFixCommunicator fix = createCommunicator(validation, input);
+        fix.processInboundMessages();
+        Assert.assertNull(fix.error);
+        Assert.assertEquals("number of messages", expected.length, fix.parsedMessages.size());
+        for (int i=0; i < expected.length ; i++)
+            Assert.assertEquals(expected[i], fix.parsedMessages.get(i));
+    }
+
+    private static MessageCollectingTestFixCommunicator createCommunicator(ChecksumValidation validation, String ... input) {
+        MessageCollectingTestFixCommunicator fix = new MessageCollectingTestFixCommunicator();
+        fix.getSettings().setInboundChecksumValidation(validation);
+        fix.connect(new PredefinedInputChannel(input), new EmptyOutputChannel());
+        return fix;
+    }
+
+    private static String withChecksum(String message) {
+        byte [] bytes = AsciiUtils.getBytes(message.replace('|', '\u0001'));
+        int checksum = Tools.calcCheckSum(bytes, bytes.length);
+        return message + "10=" + (checksum / 100) + (checksum / 10 % 10) + (checksum % 10) + "|";
+    }
+
+    private static class MessageCollectingTestFixCommunicator extends TestFixCommunicator {
+        private final List<String> parsedMessages = new ArrayList<>();
+        private String error;
+
+        MessageCollectingTestFixCommunicator() {
+            super(new SessionIDBean("CLIENT", "SERVER"), StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"));
+        }
+
+        @Override
+        protected void processInboundMessage(MessageParser parser, CharSequence msgType, int msgSeqNum) {
+            parsedMessages.add(MessageParser2String.convert(parser).replace('\u0001', '|'));
+        }
+
+        @Override
+        protected void errorProcessingMessage(String errorText, Exception e, boolean logStackTrace) {
+            if (e != ConnectionProblemException.NO_SOCKET_DATA)
+                error = errorText + ": " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.f1x.v1;
+
+import org.f1x.SessionIDBean;
+import org.f1x.api.FixSettings;
+import org.f1x.api.WaitStrategyType;
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.MsgType;
+import org.f1x.io.EmptyInputChannel;
+import org.f1x.io.TextOutputChannel;
+import org.f1x.store.InMemoryMessageStore;
+import org.f1x.store.MessageStore;
+import org.f1x.util.StoredTimeSource;
+import org.f1x.v1.state.TestSessionState;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Verify that messages sent by concurrent producers in multi-producer mode reach the wire in sequence number order */
+public class Test_FixCommunicatorMultiProducerSend {
+
+    private static final int NUM_PRODUCERS = 4;
+    private static final int NUM_MESSAGES = 1000;
+
+    @Test(timeout = 30000)
+    public void testConcurrentProducers() throws Exception {
+        final FixSettings settings = new FixSettings();
+        settings.setMultiProducerSend(true);
+        settings.setOutboundRingSize(64); // small ring to exercise wrapping
+        assertConcurrentProducers(settings);
+    }
+
+    @Test(timeout = 30000)
+    public void testYieldingWriterFromThreadFactory() throws Exception {
+        final AtomicInteger threadsCreated = new AtomicInteger();
+        final FixSettings settings = new FixSettings();
+        settings.setMultiProducerSend(true);
+        settings.setWaitStrategy(WaitStrategyType.YIELDING);
+        settings.setThreadFactory(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                threadsCreated.incrementAndGet();
+                Thread result = new Thread(r, "Pinned Writer");
+                result.setDaemon(true);
+                return result;
+            }
+        });
+        assertConcurrentProducers(settings);
+        Assert.assertEquals(1, threadsCreated.get());
+    }
+
+    @Test(timeout = 30000)
+    public void testSendRequiresConnect() throws Exception {
+        final FixSettings settings = new FixSettings();
+        settings.setMultiProducerSend(true);
+        settings.setSendRequiresConnect(true);
+        final FixCommunicator fix = new TestFixCommunicator(new SessionIDBean("CLIENT", "SERVER"), settings, StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"), new EmptyInputChannel(), new TextOutputChannel());
+        fix.init();
+        fix.disconnect("Test");
+        try {
+            fix.send(createMessage(fix));
+            Assert.fail("Send must fail when not connected");
+        } catch (IllegalStateException expected) {
+        } finally {
+            fix.destroy();
+        }
+        Assert.assertEquals(1, fix.getSessionState().getNextSenderSeqNum());
+    }
+
+    /** Message queued before connection was lost must remain available for resend */
+    @Test(timeout = 30000)
+    public void testQueuedMessageIsStoredWhenDisconnected() throws Exception {
+        final FixSettings settings = new FixSettings();
+        settings.setMultiProducerSend(true);
+        settings.setSendRequiresConnect(true);
+        final TextOutputChannel out = new SynchronizedTextOutputChannel();
+        final MessageStore messageStore = new InMemoryMessageStore(1 << 12);
+        final FixCommunicator fix = new TestFixCommunicator(new SessionIDBean("CLIENT", "SERVER"), settings, StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"), new EmptyInputChannel(), out);
+        fix.setSessionState(new TestSessionState());
+        fix.setMessageStore(messageStore);
+        fix.send(createMessage(fix)); // writer is not started yet
+        fix.disconnect("Test");
+
+        fix.init();
+        while (fix.getSessionState().getNextSenderSeqNum() == 1)
+            Thread.sleep(10);
+        fix.destroy();
+
+        Assert.assertEquals("", out.toString());
+        byte [] buffer = new byte [256];
+        Assert.assertEquals(1, messageStore.get(1, buffer));
+        int length = 0;
+        while (buffer[length] != 0)
+            length++;
+        Assert.assertTrue(new String(buffer, 0, length).contains("\u000134=1\u0001"));
+    }
+
+    @Test(timeout = 30000)
+    public void testSendErrorIsReported() throws Exception {
+        final FixSettings settings = new FixSettings();
+        settings.setMultiProducerSend(true);
+        final CountDownLatch errorReported = new CountDownLatch(1);
+        final AtomicReference<Exception> sendError = new AtomicReference<>();
+        final FixCommunicator fix = new TestFixCommunicator(new SessionIDBean("CLIENT", "SERVER"), settings, StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"), new EmptyInputChannel(), new BrokenOutputChannel()) {
+            @Override
+            protected void errorSendingMessage(Exception e) {
+                sendError.set(e);
+                errorReported.countDown();
+            }
+        };
+        fix.init();
+        try {
+            fix.send(createMessage(fix)); // error happens in writer thread
+            errorReported.await();
+        } finally {
+            fix.destroy();
+        }
+        Assert.assertEquals("Broken pipe", sendError.get().getMessage());
+    }
+
+    private static MessageBuilder createMessage(FixCommunicator fix) {
+        MessageBuilder mb = fix.createMessageBuilder();
+        mb.setMessageType(MsgType.ORDER_CANCEL_REQUEST);
+        mb.add(FixTags.ClOrdID, 123);
+        return mb;
+    }
+
+    private static void assertConcurrentProducers(FixSettings settings) throws Exception {
+        final TextOutputChannel out = new SynchronizedTextOutputChannel();
+        final FixCommunicator fix = new TestFixCommunicator(new SessionIDBean("CLIENT", "SERVER"), settings, StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"), new EmptyInputChannel(), out);
+        fix.init();
+
+        final CountDownLatch finished = new CountDownLatch(NUM_PRODUCERS);
+        final AtomicReference<Throwable> producerError = new AtomicReference<>();
+        for (int i = 0; i < NUM_PRODUCERS; i++) {
+            final int producerId = i;
+            new Thread("Producer#" + i) {
+                @Override
+                public void run() {
+                    MessageBuilder mb = fix.createMessageBuilder();
+                    try {
+                        for (int j = 0; j < NUM_MESSAGES; j++) {
+                            mb.clear();
+                            mb.setMessageType(MsgType.ORDER_CANCEL_REQUEST);
+                            mb.add(FixTags.ClOrdID, producerId * NUM_MESSAGES + j);
+                            fix.send(mb);
+                        }
+                    } catch (Throwable e) {
+                        producerError.compareAndSet(null, e);
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            }.start();
+        }
+        finished.await();
+        if (producerError.get() != null) {
+            fix.destroy();
+            throw new AssertionError("Producer failed: " + producerError.get(), producerError.get());
+        }
+
+        while (fix.getSessionState().getNextSenderSeqNum() <= NUM_PRODUCERS * NUM_MESSAGES)
+            Thread.sleep(10);
+        fix.destroy();
+
+        final int [] lastClOrdId = new int [NUM_PRODUCERS];
+        for (int i = 0; i < NUM_PRODUCERS; i++)
+            lastClOrdId[i] = i * NUM_MESSAGES - 1;
+
+        Matcher matcher = Pattern.compile("\\|34=(\\d+)\\|.*?\\|11=(\\d+)\\|10=\\d{3}\\|").matcher(out.toString());
+        int expectedMsgSeqNum = 1;
+        while (matcher.find()) {
+            Assert.assertEquals("MsgSeqNum", expectedMsgSeqNum++, Integer.parseInt(matcher.group(1)));
+
+            int clOrdId = Integer.parseInt(matcher.group(2));
+            int producerId = clOrdId / NUM_MESSAGES;
+            Assert.assertEquals("Order of producer " + producerId, lastClOrdId[producerId] + 1, clOrdId);
+            lastClOrdId[producerId] = clOrdId;
+        }
+        Assert.assertEquals("Message count", NUM_PRODUCERS * NUM_MESSAGES, expectedMsgSeqNum - 1);
+    }
+
+    private static final class BrokenOutputChannel extends TextOutputChannel {
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+
+    private static final class SynchronizedTextOutputChannel extends TextOutputChannel {
+        @Override
+        public synchronized void write(byte[] buffer, int offset, int length) throws IOException {
+            super.write(buffer, offset, length);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return super.toString();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.SessionIDBean;
+import org.f1x.api.FixSettings;
+import org.f1x.api.message.MessageParser;
+import org.f1x.io.PredefinedInputChannel;
+import org.f1x.io.TextOutputChannel;
+import org.f1x.util.StoredTimeSource;
+import org.f1x.v1.state.TestSessionState;
+import org.f1x.v1.validation.ValidationDictionary;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Test_FixCommunicatorValidation {
+
+    private static final String HEADER = "35=D|49=CLIENT|52=20140101-10:10:10.100|56=SERVER|";
+    private static final String ORDER_BODY = "11=ORD-1|55=EUR/USD|54=1|60=20140101-10:10:10.100|38=1000|40=2|44=1.3125|";
+
+    @Test
+    public void testInvalidMessageIsRejected() throws IOException {
+        ValidatingTestFixCommunicator fix = createCommunicator(true,
+            message(1, ORDER_BODY.replace("54=1", "54=Z")),
+            message(2, ORDER_BODY));
+        fix.processInboundMessages();
+        Assert.assertEquals("[]", fix.errors.toString());
+
+        Assert.assertEquals("[2]", fix.processedMessages.toString());
+        String outbound = fix.output.toString();
+        Assert.assertTrue(outbound, outbound.contains("|35=3|34=1|"));
+        Assert.assertTrue(outbound, outbound.contains("|45=1|371=54|372=D|373=5|58=Value is incorrect (out of range) for this tag|"));
+        Assert.assertEquals(3, fix.getSessionState().getNextTargetSeqNum());
+    }
+
+    @Test
+    public void testRequiredTagMissing() throws IOException {
+        ValidatingTestFixCommunicator fix = createCommunicator(true, message(1, ORDER_BODY.replace("40=2|", "")));
+        fix.processInboundMessages();
+        Assert.assertEquals("[]", fix.errors.toString());
+
+        Assert.assertTrue(fix.processedMessages.isEmpty());
+        String outbound = fix.output.toString();
+        Assert.assertTrue(outbound, outbound.contains("|45=1|371=40|372=D|373=1|58=Required tag missing|"));
+    }
+
+    @Test
+    public void testValidationIsDisabledByDefault() throws IOException {
+        ValidatingTestFixCommunicator fix = createCommunicator(false, message(1, ORDER_BODY.replace("54=1", "54=Z")));
+        fix.processInboundMessages();
+        Assert.assertEquals("[]", fix.errors.toString());
+
+        Assert.assertEquals("[1]", fix.processedMessages.toString());
+        Assert.assertEquals("", fix.output.toString());
+    }
+
+    private static ValidatingTestFixCommunicator createCommunicator(boolean validate, String ... input) throws IOException {
+        FixSettings settings = new FixSettings();
+        if (validate)
+            settings.setValidationDictionary(ValidationDictionary.load(new File("tools/quickfix/FIX44.xml")));
+        ValidatingTestFixCommunicator fix = new ValidatingTestFixCommunicator(settings, new PredefinedInputChannel(input), new TextOutputChannel() {
+            @Override
+            public void close() {
+                // keep output after disconnect
+            }
+        });
+        fix.setSessionState(new TestSessionState());
+        return fix;
+    }
+
+    private static String message(int msgSeqNum, String body) {
+        String fields = HEADER.replace("35=D|", "35=D|34=" + msgSeqNum + "|") + body;
+        return "8=FIX.4.4|9=" + fields.length() + "|" + fields + "10=000|";
+    }
+
+    private static class ValidatingTestFixCommunicator extends TestFixCommunicator {
+        private final List<Integer> processedMessages = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private final TextOutputChannel output;
+
+        ValidatingTestFixCommunicator(FixSettings settings, PredefinedInputChannel in, TextOutputChannel out) {
+            super(new SessionIDBean("SERVER", "CLIENT"), settings, StoredTimeSource.makeFromUTCTimestamp("20140101-10:10:10.100"), in, out);
+            this.output = out;
+        }
+
+        @Override
+        protected void processInboundAppMessage(CharSequence msgType, int msgSeqNum, boolean possDup, MessageParser parser) throws IOException {
+            processedMessages.add(msgSeqNum);
+        }
+
+        @Override
+        protected void errorProcessingMessage(String errorText, Exception e, boolean logStackTrace) {
+            if (e != ConnectionProblemException.NO_SOCKET_DATA)
+                errors.add(errorText + ": " + e);
+            super.errorProcessingMessage(errorText, e, logStackTrace);
+        }
+    }
+}
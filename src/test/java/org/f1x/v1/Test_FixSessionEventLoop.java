@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.util.RealTimeSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class Test_FixSessionEventLoop {
+
+    private static final long CHECK_INTERVAL = 60000; // housekeeping checks should not be needed to drop closed connections
+
+    private ServerSocketChannel serverChannel;
+    private FixSessionEventLoop eventLoop;
+    private Thread eventLoopThread;
+
+    @Before
+    public void init() throws Exception {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress("localhost", 0));
+        eventLoop = new FixSessionEventLoop(CHECK_INTERVAL, RealTimeSource.INSTANCE);
+        eventLoopThread = new Thread(eventLoop, "EventLoop");
+        eventLoopThread.start();
+    }
+
+    @After
+    public void destroy() throws Exception {
+        eventLoop.close();
+        eventLoopThread.join(5000);
+        serverChannel.close();
+    }
+
+    /** Client that disconnects before LOGON (e.g. port probe) must not keep the channel readable */
+    @Test(timeout = 30000)
+    public void testClientClosesBeforeLogon() throws Exception {
+        final CountDownLatch handlerRemoved = new CountDownLatch(1);
+        final Socket client = new Socket("localhost", serverChannel.socket().getLocalPort());
+        final SocketChannel channel = serverChannel.accept();
+        eventLoop.register(channel, new SimpleSessionManager(), 1024, 60000, new Runnable() {
+            @Override
+            public void run() {
+                handlerRemoved.countDown();
+            }
+        });
+
+        client.getOutputStream().write("8=FIX.4.4\u0001".getBytes());
+        client.close();
+
+        Assert.assertTrue("Handler removed", handlerRemoved.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse("Channel closed", channel.isOpen());
+        Assert.assertTrue(eventLoopThread.isAlive());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.Tools;
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.util.ByteArrayReference;
+import org.f1x.util.TestUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Test_IndexedMessageParser {
+
+    private static final String ORDER = "8=FIX.4.4\u00019=144\u000135=D\u000134=6\u000149=DEMO2Kweoj_DEMOFIX\u000152=20121009-13:59:01.666\u000156=DUKASCOPYFIX\u000111=512\u000121=1\u000138=1000\u000140=1\u000154=1\u000155=EUR/USD\u000159=1\u000160=20121009-13:59:01.666\u000110=000\u0001";
+    private static final String REPORT = "8=FIX.4.4\u00019=251\u000135=8\u000134=7\u000149=DUKASCOPYFIX\u000152=20121009-13:59:21.158\u000156=DEMO2Kweoj_DEMOFIX\u00016=0\u000111=506\u000114=0\u000117=506\u000137=506\u000138=0\u000139=8\u000154=7\u000155=UNKNOWN\u000158=Your order has been rejected due to validation failure.  Order amount can't be less than <MIN_OPEN_AMOUNT>\u0001150=8\u0001151=0\u000110=196\u0001";
+
+    private final IndexedMessageParser parser = new IndexedMessageParser(4); // small capacity to exercise growth
+
+    @Test
+    public void testForwardIteration() {
+        assertParser(ORDER);
+        assertParser(REPORT);
+    }
+
+    @Test
+    public void testRandomAccess() throws Exception {
+        set(ORDER);
+        assertEquals(16, parser.getFieldCount());
+        assertTrue(Tools.equals("EUR/USD", parser.getCharSequence(FixTags.Symbol)));
+        assertEquals('1', parser.getByte(FixTags.Side));
+        assertEquals(512, parser.getInt(FixTags.ClOrdID));
+        assertEquals(1000L, parser.getLong(FixTags.OrderQty));
+        assertEquals(1000.0, parser.getDouble(FixTags.OrderQty), 0.0);
+        assertEquals(TestUtils.parseUTCTimestamp("20121009-13:59:01.666"), parser.getUTCTimestamp(FixTags.TransactTime));
+        assertTrue(parser.isValueEquals(FixTags.MsgType, new byte[]{'D'}));
+        assertFalse(parser.isValueEquals(FixTags.Price, new byte[]{'1'}));
+
+        ByteArrayReference ref = new ByteArrayReference();
+        parser.getByteSequence(FixTags.SenderCompID, ref);
+        assertEquals("DEMO2Kweoj_DEMOFIX", ref.toString());
+
+        assertEquals(-1, parser.find(FixTags.Price));
+        assertEquals(2, parser.find(FixTags.MsgType));
+        assertEquals(FixTags.MsgType, parser.getTagNumAt(2));
+
+        // random access doesn't affect iteration
+        assertTrue(parser.next());
+        assertEquals(FixTags.BeginString, parser.getTagNum());
+    }
+
+    @Test
+    public void testIndexIsResetBetweenMessages() {
+        set(ORDER);
+        assertTrue(parser.find(FixTags.Symbol) >= 0);
+        assertTrue(parser.find(FixTags.Text) < 0);
+
+        set(REPORT);
+        assertTrue(Tools.equals("UNKNOWN", parser.getCharSequence(FixTags.Symbol)));
+        assertTrue(parser.find(FixTags.TransactTime) < 0);
+        assertTrue(parser.find(FixTags.Text) >= 0);
+    }
+
+    @Test
+    public void testRepeatingTagsAndLargeTagNumbers() {
+        set("8=FIX.4.4\u000135=V\u0001146=2\u000155=EUR/USD\u00019001=A\u000155=USD/JPY\u00019001=B\u000110=000\u0001");
+
+        int index = parser.find(FixTags.Symbol);
+        assertEquals(3, index);
+        index = parser.find(FixTags.Symbol, index + 1);
+        assertEquals(5, index);
+        assertEquals(-1, parser.find(FixTags.Symbol, index + 1));
+
+        assertEquals(4, parser.find(9001));
+        assertEquals(6, parser.find(9001, 5));
+
+        parser.seek(5);
+        assertEquals("USD/JPY", parser.getStringValue());
+        assertTrue(parser.next());
+        assertEquals(9001, parser.getTagNum());
+        assertEquals("B", parser.getStringValue());
+    }
+
+    @Test
+    public void testIncompleteLastField() {
+        set("8=FIX.4.4\u000135=0\u000110=00");
+        assertEquals(2, parser.getFieldCount());
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testMissingTag() {
+        set(ORDER);
+        parser.getInt(FixTags.Price);
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testEmptyValue() {
+        set("8=FIX.4.4\u000135=\u000110=000\u0001");
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testBadTagNumber() {
+        set("8=FIX.4.4\u00013X=0\u000110=000\u0001");
+    }
+
+    @Test
+    public void testTagNumberOverflow() {
+        assertParserException("8=FIX.4.4\u000135=0\u00013000000000=X\u000110=000\u0001");
+        assertParserException("8=FIX.4.4\u00012147483648=X\u000110=000\u0001");
+        assertParserException("8=FIX.4.4\u000199999999999999999999=X\u000110=000\u0001");
+
+        // parser must remain usable after malformed message
+        set("8=FIX.4.4\u000135=0\u0001");
+        assertEquals(2, parser.getFieldCount());
+        assertEquals(1, parser.find(FixTags.MsgType));
+        assertEquals('0', parser.getByte(FixTags.MsgType));
+    }
+
+    private void assertParserException(String message) {
+        try {
+            set(message);
+            fail("Malformed message was accepted: " + message);
+        } catch (FixParserException expected) {
+        }
+    }
+
+    private void set(String message) {
+        byte [] messageBytes = message.getBytes();
+        parser.set(messageBytes, 0, messageBytes.length);
+    }
+
+    private void assertParser(String message) {
+        set(message);
+        assertEquals(message, MessageParser2String.convert(parser));
+        parser.reset();
+        assertEquals(message, MessageParser2String.convert(parser));
+    }
+
+}
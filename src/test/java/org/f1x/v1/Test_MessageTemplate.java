@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.SessionIDBean;
+import org.f1x.api.FixVersion;
+import org.f1x.api.message.MessageBuilder;
+import org.f1x.api.message.Tools;
+import org.f1x.api.message.fields.*;
+import org.f1x.io.OutputChannel;
+import org.f1x.util.ByteArrayReference;
+import org.f1x.util.format.DoubleFormatter;
+import org.f1x.util.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class Test_MessageTemplate {
+
+    private MessageTemplate template;
+    private int clOrdID;
+    private int side;
+    private int orderQty;
+    private int price;
+    private int transactTime;
+
+    @Before
+    public void init() {
+        template = new MessageTemplate(new ByteBufferMessageBuilder(256, 128, 2), 5);
+        MessageBuilder mb = template.getMessageBuilder();
+        mb.setMessageType(MsgType.ORDER_SINGLE);
+        mb.add(FixTags.Account, "ACC1");
+        clOrdID = template.addSlot(FixTags.ClOrdID, 8);
+        mb.add(FixTags.HandlInst, HandlInst.AUTOMATED_EXECUTION_ORDER_PRIVATE);
+        orderQty = template.addSlot(FixTags.OrderQty, 6);
+        mb.add(FixTags.OrdType, OrdType.LIMIT);
+        price = template.addSlot(FixTags.Price, 10);
+        side = template.addSlot(FixTags.Side, 1);
+        mb.add(FixTags.Symbol, "EUR/USD");
+        transactTime = template.addUTCTimestampSlot(FixTags.TransactTime);
+    }
+
+    @Test
+    public void testInitialContent() {
+        assertContentEquals("1=ACC1|11=00000000|21=1|38=000000|40=2|44=0000000000|54=0|55=EUR/USD|60=000000000000000000000|");
+    }
+
+    @Test
+    public void testPatching() {
+        template.setText(clOrdID, "ORD00001");
+        template.setLong(orderQty, 1500);
+        template.setDouble(price, 1.25);
+        template.setByte(side, Side.BUY.getCode());
+        template.setUTCTimestamp(transactTime, TestUtils.parseUTCTimestamp("20121009-13:44:49.421"));
+        assertContentEquals("1=ACC1|11=ORD00001|21=1|38=001500|40=2|44=0000001.25|54=1|55=EUR/USD|60=20121009-13:44:49.421|");
+
+        template.setLong(clOrdID, 42);
+        template.setLong(orderQty, 999999);
+        template.setDouble(price, -0.123456789);
+        template.setByte(side, Side.SELL.getCode());
+        template.setUTCTimestamp(transactTime, TestUtils.parseUTCTimestamp("20121009-13:44:50.000"));
+        assertContentEquals("1=ACC1|11=00000042|21=1|38=999999|40=2|44=-000.12346|54=2|55=EUR/USD|60=20121009-13:44:50.000|");
+
+        template.setDouble(price, 7.5, 1);
+        assertContentEquals("1=ACC1|11=00000042|21=1|38=999999|40=2|44=00000007.5|54=2|55=EUR/USD|60=20121009-13:44:50.000|");
+    }
+
+    @Test
+    public void testDefaultPrecisionOfMessageBuilder() {
+        template = new MessageTemplate(new ByteBufferMessageBuilder(256, 128, 3));
+        template.getMessageBuilder().setMessageType(MsgType.ORDER_SINGLE);
+        price = template.addSlot(FixTags.Price, 8);
+        template.setDouble(price, 1.2345);
+        assertContentEquals("44=0001.235|");
+    }
+
+    @Test
+    public void testShortestPrecision() {
+        template = new MessageTemplate(new ByteBufferMessageBuilder(256, 128, 2), DoubleFormatter.SHORTEST);
+        template.getMessageBuilder().setMessageType(MsgType.ORDER_SINGLE);
+        price = template.addSlot(FixTags.Price, 8);
+        template.setDouble(price, 0.1);
+        assertContentEquals("44=000000.1|");
+
+        for (double value : new double [] {1e-25, -Double.MIN_VALUE, Double.MAX_VALUE}) {
+            try {
+                template.setDouble(price, value);
+                Assert.fail("value wider than slot: " + value);
+            } catch (IllegalArgumentException expected) {
+                // ok
+            }
+        }
+        assertContentEquals("44=000000.1|");
+    }
+
+    @Test
+    public void testValueTooWide() {
+        try {
+            template.setLong(orderQty, 1000000);
+            Assert.fail("value wider than slot");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+        try {
+            template.setText(clOrdID, "ORD1");
+            Assert.fail("text narrower than slot");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+        try {
+            template.setUTCTimestamp(price, 0);
+            Assert.fail("not a timestamp slot");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+        assertContentEquals("1=ACC1|11=00000000|21=1|38=000000|40=2|44=0000000000|54=0|55=EUR/USD|60=000000000000000000000|");
+    }
+
+    @Test
+    public void testSend() throws IOException {
+        template.setText(clOrdID, "ORD00001");
+        template.setLong(orderQty, 1);
+        template.setDouble(price, 1.5);
+        template.setByte(side, Side.BUY.getCode());
+        template.setUTCTimestamp(transactTime, TestUtils.parseUTCTimestamp("20121009-13:44:49.421"));
+
+        ByteBufferMessageBuilder expected = new ByteBufferMessageBuilder(256, 2);
+        expected.setMessageType(MsgType.ORDER_SINGLE);
+        expected.add(FixTags.Account, "ACC1");
+        expected.add(FixTags.ClOrdID, "ORD00001");
+        expected.add(FixTags.HandlInst, HandlInst.AUTOMATED_EXECUTION_ORDER_PRIVATE);
+        expected.add(FixTags.OrderQty, "000001");
+        expected.add(FixTags.OrdType, OrdType.LIMIT);
+        expected.add(FixTags.Price, "00000001.5");
+        expected.add(FixTags.Side, Side.BUY);
+        expected.add(FixTags.Symbol, "EUR/USD");
+        expected.addUTCTimestamp(FixTags.TransactTime, TestUtils.parseUTCTimestamp("20121009-13:44:49.421"));
+
+        Assert.assertEquals(send(expected), send(template.getMessageBuilder()));
+    }
+
+    private static String send(MessageBuilder mb) throws IOException {
+        RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, false);
+        final StringBuilder sb = new StringBuilder();
+        asm.send(new SessionIDBean("CLIENT", "SERVER"), 7, mb, null, TestUtils.parseUTCTimestamp("20121009-13:44:49.421"), new OutputChannel() {
+            private final ByteArrayReference ref = new ByteArrayReference();
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) throws IOException {
+                ref.set(buffer, offset, length);
+                sb.append(ref);
+            }
+
+            @Override
+            public void close() throws IOException {
+            }
+        });
+        return sb.toString();
+    }
+
+    private void assertContentEquals(String expected) {
+        MessageBuilder mb = template.getMessageBuilder();
+        byte [] buffer = new byte[mb.getLength()];
+        mb.output(buffer, 0);
+        Assert.assertEquals(expected, new String(buffer).replace('\u0001', '|'));
+        Assert.assertEquals("byte sum", Tools.calcCheckSum(buffer, buffer.length), mb.getByteSum());
+    }
+
+}
@@ -65,6 +65,108 @@ public class Test_RawMessageAssembler {
         Assert.assertEquals(expected, actual);
     }
 
+    @Test
+    public void testBatch () throws Exception {
+        String expected1 = "8=FIX.4.4\u00019=73\u000135=A\u000134=1\u000149=CLIENT\u000152=20131125-19:09:38.746\u000156=SERVER\u000198=0\u0001108=30\u0001141=Y\u000110=209\u0001";
+        String expected2 = "8=FIX.4.4\u00019=73\u000135=A\u000134=2\u000149=CLIENT\u000152=20131125-19:09:38.746\u000156=SERVER\u000198=0\u0001108=30\u0001141=Y\u000110=210\u0001";
+
+        MessageBuilder mb = new ByteBufferMessageBuilder(256, 2);
+        mb.setMessageType("A");
+        mb.add(98, 0);
+        mb.add(108, 30);
+        mb.add(141, true);
+
+        SessionID sessionID = new SessionIDBean("CLIENT", "SERVER");
+        long sendingTime = TestUtils.parseUTCTimestamp("20131125-19:09:38.746");
+
+        // batch buffer fits two messages but not the third one
+        RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, 256 + 2*expected1.length() - 1, false);
+        CountingOutputChannel text = new CountingOutputChannel();
+        asm.append(sessionID, 1, mb, null, sendingTime, text);
+        asm.append(sessionID, 2, mb, null, sendingTime, text);
+        Assert.assertEquals("Nothing written before flush", "", text.toString());
+        asm.flush(text);
+        Assert.assertEquals(expected1 + expected2, text.toString());
+        Assert.assertEquals("Single write per batch", 1, text.writes);
+
+        asm.flush(text);
+        Assert.assertEquals("Empty flush", 1, text.writes);
+
+        // batch buffer overflow forces early flush
+        text = new CountingOutputChannel();
+        asm.append(sessionID, 1, mb, null, sendingTime, text);
+        asm.append(sessionID, 2, mb, null, sendingTime, text);
+        asm.append(sessionID, 1, mb, null, sendingTime, text);
+        asm.flush(text);
+        Assert.assertEquals(expected1 + expected2 + expected1, text.toString());
+        Assert.assertEquals(2, text.writes);
+    }
+
+    @Test
+    public void testInPlaceAssembly () throws Exception {
+        String expected1 = "8=FIX.4.4\u00019=73\u000135=A\u000134=1\u000149=CLIENT\u000152=20131125-19:09:38.746\u000156=SERVER\u000198=0\u0001108=30\u0001141=Y\u000110=209\u0001";
+        String expected2 = "8=FIX.4.4\u00019=76\u000135=A\u000134=1000\u000149=CLIENT\u000152=20131125-19:09:38.746\u000156=SERVER\u000198=0\u0001108=30\u0001141=Y\u000110=100\u0001";
+
+        ByteBufferMessageBuilder mb = new ByteBufferMessageBuilder(256, 128, 2);
+        mb.setMessageType("A");
+        mb.add(98, 0);
+        mb.add(108, 30);
+        mb.add(141, true);
+
+        SessionID sessionID = new SessionIDBean("CLIENT", "SERVER");
+        long sendingTime = TestUtils.parseUTCTimestamp("20131125-19:09:38.746");
+
+        RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, false);
+        BufferCapturingOutputChannel text = new BufferCapturingOutputChannel();
+        asm.send(sessionID, 1, mb, null, sendingTime, text);
+        Assert.assertEquals(expected1, text.toString());
+        Assert.assertSame("Message assembled inside builder's buffer", mb.getBuffer(), text.lastBuffer);
+
+        // header of different length is assembled around the same body
+        text = new BufferCapturingOutputChannel();
+        asm.send(sessionID, 1000, mb, null, sendingTime, text);
+        Assert.assertEquals(expected2, text.toString());
+        Assert.assertSame(mb.getBuffer(), text.lastBuffer);
+
+        Assert.assertEquals("Builder content is not affected", expected2, format(mb, sessionID, 1000, "20131125-19:09:38.746"));
+    }
+
+    @Test
+    public void testInPlaceAssemblyWithSubIDs () throws Exception {
+        SessionID sessionID = new SessionIDBean("CLIENT", "DESK1", "SERVER", "DESK2");
+        long sendingTime = TestUtils.parseUTCTimestamp("20131125-19:09:38.746");
+
+        MessageBuilder copy = new ByteBufferMessageBuilder(256, 2);
+        ByteBufferMessageBuilder inPlace = new ByteBufferMessageBuilder(256, 128, 2);
+        for (MessageBuilder mb : new MessageBuilder[] {copy, inPlace}) {
+            mb.setMessageType(MsgType.ORDER_SINGLE);
+            mb.add(FixTags.ClOrdID, 506);
+            mb.add(FixTags.Symbol, "EUR/USD");
+        }
+
+        RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, false);
+        BufferCapturingOutputChannel text = new BufferCapturingOutputChannel();
+        asm.send(sessionID, 77, inPlace, null, sendingTime, text);
+        Assert.assertSame(inPlace.getBuffer(), text.lastBuffer);
+        Assert.assertEquals(format(copy, sessionID, 77, "20131125-19:09:38.746"), text.toString());
+    }
+
+    @Test
+    public void testInPlaceAssemblyFallback () throws Exception {
+        String expected = "8=FIX.4.4\u00019=73\u000135=A\u000134=1\u000149=CLIENT\u000152=20131125-19:09:38.746\u000156=SERVER\u000198=0\u0001108=30\u0001141=Y\u000110=209\u0001";
+
+        ByteBufferMessageBuilder mb = new ByteBufferMessageBuilder(256, 16, 2); // header does not fit reserved room
+        mb.setMessageType("A");
+        mb.add(98, 0);
+        mb.add(108, 30);
+        mb.add(141, true);
+
+        RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, false);
+        BufferCapturingOutputChannel text = new BufferCapturingOutputChannel();
+        asm.send(new SessionIDBean("CLIENT", "SERVER"), 1, mb, null, TestUtils.parseUTCTimestamp("20131125-19:09:38.746"), text);
+        Assert.assertEquals(expected, text.toString());
+        Assert.assertNotSame(mb.getBuffer(), text.lastBuffer);
+    }
 
     private static String format (MessageBuilder mb, SessionID sessionID, int msgSeqNum, String time) throws IOException {
         RawMessageAssembler asm = new RawMessageAssembler(FixVersion.FIX44, 256, false);
@@ -73,6 +175,26 @@ public class Test_RawMessageAssembler {
         return text.toString();
     }
 
+    private static class CountingOutputChannel extends TextOutputChannel {
+        private int writes;
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            writes++;
+            super.write(buffer, offset, length);
+        }
+    }
+
+    private static class BufferCapturingOutputChannel extends TextOutputChannel {
+        private byte [] lastBuffer;
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            lastBuffer = buffer;
+            super.write(buffer, offset, length);
+        }
+    }
+
     private static class TextOutputChannel implements OutputChannel{
         private final StringBuilder sb = new StringBuilder();
         private final ByteArrayReference ref = new ByteArrayReference();
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.MessageParser;
+import org.f1x.api.message.RepeatingGroup;
+import org.f1x.api.message.fields.FixTags;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Test_RepeatingGroups {
+
+    private static final RepeatingGroup MD_ENTRIES = new RepeatingGroup(FixTags.NoMDEntries, FixTags.MDEntryType, FixTags.MDEntryPx, FixTags.MDEntrySize);
+    private static final RepeatingGroup PARTY_SUB_IDS = new RepeatingGroup(FixTags.NoPartySubIDs, FixTags.PartySubID, FixTags.PartySubIDType);
+    private static final RepeatingGroup PARTIES = new RepeatingGroup(FixTags.NoPartyIDs, FixTags.PartyID, FixTags.PartyIDSource, FixTags.PartyRole,
+            FixTags.NoPartySubIDs, FixTags.PartySubID, FixTags.PartySubIDType);
+
+    private static final String SNAPSHOT = "8=FIX.4.4\u000135=W\u0001262=R1\u000155=EUR/USD\u0001268=3\u0001269=0\u0001270=1.3501\u0001271=1000000\u0001269=1\u0001270=1.3503\u0001271=2000000\u0001269=2\u0001270=1.3502\u000110=000\u0001";
+    private static final String REPORT = "8=FIX.4.4\u000135=8\u000111=512\u0001453=2\u0001448=BROKER\u0001447=D\u0001452=1\u0001802=2\u0001523=DESK1\u0001803=4\u0001523=DESK2\u0001803=4\u0001448=TRADER\u0001447=D\u0001452=11\u000155=EUR/USD\u000110=000\u0001";
+
+    @Test
+    public void testMarketDataEntries() {
+        testMarketDataEntries(new DefaultMessageParser());
+        testMarketDataEntries(new IndexedMessageParser());
+    }
+
+    @Test
+    public void testNestedGroups() {
+        testNestedGroups(new DefaultMessageParser());
+        testNestedGroups(new IndexedMessageParser());
+    }
+
+    @Test
+    public void testSkipUnprocessedFields() {
+        testSkipUnprocessedFields(new DefaultMessageParser());
+        testSkipUnprocessedFields(new IndexedMessageParser());
+    }
+
+    @Test
+    public void testGroupWithoutMetadata() {
+        testGroupWithoutMetadata(new DefaultMessageParser());
+        testGroupWithoutMetadata(new IndexedMessageParser());
+    }
+
+    @Test
+    public void testEmptyGroup() {
+        testEmptyGroup(new DefaultMessageParser());
+        testEmptyGroup(new IndexedMessageParser());
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testFewerEntriesThanDeclared() {
+        MessageParser parser = set(new DefaultMessageParser(), "8=FIX.4.4\u000135=W\u0001268=2\u0001269=0\u0001270=1.3501\u000110=000\u0001");
+        moveTo(parser, FixTags.NoMDEntries);
+        parser.enterGroup(MD_ENTRIES);
+        while (parser.nextGroupEntry()) {
+            // skip
+        }
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testWrongCounterTag() {
+        MessageParser parser = set(new IndexedMessageParser(), SNAPSHOT);
+        moveTo(parser, FixTags.Symbol);
+        parser.enterGroup(MD_ENTRIES);
+    }
+
+    private void testMarketDataEntries(MessageParser parser) {
+        set(parser, SNAPSHOT);
+        StringBuilder sb = new StringBuilder();
+        while (parser.next()) {
+            switch (parser.getTagNum()) {
+                case FixTags.Symbol:
+                    sb.append(parser.getCharSequenceValue()).append(':');
+                    break;
+                case FixTags.NoMDEntries:
+                    assertEquals(3, parser.enterGroup(MD_ENTRIES));
+                    while (parser.nextGroupEntry()) {
+                        sb.append('[');
+                        do {
+                            sb.append(parser.getTagNum()).append('=').append(parser.getCharSequenceValue()).append(' ');
+                        } while (parser.nextGroupField());
+                        sb.append(']');
+                    }
+                    break;
+                case FixTags.CheckSum:
+                    sb.append(":end");
+                    break;
+            }
+        }
+        assertEquals("EUR/USD:[269=0 270=1.3501 271=1000000 ][269=1 270=1.3503 271=2000000 ][269=2 270=1.3502 ]:end", sb.toString());
+    }
+
+    private void testNestedGroups(MessageParser parser) {
+        set(parser, REPORT);
+        StringBuilder sb = new StringBuilder();
+        moveTo(parser, FixTags.NoPartyIDs);
+        assertEquals(2, parser.enterGroup(PARTIES));
+        while (parser.nextGroupEntry()) {
+            sb.append(parser.getCharSequenceValue()).append('(');
+            while (parser.nextGroupField()) {
+                if (parser.getTagNum() == FixTags.NoPartySubIDs) {
+                    parser.enterGroup(PARTY_SUB_IDS);
+                    while (parser.nextGroupEntry())
+                        sb.append(parser.getCharSequenceValue()).append(' ');
+                }
+            }
+            sb.append(')');
+        }
+        assertTrue(parser.next());
+        assertEquals(FixTags.Symbol, parser.getTagNum());
+        assertEquals("BROKER(DESK1 DESK2 )TRADER()", sb.toString());
+    }
+
+    private void testSkipUnprocessedFields(MessageParser parser) {
+        set(parser, SNAPSHOT);
+        moveTo(parser, FixTags.NoMDEntries);
+        parser.enterGroup(MD_ENTRIES);
+        int count = 0;
+        while (parser.nextGroupEntry()) {
+            assertEquals(FixTags.MDEntryType, parser.getTagNum());
+            count++;
+        }
+        assertEquals(3, count);
+        assertTrue(parser.next());
+        assertEquals(FixTags.CheckSum, parser.getTagNum());
+    }
+
+    private void testGroupWithoutMetadata(MessageParser parser) {
+        set(parser, SNAPSHOT);
+        moveTo(parser, FixTags.NoMDEntries);
+        assertEquals(3, parser.enterGroup(FixTags.NoMDEntries, FixTags.MDEntryType));
+        int fields = 0;
+        while (parser.nextGroupEntry()) {
+            do {
+                fields++;
+            } while (parser.nextGroupField());
+        }
+        assertEquals("Last entry extends till the end of message", 3 + 3 + 3, fields);
+        assertFalse(parser.next());
+    }
+
+    private void testEmptyGroup(MessageParser parser) {
+        set(parser, "8=FIX.4.4\u000135=W\u0001268=0\u000155=EUR/USD\u000110=000\u0001");
+        moveTo(parser, FixTags.NoMDEntries);
+        assertEquals(0, parser.enterGroup(MD_ENTRIES));
+        assertFalse(parser.nextGroupEntry());
+        assertTrue(parser.next());
+        assertEquals(FixTags.Symbol, parser.getTagNum());
+    }
+
+    private static MessageParser set(MessageParser parser, String message) {
+        byte [] bytes = message.getBytes();
+        if (parser instanceof DefaultMessageParser)
+            ((DefaultMessageParser) parser).set(bytes, 0, bytes.length);
+        else
+            ((IndexedMessageParser) parser).set(bytes, 0, bytes.length);
+        return parser;
+    }
+
+    private static void moveTo(MessageParser parser, int tagNum) {
+        while (parser.next())
+            if (parser.getTagNum() == tagNum)
+                return;
+        fail("Tag " + tagNum + " not found");
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.codec;
+
+import org.f1x.api.FixParserException;
+import org.f1x.api.message.Tools;
+import org.f1x.api.message.fields.ExecType;
+import org.f1x.api.message.fields.OrdStatus;
+import org.f1x.api.message.fields.OrdType;
+import org.f1x.api.message.fields.PartyRole;
+import org.f1x.api.message.fields.Side;
+import org.f1x.util.AsciiUtils;
+import org.f1x.util.Decimal;
+import org.f1x.util.TestUtils;
+import org.f1x.v1.ByteBufferMessageBuilder;
+import org.f1x.v1.IndexedMessageParser;
+import org.f1x.v1.codec.fix44.ExecutionReportDecoder;
+import org.f1x.v1.codec.fix44.NewOrderSingleDecoder;
+import org.f1x.v1.codec.fix44.NewOrderSingleEncoder;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Test_GeneratedCodecs {
+
+    private static final String REPORT = "8=FIX.4.4|9=0|35=8|34=7|49=SERVER|52=20121009-13:59:21.158|56=CLIENT|37=506|11=512|453=2|448=BRK1|447=D|452=1|448=TRD7|447=D|452=12|17=E1|150=F|39=1|54=2|55=EUR/USD|38=1000|44=1.3125|32=400|31=1.3125|151=600|14=400|6=1.3125|60=20121009-13:59:21.158|10=000|";
+
+    private final IndexedMessageParser parser = new IndexedMessageParser();
+
+    @Test
+    public void testDecodeExecutionReport() {
+        set(REPORT);
+        ExecutionReportDecoder report = new ExecutionReportDecoder().wrap(parser);
+
+        assertTrue(Tools.equals("506", report.getOrderID()));
+        assertTrue(Tools.equals("512", report.getClOrdID()));
+        assertSame(ExecType.TRADE, report.getExecType());
+        assertSame(OrdStatus.PARTIALLY_FILLED, report.getOrdStatus());
+        assertSame(Side.SELL, report.getSide());
+        assertTrue(Tools.equals("EUR/USD", report.getSymbol()));
+        assertEquals(1000.0, report.getOrderQty(), 0.0);
+        assertEquals(1.3125, report.getPrice(), 0.0);
+        assertEquals(600.0, report.getLeavesQty(), 0.0);
+        assertEquals(TestUtils.parseUTCTimestamp("20121009-13:59:21.158"), report.getTransactTime());
+
+        Decimal price = new Decimal();
+        report.getLastPx(price);
+        assertEquals(13125, price.getMantissa());
+        assertEquals(4, price.getScale());
+
+        assertTrue(report.hasLastQty());
+        assertFalse(report.hasText());
+        assertFalse(report.getNoContraBrokers().next());
+    }
+
+    @Test
+    public void testDecodeRepeatingGroup() {
+        set(REPORT);
+        ExecutionReportDecoder report = new ExecutionReportDecoder().wrap(parser);
+
+        ExecutionReportDecoder.NoPartyIDsDecoder parties = report.getNoPartyIDs();
+        assertEquals(2, parties.size());
+
+        assertTrue(parties.next());
+        assertTrue(Tools.equals("BRK1", parties.getPartyID()));
+        assertSame(PartyRole.EXECUTING_FIRM, parties.getPartyRole());
+        assertTrue(parties.hasPartyIDSource());
+
+        assertTrue(parties.next());
+        assertTrue(Tools.equals("TRD7", parties.getPartyID()));
+        assertSame(PartyRole.EXECUTING_TRADER, parties.getPartyRole());
+        assertFalse(parties.getNoPartySubIDs().next());
+
+        assertFalse(parties.next());
+
+        // group accessor rewinds group decoder
+        assertTrue(report.getNoPartyIDs().next());
+        assertTrue(Tools.equals("BRK1", parties.getPartyID()));
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testMissingField() {
+        set(REPORT);
+        new ExecutionReportDecoder().wrap(parser).getText();
+    }
+
+    @Test(expected = FixParserException.class)
+    public void testGroupHasFewerEntriesThanDeclared() {
+        set("35=8|453=3|448=BRK1|452=1|448=TRD7|452=12|17=E1|");
+        ExecutionReportDecoder.NoPartyIDsDecoder parties = new ExecutionReportDecoder().wrap(parser).getNoPartyIDs();
+        assertTrue(parties.next());
+        assertTrue(parties.next());
+        parties.next();
+    }
+
+    @Test
+    public void testEncodeDecodeNewOrderSingle() {
+        ByteBufferMessageBuilder mb = new ByteBufferMessageBuilder(512, 4);
+        NewOrderSingleEncoder encoder = new NewOrderSingleEncoder().wrap(mb);
+        encoder.setClOrdID("ORD-1");
+        NewOrderSingleEncoder.NoPartyIDsEncoder parties = encoder.setNoPartyIDs(1);
+        parties.setPartyID("BRK1").setPartyRole(PartyRole.EXECUTING_FIRM);
+        parties.setNoPartySubIDs(2).setPartySubID("A").setPartySubIDType(1).setPartySubID("B").setPartySubIDType(2);
+        encoder.setSymbol("EUR/USD")
+               .setSide(Side.BUY)
+               .setTransactTime(TestUtils.parseUTCTimestamp("20121009-13:59:01.666"))
+               .setOrderQty(1000L, 0)
+               .setOrdType(OrdType.LIMIT)
+               .setPrice(131245L, 5);
+
+        assertEquals("D", mb.getMessageType().toString());
+
+        byte [] buffer = new byte [512];
+        int length = AsciiUtils.getBytes("35=D\u0001").length;
+        System.arraycopy(AsciiUtils.getBytes("35=D\u0001"), 0, buffer, 0, length);
+        length = mb.output(buffer, length);
+        assertEquals("35=D|11=ORD-1|453=1|448=BRK1|452=1|802=2|523=A|803=1|523=B|803=2|55=EUR/USD|54=1|60=20121009-13:59:01.666|38=1000|40=2|44=1.31245|",
+            new String(buffer, 0, length).replace('\u0001', '|'));
+
+        parser.set(buffer, 0, length);
+        NewOrderSingleDecoder order = new NewOrderSingleDecoder().wrap(parser);
+        assertTrue(Tools.equals("ORD-1", order.getClOrdID()));
+        assertSame(Side.BUY, order.getSide());
+        assertSame(OrdType.LIMIT, order.getOrdType());
+        assertEquals(1000, order.getOrderQty(), 0.0);
+        assertEquals(1.31245, order.getPrice(), 0.0);
+        assertEquals(TestUtils.parseUTCTimestamp("20121009-13:59:01.666"), order.getTransactTime());
+
+        NewOrderSingleDecoder.NoPartyIDsDecoder partiesDecoder = order.getNoPartyIDs();
+        assertTrue(partiesDecoder.next());
+        assertTrue(Tools.equals("BRK1", partiesDecoder.getPartyID()));
+
+        NewOrderSingleDecoder.NoPartyIDsDecoder.NoPartySubIDsDecoder subIDs = partiesDecoder.getNoPartySubIDs();
+        assertEquals(2, subIDs.size());
+        assertTrue(subIDs.next());
+        assertTrue(Tools.equals("A", subIDs.getPartySubID()));
+        assertEquals(1, subIDs.getPartySubIDType());
+        assertTrue(subIDs.next());
+        assertTrue(Tools.equals("B", subIDs.getPartySubID()));
+        assertEquals(2, subIDs.getPartySubIDType());
+        assertFalse(subIDs.next());
+        assertFalse(partiesDecoder.next());
+    }
+
+    private void set(String message) {
+        byte [] buffer = AsciiUtils.getBytes(message.replace('|', '\u0001'));
+        parser.set(buffer, 0, buffer.length);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.f1x.v1.validation;
+
+import org.f1x.api.message.fields.FixTags;
+import org.f1x.api.message.fields.SessionRejectReason;
+import org.f1x.util.AsciiUtils;
+import org.f1x.v1.IndexedMessageParser;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class Test_MessageValidator {
+
+    private static final String HEADER = "8=FIX.4.4|9=0|35=D|34=5|49=SENDER|52=20140101-10:10:10.100|56=RECEIVER|";
+    private static final String ORDER_BODY = "11=ORD-1|55=EUR/USD|54=1|60=20140101-10:10:10.100|38=1000|40=2|44=1.3125|";
+
+    private static ValidationDictionary dictionary;
+
+    private final IndexedMessageParser parser = new IndexedMessageParser();
+    private MessageValidator validator;
+
+    @BeforeClass
+    public static void loadDictionary() throws IOException {
+        dictionary = ValidationDictionary.load(new File("tools/quickfix/FIX44.xml"));
+    }
+
+    @Test
+    public void testValidMessages() {
+        assertValid("D", HEADER + ORDER_BODY + "10=000|");
+        assertValid("D", HEADER + ORDER_BODY + "453=2|448=BRK1|447=D|452=1|448=TRD7|447=D|452=12|18=1 G|9001=custom|10=000|");
+        assertValid("0", "8=FIX.4.4|9=0|35=0|34=2|49=SENDER|52=20140101-10:10:10.100|56=RECEIVER|112=TEST|10=000|");
+        assertValid("AE", "8=FIX.4.4|9=0|35=AE|34=2|49=SENDER|52=20140101-10:10:10.100|56=RECEIVER|571=R1|570=N|55=EUR/USD|32=1|31=1.2|75=20140101|60=20140101-10:10:10.100|552=1|54=1|10=000|");
+    }
+
+    @Test
+    public void testInvalidMsgType() {
+        assertInvalid("ZZ", HEADER + ORDER_BODY, SessionRejectReason.INVALID_MSGTYPE, FixTags.MsgType);
+        assertInvalid("D12", HEADER + ORDER_BODY, SessionRejectReason.INVALID_MSGTYPE, FixTags.MsgType);
+    }
+
+    @Test
+    public void testUndefinedTag() {
+        assertInvalid("D", HEADER + ORDER_BODY + "4999=X|", SessionRejectReason.UNDEFINED_TAG, 4999);
+    }
+
+    @Test
+    public void testTagNotDefinedForMessageType() {
+        assertInvalid("D", HEADER + ORDER_BODY + "112=TEST|", SessionRejectReason.TAG_NOT_DEFINED_FOR_THIS_MESSAGE_TYPE, FixTags.TestReqID);
+    }
+
+    @Test
+    public void testIncorrectEnumValue() {
+        assertInvalid("D", HEADER + ORDER_BODY.replace("54=1", "54=Z"), SessionRejectReason.VALUE_IS_INCORRECT, FixTags.Side);
+        assertInvalid("D", HEADER + ORDER_BODY.replace("54=1", "54=12"), SessionRejectReason.VALUE_IS_INCORRECT, FixTags.Side);
+        assertInvalid("D", HEADER + ORDER_BODY + "18=1 ZZ|", SessionRejectReason.VALUE_IS_INCORRECT, FixTags.ExecInst);
+        assertInvalid("D", HEADER + ORDER_BODY + "18=1  G|", SessionRejectReason.VALUE_IS_INCORRECT, FixTags.ExecInst);
+        assertInvalid("D", HEADER + ORDER_BODY + "453=1|448=BRK1|452=9999|", SessionRejectReason.VALUE_IS_INCORRECT, FixTags.PartyRole);
+    }
+
+    @Test
+    public void testRequiredTagMissing() {
+        assertInvalid("D", HEADER + ORDER_BODY.replace("54=1|", ""), SessionRejectReason.REQUIRED_TAG_MISSING, FixTags.Side);
+        assertInvalid("D", HEADER + ORDER_BODY.replace("55=EUR/USD|", ""), SessionRejectReason.REQUIRED_TAG_MISSING, FixTags.Symbol); // required field of required component
+    }
+
+    @Test
+    public void testValidatorStateIsResetBetweenMessages() {
+        assertInvalid("D", HEADER + ORDER_BODY.replace("54=1", "54=Z"), SessionRejectReason.VALUE_IS_INCORRECT, FixTags.Side);
+        assertValid("D", HEADER + ORDER_BODY);
+        assertNull(validator.getRejectReason());
+        assertInvalid("D", HEADER + ORDER_BODY.replace("54=1|", ""), SessionRejectReason.REQUIRED_TAG_MISSING, FixTags.Side);
+    }
+
+    @Test
+    public void testParserIsResetAfterValidation() {
+        assertValid("D", HEADER + ORDER_BODY);
+        assertTrue(parser.next());
+        assertEquals(FixTags.BeginString, parser.getTagNum());
+
+        assertInvalid("D", HEADER + ORDER_BODY + "112=TEST|", SessionRejectReason.TAG_NOT_DEFINED_FOR_THIS_MESSAGE_TYPE, FixTags.TestReqID);
+        assertTrue(parser.next());
+        assertEquals(FixTags.BeginString, parser.getTagNum());
+    }
+
+    private void assertValid(String msgType, String message) {
+        set(message);
+        assertTrue("Expected valid message " + message + " but got " + validator.getRejectReason() + " for tag " + validator.getRefTagID(), validator.validate(msgType, parser));
+    }
+
+    private void assertInvalid(String msgType, String message, SessionRejectReason expectedReason, int expectedRefTagID) {
+        set(message);
+        assertFalse(validator.validate(msgType, parser));
+        assertEquals(expectedReason, validator.getRejectReason());
+        assertEquals(expectedRefTagID, validator.getRefTagID());
+        assertNotNull(validator.getRejectText());
+    }
+
+    private void set(String message) {
+        if (validator == null)
+            validator = new MessageValidator(dictionary);
+        byte [] buffer = AsciiUtils.getBytes(message.replace('|', '\u0001'));
+        parser.set(buffer, 0, buffer.length);
+    }
+}